@@ -34,6 +34,8 @@ import com.linkedin.d2.balancer.simple.SslSessionValidatorFactory;
 import com.linkedin.d2.balancer.strategies.LoadBalancerStrategy;
 import com.linkedin.d2.balancer.strategies.LoadBalancerStrategyFactory;
 import com.linkedin.d2.balancer.strategies.degrader.DegraderLoadBalancerStrategyFactoryV3;
+import com.linkedin.d2.balancer.strategies.p2c.PowerOfTwoChoicesLoadBalancerStrategy;
+import com.linkedin.d2.balancer.strategies.p2c.PowerOfTwoChoicesLoadBalancerStrategyFactory;
 import com.linkedin.d2.balancer.strategies.random.RandomLoadBalancerStrategyFactory;
 import com.linkedin.d2.balancer.strategies.relative.RelativeLoadBalancerStrategy;
 import com.linkedin.d2.balancer.strategies.relative.RelativeLoadBalancerStrategyFactory;
@@ -236,7 +238,9 @@ public class D2ClientBuilder
                   _config.disableDetectLiRawD2Client,
                   _config.isLiRawD2Client,
                   _config.xdsStreamMaxRetryBackoffSeconds,
-                  _config.xdsChannelKeepAliveTimeMins
+                  _config.xdsChannelKeepAliveTimeMins,
+                  _config.connectionWarmUpConnectionsPerHost,
+                  _config.connectionWarmUpHostsPerSecond
     );
 
     final LoadBalancerWithFacilitiesFactory loadBalancerFactory = (_config.lbWithFacilitiesFactory == null) ?
@@ -853,10 +857,23 @@ public class D2ClientBuilder
     return this;
   }
 
+  /**
+   * Establishes connections to every host as it is added to the uri properties, at a limited rate of hosts per second.
+   *
+   * @see D2ClientConfig#connectionWarmUpConnectionsPerHost
+   */
+  public D2ClientBuilder setConnectionWarmUp(int connectionsPerHost, double hostsPerSecond)
+  {
+    _config.connectionWarmUpConnectionsPerHost = connectionsPerHost;
+    _config.connectionWarmUpHostsPerSecond = hostsPerSecond;
+    return this;
+  }
+
   private Map<String, TransportClientFactory> createDefaultTransportClientFactories()
   {
     final Map<String, TransportClientFactory> clientFactories = new HashMap<>();
-    TransportClientFactory transportClientFactory = new HttpClientFactory.Builder().build();
+    TransportClientFactory transportClientFactory =
+        new HttpClientFactory.Builder().setRestOverStream(_restOverStream).build();
     clientFactories.put("http", transportClientFactory);
     clientFactories.put("https", transportClientFactory);
     return clientFactories;
@@ -875,6 +892,8 @@ public class D2ClientBuilder
 
     final RandomLoadBalancerStrategyFactory randomStrategyFactory = new RandomLoadBalancerStrategyFactory();
     loadBalancerStrategyFactories.putIfAbsent("random", randomStrategyFactory);
+    loadBalancerStrategyFactories.putIfAbsent(PowerOfTwoChoicesLoadBalancerStrategy.POWER_OF_TWO_CHOICES_STRATEGY_NAME,
+        new PowerOfTwoChoicesLoadBalancerStrategyFactory());
 
     final DegraderLoadBalancerStrategyFactoryV3 degraderStrategyFactoryV3 = new DegraderLoadBalancerStrategyFactoryV3(
         _config.healthCheckOperations, _config._executorService, _config.eventEmitter, Collections.emptyList());
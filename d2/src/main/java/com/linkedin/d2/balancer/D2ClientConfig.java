@@ -57,6 +57,7 @@ public class D2ClientConfig
   // default values for some configs, to be shared with other classes
   public static final String D2_JMX_MANAGER_PREFIX_DEFAULT = "UnknownPrefix";
   public static final int DEFAULT_RETRY_LIMIT = 3;
+  public static final double DEFAULT_CONNECTION_WARM_UP_HOSTS_PER_SECOND = 10;
   public static final String HOST_NAME_DEFAULT = null;
 
   /**
@@ -179,6 +180,18 @@ public class D2ClientConfig
   public boolean xdsInitialResourceVersionsEnabled = false;
   public Integer xdsStreamMaxRetryBackoffSeconds = null;
 
+  /**
+   * Number of connections to establish to every host as it is added to the uri properties, so that the first requests
+   * to it do not pay for the connection handshakes. HTTP/2 clients establish a single connection. 0 disables it.
+   * To keep the connections open while idle, set the minimum pool size of the http clients, "http.poolMinSize",
+   * to at least this number.
+   */
+  public int connectionWarmUpConnectionsPerHost = 0;
+  /**
+   * Maximum number of hosts connections are established to per second.
+   */
+  public double connectionWarmUpHostsPerSecond = DEFAULT_CONNECTION_WARM_UP_HOSTS_PER_SECOND;
+
   /**
    * D2 client builder by default will detect if it's used to build a raw D2 client (as opposed to used by standard
    * D2 client factory in LI container library) and set the isLiRawD2Client flag below.
@@ -272,7 +285,9 @@ public class D2ClientConfig
                  boolean disableDetectLiRawD2Client,
                  boolean isLiRawD2Client,
                  Integer xdsStreamMaxRetryBackoffSeconds,
-                 Long xdsChannelKeepAliveTimeMins)
+                 Long xdsChannelKeepAliveTimeMins,
+                 int connectionWarmUpConnectionsPerHost,
+                 double connectionWarmUpHostsPerSecond)
   {
     this.zkHosts = zkHosts;
     this.xdsServer = xdsServer;
@@ -352,5 +367,7 @@ public class D2ClientConfig
     this.disableDetectLiRawD2Client = disableDetectLiRawD2Client;
     this.isLiRawD2Client = isLiRawD2Client;
     this.xdsStreamMaxRetryBackoffSeconds = xdsStreamMaxRetryBackoffSeconds;
+    this.connectionWarmUpConnectionsPerHost = connectionWarmUpConnectionsPerHost;
+    this.connectionWarmUpHostsPerSecond = connectionWarmUpHostsPerSecond;
   }
 }
@@ -110,6 +110,12 @@ public class LastSeenBalancerWithFacilitiesFactory implements LoadBalancerWithFa
       config.sslSessionValidatorFactory, config.deterministicSubsettingMetadataProvider, config.canaryDistributionProvider,
       config.loadBalanceStreamException);
     d2ClientJmxManager.setSimpleLoadBalancerState(state);
+    SimpleLoadBalancerState.SimpleLoadBalancerStateListener connectionWarmUpListener =
+      createConnectionWarmUpListener(config);
+    if (connectionWarmUpListener != null)
+    {
+      state.register(connectionWarmUpListener);
+    }
 
     SimpleLoadBalancer simpleLoadBalancer = new SimpleLoadBalancer(state, config.lbWaitTimeout, config.lbWaitUnit, config._executorService,
                                                                    config.failoutConfigProviderFactory);
@@ -16,8 +16,10 @@
 
 package com.linkedin.d2.balancer;
 
+import com.linkedin.d2.balancer.simple.ConnectionWarmUpListener;
 import com.linkedin.d2.discovery.util.D2Utils;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.slf4j.Logger;
 
 
@@ -47,6 +49,23 @@ public interface LoadBalancerWithFacilitiesFactory
    */
   LoadBalancerWithFacilities create(D2ClientConfig config);
 
+  /**
+   * Creates the listener establishing connections to the hosts as they are added, if enabled in the config. The
+   * warm-ups run on the executor of the d2 client, since the start-up executors only live during the start-up.
+   * @param config configuration of d2 client
+   * @return the listener, or null if connection warm-up is disabled
+   */
+  @Nullable
+  default ConnectionWarmUpListener createConnectionWarmUpListener(D2ClientConfig config)
+  {
+    if (config.connectionWarmUpConnectionsPerHost <= 0)
+    {
+      return null;
+    }
+    return new ConnectionWarmUpListener(config._executorService, config.connectionWarmUpConnectionsPerHost,
+        config.connectionWarmUpHostsPerSecond);
+  }
+
   default void logLoadBalancerTypeWarning(@Nonnull Logger LOG)
   {
     LOG.error(LOAD_BALANCER_TYPE_WARNING);
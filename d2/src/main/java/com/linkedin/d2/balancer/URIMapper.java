@@ -18,7 +18,11 @@ package com.linkedin.d2.balancer;
 
 import com.linkedin.d2.balancer.util.URIKeyPair;
 import com.linkedin.d2.balancer.util.URIMappingResult;
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 
 public interface URIMapper
@@ -41,6 +45,36 @@ public interface URIMapper
    */
   <KEY> URIMappingResult<KEY> mapUris(List<URIKeyPair<KEY>> requestUriKeyPairs) throws ServiceUnavailableException;
 
+  /**
+   * Maps d2 requests to hosts other than the given ones, e.g. to send hedged duplicates of requests that were already
+   * sent to these hosts. The requests are first assigned to partitions the same way as in {@link #mapUris(List)}. All
+   * the requests of a partition are then mapped to the first host that is not excluded, when iterating the hosts of the
+   * partition from the one its first request would be routed to, so that a hedged request is not scattered further.
+   *
+   * The default implementation cannot find alternate hosts and returns all the keys as unmapped.
+   *
+   * @param <KEY> type of resource key
+   * @param requestUriKeyPairs a list of URIKeyPair, each contains a d2 request uri and a resource key. The resource keys should be unique.
+   * @param excludedHosts hosts the requests must not be mapped to.
+   * @return {@link URIMappingResult} that contains a mapping of alternate host to a set of keys and a set of keys for
+   *          which no alternate host was found.
+   * @throws ServiceUnavailableException if the requested service cannot be found
+   */
+  default <KEY> URIMappingResult<KEY> mapUrisToAlternateHosts(List<URIKeyPair<KEY>> requestUriKeyPairs,
+      Set<URI> excludedHosts) throws ServiceUnavailableException
+  {
+    Set<KEY> keys = new HashSet<>();
+    for (URIKeyPair<KEY> requestUriKeyPair : requestUriKeyPairs)
+    {
+      if (requestUriKeyPair.getKey() != null)
+      {
+        keys.add(requestUriKeyPair.getKey());
+      }
+    }
+    // -1 is the partition id of the keys that cannot be mapped to a partition
+    return new URIMappingResult<>(Collections.emptyMap(), Collections.singletonMap(-1, keys), Collections.emptyMap());
+  }
+
   /**
    * Returns true if sticky routing is enabled (inclusive) OR the cluster of the service has more than one partitions.
    *
@@ -28,6 +28,7 @@ import com.linkedin.r2.transport.common.TransportClientFactory;
 import com.linkedin.r2.transport.common.bridge.client.TransportClient;
 import com.linkedin.r2.transport.common.bridge.common.TransportCallback;
 
+import java.net.URI;
 import java.util.Map;
 
 import org.slf4j.Logger;
@@ -69,6 +70,12 @@ public class LazyClient implements TransportClient
     getWrappedClient().streamRequest(request, requestContext, wireAttrs, callback);
   }
 
+  @Override
+  public void warmUp(URI uri, int connections, Callback<None> callback)
+  {
+    getWrappedClient().warmUp(uri, connections, callback);
+  }
+
   @Override
   public void shutdown(Callback<None> callback)
   {
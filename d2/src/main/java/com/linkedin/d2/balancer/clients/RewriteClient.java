@@ -26,6 +26,7 @@ import com.linkedin.r2.message.stream.StreamRequest;
 import com.linkedin.r2.message.stream.StreamResponse;
 import com.linkedin.r2.transport.common.bridge.client.TransportClient;
 import com.linkedin.r2.transport.common.bridge.common.TransportCallback;
+import java.net.URI;
 import java.util.Map;
 
 /**
@@ -78,6 +79,19 @@ public class RewriteClient implements TransportClient
     _transportClient.streamRequest(rewriteRequest(request), requestContext, wireAttrs, callback);
   }
 
+  /**
+   * Establishes connections to the host of the given URI, which is expected to be the URI requests are rewritten to.
+   *
+   * @param uri the URI of the host
+   * @param connections the number of connections to establish
+   * @param callback a callback that will be invoked once the connections are established
+   */
+  @Override
+  public void warmUp(URI uri, int connections, Callback<None> callback)
+  {
+    _transportClient.warmUp(uri, connections, callback);
+  }
+
   /**
    * Starts asynchronous shutdown of the client. This method should block minimally, if at all.
    *
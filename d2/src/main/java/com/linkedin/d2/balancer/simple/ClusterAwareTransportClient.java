@@ -28,6 +28,7 @@ import com.linkedin.r2.message.stream.StreamResponse;
 import com.linkedin.r2.transport.common.bridge.client.TransportClient;
 import com.linkedin.r2.transport.common.bridge.common.TransportCallback;
 import com.linkedin.r2.transport.http.client.common.ssl.SslSessionValidator;
+import java.net.URI;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -82,6 +83,12 @@ public class ClusterAwareTransportClient implements TransportClient
     getWrappedClient().streamRequest(request, requestContext, wireAttrs, callback);
   }
 
+  @Override
+  public void warmUp(URI uri, int connections, Callback<None> callback)
+  {
+    getWrappedClient().warmUp(uri, connections, callback);
+  }
+
   @Override
   public void shutdown(Callback<None> callback)
   {
@@ -0,0 +1,142 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.d2.balancer.simple;
+
+import com.linkedin.common.callback.Callback;
+import com.linkedin.common.util.None;
+import com.linkedin.d2.balancer.clients.TrackerClient;
+import com.linkedin.d2.balancer.strategies.LoadBalancerStrategy;
+import com.linkedin.r2.transport.http.client.SmoothRateLimiter;
+import com.linkedin.util.clock.SystemClock;
+import java.net.URI;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Establishes connections to the hosts as they are added to the uri properties, so that the first requests to a new
+ * host do not pay for the connection and TLS handshakes.
+ *
+ * The hosts are warmed up at a limited rate, so that a large cluster being added does not open all its connections at
+ * once. HTTP/1.1 clients establish the given number of connections per host, and HTTP/2 clients a single one. Once
+ * established, the connections go back to the pools of the clients, which keep up to their minimum pool size of them
+ * open while idle.
+ */
+public class ConnectionWarmUpListener implements SimpleLoadBalancerState.SimpleLoadBalancerStateListener
+{
+  private static final Logger LOG = LoggerFactory.getLogger(ConnectionWarmUpListener.class);
+
+  static final int MAX_PENDING_HOSTS = 10000;
+
+  private final int _connectionsPerHost;
+  private final SmoothRateLimiter _rateLimiter;
+
+  /**
+   * @param executorService the executor running the warm-ups.
+   * @param connectionsPerHost the number of connections to establish to every host.
+   * @param hostsPerSecond the rate at which the hosts are warmed up.
+   */
+  public ConnectionWarmUpListener(ScheduledExecutorService executorService, int connectionsPerHost,
+      double hostsPerSecond)
+  {
+    if (connectionsPerHost <= 0)
+    {
+      throw new IllegalArgumentException("Invalid connections per host: " + connectionsPerHost);
+    }
+    if (hostsPerSecond <= 0)
+    {
+      throw new IllegalArgumentException("Invalid hosts per second: " + hostsPerSecond);
+    }
+    _connectionsPerHost = connectionsPerHost;
+    _rateLimiter = new SmoothRateLimiter(executorService, executorService, SystemClock.instance(),
+        new ConcurrentLinkedQueue<>(), MAX_PENDING_HOSTS, SmoothRateLimiter.BufferOverflowMode.DROP,
+        "ConnectionWarmUp");
+    _rateLimiter.setRate(hostsPerSecond, TimeUnit.SECONDS.toMillis(1), 1);
+  }
+
+  @Override
+  public void onClientAdded(String clusterName, TrackerClient client)
+  {
+    final URI uri = client.getUri();
+    try
+    {
+      _rateLimiter.submit(new Callback<None>()
+      {
+        @Override
+        public void onError(Throwable e)
+        {
+          LOG.debug("Skipped warming up connections to {}", uri, e);
+        }
+
+        @Override
+        public void onSuccess(None result)
+        {
+          warmUp(client);
+        }
+      });
+    }
+    catch (RejectedExecutionException e)
+    {
+      LOG.debug("Skipped warming up connections to {}", uri, e);
+    }
+  }
+
+  private void warmUp(TrackerClient client)
+  {
+    final URI uri = client.getUri();
+    try
+    {
+      client.getTransportClient().warmUp(uri, _connectionsPerHost, new Callback<None>()
+      {
+        @Override
+        public void onError(Throwable e)
+        {
+          LOG.info("Failed to warm up connections to {}: {}", uri, e.toString());
+        }
+
+        @Override
+        public void onSuccess(None result)
+        {
+          LOG.debug("Warmed up connections to {}", uri);
+        }
+      });
+    }
+    catch (RuntimeException e)
+    {
+      LOG.info("Failed to warm up connections to {}: {}", uri, e.toString());
+    }
+  }
+
+  @Override
+  public void onClientRemoved(String clusterName, TrackerClient client)
+  {
+  }
+
+  @Override
+  public void onStrategyAdded(String serviceName, String scheme, LoadBalancerStrategy strategy)
+  {
+  }
+
+  @Override
+  public void onStrategyRemoved(String serviceName, String scheme, LoadBalancerStrategy strategy)
+  {
+  }
+}
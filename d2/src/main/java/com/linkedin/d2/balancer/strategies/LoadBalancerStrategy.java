@@ -21,6 +21,7 @@ import com.linkedin.d2.balancer.util.hashing.HashFunction;
 import com.linkedin.d2.balancer.util.hashing.Ring;
 import com.linkedin.r2.message.Request;
 import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.RequestContextKey;
 
 import java.net.URI;
 import java.util.HashSet;
@@ -115,6 +116,8 @@ public interface LoadBalancerStrategy
   class ExcludedHostHints
   {
     private static final String EXCLUDED_HOST_KEY_NAME = "D2-Hint-ExcludedHosts";
+    private static final RequestContextKey<Set<URI>> EXCLUDED_HOST_KEY =
+        RequestContextKey.register(EXCLUDED_HOST_KEY_NAME);
 
     /**
      * Inserts a hint in RequestContext instructing D2 to avoid specified hosts. This hint can hold a set of
@@ -129,7 +132,7 @@ public interface LoadBalancerStrategy
       if (excludedHosts == null)
       {
         excludedHosts = new HashSet<>();
-        context.putLocalAttr(EXCLUDED_HOST_KEY_NAME, excludedHosts);
+        context.putLocalAttr(EXCLUDED_HOST_KEY, excludedHosts);
       }
       excludedHosts.add(excludedHost);
     }
@@ -140,10 +143,9 @@ public interface LoadBalancerStrategy
      * @param context RequestContext for the request
      * @return Set of excluded hosts
      */
-    @SuppressWarnings("unchecked")
     public static Set<URI> getRequestContextExcludedHosts(RequestContext context)
     {
-      return (Set<URI>)context.getLocalAttr(EXCLUDED_HOST_KEY_NAME);
+      return context.getLocalAttr(EXCLUDED_HOST_KEY);
     }
 
     /**
@@ -152,7 +154,7 @@ public interface LoadBalancerStrategy
      */
     public static void clearRequestContextExcludedHosts(RequestContext context)
     {
-      context.removeLocalAttr(EXCLUDED_HOST_KEY_NAME);
+      context.removeLocalAttr(EXCLUDED_HOST_KEY);
     }
   }
 }
@@ -39,6 +39,8 @@ public class DegraderLoadBalancerStrategyConfig
   private final long   _updateIntervalMs;
   // The partition state will only be updated when an interval is elapsed if this is set to true
   private final boolean _updateOnlyAtInterval;
+  // The partition state will be updated by the executor service instead of the request threads if this is set to true
+  private final boolean _updateInBackground;
   private final int    _pointsPerWeight;
   private final String _hashMethod;
   private final Map<String,Object> _hashConfig;
@@ -105,6 +107,7 @@ public class DegraderLoadBalancerStrategyConfig
   public static final double DEFAULT_RAMP_FACTOR = 2.0;
   public static final long DEFAULT_UPDATE_INTERVAL_MS = 5000L;
   public static final boolean DEFAULT_UPDATE_ONLY_AT_INTERVAL = false;
+  public static final boolean DEFAULT_UPDATE_IN_BACKGROUND = false;
   public static final int DEFAULT_POINTS_PER_WEIGHT = 100;
   public static final double DEFAULT_HIGH_WATER_MARK = 600;
   public static final double DEFAULT_LOW_WATER_MARK = 200;
@@ -183,7 +186,8 @@ public class DegraderLoadBalancerStrategyConfig
          config.getEventEmitter(),
          config.getLowEventEmittingInterval(),
          config.getHighEventEmittingInterval(),
-         config.getClusterName());
+         config.getClusterName(),
+         config.isUpdateInBackground());
   }
 
   public DegraderLoadBalancerStrategyConfig(long updateIntervalMs,
@@ -216,9 +220,54 @@ public class DegraderLoadBalancerStrategyConfig
                                             long lowEventEmittingInterval,
                                             long highEventEmittingInterval,
                                             String clusterName)
+  {
+    this(updateIntervalMs, updateOnlyAtInterval, pointsPerWeight, hashMethod, hashConfig, clock, initialRecoveryLevel,
+         ringRampFactor, highWaterMark, lowWaterMark, globalStepUp, globalStepDown, minCallCountHighWaterMark,
+         minCallCountLowWaterMark, hashRingPointCleanUpRate, consistentHashAlgorithm, numProbes, pointsPerHost,
+         boundedLoadBalancingFactor, path, quarantineMaxPercent, executorService, healthCheckOperations,
+         healthCheckMethod, healthCheckPath, quarantineLatency, emitter, lowEventEmittingInterval,
+         highEventEmittingInterval, clusterName, DEFAULT_UPDATE_IN_BACKGROUND);
+  }
+
+  /**
+   * @param updateInBackground whether the partition states are updated by the executor service, which is then
+   *                           required, instead of by the threads selecting the hosts of the requests.
+   */
+  public DegraderLoadBalancerStrategyConfig(long updateIntervalMs,
+                                            boolean updateOnlyAtInterval,
+                                            int pointsPerWeight,
+                                            String hashMethod,
+                                            Map<String,Object> hashConfig,
+                                            Clock clock,
+                                            double initialRecoveryLevel,
+                                            double ringRampFactor,
+                                            double highWaterMark,
+                                            double lowWaterMark,
+                                            double globalStepUp,
+                                            double globalStepDown,
+                                            long minCallCountHighWaterMark,
+                                            long minCallCountLowWaterMark,
+                                            double hashRingPointCleanUpRate,
+                                            String consistentHashAlgorithm,
+                                            int numProbes,
+                                            int pointsPerHost,
+                                            double boundedLoadBalancingFactor,
+                                            String path,
+                                            double quarantineMaxPercent,
+                                            ScheduledExecutorService executorService,
+                                            HealthCheckOperations healthCheckOperations,
+                                            String healthCheckMethod,
+                                            String healthCheckPath,
+                                            long quarantineLatency,
+                                            EventEmitter emitter,
+                                            long lowEventEmittingInterval,
+                                            long highEventEmittingInterval,
+                                            String clusterName,
+                                            boolean updateInBackground)
   {
     _updateIntervalMs = updateIntervalMs;
     _updateOnlyAtInterval = updateOnlyAtInterval;
+    _updateInBackground = updateInBackground;
     _pointsPerWeight = pointsPerWeight;
     _hashMethod = hashMethod;
     _hashConfig = Collections.unmodifiableMap(hashConfig);
@@ -287,6 +336,9 @@ public class DegraderLoadBalancerStrategyConfig
     Boolean updateOnlyAtInterval = MapUtil.getWithDefault(map, PropertyKeys.HTTP_LB_STRATEGY_PROPERTIES_UPDATE_ONLY_AT_INTERVAL,
             DEFAULT_UPDATE_ONLY_AT_INTERVAL, Boolean.class);
 
+    Boolean updateInBackground = MapUtil.getWithDefault(map, PropertyKeys.HTTP_LB_STRATEGY_PROPERTIES_UPDATE_IN_BACKGROUND,
+            DEFAULT_UPDATE_IN_BACKGROUND, Boolean.class);
+
     Integer pointsPerWeight = MapUtil.getWithDefault(map, PropertyKeys.HTTP_LB_STRATEGY_PROPERTIES_POINTS_PER_WEIGHT,
                        DEFAULT_POINTS_PER_WEIGHT, Integer.class);
 
@@ -401,7 +453,7 @@ public class DegraderLoadBalancerStrategyConfig
         servicePath, quarantineMaxPercent,
         overrideExecutorService != null ? overrideExecutorService : executorService,
         healthCheckOperations, healthCheckMethod, healthCheckPath, quarantineLatency,
-        emitter, lowEmittingInterval, highEmittingInterval, clusterName);
+        emitter, lowEmittingInterval, highEmittingInterval, clusterName, updateInBackground);
   }
 
   /**
@@ -480,6 +532,14 @@ public class DegraderLoadBalancerStrategyConfig
     return _updateOnlyAtInterval;
   }
 
+  /**
+   * @return Whether the partition states are updated by the executor service instead of the request threads.
+   */
+  public boolean isUpdateInBackground()
+  {
+    return _updateInBackground;
+  }
+
   public double getHashRingPointCleanUpRate()
   {
     return _hashRingPointCleanUpRate;
@@ -53,6 +53,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -312,6 +313,10 @@ public class DegraderLoadBalancerStrategyV3 implements LoadBalancerStrategy
    * In the event there's an exception when a thread updates the state, there is no side-effect on the state itself
    * or on the trackerclients. Other threads will attempt the update the state as if the previous attempt did not happen.
    *
+   * When the config updates the states in background, only the initialization and the forced updates of the state
+   * happen on the calling thread. The other updates are handed to the executor service of the config, and the calling
+   * thread keeps using the current state.
+   *
    * @param clusterGenerationId
    * @param partitionId
    * @param trackerClients
@@ -352,38 +357,101 @@ public class DegraderLoadBalancerStrategyV3 implements LoadBalancerStrategy
     }
     else if(shouldUpdatePartition(clusterGenerationId, partition.getState(), config, _updateEnabled, shouldForceUpdate, trackerClients))
     {
-      // threads attempt to update the state would return immediately if some thread is already in the updating process
-      // NOTE: possible racing condition -- if tryLock() fails and the current updating process does not pick up the
-      // new clusterGenerationId (ie current updating is still processing the previous request), it will causes the
-      // inconsistency between trackerClients and the hash ring, because hash ring does not get updated to match the
-      // new trackerClients. We need either to lock/wait here (for bad performance) or to fix the errors caused by
-      // the inconsistency later on. The decision is to handle the errors later.
-      if(lock.tryLock())
+      if (!shouldForceUpdate && config.isUpdateInBackground() && config.getExecutorService() != null)
+      {
+        // the request thread keeps using the current state, which is replaced once the executor has updated it
+        scheduleBackgroundUpdate(clusterGenerationId, partition, trackerClients, config);
+      }
+      else
+      {
+        partitionUpdated = tryUpdatePartitionState(clusterGenerationId, partition, trackerClients, shouldForceUpdate, config);
+      }
+    }
+    if (partitionUpdated)
+    {
+      notifyListeners(partition);
+    }
+  }
+
+  /**
+   * Updates the state of the partition unless some thread is already updating it.
+   *
+   * @return true if the state has been updated.
+   */
+  private boolean tryUpdatePartitionState(long clusterGenerationId, Partition partition,
+      List<DegraderTrackerClient> trackerClients, boolean shouldForceUpdate, DegraderLoadBalancerStrategyConfig config)
+  {
+    final Lock lock = partition.getLock();
+    // threads attempt to update the state would return immediately if some thread is already in the updating process
+    // NOTE: possible racing condition -- if tryLock() fails and the current updating process does not pick up the
+    // new clusterGenerationId (ie current updating is still processing the previous request), it will causes the
+    // inconsistency between trackerClients and the hash ring, because hash ring does not get updated to match the
+    // new trackerClients. We need either to lock/wait here (for bad performance) or to fix the errors caused by
+    // the inconsistency later on. The decision is to handle the errors later.
+    if(lock.tryLock())
+    {
+      try
+      {
+        if(shouldUpdatePartition(clusterGenerationId, partition.getState(), config, _updateEnabled, shouldForceUpdate, trackerClients))
+        {
+          debug(_log, "updating for cluster generation id: ", clusterGenerationId, ", partitionId: ", partition.getId());
+          debug(_log, "old state was: ", partition.getState());
+          updatePartitionState(clusterGenerationId, partition, trackerClients, config);
+          return true;
+        }
+      }
+      finally
+      {
+        lock.unlock();
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Schedules an update of the state of the partition with the executor service of the config, unless one is already
+   * scheduled. A cluster change seen after the scheduled update has started schedules another one.
+   */
+  private void scheduleBackgroundUpdate(long clusterGenerationId, Partition partition,
+      List<DegraderTrackerClient> trackerClients, DegraderLoadBalancerStrategyConfig config)
+  {
+    if (!partition.scheduleBackgroundUpdate())
+    {
+      return;
+    }
+
+    try
+    {
+      config.getExecutorService().execute(() ->
       {
+        partition.startBackgroundUpdate();
         try
         {
-          if(shouldUpdatePartition(clusterGenerationId, partition.getState(), config, _updateEnabled, shouldForceUpdate, trackerClients))
+          if (tryUpdatePartitionState(clusterGenerationId, partition, trackerClients, false, getConfig()))
           {
-            debug(_log, "updating for cluster generation id: ", clusterGenerationId, ", partitionId: ", partitionId);
-            debug(_log, "old state was: ", partition.getState());
-            updatePartitionState(clusterGenerationId, partition, trackerClients, config);
-            partitionUpdated = true;
+            notifyListeners(partition);
           }
         }
-        finally
+        catch (RuntimeException e)
         {
-          lock.unlock();
+          _log.error("Failed to update the state of partition " + partition.getId() + " in background", e);
         }
-      }
+      });
     }
-    if (partitionUpdated)
+    catch (RejectedExecutionException e)
     {
-      // Notify the listeners the state update. We need to do it now because we do not want
-      // to hold the lock when notifying the listeners.
-      for (PartitionDegraderLoadBalancerStateListener listener : partition.getListeners())
-      {
-        listener.onUpdate(partition.getState());
-      }
+      partition.startBackgroundUpdate();
+      warn(_log, "Failed to schedule the update of the state of partition ", partition.getId(), ": ", e);
+    }
+  }
+
+  private static void notifyListeners(Partition partition)
+  {
+    // Notify the listeners the state update. We need to do it now because we do not want
+    // to hold the lock when notifying the listeners.
+    for (PartitionDegraderLoadBalancerStateListener listener : partition.getListeners())
+    {
+      listener.onUpdate(partition.getState());
     }
   }
 
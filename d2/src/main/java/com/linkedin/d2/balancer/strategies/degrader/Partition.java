@@ -18,6 +18,7 @@ package com.linkedin.d2.balancer.strategies.degrader;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 
 
@@ -27,6 +28,7 @@ class Partition
   private final Lock _lock;
   private volatile PartitionDegraderLoadBalancerState _state;
   private final List<PartitionDegraderLoadBalancerStateListener> _listeners;
+  private final AtomicBoolean _backgroundUpdateScheduled = new AtomicBoolean();
 
   Partition(int id, Lock lock, PartitionDegraderLoadBalancerState state,
       List<PartitionDegraderLoadBalancerStateListener> listeners)
@@ -50,6 +52,24 @@ class Partition
     return _lock;
   }
 
+  /**
+   * Marks a background update of the state as scheduled.
+   *
+   * @return false if a background update is already scheduled and has not started yet.
+   */
+  public boolean scheduleBackgroundUpdate()
+  {
+    return _backgroundUpdateScheduled.compareAndSet(false, true);
+  }
+
+  /**
+   * Marks the scheduled background update as started, so that the next state check can schedule another one.
+   */
+  public void startBackgroundUpdate()
+  {
+    _backgroundUpdateScheduled.set(false);
+  }
+
   public PartitionDegraderLoadBalancerState getState()
   {
     return _state;
@@ -0,0 +1,188 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.d2.balancer.strategies.p2c;
+
+import com.linkedin.d2.balancer.KeyMapper;
+import com.linkedin.d2.balancer.clients.TrackerClient;
+import com.linkedin.d2.balancer.strategies.LoadBalancerStrategy;
+import com.linkedin.d2.balancer.util.hashing.HashFunction;
+import com.linkedin.d2.balancer.util.hashing.RandomHash;
+import com.linkedin.d2.balancer.util.hashing.Ring;
+import com.linkedin.r2.message.Request;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.util.degrader.CallTracker;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.annotation.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * A load balancer strategy picking two distinct hosts at random and sending the request to the least loaded of them.
+ *
+ * The load of a host is its number of outstanding calls, read from its {@link CallTracker} when the request is sent,
+ * divided by its partition and subset weights and by its success rate during the latest interval of its
+ * {@link CallTracker}. It reacts to a slow host as soon as calls pile up on it, instead of waiting for the next update
+ * of the rings of the other strategies, and a host failing its calls quickly, which has few outstanding calls, is
+ * still avoided. A host failing all its calls is only picked when the other candidate fails all its calls too. Hosts
+ * with the same load are ordered by the average latency of their calls during the latest interval.
+ *
+ * Like {@link com.linkedin.d2.balancer.strategies.relative.RelativeLoadBalancerStrategy}, the target host set in the
+ * request context is used when present, and the hosts excluded in the request context are not picked.
+ */
+public class PowerOfTwoChoicesLoadBalancerStrategy implements LoadBalancerStrategy
+{
+  public static final String POWER_OF_TWO_CHOICES_STRATEGY_NAME = "powerOfTwoChoices";
+
+  private static final Logger _log = LoggerFactory.getLogger(PowerOfTwoChoicesLoadBalancerStrategy.class);
+
+  @Nonnull
+  @Override
+  public Ring<URI> getRing(long clusterGenerationId, int partitionId, Map<URI, TrackerClient> trackerClients)
+  {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public HashFunction<Request> getHashFunction()
+  {
+    return new RandomHash();
+  }
+
+  @Override
+  public TrackerClient getTrackerClient(Request request,
+                                        RequestContext requestContext,
+                                        long clusterGenerationId,
+                                        int partitionId,
+                                        Map<URI, TrackerClient> trackerClients)
+  {
+    TrackerClient trackerClient;
+    URI targetHostUri = KeyMapper.TargetHostHints.getRequestContextTargetHost(requestContext);
+    if (targetHostUri != null)
+    {
+      trackerClient = trackerClients.get(targetHostUri);
+      if (trackerClient == null)
+      {
+        _log.warn("No client found for {}. Target host specified is no longer part of cluster", targetHostUri);
+      }
+    }
+    else
+    {
+      trackerClient = pickLeastLoaded(requestContext, partitionId, trackerClients);
+    }
+
+    if (trackerClient != null)
+    {
+      LoadBalancerStrategy.ExcludedHostHints.addRequestContextExcludedHost(requestContext, trackerClient.getUri());
+    }
+    return trackerClient;
+  }
+
+  private static TrackerClient pickLeastLoaded(RequestContext requestContext, int partitionId,
+      Map<URI, TrackerClient> trackerClients)
+  {
+    Set<URI> excludedUris = LoadBalancerStrategy.ExcludedHostHints.getRequestContextExcludedHosts(requestContext);
+    if (excludedUris == null)
+    {
+      excludedUris = Collections.emptySet();
+    }
+
+    List<TrackerClient> candidates = new ArrayList<>(trackerClients.size());
+    for (Map.Entry<URI, TrackerClient> entry : trackerClients.entrySet())
+    {
+      if (!excludedUris.contains(entry.getKey()))
+      {
+        candidates.add(entry.getValue());
+      }
+    }
+
+    int size = candidates.size();
+    if (size == 0)
+    {
+      return null;
+    }
+    if (size == 1)
+    {
+      return candidates.get(0);
+    }
+
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int first = random.nextInt(size);
+    // picks a second host distinct from the first one
+    int second = random.nextInt(size - 1);
+    if (second >= first)
+    {
+      second++;
+    }
+    TrackerClient firstClient = candidates.get(first);
+    TrackerClient secondClient = candidates.get(second);
+    return compareLoad(firstClient, secondClient, partitionId) <= 0 ? firstClient : secondClient;
+  }
+
+  /* package private */ static int compareLoad(TrackerClient first, TrackerClient second, int partitionId)
+  {
+    int result = Double.compare(getLoad(first, partitionId), getLoad(second, partitionId));
+    if (result == 0)
+    {
+      result = Double.compare(getLatency(first), getLatency(second));
+    }
+    return result;
+  }
+
+  /**
+   * @return the number of outstanding calls of the host, including the one about to be sent, divided by its weights
+   *         and its success rate, or {@link Double#POSITIVE_INFINITY} if the host has no weight or fails all its calls.
+   */
+  private static double getLoad(TrackerClient trackerClient, int partitionId)
+  {
+    Double partitionWeight = trackerClient.getPartitionWeight(partitionId);
+    double weight = (partitionWeight == null ? 1D : partitionWeight) * trackerClient.getSubsetWeight(partitionId)
+        * (1D - getErrorRate(trackerClient));
+    if (weight <= 0)
+    {
+      return Double.POSITIVE_INFINITY;
+    }
+    CallTracker callTracker = trackerClient.getCallTracker();
+    int concurrency = callTracker == null ? 0 : callTracker.getCurrentConcurrency();
+    return (concurrency + 1) / weight;
+  }
+
+  private static double getErrorRate(TrackerClient trackerClient)
+  {
+    CallTracker.CallStats callStats = trackerClient.getLatestCallStats();
+    return callStats == null ? 0D : Math.min(callStats.getErrorRate(), 1D);
+  }
+
+  private static double getLatency(TrackerClient trackerClient)
+  {
+    CallTracker.CallStats callStats = trackerClient.getLatestCallStats();
+    return callStats == null ? 0D : callStats.getCallTimeStats().getAverage();
+  }
+
+  @Override
+  public String getName()
+  {
+    return POWER_OF_TWO_CHOICES_STRATEGY_NAME;
+  }
+}
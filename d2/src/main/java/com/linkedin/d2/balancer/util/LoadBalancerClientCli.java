@@ -32,6 +32,7 @@ import com.linkedin.d2.balancer.simple.SimpleLoadBalancerState;
 import com.linkedin.d2.balancer.strategies.LoadBalancerStrategy;
 import com.linkedin.d2.balancer.strategies.LoadBalancerStrategyFactory;
 import com.linkedin.d2.balancer.strategies.degrader.DegraderLoadBalancerStrategyFactoryV3;
+import com.linkedin.d2.balancer.strategies.p2c.PowerOfTwoChoicesLoadBalancerStrategyFactory;
 import com.linkedin.d2.balancer.strategies.random.RandomLoadBalancerStrategyFactory;
 import com.linkedin.d2.balancer.strategies.relative.RelativeLoadBalancerStrategyFactory;
 import com.linkedin.d2.balancer.zkfs.ZKFSComponentFactory;
@@ -706,6 +707,7 @@ public class LoadBalancerClientCli
         new HashMap<>();
 
     loadBalancerStrategyFactories.put("random", new RandomLoadBalancerStrategyFactory());
+    loadBalancerStrategyFactories.put("powerOfTwoChoices", new PowerOfTwoChoicesLoadBalancerStrategyFactory());
     loadBalancerStrategyFactories.put("degrader", new DegraderLoadBalancerStrategyFactoryV3());
     loadBalancerStrategyFactories.put("degraderV2", new DegraderLoadBalancerStrategyFactoryV3());
     loadBalancerStrategyFactories.put("degraderV3", new DegraderLoadBalancerStrategyFactoryV3());
@@ -752,6 +754,7 @@ public class LoadBalancerClientCli
         new HashMap<>();
 
     loadBalancerStrategyFactories.put("random", new RandomLoadBalancerStrategyFactory());
+    loadBalancerStrategyFactories.put("powerOfTwoChoices", new PowerOfTwoChoicesLoadBalancerStrategyFactory());
     loadBalancerStrategyFactories.put("degrader", new DegraderLoadBalancerStrategyFactoryV3());
     loadBalancerStrategyFactories.put("degraderV2", new DegraderLoadBalancerStrategyFactoryV3());
     loadBalancerStrategyFactories.put("degraderV3", new DegraderLoadBalancerStrategyFactoryV3());
@@ -33,6 +33,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -90,6 +91,23 @@ public class RingBasedUriMapper implements URIMapper
   @Override
   public <KEY> URIMappingResult<KEY> mapUris(List<URIKeyPair<KEY>> requestUriKeyPairs)
       throws ServiceUnavailableException
+  {
+    return mapUris(requestUriKeyPairs, Collections.emptySet());
+  }
+
+  /**
+   * Same as {@link #mapUris(List)}, except that all the requests of a partition are mapped to one host, which is the
+   * first host not in excludedHosts when iterating the ring of the partition from the point its first request hashes to.
+   */
+  @Override
+  public <KEY> URIMappingResult<KEY> mapUrisToAlternateHosts(List<URIKeyPair<KEY>> requestUriKeyPairs,
+      Set<URI> excludedHosts) throws ServiceUnavailableException
+  {
+    return mapUris(requestUriKeyPairs, excludedHosts);
+  }
+
+  private <KEY> URIMappingResult<KEY> mapUris(List<URIKeyPair<KEY>> requestUriKeyPairs, Set<URI> excludedHosts)
+      throws ServiceUnavailableException
   {
     if (requestUriKeyPairs == null || requestUriKeyPairs.isEmpty())
     {
@@ -113,7 +131,9 @@ public class RingBasedUriMapper implements URIMapper
 
     // Pass Two
     Map<URI, Integer> hostToParitionId = new HashMap<>();
-    Map<URI, Set<KEY>> hostToKeySet = distributeToHosts(requestsByPartition, rings, hashFunction, hostToParitionId, unmapped);
+    Map<URI, Set<KEY>> hostToKeySet = excludedHosts.isEmpty()
+        ? distributeToHosts(requestsByPartition, rings, hashFunction, hostToParitionId, unmapped)
+        : distributeToAlternateHosts(requestsByPartition, rings, hashFunction, excludedHosts, hostToParitionId, unmapped);
 
     return new URIMappingResult<>(hostToKeySet, unmapped, hostToParitionId);
   }
@@ -264,6 +284,51 @@ public class RingBasedUriMapper implements URIMapper
     return hostToKeySet;
   }
 
+  /**
+   * Maps all the requests of each partition to the first host of its ring which is not excluded, iterating from the
+   * point the first request of the partition hashes to, or from a random point if sticky routing is not enabled.
+   */
+  private <KEY> Map<URI, Set<KEY>> distributeToAlternateHosts(
+      Map<Integer, List<URIKeyPair<KEY>>> requestsByParititonId,
+      Map<Integer, Ring<URI>> rings,
+      HashFunction<Request> hashFunction,
+      Set<URI> excludedHosts,
+      Map<URI, Integer> hostToPartitionId,
+      Map<Integer, Set<KEY>> unmapped)
+  {
+    Map<URI, Set<KEY>> hostToKeySet = new HashMap<>();
+    for (Map.Entry<Integer, List<URIKeyPair<KEY>>> entry : requestsByParititonId.entrySet())
+    {
+      int hashcode = hashFunction instanceof RandomHash
+          ? ThreadLocalRandom.current().nextInt()
+          : hashFunction.hash(new URIRequest(entry.getValue().get(0).getRequestUri()));
+      URI resolvedHost = null;
+      Ring<URI> ring = rings.get(entry.getKey());
+      Iterator<URI> hosts = ring.isEmpty() ? Collections.emptyIterator() : ring.getIterator(hashcode);
+      while (resolvedHost == null && hosts.hasNext())
+      {
+        URI host = hosts.next();
+        if (!excludedHosts.contains(host))
+        {
+          resolvedHost = host;
+        }
+      }
+
+      Set<KEY> allKeys = convertURIKeyPairListToKeySet(entry.getValue());
+      if (resolvedHost == null)
+      {
+        unmapped.computeIfAbsent(entry.getKey(), k -> new HashSet<>()).addAll(allKeys);
+      }
+      else
+      {
+        hostToPartitionId.putIfAbsent(resolvedHost, entry.getKey());
+        hostToKeySet.computeIfAbsent(resolvedHost, host -> new HashSet<>()).addAll(allKeys);
+      }
+    }
+
+    return hostToKeySet;
+  }
+
   private static <KEY> Set<KEY> convertURIKeyPairListToKeySet(List<URIKeyPair<KEY>> list)
   {
     if (list.stream().anyMatch(uriKeyPair -> uriKeyPair.getKey() == null))
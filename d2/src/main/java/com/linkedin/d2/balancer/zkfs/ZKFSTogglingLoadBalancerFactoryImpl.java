@@ -99,6 +99,7 @@ public class ZKFSTogglingLoadBalancerFactoryImpl implements ZKFSLoadBalancer.Tog
   private final DualReadStateManager _dualReadStateManager;
   private final boolean _loadBalanceStreamException;
   private final boolean _isRawD2Client;
+  private final SimpleLoadBalancerState.SimpleLoadBalancerStateListener _connectionWarmUpListener;
 
   private static final Logger _log = LoggerFactory.getLogger(ZKFSTogglingLoadBalancerFactoryImpl.class);
 
@@ -397,6 +398,43 @@ public class ZKFSTogglingLoadBalancerFactoryImpl implements ZKFSLoadBalancer.Tog
       DualReadStateManager dualReadStateManager,
       boolean loadBalanceStreamException,
       boolean isRawD2Client)
+  {
+    this(factory, timeout, timeoutUnit, baseZKPath, fsBasePath, clientFactories, loadBalancerStrategyFactories, d2ServicePath,
+         sslContext, sslParameters, isSSLEnabled, clientServicesConfig, useNewEphemeralStoreWatcher, partitionAccessorRegistry,
+         enableSaveUriDataOnDisk, sslSessionValidatorFactory, d2ClientJmxManager, zookeeperReadWindowMs,
+         deterministicSubsettingMetadataProvider, failoutConfigProviderFactory, canaryDistributionProvider,
+         serviceDiscoveryEventEmitter, dualReadStateManager, loadBalanceStreamException, isRawD2Client, null);
+  }
+
+  /**
+   * @param connectionWarmUpListener listener establishing connections to the hosts as they are added, or null.
+   */
+  public ZKFSTogglingLoadBalancerFactoryImpl(ComponentFactory factory,
+      long timeout,
+      TimeUnit timeoutUnit,
+      String baseZKPath,
+      String fsBasePath,
+      Map<String, TransportClientFactory> clientFactories,
+      Map<String, LoadBalancerStrategyFactory<? extends LoadBalancerStrategy>> loadBalancerStrategyFactories,
+      String d2ServicePath,
+      SSLContext sslContext,
+      SSLParameters sslParameters,
+      boolean isSSLEnabled,
+      Map<String, Map<String, Object>> clientServicesConfig,
+      boolean useNewEphemeralStoreWatcher,
+      PartitionAccessorRegistry partitionAccessorRegistry,
+      boolean enableSaveUriDataOnDisk,
+      SslSessionValidatorFactory sslSessionValidatorFactory,
+      D2ClientJmxManager d2ClientJmxManager,
+      int zookeeperReadWindowMs,
+      DeterministicSubsettingMetadataProvider deterministicSubsettingMetadataProvider,
+      FailoutConfigProviderFactory failoutConfigProviderFactory,
+      CanaryDistributionProvider canaryDistributionProvider,
+      ServiceDiscoveryEventEmitter serviceDiscoveryEventEmitter,
+      DualReadStateManager dualReadStateManager,
+      boolean loadBalanceStreamException,
+      boolean isRawD2Client,
+      SimpleLoadBalancerState.SimpleLoadBalancerStateListener connectionWarmUpListener)
   {
     _factory = factory;
     _lbTimeout = timeout;
@@ -423,6 +461,7 @@ public class ZKFSTogglingLoadBalancerFactoryImpl implements ZKFSLoadBalancer.Tog
     _dualReadStateManager = dualReadStateManager;
     _loadBalanceStreamException = loadBalanceStreamException;
     _isRawD2Client = isRawD2Client;
+    _connectionWarmUpListener = connectionWarmUpListener;
   }
 
   @Override
@@ -486,6 +525,10 @@ public class ZKFSTogglingLoadBalancerFactoryImpl implements ZKFSLoadBalancer.Tog
         _sslParameters, _isSSLEnabled, _partitionAccessorRegistry, _sslSessionValidatorFactory,
         _deterministicSubsettingMetadataProvider, _canaryDistributionProvider, _loadBalanceStreamException);
     _d2ClientJmxManager.setSimpleLoadBalancerState(state);
+    if (_connectionWarmUpListener != null)
+    {
+      state.register(_connectionWarmUpListener);
+    }
 
     SimpleLoadBalancer balancer = new SimpleLoadBalancer(state, _lbTimeout, _lbTimeoutUnit, executorService, _failoutConfigProviderFactory);
     _d2ClientJmxManager.setSimpleLoadBalancer(balancer);
@@ -81,6 +81,7 @@ public class XdsFsTogglingLoadBalancerFactory
   private final CanaryDistributionProvider _canaryDistributionProvider;
   private final FailoutConfigProviderFactory _failoutConfigProviderFactory;
   private final boolean _loadBalanceStreamException;
+  private final SimpleLoadBalancerState.SimpleLoadBalancerStateListener _connectionWarmUpListener;
 
   @Deprecated
   public XdsFsTogglingLoadBalancerFactory(long timeout, TimeUnit timeoutUnit, String fsBasePath,
@@ -107,6 +108,25 @@ public class XdsFsTogglingLoadBalancerFactory
       DeterministicSubsettingMetadataProvider deterministicSubsettingMetadataProvider,
       FailoutConfigProviderFactory failoutConfigProviderFactory, CanaryDistributionProvider canaryDistributionProvider,
       boolean loadBalanceStreamException)
+  {
+    this(timeout, timeoutUnit, fsBasePath, clientFactories, loadBalancerStrategyFactories, d2ServicePath, sslContext,
+        sslParameters, isSSLEnabled, clientServicesConfig, partitionAccessorRegistry, sslSessionValidatorFactory,
+        d2ClientJmxManager, deterministicSubsettingMetadataProvider, failoutConfigProviderFactory,
+        canaryDistributionProvider, loadBalanceStreamException, null);
+  }
+
+  /**
+   * @param connectionWarmUpListener listener establishing connections to the hosts as they are added, or null.
+   */
+  public XdsFsTogglingLoadBalancerFactory(long timeout, TimeUnit timeoutUnit, String fsBasePath,
+      Map<String, TransportClientFactory> clientFactories,
+      Map<String, LoadBalancerStrategyFactory<? extends LoadBalancerStrategy>> loadBalancerStrategyFactories,
+      String d2ServicePath, SSLContext sslContext, SSLParameters sslParameters, boolean isSSLEnabled,
+      Map<String, Map<String, Object>> clientServicesConfig, PartitionAccessorRegistry partitionAccessorRegistry,
+      SslSessionValidatorFactory sslSessionValidatorFactory, D2ClientJmxManager d2ClientJmxManager,
+      DeterministicSubsettingMetadataProvider deterministicSubsettingMetadataProvider,
+      FailoutConfigProviderFactory failoutConfigProviderFactory, CanaryDistributionProvider canaryDistributionProvider,
+      boolean loadBalanceStreamException, SimpleLoadBalancerState.SimpleLoadBalancerStateListener connectionWarmUpListener)
   {
     _lbTimeout = timeout;
     _lbTimeoutUnit = timeoutUnit;
@@ -125,6 +145,7 @@ public class XdsFsTogglingLoadBalancerFactory
     _failoutConfigProviderFactory = failoutConfigProviderFactory;
     _canaryDistributionProvider = canaryDistributionProvider;
     _loadBalanceStreamException = loadBalanceStreamException;
+    _connectionWarmUpListener = connectionWarmUpListener;
   }
 
   public TogglingLoadBalancer create(ScheduledExecutorService executorService, XdsToD2PropertiesAdaptor xdsAdaptor)
@@ -168,6 +189,10 @@ public class XdsFsTogglingLoadBalancerFactory
             _sslSessionValidatorFactory, _deterministicSubsettingMetadataProvider, _canaryDistributionProvider,
             _loadBalanceStreamException);
     _d2ClientJmxManager.setSimpleLoadBalancerState(state);
+    if (_connectionWarmUpListener != null)
+    {
+      state.register(_connectionWarmUpListener);
+    }
 
     SimpleLoadBalancer balancer =
         new SimpleLoadBalancer(state, _lbTimeout, _lbTimeoutUnit, executorService, _failoutConfigProviderFactory);
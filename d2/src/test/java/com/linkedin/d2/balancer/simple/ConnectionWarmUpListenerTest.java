@@ -0,0 +1,126 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.d2.balancer.simple;
+
+import com.linkedin.common.callback.Callback;
+import com.linkedin.common.util.None;
+import com.linkedin.d2.balancer.clients.TrackerClient;
+import com.linkedin.r2.transport.common.bridge.client.TransportClient;
+import java.net.URI;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class ConnectionWarmUpListenerTest
+{
+  private static final int TIMEOUT_MS = 5000;
+
+  private ScheduledExecutorService _executor;
+
+  @BeforeMethod
+  public void setUp()
+  {
+    _executor = Executors.newSingleThreadScheduledExecutor();
+  }
+
+  @AfterMethod
+  public void tearDown()
+  {
+    _executor.shutdownNow();
+  }
+
+  @Test
+  public void testWarmUpAddedHosts()
+  {
+    ConnectionWarmUpListener listener = new ConnectionWarmUpListener(_executor, 4, 1000);
+    TransportClient transportClient = Mockito.mock(TransportClient.class);
+    TrackerClient first = mockTrackerClient("http://host1:1234/service", transportClient);
+    TrackerClient second = mockTrackerClient("https://host2:5678/service", transportClient);
+
+    listener.onClientAdded("cluster", first);
+    listener.onClientAdded("cluster", second);
+
+    Mockito.verify(transportClient, Mockito.timeout(TIMEOUT_MS))
+        .warmUp(Matchers.eq(URI.create("http://host1:1234/service")), Matchers.eq(4), Matchers.any());
+    Mockito.verify(transportClient, Mockito.timeout(TIMEOUT_MS))
+        .warmUp(Matchers.eq(URI.create("https://host2:5678/service")), Matchers.eq(4), Matchers.any());
+  }
+
+  @Test
+  public void testWarmUpFailureDoesNotStopOtherHosts()
+  {
+    ConnectionWarmUpListener listener = new ConnectionWarmUpListener(_executor, 1, 1000);
+    TransportClient failingClient = Mockito.mock(TransportClient.class);
+    Mockito.doThrow(new IllegalStateException("Client is shut down"))
+        .when(failingClient).warmUp(Matchers.any(), Matchers.anyInt(), Matchers.any());
+    TransportClient transportClient = Mockito.mock(TransportClient.class);
+    Mockito.doAnswer(invocation ->
+    {
+      @SuppressWarnings("unchecked")
+      Callback<None> callback = (Callback<None>) invocation.getArguments()[2];
+      callback.onError(new Exception("Connection refused"));
+      return null;
+    }).when(transportClient).warmUp(Matchers.any(), Matchers.anyInt(), Matchers.any());
+
+    listener.onClientAdded("cluster", mockTrackerClient("http://host1:1234/service", failingClient));
+    listener.onClientAdded("cluster", mockTrackerClient("http://host2:1234/service", transportClient));
+    listener.onClientAdded("cluster", mockTrackerClient("http://host3:1234/service", transportClient));
+
+    Mockito.verify(transportClient, Mockito.timeout(TIMEOUT_MS).times(2))
+        .warmUp(Matchers.any(), Matchers.eq(1), Matchers.any());
+  }
+
+  @Test
+  public void testWarmUpIsRateLimited() throws Exception
+  {
+    ConnectionWarmUpListener listener = new ConnectionWarmUpListener(_executor, 1, 2);
+    TransportClient transportClient = Mockito.mock(TransportClient.class);
+
+    for (int i = 0; i < 5; i++)
+    {
+      listener.onClientAdded("cluster", mockTrackerClient("http://host" + i + ":1234/service", transportClient));
+    }
+
+    // The first host is warmed up right away, the next ones every half second
+    Mockito.verify(transportClient, Mockito.timeout(TIMEOUT_MS))
+        .warmUp(Matchers.eq(URI.create("http://host0:1234/service")), Matchers.eq(1), Matchers.any());
+    Thread.sleep(200);
+    Mockito.verify(transportClient, Mockito.times(1)).warmUp(Matchers.any(), Matchers.anyInt(), Matchers.any());
+
+    Mockito.verify(transportClient, Mockito.timeout(TIMEOUT_MS).times(5))
+        .warmUp(Matchers.any(), Matchers.eq(1), Matchers.any());
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testInvalidConnectionsPerHost()
+  {
+    new ConnectionWarmUpListener(_executor, 0, 10);
+  }
+
+  private static TrackerClient mockTrackerClient(String uri, TransportClient transportClient)
+  {
+    TrackerClient client = Mockito.mock(TrackerClient.class);
+    Mockito.when(client.getUri()).thenReturn(URI.create(uri));
+    Mockito.when(client.getTransportClient()).thenReturn(transportClient);
+    return client;
+  }
+}
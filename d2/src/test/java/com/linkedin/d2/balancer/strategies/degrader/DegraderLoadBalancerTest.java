@@ -71,6 +71,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -771,6 +772,66 @@ public class DegraderLoadBalancerTest
     assertNull(getTrackerClient(strategy, null, new RequestContext(), 1, clients2));
   }
 
+  @Test(groups = { "small", "back-end" })
+  public void testUpdatePartitionStateInBackground() throws Exception
+  {
+    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+    try
+    {
+      Map<String, Object> myMap = lbDefaultConfig();
+      myMap.put(PropertyKeys.HTTP_LB_STRATEGY_PROPERTIES_UPDATE_IN_BACKGROUND, true);
+      DegraderLoadBalancerStrategyConfig config =
+          DegraderLoadBalancerStrategyConfig.createHttpConfigFromMap(myMap, null, executor, null, null);
+      assertTrue(config.isUpdateInBackground());
+      DegraderLoadBalancerStrategyV3 strategy = new DegraderLoadBalancerStrategyV3(config,
+          "DegraderLoadBalancerTest", null, DEGRADER_STATE_LISTENER_FACTORIES);
+
+      List<DegraderTrackerClient> clients1 = new ArrayList<>();
+      clients1.add(getClient(URI.create("http://test.linkedin.com:3242/fdsaf"), new SettableClock()));
+      clients1.add(getClient(URI.create("http://test.linkedin.com:3243/fdsaf"), new SettableClock()));
+      List<DegraderTrackerClient> clients2 = new ArrayList<>();
+      clients2.add(getClient(URI.create("http://asdbasdf.com:3242/fdsaf"), new SettableClock()));
+      clients2.add(getClient(URI.create("http://asdbasdf.com:3243/fdsaf"), new SettableClock()));
+
+      // the state is initialized by the calling thread
+      assertNotNull(getTrackerClient(strategy, null, new RequestContext(), 0, clients1));
+      assertEquals(strategy.getState().getPartitionState(DEFAULT_PARTITION_ID).getClusterGenerationId(), 0);
+
+      // keeps the executor busy so that the updates stay queued
+      CountDownLatch started = new CountDownLatch(1);
+      CountDownLatch latch = new CountDownLatch(1);
+      executor.execute(() ->
+      {
+        started.countDown();
+        try
+        {
+          latch.await();
+        }
+        catch (InterruptedException e)
+        {
+          Thread.currentThread().interrupt();
+        }
+      });
+      assertTrue(started.await(10, TimeUnit.SECONDS));
+
+      // the cluster change is not applied by the calling threads, which schedule a single update
+      assertNull(getTrackerClient(strategy, null, new RequestContext(), 1, clients2));
+      assertNull(getTrackerClient(strategy, null, new RequestContext(), 1, clients2));
+      assertEquals(strategy.getState().getPartitionState(DEFAULT_PARTITION_ID).getClusterGenerationId(), 0);
+      assertEquals(executor.getQueue().size(), 1);
+
+      latch.countDown();
+      executor.shutdown();
+      assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+      assertEquals(strategy.getState().getPartitionState(DEFAULT_PARTITION_ID).getClusterGenerationId(), 1);
+      assertNotNull(getTrackerClient(strategy, null, new RequestContext(), 1, clients2));
+    }
+    finally
+    {
+      executor.shutdownNow();
+    }
+  }
+
   @Test(groups = { "small", "back-end" })
   public void testStateIsNotNullAndCallCountIsZero() throws URISyntaxException
   {
@@ -0,0 +1,148 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.d2.balancer.strategies.p2c;
+
+import com.linkedin.d2.balancer.KeyMapper;
+import com.linkedin.d2.balancer.clients.TrackerClient;
+import com.linkedin.d2.balancer.strategies.LoadBalancerStrategy;
+import com.linkedin.d2.balancer.util.partitions.DefaultPartitionAccessor;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.util.degrader.CallTracker;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import org.mockito.Mockito;
+import org.testng.annotations.Test;
+
+import static org.mockito.Matchers.anyInt;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+
+public class PowerOfTwoChoicesLoadBalancerStrategyTest
+{
+  private static final int PARTITION_ID = DefaultPartitionAccessor.DEFAULT_PARTITION_ID;
+
+  @Test
+  public void testPicksLeastLoadedHost()
+  {
+    PowerOfTwoChoicesLoadBalancerStrategy strategy = new PowerOfTwoChoicesLoadBalancerStrategyFactory().newLoadBalancer(null);
+    Map<URI, TrackerClient> trackerClients = new HashMap<>();
+    TrackerClient idle = mockTrackerClient(trackerClients, "http://host-1/test", 0, 1D);
+    mockTrackerClient(trackerClients, "http://host-2/test", 10, 1D);
+
+    // with two hosts, both are always the candidates
+    for (int i = 0; i < 100; i++)
+    {
+      assertEquals(strategy.getTrackerClient(null, new RequestContext(), 0, PARTITION_ID, trackerClients), idle);
+    }
+  }
+
+  @Test
+  public void testNeverPicksMostLoadedHost()
+  {
+    PowerOfTwoChoicesLoadBalancerStrategy strategy = new PowerOfTwoChoicesLoadBalancerStrategy();
+    Map<URI, TrackerClient> trackerClients = new HashMap<>();
+    for (int i = 0; i < 4; i++)
+    {
+      mockTrackerClient(trackerClients, "http://host-" + i + "/test", i, 1D);
+    }
+    TrackerClient busy = mockTrackerClient(trackerClients, "http://host-busy/test", 100, 1D);
+
+    for (int i = 0; i < 1000; i++)
+    {
+      TrackerClient picked = strategy.getTrackerClient(null, new RequestContext(), 0, PARTITION_ID, trackerClients);
+      assertTrue(picked != busy);
+    }
+  }
+
+  @Test
+  public void testLoadIsNormalizedByWeight()
+  {
+    Map<URI, TrackerClient> trackerClients = new HashMap<>();
+    // 4 outstanding calls with weight 4 is less loaded than 1 outstanding call with weight 1
+    TrackerClient heavy = mockTrackerClient(trackerClients, "http://host-1/test", 4, 4D);
+    TrackerClient light = mockTrackerClient(trackerClients, "http://host-2/test", 1, 1D);
+    TrackerClient unweighted = mockTrackerClient(trackerClients, "http://host-3/test", 0, 0D);
+
+    assertTrue(PowerOfTwoChoicesLoadBalancerStrategy.compareLoad(heavy, light, PARTITION_ID) < 0);
+    assertTrue(PowerOfTwoChoicesLoadBalancerStrategy.compareLoad(light, unweighted, PARTITION_ID) < 0);
+  }
+
+  @Test
+  public void testErroringHostLosesToHealthyHost()
+  {
+    PowerOfTwoChoicesLoadBalancerStrategy strategy = new PowerOfTwoChoicesLoadBalancerStrategy();
+    Map<URI, TrackerClient> trackerClients = new HashMap<>();
+    // the erroring host fails its calls quickly, so it has fewer outstanding calls
+    TrackerClient erroring = mockTrackerClient(trackerClients, "http://host-1/test", 0, 1D);
+    mockErrorRate(erroring, 0.9);
+    TrackerClient healthy = mockTrackerClient(trackerClients, "http://host-2/test", 3, 1D);
+    mockErrorRate(healthy, 0D);
+
+    for (int i = 0; i < 100; i++)
+    {
+      assertEquals(strategy.getTrackerClient(null, new RequestContext(), 0, PARTITION_ID, trackerClients), healthy);
+    }
+
+    // a host failing all its calls loses even to a busy host
+    TrackerClient failing = mockTrackerClient(new HashMap<>(), "http://host-3/test", 0, 1D);
+    mockErrorRate(failing, 1D);
+    assertTrue(PowerOfTwoChoicesLoadBalancerStrategy.compareLoad(healthy, failing, PARTITION_ID) < 0);
+  }
+
+  @Test
+  public void testExcludedAndTargetHosts()
+  {
+    PowerOfTwoChoicesLoadBalancerStrategy strategy = new PowerOfTwoChoicesLoadBalancerStrategy();
+    Map<URI, TrackerClient> trackerClients = new HashMap<>();
+    TrackerClient idle = mockTrackerClient(trackerClients, "http://host-1/test", 0, 1D);
+    TrackerClient busy = mockTrackerClient(trackerClients, "http://host-2/test", 10, 1D);
+
+    RequestContext requestContext = new RequestContext();
+    LoadBalancerStrategy.ExcludedHostHints.addRequestContextExcludedHost(requestContext, idle.getUri());
+    assertEquals(strategy.getTrackerClient(null, requestContext, 0, PARTITION_ID, trackerClients), busy);
+    // both hosts are excluded now
+    assertNull(strategy.getTrackerClient(null, requestContext, 0, PARTITION_ID, trackerClients));
+
+    requestContext = new RequestContext();
+    KeyMapper.TargetHostHints.setRequestContextTargetHost(requestContext, busy.getUri());
+    assertEquals(strategy.getTrackerClient(null, requestContext, 0, PARTITION_ID, trackerClients), busy);
+  }
+
+  private static TrackerClient mockTrackerClient(Map<URI, TrackerClient> trackerClients, String uri, int concurrency,
+      double weight)
+  {
+    CallTracker callTracker = Mockito.mock(CallTracker.class);
+    Mockito.when(callTracker.getCurrentConcurrency()).thenReturn(concurrency);
+    TrackerClient trackerClient = Mockito.mock(TrackerClient.class);
+    Mockito.when(trackerClient.getUri()).thenReturn(URI.create(uri));
+    Mockito.when(trackerClient.getCallTracker()).thenReturn(callTracker);
+    Mockito.when(trackerClient.getPartitionWeight(anyInt())).thenReturn(weight);
+    Mockito.when(trackerClient.getSubsetWeight(anyInt())).thenReturn(1D);
+    trackerClients.put(trackerClient.getUri(), trackerClient);
+    return trackerClient;
+  }
+
+  private static void mockErrorRate(TrackerClient trackerClient, double errorRate)
+  {
+    CallTracker.CallStats callStats = Mockito.mock(CallTracker.CallStats.class);
+    Mockito.when(callStats.getErrorRate()).thenReturn(errorRate);
+    Mockito.when(trackerClient.getLatestCallStats()).thenReturn(callStats);
+  }
+}
@@ -385,6 +385,53 @@ public class RingBasedURIMapperTest
         .forEach((key, value) -> Assert.assertTrue(value.isEmpty()));
   }
 
+  @Test(dataProvider = "stickyPartitionPermutation")
+  public void testMapUrisToAlternateHosts(boolean sticky, boolean partitioned) throws Exception
+  {
+    int partitionCount = partitioned ? 10 : 1;
+    int requestPerPartition = 100;
+    int totalHostCount = 100;
+
+    HashRingProvider ringProvider = createStaticHashRingProvider(totalHostCount, partitionCount, getHashFunction(sticky));
+    PartitionInfoProvider infoProvider = createRangeBasedPartitionInfoProvider(partitionCount);
+    URIMapper mapper = new RingBasedUriMapper(ringProvider, infoProvider);
+
+    List<URIKeyPair<Integer>> requests = testUtil.generateRequests(partitionCount, requestPerPartition);
+    URIMappingResult<Integer> results = mapper.mapUris(requests);
+
+    // the keys sent to every host are mapped to one other host of the same partition
+    for (Map.Entry<URI, Set<Integer>> entry : results.getMappedKeys().entrySet())
+    {
+      List<URIKeyPair<Integer>> hostRequests = requests.stream()
+          .filter(request -> entry.getValue().contains(request.getKey()))
+          .collect(Collectors.toList());
+      URIMappingResult<Integer> alternateResults =
+          mapper.mapUrisToAlternateHosts(hostRequests, Collections.singleton(entry.getKey()));
+
+      Assert.assertTrue(alternateResults.getUnmappedKeys().isEmpty());
+      Assert.assertEquals(alternateResults.getMappedKeys().size(), 1);
+      URI alternateHost = alternateResults.getMappedKeys().keySet().iterator().next();
+      Assert.assertNotEquals(alternateHost, entry.getKey());
+      Assert.assertEquals(getPartitionIdForURI(alternateHost), getPartitionIdForURI(entry.getKey()));
+      Assert.assertEquals(alternateResults.getMappedKeys().get(alternateHost), entry.getValue());
+    }
+  }
+
+  @Test
+  public void testMapUrisToAlternateHostsWithoutAvailableHost() throws Exception
+  {
+    HashRingProvider ringProvider = createStaticHashRingProvider(1, 1, getHashFunction(true));
+    PartitionInfoProvider infoProvider = createRangeBasedPartitionInfoProvider(1);
+    URIMapper mapper = new RingBasedUriMapper(ringProvider, infoProvider);
+
+    List<URIKeyPair<Integer>> requests = testUtil.generateRequests(1, 10);
+    URI host = mapper.mapUris(requests).getMappedKeys().keySet().iterator().next();
+
+    URIMappingResult<Integer> alternateResults = mapper.mapUrisToAlternateHosts(requests, Collections.singleton(host));
+    Assert.assertTrue(alternateResults.getMappedKeys().isEmpty());
+    Assert.assertEquals(alternateResults.getUnmappedKeys().get(0).size(), 10);
+  }
+
   @DataProvider
   public Object[][] stickyPartitionPermutation()
   {
@@ -55,6 +55,12 @@ import org.apache.avro.util.Utf8;
 /**
  * Translate from Pegasus data to and from Avro {@link GenericRecord}.
  *
+ * <p>
+ * How the fields of a record and the members of a union map onto the Avro schema is resolved once per
+ * pair of schemas and cached, see {@link TranslationPlanCache}. Translating many values of the same
+ * schemas is therefore considerably cheaper when the same {@link RecordDataSchema} and Avro {@link Schema}
+ * instances are passed in, e.g. the schemas of generated classes.
+ *
  * @see SchemaTranslationException
  */
 public class DataTranslator implements DataTranslatorContext
@@ -74,7 +80,7 @@ public class DataTranslator implements DataTranslatorContext
    */
   public static GenericRecord dataMapToGenericRecord(DataMap map, RecordDataSchema dataSchema) throws DataTranslationException
   {
-    Schema avroSchema = SchemaTranslator.dataToAvroSchema(dataSchema);
+    Schema avroSchema = TranslationPlanCache.getAvroSchema(dataSchema);
     return dataMapToGenericRecord(map, dataSchema, avroSchema, null);
   }
 
@@ -94,7 +100,7 @@ public class DataTranslator implements DataTranslatorContext
                                                      DataMapToAvroRecordTranslationOptions options)
       throws DataTranslationException
   {
-    Schema avroSchema = SchemaTranslator.dataToAvroSchema(dataSchema);
+    Schema avroSchema = TranslationPlanCache.getAvroSchema(dataSchema);
     return dataMapToGenericRecord(map, dataSchema, avroSchema, options);
   }
 
@@ -242,6 +248,16 @@ public class DataTranslator implements DataTranslatorContext
     return new DataTranslationException("Error processing " + pathToString(_path), _messageList, e);
   }
 
+  TranslationPlanCache.RecordPlan getRecordPlan(RecordDataSchema dataSchema, Schema avroSchema)
+  {
+    return TranslationPlanCache.getRecordPlan(this, dataSchema, avroSchema);
+  }
+
+  TranslationPlanCache.UnionPlan getUnionPlan(UnionDataSchema dataSchema, Schema avroSchema)
+  {
+    return TranslationPlanCache.getUnionPlan(this, dataSchema, avroSchema);
+  }
+
   private static class AvroGenericToDataTranslator extends DataTranslator
   {
     private final static Object BAD_RESULT = CustomDataTranslator.DATA_BAD_RESULT;
@@ -356,9 +372,11 @@ public class DataTranslator implements DataTranslatorContext
           GenericRecord record = (GenericRecord) value;
           Schema recordAvroSchema = record.getSchema();
           RecordDataSchema recordDataSchema = (RecordDataSchema) dereferencedDataSchema;
+          TranslationPlanCache.RecordPlan plan = getRecordPlan(recordDataSchema, avroSchema);
           dataMap = new DataMap(avroSchema.getFields().size());
-          for (RecordDataSchema.Field field : recordDataSchema.getFields())
+          for (TranslationPlanCache.FieldPlan fieldPlan : plan.getFields())
           {
+            RecordDataSchema.Field field = fieldPlan.getField();
             String fieldName = field.getName();
             // fieldValue could be null if the Avro schema does not contain the named field or
             // the field is present with a null value. In either case we do not add a value
@@ -369,7 +387,8 @@ public class DataTranslator implements DataTranslatorContext
 
             //explicitly check the avro record schema has this field as accessing a non-existent field throws
             //under avro 1.10+
-            Schema.Field avroSchemaField = recordAvroSchema.getField(fieldName);
+            Schema.Field avroSchemaField = recordAvroSchema == avroSchema ?
+                fieldPlan.getAvroField() : recordAvroSchema.getField(fieldName);
             if (avroSchemaField == null)
             {
               continue;
@@ -381,11 +400,16 @@ public class DataTranslator implements DataTranslatorContext
               continue;
             }
             DataSchema fieldDataSchema = field.getType();
-            Schema fieldAvroSchema = avroSchema.getField(fieldName).schema();
+            Schema.Field avroField = fieldPlan.getAvroField();
+            Schema fieldAvroSchema = (avroField == null ? avroSchema.getField(fieldName) : avroField).schema();
             if (fieldDataSchema.getDereferencedType() != DataSchema.Type.UNION && fieldAvroSchema.getType() == Schema.Type.UNION)
             {
               // Avro schema should be union with 2 types: null and the field's type.
-              Map.Entry<String, Schema> fieldAvroEntry = findUnionMember(fieldDataSchema, fieldAvroSchema);
+              Map.Entry<String, Schema> fieldAvroEntry = fieldPlan.getAvroMember(fieldDataSchema);
+              if (fieldAvroEntry == null)
+              {
+                fieldAvroEntry = findUnionMember(fieldDataSchema, fieldAvroSchema);
+              }
               if (fieldAvroEntry == null)
               {
                 continue;
@@ -444,54 +468,13 @@ public class DataTranslator implements DataTranslatorContext
     {
       int index = _genericData.resolveUnion(avroSchema, value);
       Schema memberAvroSchema = avroSchema.getTypes().get(index);
-      String key;
-      switch (memberAvroSchema.getType())
-      {
-        case ENUM:
-        case FIXED:
-        case RECORD:
-          key = getUnionMemberKey(memberAvroSchema);
-          break;
-        default:
-          key = memberAvroSchema.getType().toString().toLowerCase();
-      }
-      DataSchema memberDataSchema = unionDataSchema.getTypeByMemberKey(key);
-      if (memberDataSchema == null && isSimpleNullUnion(unionDataSchema))
-      {
-        for (UnionDataSchema.Member member : unionDataSchema.getMembers())
-        {
-          AvroOverride avroOverride = getAvroOverride(member.getType());
-          if (avroOverride != null)
-          {
-            if (avroOverride.getAvroSchemaFullName().equals(key))
-            {
-              memberDataSchema = member.getType();
-              break;
-            }
-          }
-        }
-      }
-      // if there was no match by this point, try to find the member by simple name.
-      if (memberDataSchema == null)
-      {
-        for (UnionDataSchema.Member member : unionDataSchema.getMembers())
-        {
-          AvroOverride avroOverride = getAvroOverride(member.getType());
-          if (avroOverride != null)
-          {
-            String avroSimpleName = getSimpleName(avroOverride.getAvroSchemaFullName());
-            String simpleKey = getSimpleName(key);
-            if (avroSimpleName.equals(simpleKey))
-            {
-              memberDataSchema = member.getType();
-              break;
-            }
-          }
-        }
-      }
+      TranslationPlanCache.UnionPlan plan = getUnionPlan(unionDataSchema, avroSchema);
+      DataSchema memberDataSchema = (plan == null ?
+          resolveUnionMemberDataSchema(unionDataSchema, memberAvroSchema) : plan.getDataMember(index));
       if (memberDataSchema == null)
       {
-        appendMessage("cannot find %1$s in union %2$s for value %3$s", key, unionDataSchema, value);
+        appendMessage("cannot find %1$s in union %2$s for value %3$s",
+                      getAvroUnionMemberKey(memberAvroSchema), unionDataSchema, value);
         return null;
       }
       return new AbstractMap.SimpleEntry<>(memberDataSchema, memberAvroSchema);
@@ -628,7 +611,7 @@ public class DataTranslator implements DataTranslatorContext
           else
           {
             DataSchema memberDataSchema = unionDataSchema.getTypeByMemberKey(key);
-            Map.Entry<String, Schema> memberAvroEntry = findUnionMember(memberDataSchema, fieldAvroSchema);
+            Map.Entry<String, Schema> memberAvroEntry = findPlannedUnionMember(key, memberDataSchema, unionDataSchema, fieldAvroSchema);
             if (memberAvroEntry == null || memberDataSchema == null) {
               fieldVal = BAD_RESULT;
               break;
@@ -719,16 +702,21 @@ public class DataTranslator implements DataTranslatorContext
         return avroOverride.getCustomDataTranslator().dataToAvroSpecific(this, value, dataSchema, avroSchema);
       }
 
-      T specificRecord;
-      specificRecord = (T) Class.forName(avroSchema.getFullName()).newInstance();
       DataSchema dereferencedDataSchema = dataSchema.getDereferencedDataSchema();
+      RecordDataSchema recordDataSchema = (RecordDataSchema) dereferencedDataSchema;
+      TranslationPlanCache.RecordPlan plan = getRecordPlan(recordDataSchema, avroSchema);
+
+      T specificRecord;
+      specificRecord = (T) plan.newSpecificRecord();
+      int[] specificPositions = plan.getSpecificPositions(specificRecord.getSchema());
 
       DataMap map = (DataMap) value;
-      RecordDataSchema recordDataSchema = (RecordDataSchema) dereferencedDataSchema;
-      for (RecordDataSchema.Field field : recordDataSchema.getFields())
+      TranslationPlanCache.FieldPlan[] fieldPlans = plan.getFields();
+      for (int i = 0; i < fieldPlans.length; i++)
       {
+        RecordDataSchema.Field field = fieldPlans[i].getField();
         String fieldName = field.getName();
-        Schema.Field avroField = avroSchema.getField(fieldName);
+        Schema.Field avroField = fieldPlans[i].getAvroField();
         if (avroField == null)
         {
           continue;
@@ -769,7 +757,8 @@ public class DataTranslator implements DataTranslatorContext
           }
         }
 
-        specificRecord.put(specificRecord.getSchema().getField(fieldName).pos(), fieldValue);
+        int position = specificPositions[i];
+        specificRecord.put(position < 0 ? specificRecord.getSchema().getField(fieldName).pos() : position, fieldValue);
         _path.removeLast();
       }
       return specificRecord;
@@ -886,12 +875,14 @@ public class DataTranslator implements DataTranslatorContext
         case RECORD:
           map = (DataMap) value;
           RecordDataSchema recordDataSchema = (RecordDataSchema) dereferencedDataSchema;
+          TranslationPlanCache.RecordPlan plan = getRecordPlan(recordDataSchema, avroSchema);
           GenericData.Record avroRecord = new GenericData.Record(avroSchema);
-          for (RecordDataSchema.Field field : recordDataSchema.getFields())
+          for (TranslationPlanCache.FieldPlan fieldPlan : plan.getFields())
           {
+            RecordDataSchema.Field field = fieldPlan.getField();
             String fieldName = field.getName();
             DataSchema fieldDataSchema = field.getType();
-            Schema.Field avroField = avroSchema.getField(fieldName);
+            Schema.Field avroField = fieldPlan.getAvroField();
             if (avroField == null)
             {
               // field present in input but there is no field for it in Avro schema.
@@ -941,7 +932,11 @@ public class DataTranslator implements DataTranslatorContext
                 fieldAvroSchema.getType() == Schema.Type.UNION)
             {
               // Need to extract the Avro type corresponding to the pegasus type from the Avro union
-              Map.Entry<String, Schema> fieldAvroEntry = findUnionMember(fieldDataSchema, fieldAvroSchema);
+              Map.Entry<String, Schema> fieldAvroEntry = fieldPlan.getAvroMember(fieldDataSchema);
+              if (fieldAvroEntry == null)
+              {
+                fieldAvroEntry = findUnionMember(fieldDataSchema, fieldAvroSchema);
+              }
               if (fieldAvroEntry == null)
               {
                 _path.removeLast();
@@ -951,7 +946,7 @@ public class DataTranslator implements DataTranslatorContext
             }
 
             Object fieldAvroValue = translate(fieldValue, fieldDataSchema, fieldAvroSchema);
-            avroRecord.put(fieldName, fieldAvroValue);
+            avroRecord.put(avroField.pos(), fieldAvroValue);
             _path.removeLast();
           }
           result = avroRecord;
@@ -983,7 +978,7 @@ public class DataTranslator implements DataTranslatorContext
           else
           {
             DataSchema memberDataSchema = unionDataSchema.getTypeByMemberKey(key);
-            Map.Entry<String, Schema> memberAvroEntry = findUnionMember(memberDataSchema, avroSchema);
+            Map.Entry<String, Schema> memberAvroEntry = findPlannedUnionMember(key, memberDataSchema, unionDataSchema, avroSchema);
             if (memberAvroEntry == null) {
               result = BAD_RESULT;
               break;
@@ -1088,23 +1083,41 @@ public class DataTranslator implements DataTranslatorContext
   }
 
   protected Map.Entry<String, Schema> findUnionMember(DataSchema dataSchema, Schema avroSchema)
+  {
+    Map.Entry<String, Schema> member = resolveUnionMember(dataSchema, avroSchema);
+    if (member == null)
+    {
+      AvroOverride avroOverride = getAvroOverride(dataSchema);
+      String key = (avroOverride == null ? dataSchema.getUnionMemberKey() : avroOverride.getAvroSchemaFullName());
+      appendMessage("cannot find %1$s in union %2$s", key, avroSchema);
+    }
+    return member;
+  }
+
+  /**
+   * Same as {@link #findUnionMember(DataSchema, Schema)}, using the plan of the union when it has resolved the member.
+   */
+  Map.Entry<String, Schema> findPlannedUnionMember(String memberKey, DataSchema memberDataSchema,
+                                                   UnionDataSchema unionDataSchema, Schema avroSchema)
+  {
+    TranslationPlanCache.UnionPlan plan = getUnionPlan(unionDataSchema, avroSchema);
+    Map.Entry<String, Schema> member = (plan == null ? null : plan.getAvroMember(memberKey));
+    return member == null ? findUnionMember(memberDataSchema, avroSchema) : member;
+  }
+
+  /**
+   * Finds the member of the Avro union holding values of the given schema, without reporting a failure.
+   *
+   * @return the union member key and schema of the Avro member, or null if there is none.
+   */
+  Map.Entry<String, Schema> resolveUnionMember(DataSchema dataSchema, Schema avroSchema)
   {
     AvroOverride avroOverride = getAvroOverride(dataSchema);
     String key = (avroOverride == null ? dataSchema.getUnionMemberKey() : avroOverride.getAvroSchemaFullName());
     List<Schema> members = avroSchema.getTypes();
     for (Schema member : members)
     {
-      String name;
-      switch (member.getType())
-      {
-        case ENUM:
-        case FIXED:
-        case RECORD:
-          name = getUnionMemberKey(member);
-          break;
-        default:
-          name = member.getType().toString().toLowerCase();
-      }
+      String name = getAvroUnionMemberKey(member);
       if (name.equals(key))
         return new AbstractMap.SimpleEntry<>(name, member);
     }
@@ -1113,27 +1126,75 @@ public class DataTranslator implements DataTranslatorContext
     if (isSimpleNullUnion(members)) {
       for (Schema member : members)
       {
-        String name;
-        switch (member.getType())
-        {
-          case ENUM:
-          case FIXED:
-          case RECORD:
-            name = getUnionMemberKey(member);
-            break;
-          default:
-            name = member.getType().toString().toLowerCase();
-        }
+        String name = getAvroUnionMemberKey(member);
         // strip namespace (if it exists)
         String simpleName = getSimpleName(name);
         String simpleKey = getSimpleName(key);
         if (simpleName.equals(simpleKey)) return new AbstractMap.SimpleEntry<>(name, member);
       }
     }
-    appendMessage("cannot find %1$s in union %2$s", key, avroSchema);
     return null;
   }
 
+  /**
+   * Finds the member of the Pegasus union holding values of the given member of an Avro union, without reporting
+   * a failure.
+   *
+   * @return the schema of the Pegasus member, or null if there is none.
+   */
+  DataSchema resolveUnionMemberDataSchema(UnionDataSchema unionDataSchema, Schema memberAvroSchema)
+  {
+    String key = getAvroUnionMemberKey(memberAvroSchema);
+    DataSchema memberDataSchema = unionDataSchema.getTypeByMemberKey(key);
+    if (memberDataSchema == null && isSimpleNullUnion(unionDataSchema))
+    {
+      for (UnionDataSchema.Member member : unionDataSchema.getMembers())
+      {
+        AvroOverride avroOverride = getAvroOverride(member.getType());
+        if (avroOverride != null)
+        {
+          if (avroOverride.getAvroSchemaFullName().equals(key))
+          {
+            memberDataSchema = member.getType();
+            break;
+          }
+        }
+      }
+    }
+    // if there was no match by this point, try to find the member by simple name.
+    if (memberDataSchema == null)
+    {
+      for (UnionDataSchema.Member member : unionDataSchema.getMembers())
+      {
+        AvroOverride avroOverride = getAvroOverride(member.getType());
+        if (avroOverride != null)
+        {
+          String avroSimpleName = getSimpleName(avroOverride.getAvroSchemaFullName());
+          String simpleKey = getSimpleName(key);
+          if (avroSimpleName.equals(simpleKey))
+          {
+            memberDataSchema = member.getType();
+            break;
+          }
+        }
+      }
+    }
+    return memberDataSchema;
+  }
+
+  String getAvroUnionMemberKey(Schema member)
+  {
+    switch (member.getType())
+    {
+      case ENUM:
+      case FIXED:
+      case RECORD:
+        return getUnionMemberKey(member);
+      default:
+        return member.getType().toString().toLowerCase();
+    }
+  }
+
   private static String getSimpleName(String fullName) {
     if (fullName == null || fullName.isEmpty()) {
       return fullName; // or throw IllegalArgumentException depending on use case
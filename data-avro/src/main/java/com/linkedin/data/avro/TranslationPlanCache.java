@@ -0,0 +1,341 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.data.avro;
+
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkedin.data.schema.DataSchema;
+import com.linkedin.data.schema.DataSchemaConstants;
+import com.linkedin.data.schema.RecordDataSchema;
+import com.linkedin.data.schema.UnionDataSchema;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.avro.Schema;
+
+
+/**
+ * Caches how a Pegasus {@link RecordDataSchema} or {@link UnionDataSchema} maps onto an Avro {@link Schema}, so that
+ * {@link DataTranslator} resolves field positions and union members once per pair of schemas instead of once per
+ * translated value.
+ *
+ * Plans are keyed by the identity of both schemas and by the namespace override mapping of the translation options.
+ * Resolutions that fail are not recorded in a plan, so that the translator reports them when they are encountered.
+ */
+/* package scoped */
+final class TranslationPlanCache
+{
+  // Schemas translated on the fly would otherwise accumulate, the least used plans are evicted above this size
+  static final int MAX_CACHED_PLANS = 1024;
+
+  private static final Cache<Key, RecordPlan> _recordPlans = newCache();
+  private static final Cache<Key, UnionPlan> _unionPlans = newCache();
+  private static final Cache<Key, Schema> _avroSchemas = newCache();
+
+  private TranslationPlanCache()
+  {
+  }
+
+  /**
+   * @return the Avro schema translated from the given {@link RecordDataSchema} with the default options.
+   */
+  static Schema getAvroSchema(RecordDataSchema dataSchema)
+  {
+    Key key = new Key(dataSchema, null, null);
+    Schema avroSchema = _avroSchemas.getIfPresent(key);
+    if (avroSchema == null)
+    {
+      avroSchema = SchemaTranslator.dataToAvroSchema(dataSchema);
+      _avroSchemas.put(key, avroSchema);
+    }
+    return avroSchema;
+  }
+
+  static RecordPlan getRecordPlan(DataTranslator translator, RecordDataSchema dataSchema, Schema avroSchema)
+  {
+    Map<String, String> namespaceMapping = getNamespaceMapping(translator);
+    Key key = new Key(dataSchema, avroSchema, namespaceMapping);
+    RecordPlan plan = _recordPlans.getIfPresent(key);
+    if (plan == null)
+    {
+      plan = new RecordPlan(translator, dataSchema, avroSchema);
+      _recordPlans.put(key.copy(), plan);
+    }
+    return plan;
+  }
+
+  /**
+   * @return the plan of a union that is not aliased, or null if the Avro schema is not an union.
+   */
+  static UnionPlan getUnionPlan(DataTranslator translator, UnionDataSchema dataSchema, Schema avroSchema)
+  {
+    if (avroSchema.getType() != Schema.Type.UNION)
+    {
+      return null;
+    }
+    Map<String, String> namespaceMapping = getNamespaceMapping(translator);
+    Key key = new Key(dataSchema, avroSchema, namespaceMapping);
+    UnionPlan plan = _unionPlans.getIfPresent(key);
+    if (plan == null)
+    {
+      plan = new UnionPlan(translator, dataSchema, avroSchema);
+      _unionPlans.put(key.copy(), plan);
+    }
+    return plan;
+  }
+
+  static void clear()
+  {
+    _recordPlans.invalidateAll();
+    _unionPlans.invalidateAll();
+    _avroSchemas.invalidateAll();
+  }
+
+  static long size()
+  {
+    _recordPlans.cleanUp();
+    _unionPlans.cleanUp();
+    _avroSchemas.cleanUp();
+    return _recordPlans.estimatedSize() + _unionPlans.estimatedSize() + _avroSchemas.estimatedSize();
+  }
+
+  private static <V> Cache<Key, V> newCache()
+  {
+    // Evictions are cheap, they run on the calling thread rather than on the common pool
+    return Caffeine.newBuilder().maximumSize(MAX_CACHED_PLANS).executor(Runnable::run).build();
+  }
+
+  private static Map<String, String> getNamespaceMapping(DataTranslator translator)
+  {
+    DataTranslationOptions options = translator._dataTranslationOptions;
+    return options == null ? null : options.getAvroToDataSchemaNamespaceMapping();
+  }
+
+  /**
+   * Translation plan of a record, with the Avro field of every Pegasus field.
+   */
+  static final class RecordPlan
+  {
+    private final Schema _avroSchema;
+    private final FieldPlan[] _fields;
+    private volatile Class<?> _specificRecordClass;
+    private volatile Schema _specificSchema;
+    private volatile int[] _specificPositions;
+
+    private RecordPlan(DataTranslator translator, RecordDataSchema dataSchema, Schema avroSchema)
+    {
+      _avroSchema = avroSchema;
+      List<RecordDataSchema.Field> fields = dataSchema.getFields();
+      _fields = new FieldPlan[fields.size()];
+      for (int i = 0; i < _fields.length; i++)
+      {
+        _fields[i] = new FieldPlan(translator, fields.get(i), avroSchema.getField(fields.get(i).getName()));
+      }
+    }
+
+    FieldPlan[] getFields()
+    {
+      return _fields;
+    }
+
+    /**
+     * @return a new instance of the generated specific record class named by the Avro schema.
+     */
+    Object newSpecificRecord() throws ClassNotFoundException, InstantiationException, IllegalAccessException
+    {
+      Class<?> specificRecordClass = _specificRecordClass;
+      if (specificRecordClass == null)
+      {
+        specificRecordClass = Class.forName(_avroSchema.getFullName());
+        _specificRecordClass = specificRecordClass;
+      }
+      return specificRecordClass.newInstance();
+    }
+
+    /**
+     * @return the position of every field in the given schema of a specific record, or -1 for fields it does not have.
+     */
+    int[] getSpecificPositions(Schema specificSchema)
+    {
+      int[] positions = _specificPositions;
+      if (positions == null || _specificSchema != specificSchema)
+      {
+        positions = new int[_fields.length];
+        for (int i = 0; i < _fields.length; i++)
+        {
+          Schema.Field field = specificSchema.getField(_fields[i].getName());
+          positions[i] = field == null ? -1 : field.pos();
+        }
+        _specificPositions = positions;
+        _specificSchema = specificSchema;
+      }
+      return positions;
+    }
+  }
+
+  /**
+   * Translation plan of a record field.
+   */
+  static final class FieldPlan
+  {
+    private final RecordDataSchema.Field _field;
+    private final Schema.Field _avroField;
+    private final Map.Entry<String, Schema> _valueMember;
+    private final Map.Entry<String, Schema> _nullMember;
+
+    private FieldPlan(DataTranslator translator, RecordDataSchema.Field field, Schema.Field avroField)
+    {
+      _field = field;
+      _avroField = avroField;
+      if (avroField != null && avroField.schema().getType() == Schema.Type.UNION)
+      {
+        // Optional fields are translated to an Avro union of null and the field's type
+        _valueMember = field.getType().getDereferencedType() == DataSchema.Type.UNION ?
+            null : translator.resolveUnionMember(field.getType(), avroField.schema());
+        _nullMember = translator.resolveUnionMember(DataSchemaConstants.NULL_DATA_SCHEMA, avroField.schema());
+      }
+      else
+      {
+        _valueMember = null;
+        _nullMember = null;
+      }
+    }
+
+    RecordDataSchema.Field getField()
+    {
+      return _field;
+    }
+
+    String getName()
+    {
+      return _field.getName();
+    }
+
+    /**
+     * @return the Avro field of the same name, or null if the Avro record has none.
+     */
+    Schema.Field getAvroField()
+    {
+      return _avroField;
+    }
+
+    /**
+     * @return the member of the Avro union field holding values of the given schema, which is either the field's
+     *         type or the null schema, or null if it has not been resolved.
+     */
+    Map.Entry<String, Schema> getAvroMember(DataSchema dataSchema)
+    {
+      return dataSchema == DataSchemaConstants.NULL_DATA_SCHEMA ? _nullMember : _valueMember;
+    }
+  }
+
+  /**
+   * Translation plan of a union that is not aliased, with the Avro member of every Pegasus member and vice versa.
+   */
+  static final class UnionPlan
+  {
+    private final Map<String, Map.Entry<String, Schema>> _avroMembers;
+    private final DataSchema[] _dataMembers;
+
+    private UnionPlan(DataTranslator translator, UnionDataSchema dataSchema, Schema avroSchema)
+    {
+      Map<String, Map.Entry<String, Schema>> avroMembers = new HashMap<>();
+      for (UnionDataSchema.Member member : dataSchema.getMembers())
+      {
+        Map.Entry<String, Schema> avroMember = translator.resolveUnionMember(member.getType(), avroSchema);
+        if (avroMember != null)
+        {
+          avroMembers.put(member.getUnionMemberKey(), avroMember);
+        }
+      }
+      _avroMembers = Collections.unmodifiableMap(avroMembers);
+
+      List<Schema> avroTypes = avroSchema.getTypes();
+      _dataMembers = new DataSchema[avroTypes.size()];
+      for (int i = 0; i < _dataMembers.length; i++)
+      {
+        _dataMembers[i] = translator.resolveUnionMemberDataSchema(dataSchema, avroTypes.get(i));
+      }
+    }
+
+    /**
+     * @return the Avro member holding the Pegasus member of the given key, or null if it has not been resolved.
+     */
+    Map.Entry<String, Schema> getAvroMember(String memberKey)
+    {
+      return _avroMembers.get(memberKey);
+    }
+
+    /**
+     * @return the Pegasus member holding the Avro member at the given index, or null if it has not been resolved.
+     */
+    DataSchema getDataMember(int avroIndex)
+    {
+      return _dataMembers[avroIndex];
+    }
+  }
+
+  private static final class Key
+  {
+    private final DataSchema _dataSchema;
+    private final Schema _avroSchema;
+    private final Map<String, String> _namespaceMapping;
+    private final int _hashCode;
+
+    private Key(DataSchema dataSchema, Schema avroSchema, Map<String, String> namespaceMapping)
+    {
+      _dataSchema = dataSchema;
+      _avroSchema = avroSchema;
+      _namespaceMapping = namespaceMapping;
+      _hashCode = (System.identityHashCode(dataSchema) * 31 + System.identityHashCode(avroSchema)) * 31
+          + Objects.hashCode(namespaceMapping);
+    }
+
+    /**
+     * @return a key which is not affected by later changes to the namespace mapping of the options.
+     */
+    private Key copy()
+    {
+      return _namespaceMapping == null ? this : new Key(_dataSchema, _avroSchema, new HashMap<>(_namespaceMapping));
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+      if (this == o)
+      {
+        return true;
+      }
+      if (!(o instanceof Key))
+      {
+        return false;
+      }
+      Key other = (Key) o;
+      return _dataSchema == other._dataSchema && _avroSchema == other._avroSchema
+          && Objects.equals(_namespaceMapping, other._namespaceMapping);
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return _hashCode;
+    }
+  }
+}
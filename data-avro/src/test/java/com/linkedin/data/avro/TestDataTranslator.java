@@ -32,6 +32,7 @@ import com.linkedin.data.avro.testevents.StringRecord;
 import com.linkedin.data.avro.testevents.TestEventRecordOfRecord;
 import com.linkedin.data.avro.testevents.TestEventWithUnionAndEnum;
 import com.linkedin.data.avro.util.AvroUtil;
+import com.linkedin.data.schema.DataSchemaConstants;
 import com.linkedin.data.schema.RecordDataSchema;
 import com.linkedin.data.schema.validation.CoercionMode;
 import com.linkedin.data.schema.validation.RequiredMode;
@@ -2342,5 +2343,109 @@ public class TestDataTranslator
     assertEquals(((GenericRecord)fromDataMap.get("field2")).get("field1").toString(), "value1.1");
     assertEquals(((GenericRecord)fromDataMap.get("field2")).get("field2").toString(), "value1.2");
   }
-}
 
+  @Test
+  public void testTranslationPlanIsCached() throws IOException
+  {
+    String schemaText = "{\n" +
+        "  \"type\" : \"record\",\n" +
+        "  \"name\" : \"Foo\",\n" +
+        "  \"fields\" : [\n" +
+        "    { \"name\" : \"a\", \"type\" : \"int\" },\n" +
+        "    { \"name\" : \"b\", \"type\" : \"string\", \"optional\" : true },\n" +
+        "    { \"name\" : \"c\", \"type\" : [ \"int\", \"string\" ] }\n" +
+        "  ]\n" +
+        "}\n";
+    RecordDataSchema recordDataSchema = (RecordDataSchema) TestUtil.dataSchemaFromString(schemaText);
+    Schema avroSchema = SchemaTranslator.dataToAvroSchema(recordDataSchema);
+    DataTranslator translator = new DataTranslator();
+
+    TranslationPlanCache.RecordPlan plan = TranslationPlanCache.getRecordPlan(translator, recordDataSchema, avroSchema);
+    assertSame(TranslationPlanCache.getRecordPlan(translator, recordDataSchema, avroSchema), plan);
+    assertEquals(plan.getFields().length, 3);
+    assertSame(plan.getFields()[1].getAvroField(), avroSchema.getField("b"));
+    assertEquals(plan.getFields()[1].getAvroMember(recordDataSchema.getField("b").getType()).getKey(), "string");
+    assertEquals(plan.getFields()[1].getAvroMember(DataSchemaConstants.NULL_DATA_SCHEMA).getKey(), "null");
+    assertSame(TranslationPlanCache.getAvroSchema(recordDataSchema), TranslationPlanCache.getAvroSchema(recordDataSchema));
+
+    for (int i = 0; i < 3; i++)
+    {
+      DataMap dataMap = TestUtil.dataMapFromString("{ \"a\" : " + i + ", \"b\" : \"x\", \"c\" : { \"string\" : \"y\" } }");
+      GenericRecord avroRecord = DataTranslator.dataMapToGenericRecord(dataMap, recordDataSchema, avroSchema);
+      assertEquals(avroRecord.get("a"), i);
+      assertEquals(avroRecord.get("b").toString(), "x");
+      assertEquals(avroRecord.get("c").toString(), "y");
+      assertEquals(DataTranslator.genericRecordToDataMap(avroRecord, recordDataSchema, avroSchema), dataMap);
+    }
+  }
+
+  @Test
+  public void testTranslationPlanCacheIsBounded() throws IOException
+  {
+    String schemaText = "{ \"type\" : \"record\", \"name\" : \"Foo\", \"fields\" : [ { \"name\" : \"a\", \"type\" : \"int\" } ] }";
+    DataMap dataMap = TestUtil.dataMapFromString("{ \"a\" : 1 }");
+    for (int i = 0; i < TranslationPlanCache.MAX_CACHED_PLANS * 2; i++)
+    {
+      // Every call translates a new schema, as when schemas are parsed on the fly
+      RecordDataSchema recordDataSchema = (RecordDataSchema) TestUtil.dataSchemaFromString(schemaText);
+      GenericRecord avroRecord = DataTranslator.dataMapToGenericRecord(dataMap, recordDataSchema);
+      assertEquals(avroRecord.get("a"), 1);
+    }
+    assertTrue(TranslationPlanCache.size() <= 3 * TranslationPlanCache.MAX_CACHED_PLANS);
+  }
+
+  @Test
+  public void testTranslationPlanCacheKeepsUsedPlans() throws IOException
+  {
+    String schemaText = "{ \"type\" : \"record\", \"name\" : \"Foo\", \"fields\" : [ { \"name\" : \"a\", \"type\" : \"int\" } ] }";
+    RecordDataSchema usedDataSchema = (RecordDataSchema) TestUtil.dataSchemaFromString(schemaText);
+    Schema usedAvroSchema = SchemaTranslator.dataToAvroSchema(usedDataSchema);
+    DataTranslator translator = new DataTranslator();
+    TranslationPlanCache.RecordPlan usedPlan =
+        TranslationPlanCache.getRecordPlan(translator, usedDataSchema, usedAvroSchema);
+
+    DataMap dataMap = TestUtil.dataMapFromString("{ \"a\" : 1 }");
+    for (int i = 0; i < TranslationPlanCache.MAX_CACHED_PLANS * 2; i++)
+    {
+      // Schemas translated once must not evict the plan of a schema which is used all along
+      RecordDataSchema recordDataSchema = (RecordDataSchema) TestUtil.dataSchemaFromString(schemaText);
+      DataTranslator.dataMapToGenericRecord(dataMap, recordDataSchema);
+      assertSame(TranslationPlanCache.getRecordPlan(translator, usedDataSchema, usedAvroSchema), usedPlan);
+    }
+  }
+
+  @Test
+  public void testTranslationPlanDependsOnNamespaceMapping() throws IOException
+  {
+    String schemaText = "{\n" +
+        "  \"type\" : \"record\",\n" +
+        "  \"name\" : \"Foo\",\n" +
+        "  \"namespace\" : \"a.b.c\",\n" +
+        "  \"fields\" : [\n" +
+        "    { \"name\" : \"a\", \"type\" : [ \"int\", { \"type\" : \"record\", \"name\" : \"FooFoo\", \"fields\" : [ { \"name\" : \"b\", \"type\" : \"int\" } ] } ] }\n" +
+        "  ]\n" +
+        "}\n";
+    RecordDataSchema recordDataSchema = (RecordDataSchema) TestUtil.dataSchemaFromString(schemaText);
+    Schema avroSchema = Schema.parse(schemaText.replace("a.b.c", "avro.a.b.c"));
+    GenericRecord avroRecord = AvroUtil.genericRecordFromJson(TestAvroUtil.namespaceProcessor("{ \"a\" : { \"##NS(avro.a.b.c.)FooFoo\": { \"b\" : 1 } } }"), avroSchema);
+
+    AvroRecordToDataMapTranslationOptions options = new AvroRecordToDataMapTranslationOptions();
+    options.setAvroToDataSchemaNamespaceMapping(Collections.singletonMap("avro.a.b.c", "a.b.c"));
+    DataMap pegasusDataMap = DataTranslator.genericRecordToDataMap(avroRecord, recordDataSchema, avroSchema, options);
+    assertEquals(pegasusDataMap.getDataMap("a").getDataMap("a.b.c.FooFoo").get("b"), 1);
+
+    // The plan resolved with the mapping must not be used without it, and the failure must be reported every time
+    for (int i = 0; i < 2; i++)
+    {
+      try
+      {
+        DataTranslator.genericRecordToDataMap(avroRecord, recordDataSchema, avroSchema);
+        fail("Expected DataTranslationException");
+      }
+      catch (DataTranslationException e)
+      {
+        assertTrue(e.getMessage().contains("cannot find"), e.getMessage());
+      }
+    }
+  }
+}
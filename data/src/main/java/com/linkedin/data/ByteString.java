@@ -390,6 +390,25 @@ public final class ByteString
     return ByteBuffer.wrap(byteArray.getArray(), byteArray.getOffset(), byteArray.getLength()).asReadOnlyBuffer();
   }
 
+  /**
+   * Returns read only {@link ByteBuffer} views of the chunks of this {@link ByteString}, in order. Unlike
+   * {@link #asByteBuffer()}, this method never copies, even if this {@link ByteString} is composed of multiple chunks,
+   * so that its bytes can be written with a gathering write.
+   *
+   * @return read only {@link ByteBuffer} views of the chunks of this {@link ByteString}; a single empty buffer if this
+   *         {@link ByteString} is empty.
+   */
+  public ByteBuffer[] asByteBuffers()
+  {
+    final ByteBuffer[] byteBuffers = new ByteBuffer[_byteArrays.getArraySize()];
+    for (int i = 0; i < byteBuffers.length; i++)
+    {
+      ByteArray byteArray = _byteArrays.get(i);
+      byteBuffers[i] = ByteBuffer.wrap(byteArray.getArray(), byteArray.getOffset(), byteArray.getLength()).asReadOnlyBuffer();
+    }
+    return byteBuffers;
+  }
+
   /**
    * Return a String representation of the bytes in this {@link ByteString}, decoded using the supplied
    * charset.
@@ -83,6 +83,9 @@ public class ProtobufDataCodec implements DataCodec
 
   protected final ProtobufCodecOptions _options;
 
+  // the buffers of the ProtoWriters are reused by the following encodings on the same thread
+  private final ThreadLocal<byte[]> _protoWriterBuffers = new ThreadLocal<>();
+
   public ProtobufDataCodec()
   {
     this(new ProtobufCodecOptions.Builder().build());
@@ -145,19 +148,44 @@ public class ProtobufDataCodec implements DataCodec
   @Override
   public void writeMap(DataMap map, OutputStream out) throws IOException
   {
-    try (TraverseCallback callback = createTraverseCallback(new ProtoWriter(out, _options.getProtoWriterBufferSize())))
+    byte[] buffer = borrowProtoWriterBuffer();
+    try (TraverseCallback callback = createTraverseCallback(new ProtoWriter(out, buffer)))
     {
       Data.traverse(map, callback);
     }
+    finally
+    {
+      _protoWriterBuffers.set(buffer);
+    }
   }
 
   @Override
   public void writeList(DataList list, OutputStream out) throws IOException
   {
-    try (TraverseCallback callback = createTraverseCallback(new ProtoWriter(out, _options.getProtoWriterBufferSize())))
+    byte[] buffer = borrowProtoWriterBuffer();
+    try (TraverseCallback callback = createTraverseCallback(new ProtoWriter(out, buffer)))
     {
       Data.traverse(list, callback);
     }
+    finally
+    {
+      _protoWriterBuffers.set(buffer);
+    }
+  }
+
+  /**
+   * Takes the buffer of this thread for a {@link ProtoWriter}, which must be given back once the writer is closed, or
+   * allocates one if this thread has none, e.g. because it is already encoding.
+   */
+  private byte[] borrowProtoWriterBuffer()
+  {
+    byte[] buffer = _protoWriterBuffers.get();
+    if (buffer == null)
+    {
+      return new byte[_options.getProtoWriterBufferSize()];
+    }
+    _protoWriterBuffers.set(null);
+    return buffer;
   }
 
   @Override
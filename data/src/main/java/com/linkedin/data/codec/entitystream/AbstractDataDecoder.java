@@ -26,8 +26,10 @@ import com.linkedin.data.parser.NonBlockingDataParser;
 import com.linkedin.entitystream.ReadHandle;
 import java.io.IOException;
 import java.util.ArrayDeque;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.EnumSet;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
@@ -76,6 +78,9 @@ public abstract class AbstractDataDecoder<T extends DataComplex> implements Data
   private ByteString _currentChunk;
   private int _currentChunkIndex = -1;
 
+  private Set<String> _streamedFields = Collections.emptySet();
+  private DataElementListener _elementListener;
+
   protected EnumSet<NonBlockingDataParser.Token> _expectedTokens;
 
   protected AbstractDataDecoder(EnumSet<NonBlockingDataParser.Token> expectedFirstTokens)
@@ -109,6 +114,16 @@ public abstract class AbstractDataDecoder<T extends DataComplex> implements Data
     _readHandle.request(1);
   }
 
+  /**
+   * Passes the elements of the given top-level list and map fields to the listener as soon as each of them is decoded,
+   * instead of adding them to their collection. Must be invoked before the decoder is set as the reader of a stream.
+   */
+  public void setElementListener(Set<String> streamedFields, DataElementListener listener)
+  {
+    _streamedFields = streamedFields;
+    _elementListener = listener;
+  }
+
   /**
    * Interface to create non blocking data object parser that process different kind of event/read operations.
    */
@@ -291,7 +306,24 @@ public abstract class AbstractDataDecoder<T extends DataComplex> implements Data
    */
   protected void addValue(Object value)
   {
-    if (!_stack.isEmpty())
+    if (_elementListener != null && _stack.size() == 2 && _streamedFields.contains(_currFieldStack.peek()))
+    {
+      // The value is an element of a streamed field of the top-level map
+      try
+      {
+        if (!_completable.isDone())
+        {
+          _elementListener.onElement(_currFieldStack.peek(), _isCurrList ? null : _currField, value);
+        }
+      }
+      catch (Exception e)
+      {
+        handleException(e);
+      }
+      _currField = null;
+      updateExpected();
+    }
+    else if (!_stack.isEmpty())
     {
       DataComplex currItem = _stack.peek();
       if (_isCurrList)
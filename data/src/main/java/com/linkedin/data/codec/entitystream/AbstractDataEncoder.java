@@ -21,13 +21,19 @@ import com.linkedin.data.Data;
 import com.linkedin.data.DataComplex;
 import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
+import com.linkedin.entitystream.EntityStream;
+import com.linkedin.entitystream.ReadHandle;
+import com.linkedin.entitystream.Reader;
 import com.linkedin.entitystream.WriteHandle;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -56,6 +62,10 @@ public abstract class AbstractDataEncoder implements DataEncoder
   private WriteHandle<? super ByteString> _writeHandle;
   private boolean _done;
 
+  private StreamedElementsReader _streamedElementsReader;
+  private AtomicInteger _writeRequests;
+  private boolean _awaitingElement;
+
   private AbstractDataEncoder(int bufferSize)
   {
     _out = new QueueBufferedOutputStream(bufferSize);
@@ -81,6 +91,34 @@ public abstract class AbstractDataEncoder implements DataEncoder
     _typeStack.push(LIST);
   }
 
+  /**
+   * Streams the elements of a top-level field of the encoded {@link DataMap} from an {@link EntityStream}, after the
+   * elements of the {@link DataList} or {@link DataMap} the field holds. The elements of a <code>DataList</code> field
+   * are data objects, and the elements of a <code>DataMap</code> field are {@link Map.Entry} of their keys and data
+   * objects.
+   *
+   * <p>The elements are read one at a time as the encoded bytes are requested, so they never need to be held in
+   * memory together. The streamed field is encoded first, and the other fields of the <code>DataMap</code> after all
+   * the elements have been read, so they can be updated once the elements are known, for instance by the stream of
+   * elements when it is done. This must be called before the encoder is initialized.</p>
+   */
+  public void setStreamedElements(String fieldName, EntityStream<?> elements)
+  {
+    if (_typeStack.peek() != MAP)
+    {
+      throw new IllegalStateException("Elements can only be streamed to the fields of a DataMap");
+    }
+
+    Object collection = ((DataMap) _stack.peek()).get(fieldName);
+    if (!(collection instanceof DataList) && !(collection instanceof DataMap))
+    {
+      throw new IllegalArgumentException("Streamed field " + fieldName + " must hold a DataList or a DataMap");
+    }
+
+    _streamedElementsReader = new StreamedElementsReader(fieldName, (DataComplex) collection, elements);
+    _writeRequests = new AtomicInteger();
+  }
+
   @Override
   public void onInit(WriteHandle<? super ByteString> wh)
   {
@@ -155,8 +193,39 @@ public abstract class AbstractDataEncoder implements DataEncoder
     return dataList.iterator();
   }
 
+  /**
+   * Flushes the bytes buffered by the traverse callback to the output stream. It is invoked while waiting for a
+   * streamed element, so that the bytes encoded so far can be written.
+   */
+  protected void flush() throws IOException
+  {
+  }
+
   @Override
   public void onWritePossible()
+  {
+    if (_streamedElementsReader == null)
+    {
+      writeAvailable();
+    }
+    else
+    {
+      // Streamed elements may become available on another thread than the one requesting the encoded bytes, so the
+      // bytes are written by one thread at a time, which writes again for the requests made while it was writing.
+      if (_writeRequests.getAndIncrement() == 0)
+      {
+        int requests = 1;
+        do
+        {
+          writeAvailable();
+          requests = _writeRequests.addAndGet(-requests);
+        }
+        while (requests != 0);
+      }
+    }
+  }
+
+  private void writeAvailable()
   {
     while (_writeHandle.remaining() > 0)
     {
@@ -176,14 +245,27 @@ public abstract class AbstractDataEncoder implements DataEncoder
       {
         _writeHandle.write(_out.getBytes());
       }
+      else if (_awaitingElement && !_streamedElementsReader.isReady())
+      {
+        if (_out.isEmpty())
+        {
+          break;
+        }
+        _writeHandle.write(_out.getBytes());
+      }
       else
       {
         try
         {
+          _awaitingElement = false;
           generate();
         }
         catch (Exception e)
         {
+          if (_streamedElementsReader != null)
+          {
+            _streamedElementsReader.cancel();
+          }
           _writeHandle.error(e);
           break;
         }
@@ -200,12 +282,28 @@ public abstract class AbstractDataEncoder implements DataEncoder
       DataComplex current = _stack.peek();
       if (_iteratorStack.size() != _stack.size())
       {
-        if (_typeStack.peek() == MAP)
+        if (_streamedElementsReader != null && current == _streamedElementsReader._collection && _stack.size() == 2)
+        {
+          _streamedElementsReader.startElements();
+          _iteratorStack.push(_streamedElementsReader);
+          if (_typeStack.peek() == MAP)
+          {
+            _traverseCallback.startMap((DataMap) current);
+          }
+          else
+          {
+            _traverseCallback.startList((DataList) current);
+          }
+        }
+        else if (_typeStack.peek() == MAP)
         {
           DataMap dataMap = preProcessMap((DataMap) current);
           if (dataMap != null)
           {
-            _iteratorStack.push(createIterator(dataMap));
+            Iterator<Map.Entry<String, Object>> iterator = createIterator(dataMap);
+            _iteratorStack.push(_streamedElementsReader != null && _stack.size() == 1
+                ? streamedFieldFirst(iterator)
+                : iterator);
             _traverseCallback.startMap(dataMap);
           }
           else
@@ -241,6 +339,13 @@ public abstract class AbstractDataEncoder implements DataEncoder
       }
 
       Iterator<?> curr = _iteratorStack.peek();
+      if (curr == _streamedElementsReader && !_streamedElementsReader.awaitElement())
+      {
+        _awaitingElement = true;
+        flush();
+        break;
+      }
+
       if (curr.hasNext())
       {
         Object currItem = curr.next();
@@ -279,6 +384,27 @@ public abstract class AbstractDataEncoder implements DataEncoder
     }
   }
 
+  /**
+   * Reorders the entries of the top-level {@link DataMap} so that the streamed field is encoded first.
+   */
+  private Iterator<Map.Entry<String, Object>> streamedFieldFirst(Iterator<Map.Entry<String, Object>> iterator)
+  {
+    List<Map.Entry<String, Object>> entries = new ArrayList<>();
+    while (iterator.hasNext())
+    {
+      Map.Entry<String, Object> entry = iterator.next();
+      if (entry.getKey().equals(_streamedElementsReader._fieldName))
+      {
+        entries.add(0, entry);
+      }
+      else
+      {
+        entries.add(entry);
+      }
+    }
+    return entries.iterator();
+  }
+
   private void writeValue(Object value) throws Exception
   {
     if (value == null || value == Data.NULL)
@@ -334,6 +460,11 @@ public abstract class AbstractDataEncoder implements DataEncoder
   @Override
   public void onAbort(Throwable e)
   {
+    if (_streamedElementsReader != null)
+    {
+      _streamedElementsReader.cancel();
+    }
+
     try
     {
       _traverseCallback.close();
@@ -343,4 +474,134 @@ public abstract class AbstractDataEncoder implements DataEncoder
       LOGGER.warn("Error closing output stream on abort due to " + e.getMessage(), ioe);
     }
   }
+
+  /**
+   * Reads the streamed elements one at a time, as the encoder iterates over them. The elements are passed by the
+   * {@link EntityStream} of elements on any thread, and the encoder is notified to write again when one is available.
+   */
+  private class StreamedElementsReader implements Reader<Object>, Iterator<Object>
+  {
+    private final String _fieldName;
+    private final DataComplex _collection;
+    private final EntityStream<?> _elements;
+    private Iterator<?> _heldElements;
+    private ReadHandle _readHandle;
+    private boolean _started;
+    // Only accessed by the thread writing the encoded bytes.
+    private boolean _requested;
+
+    private volatile Object _element;
+    private volatile boolean _hasElement;
+    private volatile boolean _elementsDone;
+    private volatile Throwable _error;
+
+    private StreamedElementsReader(String fieldName, DataComplex collection, EntityStream<?> elements)
+    {
+      _fieldName = fieldName;
+      _collection = collection;
+      _elements = elements;
+    }
+
+    private synchronized void start()
+    {
+      if (!_started)
+      {
+        _started = true;
+        _elements.setReader(this);
+      }
+    }
+
+    private void startElements() throws IOException
+    {
+      _heldElements = _collection instanceof DataMap
+          ? createIterator((DataMap) _collection)
+          : createIterator((DataList) _collection);
+      start();
+    }
+
+    /**
+     * Requests the next element if there is none available yet.
+     *
+     * @return true if an element is available or all the elements have been read.
+     */
+    private boolean awaitElement() throws Exception
+    {
+      if (_heldElements.hasNext())
+      {
+        return true;
+      }
+
+      if (!isReady() && !_requested)
+      {
+        _requested = true;
+        _readHandle.request(1);
+      }
+
+      if (_error != null)
+      {
+        throw _error instanceof Exception ? (Exception) _error : new IOException(_error);
+      }
+      return isReady();
+    }
+
+    private boolean isReady()
+    {
+      return _hasElement || _elementsDone || _error != null;
+    }
+
+    private void cancel()
+    {
+      start();
+      _readHandle.cancel();
+    }
+
+    @Override
+    public void onInit(ReadHandle rh)
+    {
+      _readHandle = rh;
+    }
+
+    @Override
+    public void onDataAvailable(Object data)
+    {
+      _element = data;
+      _hasElement = true;
+      onWritePossible();
+    }
+
+    @Override
+    public void onDone()
+    {
+      _elementsDone = true;
+      onWritePossible();
+    }
+
+    @Override
+    public void onError(Throwable e)
+    {
+      _error = e;
+      onWritePossible();
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+      return _heldElements.hasNext() || _hasElement;
+    }
+
+    @Override
+    public Object next()
+    {
+      if (_heldElements.hasNext())
+      {
+        return _heldElements.next();
+      }
+
+      Object element = _element;
+      _element = null;
+      _hasElement = false;
+      _requested = false;
+      return element;
+    }
+  }
 }
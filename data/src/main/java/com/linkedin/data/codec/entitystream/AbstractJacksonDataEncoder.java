@@ -61,6 +61,12 @@ abstract class AbstractJacksonDataEncoder extends AbstractDataEncoder
     return new JacksonStreamTraverseCallback(_generator);
   }
 
+  @Override
+  protected void flush() throws IOException
+  {
+    _generator.flush();
+  }
+
   /**
    * method is moved to @Data.TraverseCallback. Extend JacksonStreamTraverseCallback to override method behaviour.
    * @throws IOException
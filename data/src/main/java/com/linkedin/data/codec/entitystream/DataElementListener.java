@@ -0,0 +1,71 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+
+package com.linkedin.data.codec.entitystream;
+
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * A listener of the elements of the collection fields of a {@link DataMap} being decoded from an
+ * {@link com.linkedin.entitystream.EntityStream}. The elements are passed to the listener as soon as they are decoded,
+ * instead of being added to their collection, so that the decoded map does not hold them.
+ *
+ * @see StreamDataCodec#decodeMap(com.linkedin.entitystream.EntityStream, Set, DataElementListener)
+ */
+public interface DataElementListener
+{
+  /**
+   * Invoked when an element of a streamed field has been decoded.
+   *
+   * @param fieldName the name of the top-level field holding the collection.
+   * @param key the key of the element if the collection is a {@link DataMap}, or null if it is a {@link DataList}.
+   * @param value the decoded element.
+   */
+  void onElement(String fieldName, String key, Object value) throws Exception;
+
+  /**
+   * Passes the elements of the given fields of an already decoded {@link DataMap} to a listener, and removes them from
+   * their collections. This is used by the codecs that cannot stream the elements while decoding.
+   */
+  static void streamElements(DataMap dataMap, Set<String> fieldNames, DataElementListener listener) throws Exception
+  {
+    for (String fieldName : fieldNames)
+    {
+      Object collection = dataMap.get(fieldName);
+      if (collection instanceof DataList)
+      {
+        for (Object element : (DataList) collection)
+        {
+          listener.onElement(fieldName, null, element);
+        }
+        ((DataList) collection).clear();
+      }
+      else if (collection instanceof DataMap)
+      {
+        for (Map.Entry<String, Object> entry : ((DataMap) collection).entrySet())
+        {
+          listener.onElement(fieldName, entry.getKey(), entry.getValue());
+        }
+        ((DataMap) collection).clear();
+      }
+    }
+  }
+}
@@ -98,6 +98,14 @@ public class JacksonLICORStreamDataCodec implements StreamDataCodec
     return EntityStreams.newEntityStream(encoder);
   }
 
+  @Override
+  public EntityStream<ByteString> encodeMap(DataMap map, String streamedField, EntityStream<?> elements)
+  {
+    JacksonLICORDataEncoder encoder = new JacksonLICORDataEncoder(map, _bufferSize, _useBinary, _symbolTable);
+    encoder.setStreamedElements(streamedField, elements);
+    return EntityStreams.newEntityStream(encoder);
+  }
+
   @Override
   public EntityStream<ByteString> encodeList(DataList list)
   {
@@ -24,6 +24,7 @@ import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
 import com.linkedin.entitystream.EntityStream;
 import com.linkedin.entitystream.EntityStreams;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
 
@@ -67,6 +68,17 @@ public class JacksonSmileStreamDataCodec implements StreamDataCodec
     return decoder.getResult();
   }
 
+  @Override
+  public CompletionStage<DataMap> decodeMap(EntityStream<ByteString> entityStream, Set<String> streamedFields,
+      DataElementListener listener)
+  {
+    JacksonSmileDataDecoder<DataMap> decoder =
+        new JacksonSmileDataDecoder<>(_smileFactory, AbstractDataDecoder.START_OBJECT_TOKEN);
+    decoder.setElementListener(streamedFields, listener);
+    entityStream.setReader(decoder);
+    return decoder.getResult();
+  }
+
   @Override
   public CompletionStage<DataList> decodeList(EntityStream<ByteString> entityStream)
   {
@@ -82,6 +94,14 @@ public class JacksonSmileStreamDataCodec implements StreamDataCodec
     return EntityStreams.newEntityStream(new JacksonSmileDataEncoder(_smileFactory, map, _bufferSize));
   }
 
+  @Override
+  public EntityStream<ByteString> encodeMap(DataMap map, String streamedField, EntityStream<?> elements)
+  {
+    JacksonSmileDataEncoder encoder = new JacksonSmileDataEncoder(_smileFactory, map, _bufferSize);
+    encoder.setStreamedElements(streamedField, elements);
+    return EntityStreams.newEntityStream(encoder);
+  }
+
   @Override
   public EntityStream<ByteString> encodeList(DataList list)
   {
@@ -25,6 +25,7 @@ import com.linkedin.data.codec.AbstractJacksonDataCodec;
 import com.linkedin.entitystream.EntityStream;
 import com.linkedin.entitystream.EntityStreams;
 
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
 
@@ -57,6 +58,16 @@ public class JacksonStreamDataCodec implements StreamDataCodec
     return decoder.getResult();
   }
 
+  @Override
+  public CompletionStage<DataMap> decodeMap(EntityStream<ByteString> entityStream, Set<String> streamedFields,
+      DataElementListener listener)
+  {
+    JacksonJsonDataMapDecoder decoder = new JacksonJsonDataMapDecoder(_jsonFactory);
+    decoder.setElementListener(streamedFields, listener);
+    entityStream.setReader(decoder);
+    return decoder.getResult();
+  }
+
   @Override
   public CompletionStage<DataList> decodeList(EntityStream<ByteString> entityStream)
   {
@@ -72,6 +83,14 @@ public class JacksonStreamDataCodec implements StreamDataCodec
     return EntityStreams.newEntityStream(encoder);
   }
 
+  @Override
+  public EntityStream<ByteString> encodeMap(DataMap map, String streamedField, EntityStream<?> elements)
+  {
+    JacksonJsonDataEncoder encoder = new JacksonJsonDataEncoder(_jsonFactory, map, _bufferSize);
+    encoder.setStreamedElements(streamedField, elements);
+    return EntityStreams.newEntityStream(encoder);
+  }
+
   @Override
   public EntityStream<ByteString> encodeList(DataList list)
   {
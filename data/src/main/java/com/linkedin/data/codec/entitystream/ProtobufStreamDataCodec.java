@@ -23,6 +23,7 @@ import com.linkedin.data.DataMap;
 import com.linkedin.data.codec.ProtobufCodecOptions;
 import com.linkedin.entitystream.EntityStream;
 import com.linkedin.entitystream.EntityStreams;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 
 
@@ -56,6 +57,17 @@ public class ProtobufStreamDataCodec implements StreamDataCodec
     return decoder.getResult();
   }
 
+  @Override
+  public CompletionStage<DataMap> decodeMap(EntityStream<ByteString> entityStream, Set<String> streamedFields,
+      DataElementListener listener)
+  {
+    ProtobufDataDecoder<DataMap> decoder =
+        new ProtobufDataDecoder<>(_options.getSymbolTable(), AbstractDataDecoder.START_OBJECT_TOKEN);
+    decoder.setElementListener(streamedFields, listener);
+    entityStream.setReader(decoder);
+    return decoder.getResult();
+  }
+
   @Override
   public CompletionStage<DataList> decodeList(EntityStream<ByteString> entityStream)
   {
@@ -21,7 +21,10 @@ import com.linkedin.data.ByteString;
 import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
 import com.linkedin.entitystream.EntityStream;
+import com.linkedin.entitystream.EntityStreams;
 
+import java.util.Set;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 
 
@@ -39,6 +42,31 @@ public interface StreamDataCodec
    */
   CompletionStage<DataMap> decodeMap(EntityStream<ByteString> entityStream);
 
+  /**
+   * Decodes a <code>DataMap</code> from the <code>EntityStream</code>, passing the elements of the given top-level
+   * list and map fields to the listener instead of adding them to the result, which holds these fields empty.
+   *
+   * The default implementation decodes the whole map before passing the elements to the listener. Codecs that can
+   * decode incrementally pass every element as soon as it is decoded, so that the elements never need to be held
+   * in memory together.
+   */
+  default CompletionStage<DataMap> decodeMap(EntityStream<ByteString> entityStream, Set<String> streamedFields,
+      DataElementListener listener)
+  {
+    return decodeMap(entityStream).thenApply(dataMap ->
+    {
+      try
+      {
+        DataElementListener.streamElements(dataMap, streamedFields, listener);
+      }
+      catch (Exception e)
+      {
+        throw new CompletionException(e);
+      }
+      return dataMap;
+    });
+  }
+
   /**
    * Decodes a <code>DataList</code> from the <code>EntityStream</code>. The result is passed asynchronously in the
    * {@link CompletionStage}.
@@ -50,6 +78,21 @@ public interface StreamDataCodec
    */
   EntityStream<ByteString> encodeMap(DataMap map);
 
+  /**
+   * Encodes a <code>DataMap</code> to an <code>EntityStream</code>, writing the elements read from the given
+   * <code>EntityStream</code> to the given top-level field after the elements of the <code>DataList</code> or
+   * <code>DataMap</code> it holds. The elements of a <code>DataList</code> field are data objects, and the elements of a
+   * <code>DataMap</code> field are {@link java.util.Map.Entry} of their keys and data objects.
+   *
+   * The default implementation reads all the elements into the field before encoding the map. Codecs that can encode
+   * incrementally read every element only when the bytes preceding it have been requested, so that the elements never
+   * need to be held in memory together.
+   */
+  default EntityStream<ByteString> encodeMap(DataMap map, String streamedField, EntityStream<?> elements)
+  {
+    return EntityStreams.newEntityStream(new StreamedElementsCollector(this, map, streamedField, elements));
+  }
+
   /**
    * Encodes a <code>DataList</code> to an <code>EntityStream</code>.
    */
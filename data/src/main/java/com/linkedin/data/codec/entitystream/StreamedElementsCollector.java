@@ -0,0 +1,206 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+
+package com.linkedin.data.codec.entitystream;
+
+import com.linkedin.data.ByteString;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.entitystream.EntityStream;
+import com.linkedin.entitystream.ReadHandle;
+import com.linkedin.entitystream.Reader;
+import com.linkedin.entitystream.WriteHandle;
+import com.linkedin.entitystream.Writer;
+import java.util.Map;
+
+
+/**
+ * Writer of the encoded bytes of a {@link DataMap} with a streamed field, for the codecs that cannot encode the
+ * elements as they are read. The elements are first read into the field, and the map is then encoded with
+ * {@link StreamDataCodec#encodeMap(DataMap)}, whose bytes are passed through as they are requested.
+ *
+ * @see StreamDataCodec#encodeMap(DataMap, String, EntityStream)
+ */
+class StreamedElementsCollector implements Writer<ByteString>, Reader<ByteString>
+{
+  private final StreamDataCodec _codec;
+  private final DataMap _map;
+  private final Object _collection;
+  private final EntityStream<?> _elements;
+  private final ElementReader _elementReader;
+
+  private WriteHandle<? super ByteString> _writeHandle;
+  private ReadHandle _readHandle;
+  private boolean _requested;
+  private boolean _aborted;
+
+  StreamedElementsCollector(StreamDataCodec codec, DataMap map, String streamedField, EntityStream<?> elements)
+  {
+    _collection = map.get(streamedField);
+    if (!(_collection instanceof DataList) && !(_collection instanceof DataMap))
+    {
+      throw new IllegalArgumentException("Streamed field " + streamedField + " must hold a DataList or a DataMap");
+    }
+
+    _codec = codec;
+    _map = map;
+    _elements = elements;
+    _elementReader = new ElementReader();
+  }
+
+  @Override
+  public void onInit(WriteHandle<? super ByteString> wh)
+  {
+    _writeHandle = wh;
+    _elements.setReader(_elementReader);
+  }
+
+  @Override
+  public void onWritePossible()
+  {
+    requestBytes();
+  }
+
+  @Override
+  public void onAbort(Throwable e)
+  {
+    ReadHandle readHandle;
+    synchronized (this)
+    {
+      _aborted = true;
+      readHandle = _readHandle;
+    }
+
+    if (readHandle == null)
+    {
+      _elementReader._readHandle.cancel();
+    }
+    else
+    {
+      readHandle.cancel();
+    }
+  }
+
+  @Override
+  public void onInit(ReadHandle rh)
+  {
+    boolean aborted;
+    synchronized (this)
+    {
+      _readHandle = rh;
+      aborted = _aborted;
+    }
+
+    if (aborted)
+    {
+      rh.cancel();
+    }
+    else
+    {
+      requestBytes();
+    }
+  }
+
+  @Override
+  public void onDataAvailable(ByteString data)
+  {
+    synchronized (this)
+    {
+      _requested = false;
+    }
+    _writeHandle.write(data);
+    requestBytes();
+  }
+
+  @Override
+  public void onDone()
+  {
+    _writeHandle.done();
+  }
+
+  @Override
+  public void onError(Throwable e)
+  {
+    _writeHandle.error(e);
+  }
+
+  private void requestBytes()
+  {
+    ReadHandle readHandle;
+    synchronized (this)
+    {
+      if (_readHandle == null || _requested || _writeHandle.remaining() == 0)
+      {
+        return;
+      }
+      _requested = true;
+      readHandle = _readHandle;
+    }
+    readHandle.request(1);
+  }
+
+  /**
+   * Reads the elements into the streamed field, and starts encoding the map once all of them are read.
+   */
+  private class ElementReader implements Reader<Object>
+  {
+    private ReadHandle _readHandle;
+
+    @Override
+    public void onInit(ReadHandle rh)
+    {
+      _readHandle = rh;
+      rh.request(1);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onDataAvailable(Object data)
+    {
+      try
+      {
+        if (_collection instanceof DataList)
+        {
+          ((DataList) _collection).add(data);
+        }
+        else
+        {
+          Map.Entry<String, ?> entry = (Map.Entry<String, ?>) data;
+          ((DataMap) _collection).put(entry.getKey(), entry.getValue());
+        }
+      }
+      catch (RuntimeException e)
+      {
+        _readHandle.cancel();
+        _writeHandle.error(e);
+        return;
+      }
+      _readHandle.request(1);
+    }
+
+    @Override
+    public void onDone()
+    {
+      _codec.encodeMap(_map).setReader(StreamedElementsCollector.this);
+    }
+
+    @Override
+    public void onError(Throwable e)
+    {
+      _writeHandle.error(e);
+    }
+  }
+}
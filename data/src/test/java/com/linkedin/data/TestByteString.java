@@ -171,6 +171,29 @@ public class TestByteString
     }
   }
 
+  @Test(dataProvider = "byteStrings")
+  public void testAsByteBuffers(byte[] bytes, ByteString bs)
+  {
+    final ByteBuffer[] bufs = bs.asByteBuffers();
+    Assert.assertEquals(bufs.length, bs.decompose().size());
+
+    final ByteBuffer buf = ByteBuffer.allocate(bytes.length);
+    for (ByteBuffer b : bufs)
+    {
+      Assert.assertTrue(b.isReadOnly());
+      buf.put(b);
+    }
+    Assert.assertEquals(buf.array(), bytes);
+  }
+
+  @Test
+  public void testAsByteBuffersEmpty()
+  {
+    final ByteBuffer[] bufs = ByteString.empty().asByteBuffers();
+    Assert.assertEquals(bufs.length, 1);
+    Assert.assertEquals(bufs[0].remaining(), 0);
+  }
+
   @Test(dataProvider = "byteStrings")
   public void testAsInputStream(byte[] bytes, ByteString bs) throws IOException
   {
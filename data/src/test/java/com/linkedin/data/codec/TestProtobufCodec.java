@@ -20,6 +20,7 @@ import com.linkedin.data.DataComplex;
 import com.linkedin.data.DataMap;
 import com.linkedin.data.protobuf.Utf8Utils;
 import java.io.IOException;
+import java.io.OutputStream;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -40,6 +41,42 @@ public class TestProtobufCodec extends TestCodec
     testDataCodec(codec, dataComplex);
   }
 
+  @Test
+  public void testProtoWriterBufferReusedAfterFailure() throws IOException
+  {
+    ProtobufDataCodec codec = new ProtobufDataCodec(new ProtobufCodecOptions.Builder().setProtoWriterBufferSize(16).build());
+    DataMap dataMap = new DataMap();
+    dataMap.put("key", "a value longer than the buffer of the writer");
+
+    OutputStream failingStream = new OutputStream()
+    {
+      @Override
+      public void write(int b) throws IOException
+      {
+        throw new IOException("write failed");
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException
+      {
+        throw new IOException("write failed");
+      }
+    };
+    try
+    {
+      codec.writeMap(dataMap, failingStream);
+      Assert.fail("Exception not thrown for failed write");
+    }
+    catch (IOException e)
+    {
+      // Success.
+    }
+
+    // the buffer left with the bytes of the failed encoding must not leak into the next one
+    Assert.assertEquals(codec.bytesToMap(codec.mapToBytes(dataMap)), dataMap);
+    Assert.assertEquals(codec.readMap(codec.mapToByteString(dataMap).asInputStream()), dataMap);
+  }
+
   @Test(dataProvider = "surrogatePairData", dataProviderClass = CodecDataProviders.class)
   public void testSurrogatePairs(String value, String expectedString, int expectedLength,
       boolean isValidSurrogatePair, boolean tolerateInvalidSurrogatePairs) throws Exception
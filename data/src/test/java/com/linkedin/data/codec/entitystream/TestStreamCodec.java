@@ -26,12 +26,22 @@ import com.linkedin.data.codec.ProtobufCodecOptions;
 import com.linkedin.data.codec.symbol.InMemorySymbolTable;
 import com.linkedin.data.codec.symbol.SymbolTable;
 import com.linkedin.entitystream.EntityStream;
+import com.linkedin.entitystream.EntityStreams;
+import com.linkedin.entitystream.WriteHandle;
+import com.linkedin.entitystream.Writer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 
@@ -48,6 +58,275 @@ public class TestStreamCodec
     }
   }
 
+  @Test
+  public void testDecodeMapWithElementListener() throws Exception
+  {
+    DataList elements = new DataList();
+    elements.add(new DataMap(Collections.singletonMap("id", 1)));
+    elements.add(new DataMap(Collections.singletonMap("id", 2)));
+    DataMap results = new DataMap();
+    results.put("a", new DataMap(Collections.singletonMap("id", 3)));
+    results.put("b", new DataMap(Collections.singletonMap("id", 4)));
+    DataMap paging = new DataMap(Collections.singletonMap("count", 2));
+    DataMap map = new DataMap();
+    map.put("elements", elements);
+    map.put("results", results);
+    map.put("paging", paging);
+
+    for (StreamDataCodec codec : getCodecs(1, map))
+    {
+      DataList streamedElements = new DataList();
+      DataMap streamedResults = new DataMap();
+      DataMap decoded = codec.decodeMap(codec.encodeMap(map), new HashSet<>(Arrays.asList("elements", "results")),
+          (fieldName, key, value) ->
+          {
+            if (fieldName.equals("elements"))
+            {
+              Assert.assertNull(key);
+              streamedElements.add(value);
+            }
+            else
+            {
+              streamedResults.put(key, value);
+            }
+          }).toCompletableFuture().get();
+
+      Assert.assertEquals(streamedElements, elements, codec.getClass().getName());
+      Assert.assertEquals(streamedResults, results, codec.getClass().getName());
+      Assert.assertEquals(decoded.getDataList("elements"), new DataList());
+      Assert.assertEquals(decoded.getDataMap("results"), new DataMap());
+      Assert.assertEquals(decoded.getDataMap("paging"), paging);
+    }
+  }
+
+  @Test
+  public void testElementListenerErrorFailsDecoding()
+  {
+    DataList elements = new DataList();
+    elements.add(new DataMap(Collections.singletonMap("id", 1)));
+    DataMap map = new DataMap(Collections.singletonMap("elements", elements));
+
+    for (StreamDataCodec codec : getCodecs(1, map))
+    {
+      try
+      {
+        codec.decodeMap(codec.encodeMap(map), Collections.singleton("elements"), (fieldName, key, value) ->
+        {
+          throw new IllegalStateException("listener");
+        }).toCompletableFuture().get();
+        Assert.fail("Expected the error of the listener, " + codec.getClass().getName());
+      }
+      catch (Exception e)
+      {
+        Assert.assertTrue(e.getCause() instanceof IllegalStateException
+            || e.getCause().getCause() instanceof IllegalStateException, codec.getClass().getName());
+      }
+    }
+  }
+
+  @Test
+  public void testEncodeMapWithStreamedElements() throws Exception
+  {
+    DataList elements = new DataList();
+    elements.add(new DataMap(Collections.singletonMap("id", 1)));
+    elements.add(new DataMap(Collections.singletonMap("id", 2)));
+    DataMap results = new DataMap();
+    results.put("a", new DataMap(Collections.singletonMap("id", 3)));
+    results.put("b", new DataMap(Collections.singletonMap("id", 4)));
+    DataMap expected = new DataMap();
+    expected.put("elements", elements);
+    expected.put("results", results);
+    expected.put("paging", new DataMap(Collections.singletonMap("count", 2)));
+
+    for (StreamDataCodec codec : getCodecs(1, expected))
+    {
+      DataMap listMap = expected.copy();
+      // The streamed elements are written after the elements held by the field
+      listMap.put("elements", new DataList(elements.subList(0, 1)));
+      EntityStream<ByteString> listStream = codec.encodeMap(listMap, "elements",
+          EntityStreams.newEntityStream(new ElementWriter(elements.subList(1, 2))));
+      TestUtil.assertEquivalent(codec.decodeMap(listStream).toCompletableFuture().get(), expected);
+
+      DataMap mapMap = expected.copy();
+      mapMap.put("results", new DataMap());
+      EntityStream<ByteString> mapStream = codec.encodeMap(mapMap, "results",
+          EntityStreams.newEntityStream(new ElementWriter(new ArrayList<>(results.entrySet()))));
+      TestUtil.assertEquivalent(codec.decodeMap(mapStream).toCompletableFuture().get(), expected);
+    }
+  }
+
+  @Test
+  public void testFieldsAreEncodedAfterStreamedElements() throws Exception
+  {
+    DataList elements = new DataList();
+    elements.add(new DataMap(Collections.singletonMap("id", 1)));
+    elements.add(new DataMap(Collections.singletonMap("id", 2)));
+    DataMap expected = new DataMap();
+    expected.put("elements", elements);
+    expected.put("metadata", new DataMap(Collections.singletonMap("count", 2)));
+    expected.put("paging", new DataMap(Collections.singletonMap("count", 2)));
+
+    for (StreamDataCodec codec : getCodecs(1, expected))
+    {
+      DataMap metadata = new DataMap();
+      DataMap paging = new DataMap();
+      DataMap map = new DataMap();
+      map.put("elements", new DataList());
+      map.put("metadata", metadata);
+      map.put("paging", paging);
+      // The other fields are only encoded once all the elements have been read
+      EntityStream<ByteString> stream = codec.encodeMap(map, "elements",
+          EntityStreams.newEntityStream(new ElementWriter(elements, () ->
+          {
+            metadata.put("count", elements.size());
+            paging.put("count", elements.size());
+          })));
+      TestUtil.assertEquivalent(codec.decodeMap(stream).toCompletableFuture().get(), expected);
+    }
+  }
+
+  @Test
+  public void testEncodeMapWithAsyncStreamedElements() throws Exception
+  {
+    DataList elements = new DataList();
+    for (int i = 0; i < 100; i++)
+    {
+      elements.add(new DataMap(Collections.singletonMap("id", i)));
+    }
+    DataMap expected = new DataMap(Collections.singletonMap("elements", elements));
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try
+    {
+      for (StreamDataCodec codec : getCodecs(16, expected))
+      {
+        DataMap map = new DataMap(Collections.singletonMap("elements", new DataList()));
+        ElementWriter writer = new ElementWriter(new ArrayList<>(elements), executor);
+        EntityStream<ByteString> stream = codec.encodeMap(map, "elements", EntityStreams.newEntityStream(writer));
+        TestUtil.assertEquivalent(codec.decodeMap(stream).toCompletableFuture().get(), expected);
+      }
+    }
+    finally
+    {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testStreamedElementsErrorFailsEncoding()
+  {
+    for (StreamDataCodec codec : getCodecs(1, new DataMap()))
+    {
+      DataMap map = new DataMap(Collections.singletonMap("elements", new DataList()));
+      EntityStream<ByteString> stream = codec.encodeMap(map, "elements", EntityStreams.newEntityStream(
+          new ElementWriter(Collections.singletonList(new DataMap()), null, new IllegalStateException("elements"))));
+      try
+      {
+        codec.decodeMap(stream).toCompletableFuture().get();
+        Assert.fail("Expected the error of the elements, " + codec.getClass().getName());
+      }
+      catch (Exception e)
+      {
+        Throwable cause = e;
+        while (cause != null && !(cause instanceof IllegalStateException))
+        {
+          cause = cause.getCause();
+        }
+        Assert.assertNotNull(cause, codec.getClass().getName());
+      }
+    }
+  }
+
+  /**
+   * Writes the elements one at a time as they are requested, optionally on an executor, and ends with the given
+   * error if any, or runs the given callback before it is done.
+   */
+  private static class ElementWriter implements Writer<Object>
+  {
+    private final Iterator<?> _elements;
+    private final Executor _executor;
+    private final Throwable _error;
+    private final Runnable _onDone;
+    private WriteHandle<Object> _writeHandle;
+
+    ElementWriter(List<?> elements)
+    {
+      this(elements, null, null);
+    }
+
+    ElementWriter(List<?> elements, Runnable onDone)
+    {
+      this(elements, null, null, onDone);
+    }
+
+    ElementWriter(List<?> elements, Executor executor)
+    {
+      this(elements, executor, null);
+    }
+
+    ElementWriter(List<?> elements, Executor executor, Throwable error)
+    {
+      this(elements, executor, error, () -> {});
+    }
+
+    ElementWriter(List<?> elements, Executor executor, Throwable error, Runnable onDone)
+    {
+      _elements = elements.iterator();
+      _executor = executor;
+      _error = error;
+      _onDone = onDone;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onInit(WriteHandle<? super Object> wh)
+    {
+      _writeHandle = (WriteHandle<Object>) wh;
+    }
+
+    @Override
+    public void onWritePossible()
+    {
+      if (_executor == null)
+      {
+        write();
+      }
+      else
+      {
+        _executor.execute(this::write);
+      }
+    }
+
+    private synchronized void write()
+    {
+      while (_writeHandle.remaining() > 0)
+      {
+        if (_elements.hasNext())
+        {
+          _writeHandle.write(_elements.next());
+        }
+        else
+        {
+          if (_error == null)
+          {
+            _onDone.run();
+            _writeHandle.done();
+          }
+          else
+          {
+            _writeHandle.error(_error);
+          }
+          break;
+        }
+      }
+    }
+
+    @Override
+    public void onAbort(Throwable e)
+    {
+    }
+  }
+
   private void testDataCodec(StreamDataCodec codec, DataComplex value) throws Exception
   {
     if (value.getClass() == DataMap.class)
@@ -1286,7 +1286,7 @@ public class PegasusPlugin implements Plugin<Project>
       Set<File> restModelInputDirs = difference(sourceSet.getAllSource().getSrcDirs(),
           sourceSet.getResources().getSrcDirs());
 
-      Task generateRestModelTask = project.getTasks()
+      GenerateRestModelTask generateRestModelTask = project.getTasks()
           .create(sourceSet.getTaskName("generate", "restModel"), GenerateRestModelTask.class, task ->
           {
             task.dependsOn(project.getTasks().getByName(sourceSet.getClassesTaskName()));
@@ -1299,6 +1299,7 @@ public class PegasusPlugin implements Plugin<Project>
             // we need all the artifacts from runtime for any private implementation classes the server code might need.
             task.setSnapshotDestinationDir(project.file(destinationDirPrefix + "snapshot"));
             task.setIdlDestinationDir(project.file(destinationDirPrefix + "idl"));
+            task.setResourceIndexDestinationDir(project.file(destinationDirPrefix + "resourceIndex"));
 
             @SuppressWarnings("unchecked")
             Map<String, PegasusOptions> pegasusOptions = (Map<String, PegasusOptions>) project
@@ -1445,6 +1446,8 @@ public class PegasusPlugin implements Plugin<Project>
           publishRestliIdlTask.getPath(), apiProject.getPath());
 
       jarTask.from(SharedFileUtils.getIdlFiles(project, destinationDirPrefix));
+      // add the resource index of the resource classes to the jar, see RestLiResourceIndex
+      jarTask.from(generateRestModelTask.getResourceIndexDestinationDir());
       // add generated .restspec.json files as resources to the jar
       jarTask.dependsOn(publishRestliSnapshotTask, publishRestliIdlTask);
 
@@ -19,6 +19,7 @@ import org.gradle.api.tasks.Classpath;
 import org.gradle.api.tasks.Input;
 import org.gradle.api.tasks.InputFiles;
 import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.Optional;
 import org.gradle.api.tasks.OutputDirectory;
 import org.gradle.api.tasks.PathSensitive;
 import org.gradle.api.tasks.PathSensitivity;
@@ -51,6 +52,7 @@ public class GenerateRestModelTask extends DefaultTask
   private FileCollection _resolverPath;
   private File _idlDestinationDir;
   private File _snapshotDestinationDir;
+  private File _resourceIndexDestinationDir;
   private PegasusOptions.IdlOptions _idlOptions;
   private FileCollection _pathedCodegenClasspath;
   private boolean _enableArgFile;
@@ -71,6 +73,10 @@ public class GenerateRestModelTask extends DefaultTask
     getProject().getLogger().debug("GenerateRestModel using destination dir {}", _idlDestinationDir.getPath());
     _snapshotDestinationDir.mkdirs();
     _idlDestinationDir.mkdirs();
+    if (_resourceIndexDestinationDir != null)
+    {
+      _resourceIndexDestinationDir.mkdirs();
+    }
 
     @SuppressWarnings("unchecked")
     List<String> includedSourceTypes = (List<String>) getProject().findProperty(INCLUDED_SOURCE_TYPES_PROPERTY);
@@ -184,6 +190,22 @@ public class GenerateRestModelTask extends DefaultTask
     _snapshotDestinationDir = snapshotDestinationDir;
   }
 
+  /**
+   * Directory of the resource index of the scanned packages, to be packaged with the resource classes so that the
+   * server finds them without scanning the packages.
+   */
+  @OutputDirectory
+  @Optional
+  public File getResourceIndexDestinationDir()
+  {
+    return _resourceIndexDestinationDir;
+  }
+
+  public void setResourceIndexDestinationDir(File resourceIndexDestinationDir)
+  {
+    _resourceIndexDestinationDir = resourceIndexDestinationDir;
+  }
+
   @Internal
   public PegasusOptions.IdlOptions getIdlOptions()
   {
@@ -282,6 +304,10 @@ public class GenerateRestModelTask extends DefaultTask
       }
       javaExecSpec.args(prepend("-sourcepath", inputDirs));
       javaExecSpec.args("-outdir", destinationPath);
+      if (_resourceIndexDestinationDir != null)
+      {
+        javaExecSpec.args("-resourceindexdir", _resourceIndexDestinationDir.getPath());
+      }
       if (packages != null)
       {
         javaExecSpec.args(prepend("-resourcepackages", packages));
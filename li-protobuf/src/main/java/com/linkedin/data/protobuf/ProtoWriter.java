@@ -81,10 +81,20 @@ public class ProtoWriter implements Closeable
    * Create a new {@code ProtoWriter} wrapping the given {@code OutputStream} with the given buffer size.
    */
   public ProtoWriter(OutputStream out, int bufferSize)
+  {
+    this(out, new byte[bufferSize]);
+  }
+
+  /**
+   * Create a new {@code ProtoWriter} wrapping the given {@code OutputStream}, buffering the written bytes in the given
+   * array. The array must not be used elsewhere until this writer is closed, after which it can be reused by another
+   * writer.
+   */
+  public ProtoWriter(OutputStream out, byte[] buffer)
   {
     _out = out;
-    _buffer = new byte[bufferSize];
-    _limit = bufferSize;
+    _buffer = buffer;
+    _limit = buffer.length;
   }
 
   /**
@@ -37,17 +37,20 @@ import java.util.Map;
 {
   private final List<RestFilter> _restFilters;
   private final List<StreamFilter> _streamFilters;
+  private final FilterChainPipeline.FilterChainRestPipeline _restPipeline;
+  private final FilterChainPipeline.FilterChainStreamPipeline _streamPipeline;
 
   public FilterChainImpl()
   {
-    _restFilters = Collections.emptyList();
-    _streamFilters = Collections.emptyList();
+    this(Collections.emptyList(), Collections.emptyList());
   }
 
   private FilterChainImpl(List<RestFilter> restFilters, List<StreamFilter> streamFilters)
   {
     _restFilters = Collections.unmodifiableList(new ArrayList<>(restFilters));
     _streamFilters = Collections.unmodifiableList(new ArrayList<>(streamFilters));
+    _restPipeline = new FilterChainPipeline.FilterChainRestPipeline(_restFilters);
+    _streamPipeline = new FilterChainPipeline.FilterChainStreamPipeline(_streamFilters);
   }
 
   @Override
@@ -102,24 +105,21 @@ import java.util.Map;
   public void onRestRequest(RestRequest req, RequestContext requestContext,
                             Map<String, String> wireAttrs)
   {
-    new FilterChainIterator.FilterChainRestIterator(_restFilters, 0)
-            .onRequest(req, requestContext, wireAttrs);
+    _restPipeline.onRequest(req, requestContext, wireAttrs);
   }
 
   @Override
   public void onRestResponse(RestResponse res, RequestContext requestContext,
                              Map<String, String> wireAttrs)
   {
-    new FilterChainIterator.FilterChainRestIterator(_restFilters, _restFilters.size())
-            .onResponse(res, requestContext, wireAttrs);
+    _restPipeline.onResponse(res, requestContext, wireAttrs);
   }
 
   @Override
   public void onRestError(Exception ex, RequestContext requestContext,
                           Map<String, String> wireAttrs)
   {
-    new FilterChainIterator.FilterChainRestIterator(_restFilters, _restFilters.size())
-            .onError(ex, requestContext, wireAttrs);
+    _restPipeline.onError(ex, requestContext, wireAttrs);
   }
 
   @Override
@@ -127,8 +127,7 @@ import java.util.Map;
                        RequestContext requestContext,
                        Map<String, String> wireAttrs)
   {
-    new FilterChainIterator.FilterChainStreamIterator(_streamFilters, 0)
-        .onRequest(req, requestContext, wireAttrs);
+    _streamPipeline.onRequest(req, requestContext, wireAttrs);
   }
 
   @Override
@@ -136,8 +135,7 @@ import java.util.Map;
                         RequestContext requestContext,
                         Map<String, String> wireAttrs)
   {
-    new FilterChainIterator.FilterChainStreamIterator(_streamFilters, _streamFilters.size())
-        .onResponse(res, requestContext, wireAttrs);
+    _streamPipeline.onResponse(res, requestContext, wireAttrs);
   }
 
   @Override
@@ -145,8 +143,7 @@ import java.util.Map;
                      RequestContext requestContext,
                      Map<String, String> wireAttrs)
   {
-    new FilterChainIterator.FilterChainStreamIterator(_streamFilters, _streamFilters.size())
-        .onError(ex, requestContext, wireAttrs);
+    _streamPipeline.onError(ex, requestContext, wireAttrs);
   }
 
   private <T> List<T> doAddFirst(List<T> list, T obj)
@@ -0,0 +1,374 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter;
+
+import com.linkedin.r2.filter.message.rest.RestFilter;
+import com.linkedin.r2.filter.message.stream.StreamFilter;
+import com.linkedin.r2.message.Request;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.Response;
+import com.linkedin.r2.message.rest.RestRequest;
+import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.message.stream.StreamRequest;
+import com.linkedin.r2.message.stream.StreamResponse;
+import com.linkedin.r2.message.timing.TimingArray;
+import com.linkedin.r2.message.timing.TimingContextUtil;
+import com.linkedin.r2.message.timing.TimingKey;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Dispatches requests, responses and errors through the filters of a {@link FilterChain}.
+ *
+ * The {@link NextFilter} handed to each filter is created once per filter and direction when the pipeline is built,
+ * since the position it continues from is known up front. Dispatching a message therefore does not allocate. For
+ * filters decorated with {@link TimedRestFilter} or {@link TimedStreamFilter} the pipeline calls the decorated filter
+ * directly and records its timings in a {@link TimingArray} of the request, instead of in the timings map.
+ *
+ * @author Chris Pettitt
+ * @author Zhenkai Zhu
+ */
+/* package private */ abstract class FilterChainPipeline<F, REQ extends Request, RES extends Response>
+{
+  private static final Logger LOG = LoggerFactory.getLogger(FilterChainPipeline.class);
+
+  // Offsets of the timing keys of a filter, matching the order of TimedRestFilter#getTimingKeys
+  private static final int ON_REQUEST = 0;
+  private static final int ON_RESPONSE = 1;
+  private static final int ON_ERROR = 2;
+  private static final int TIMING_KEYS_PER_FILTER = 3;
+
+  private final List<F> _filters;
+  private final TimingKey[] _timingKeys;
+  private final boolean _timed;
+  private final Link[] _requestLinks;
+  private final Link[] _responseLinks;
+  private final Link[] _errorLinks;
+
+  /**
+   * @param filters the filters to dispatch to, undecorated
+   * @param timingKeys {@link #TIMING_KEYS_PER_FILTER} timing keys per filter, null for filters which are not timed
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  protected FilterChainPipeline(List<F> filters, TimingKey[] timingKeys)
+  {
+    _filters = filters;
+    _timingKeys = timingKeys;
+
+    boolean timed = false;
+    for (TimingKey timingKey : timingKeys)
+    {
+      timed |= timingKey != null;
+    }
+    _timed = timed;
+
+    final int size = filters.size();
+    _requestLinks = new FilterChainPipeline.Link[size];
+    _responseLinks = new FilterChainPipeline.Link[size];
+    _errorLinks = new FilterChainPipeline.Link[size];
+    for (int i = 0; i < size; i++)
+    {
+      // The filter at index i continues from cursor i + 1 after a request, and from cursor i after a response
+      _requestLinks[i] = new Link(i + 1, i * TIMING_KEYS_PER_FILTER + ON_REQUEST);
+      _responseLinks[i] = new Link(i, i * TIMING_KEYS_PER_FILTER + ON_RESPONSE);
+      _errorLinks[i] = new Link(i, i * TIMING_KEYS_PER_FILTER + ON_ERROR);
+    }
+  }
+
+  public void onRequest(REQ req, RequestContext requestContext, Map<String, String> wireAttrs)
+  {
+    dispatchRequest(0, req, requestContext, wireAttrs, getTimingArray(requestContext));
+  }
+
+  public void onResponse(RES res, RequestContext requestContext, Map<String, String> wireAttrs)
+  {
+    dispatchResponse(_filters.size(), res, requestContext, wireAttrs, getTimingArray(requestContext));
+  }
+
+  public void onError(Throwable ex, RequestContext requestContext, Map<String, String> wireAttrs)
+  {
+    dispatchError(_filters.size(), ex, requestContext, wireAttrs, getTimingArray(requestContext));
+  }
+
+  private void dispatchRequest(int cursor, REQ req, RequestContext requestContext, Map<String, String> wireAttrs,
+      TimingArray timings)
+  {
+    if (cursor < _filters.size())
+    {
+      mark(timings, cursor * TIMING_KEYS_PER_FILTER + ON_REQUEST);
+      try
+      {
+        doOnRequest(_filters.get(cursor), req, requestContext, wireAttrs, _requestLinks[cursor]);
+      }
+      catch (RuntimeException e)
+      {
+        dispatchError(cursor + 1, e, requestContext, wireAttrs, timings);
+      }
+    }
+  }
+
+  private void dispatchResponse(int cursor, RES res, RequestContext requestContext, Map<String, String> wireAttrs,
+      TimingArray timings)
+  {
+    if (cursor > 0)
+    {
+      final int index = cursor - 1;
+      mark(timings, index * TIMING_KEYS_PER_FILTER + ON_RESPONSE);
+      try
+      {
+        doOnResponse(_filters.get(index), res, requestContext, wireAttrs, _responseLinks[index]);
+      }
+      catch (RuntimeException e)
+      {
+        if (index == 0) {
+          LOG.error("Uncaught exception from the last response filter in the filter chain: " + getLastFilterName(), e);
+        }
+        dispatchError(index, e, requestContext, wireAttrs, timings);
+      }
+    }
+  }
+
+  private void dispatchError(int cursor, Throwable ex, RequestContext requestContext, Map<String, String> wireAttrs,
+      TimingArray timings)
+  {
+    if (cursor > 0)
+    {
+      final int index = cursor - 1;
+      mark(timings, index * TIMING_KEYS_PER_FILTER + ON_ERROR);
+      try
+      {
+        doOnError(_filters.get(index), ex, requestContext, wireAttrs, _errorLinks[index]);
+      }
+      catch (RuntimeException e)
+      {
+        if (index == 0) {
+          LOG.error("Uncaught exception from the last error filter in the filter chain: " + getLastFilterName(), e);
+        }
+        dispatchError(index, e, requestContext, wireAttrs, timings);
+      }
+    }
+  }
+
+  private TimingArray getTimingArray(RequestContext requestContext)
+  {
+    return _timed ? TimingContextUtil.getTimingArray(requestContext, this, _timingKeys) : null;
+  }
+
+  private static void mark(TimingArray timings, int timingIndex)
+  {
+    if (timings != null)
+    {
+      timings.mark(timingIndex);
+    }
+  }
+
+  private String getLastFilterName() {
+    return _filters.size() > 0 ? _filters.get(0).getClass().getName() : "";
+  }
+
+  protected abstract void doOnRequest(F filter,
+                                      REQ req,
+                                      RequestContext requestContext,
+                                      Map<String, String> wireAttrs,
+                                      NextFilter<REQ, RES> nextFilter);
+
+  protected abstract void doOnResponse(F filter,
+                                       RES res,
+                                       RequestContext requestContext,
+                                       Map<String, String> wireAttrs,
+                                       NextFilter<REQ, RES> nextFilter);
+
+  protected abstract void doOnError(F filter,
+                                    Throwable ex,
+                                    RequestContext requestContext,
+                                    Map<String, String> wireAttrs,
+                                    NextFilter<REQ, RES> nextFilter);
+
+  /**
+   * The {@link NextFilter} passed to a filter. Completes the timing of the filter invocation it was passed to, then
+   * continues dispatching from its cursor.
+   */
+  private final class Link implements NextFilter<REQ, RES>
+  {
+    private final int _cursor;
+    private final int _timingIndex;
+
+    Link(int cursor, int timingIndex)
+    {
+      _cursor = cursor;
+      _timingIndex = timingIndex;
+    }
+
+    @Override
+    public void onRequest(REQ req, RequestContext requestContext, Map<String, String> wireAttrs)
+    {
+      final TimingArray timings = getTimingArray(requestContext);
+      mark(timings, _timingIndex);
+      dispatchRequest(_cursor, req, requestContext, wireAttrs, timings);
+    }
+
+    @Override
+    public void onResponse(RES res, RequestContext requestContext, Map<String, String> wireAttrs)
+    {
+      final TimingArray timings = getTimingArray(requestContext);
+      mark(timings, _timingIndex);
+      dispatchResponse(_cursor, res, requestContext, wireAttrs, timings);
+    }
+
+    @Override
+    public void onError(Throwable ex, RequestContext requestContext, Map<String, String> wireAttrs)
+    {
+      final TimingArray timings = getTimingArray(requestContext);
+      mark(timings, _timingIndex);
+      dispatchError(_cursor, ex, requestContext, wireAttrs, timings);
+    }
+  }
+
+  /* package private */static class FilterChainRestPipeline extends FilterChainPipeline<RestFilter, RestRequest, RestResponse>
+  {
+    public FilterChainRestPipeline(List<RestFilter> filters)
+    {
+      super(undecorate(filters), timingKeys(filters));
+    }
+
+    private static List<RestFilter> undecorate(List<RestFilter> filters)
+    {
+      final RestFilter[] undecorated = new RestFilter[filters.size()];
+      for (int i = 0; i < undecorated.length; i++)
+      {
+        final RestFilter filter = filters.get(i);
+        undecorated[i] = filter instanceof TimedRestFilter ? ((TimedRestFilter) filter).getDecoratedFilter() : filter;
+      }
+      return Arrays.asList(undecorated);
+    }
+
+    private static TimingKey[] timingKeys(List<RestFilter> filters)
+    {
+      final TimingKey[] timingKeys = new TimingKey[filters.size() * TIMING_KEYS_PER_FILTER];
+      for (int i = 0; i < filters.size(); i++)
+      {
+        final RestFilter filter = filters.get(i);
+        if (filter instanceof TimedRestFilter)
+        {
+          System.arraycopy(((TimedRestFilter) filter).getTimingKeys(), 0, timingKeys, i * TIMING_KEYS_PER_FILTER,
+              TIMING_KEYS_PER_FILTER);
+        }
+      }
+      return timingKeys;
+    }
+
+    @Override
+    protected void doOnRequest(RestFilter filter,
+                               RestRequest req,
+                               RequestContext requestContext,
+                               Map<String, String> wireAttrs,
+                               NextFilter<RestRequest, RestResponse> nextFilter)
+    {
+      filter.onRestRequest(req, requestContext, wireAttrs, nextFilter);
+    }
+
+    @Override
+    protected void doOnResponse(RestFilter filter,
+                                RestResponse res,
+                                RequestContext requestContext,
+                                Map<String, String> wireAttrs,
+                                NextFilter<RestRequest, RestResponse> nextFilter)
+    {
+      filter.onRestResponse(res, requestContext, wireAttrs, nextFilter);
+    }
+
+    @Override
+    protected void doOnError(RestFilter filter,
+                             Throwable ex,
+                             RequestContext requestContext,
+                             Map<String, String> wireAttrs,
+                             NextFilter<RestRequest, RestResponse> nextFilter)
+    {
+      filter.onRestError(ex, requestContext, wireAttrs, nextFilter);
+    }
+  }
+
+  /*package private */static class FilterChainStreamPipeline extends FilterChainPipeline<StreamFilter, StreamRequest, StreamResponse>
+  {
+    public FilterChainStreamPipeline(List<StreamFilter> filters)
+    {
+      super(undecorate(filters), timingKeys(filters));
+    }
+
+    private static List<StreamFilter> undecorate(List<StreamFilter> filters)
+    {
+      final StreamFilter[] undecorated = new StreamFilter[filters.size()];
+      for (int i = 0; i < undecorated.length; i++)
+      {
+        final StreamFilter filter = filters.get(i);
+        undecorated[i] = filter instanceof TimedStreamFilter ? ((TimedStreamFilter) filter).getDecoratedFilter() : filter;
+      }
+      return Arrays.asList(undecorated);
+    }
+
+    private static TimingKey[] timingKeys(List<StreamFilter> filters)
+    {
+      final TimingKey[] timingKeys = new TimingKey[filters.size() * TIMING_KEYS_PER_FILTER];
+      for (int i = 0; i < filters.size(); i++)
+      {
+        final StreamFilter filter = filters.get(i);
+        if (filter instanceof TimedStreamFilter)
+        {
+          System.arraycopy(((TimedStreamFilter) filter).getTimingKeys(), 0, timingKeys, i * TIMING_KEYS_PER_FILTER,
+              TIMING_KEYS_PER_FILTER);
+        }
+      }
+      return timingKeys;
+    }
+
+    @Override
+    protected void doOnRequest(StreamFilter filter,
+                               StreamRequest req,
+                               RequestContext requestContext,
+                               Map<String, String> wireAttrs,
+                               NextFilter<StreamRequest, StreamResponse> nextFilter)
+    {
+      filter.onStreamRequest(req, requestContext, wireAttrs, nextFilter);
+    }
+
+    @Override
+    protected void doOnResponse(StreamFilter filter,
+                                StreamResponse res,
+                                RequestContext requestContext,
+                                Map<String, String> wireAttrs,
+                                NextFilter<StreamRequest, StreamResponse> nextFilter)
+    {
+      filter.onStreamResponse(res, requestContext, wireAttrs, nextFilter);
+    }
+
+    @Override
+    protected void doOnError(StreamFilter filter,
+                             Throwable ex,
+                             RequestContext requestContext,
+                             Map<String, String> wireAttrs,
+                             NextFilter<StreamRequest, StreamResponse> nextFilter)
+    {
+      filter.onStreamError(ex, requestContext, wireAttrs, nextFilter);
+    }
+  }
+}
@@ -53,6 +53,12 @@ public class R2Constants
   public static final String FORCE_QUERY_TUNNEL = "FORCE_QUERY_TUNNEL";
   public static final String RESPONSE_DECOMPRESSION_OFF = "RESPONSE_DECOMPRESSION_OFF";
   public static final String IS_FULL_REQUEST = "IS_FULL_REQUEST";
+  /**
+   * The {@link java.util.concurrent.ScheduledExecutorService} of the event loop which received the request. It is
+   * set by servers running in event loop affine mode, so that non-blocking handlers can process the request on the
+   * receiving event loop instead of handing it to another thread pool.
+   */
+  public static final String EVENT_LOOP = "EVENT_LOOP";
   public static final int DEFAULT_DATA_CHUNK_SIZE = 8192;
   public static final boolean DEFAULT_REST_OVER_STREAM = false;
   public static final String RETRY_MESSAGE_ATTRIBUTE_KEY = "RETRY";
@@ -96,6 +96,16 @@ public class TimedRestFilter implements RestFilter
     _restFilter.onRestError(ex, requestContext, wireAttrs, new TimedNextFilter<>(_onErrorTimingKey, nextFilter));
   }
 
+  /* package private */ RestFilter getDecoratedFilter()
+  {
+    return _restFilter;
+  }
+
+  /* package private */ TimingKey[] getTimingKeys()
+  {
+    return new TimingKey[] {_onRequestTimingKey, _onResponseTimingKey, _onErrorTimingKey};
+  }
+
   public void setShared() {
     _shared = true;
   }
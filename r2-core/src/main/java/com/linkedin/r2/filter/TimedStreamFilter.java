@@ -94,6 +94,16 @@ public class TimedStreamFilter implements StreamFilter
     _streamFilter.onStreamError(ex, requestContext, wireAttrs, new TimedNextFilter<>(_onErrorTimingKey, nextFilter));
   }
 
+  /* package private */ StreamFilter getDecoratedFilter()
+  {
+    return _streamFilter;
+  }
+
+  /* package private */ TimingKey[] getTimingKeys()
+  {
+    return new TimingKey[] {_onRequestTimingKey, _onResponseTimingKey, _onErrorTimingKey};
+  }
+
   public void setShared() {
     _shared = true;
   }
@@ -0,0 +1,215 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * A concurrency limit adapting to the latency of the calls it admits, using the gradient between their long-term and
+ * recent round trip times.
+ *
+ * While the recent round trip time stays within the tolerance of the long-term one, the limit grows by about the
+ * square root of itself per sample, so that the queue it allows stays small. Once the recent round trip time exceeds
+ * the tolerance, which is when calls start queueing at the callee, the limit shrinks in proportion. A dropped call,
+ * e.g. a timeout or an overload response, multiplies the limit by the backoff ratio. The limit only grows while at
+ * least half of it is in use, so that it does not drift up while the callers are idle.
+ *
+ * {@link #tryAcquire()} is lock free. The completions of the calls update the limit under the lock of this object.
+ */
+public class AdaptiveConcurrencyLimit
+{
+  public static final int DEFAULT_INITIAL_LIMIT = 20;
+  public static final int DEFAULT_MIN_LIMIT = 1;
+  public static final int DEFAULT_MAX_LIMIT = 1000;
+  public static final double DEFAULT_RTT_TOLERANCE = 1.5;
+  public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+
+  // Weights of the latest sample in the moving averages of the round trip time
+  private static final double LONG_RTT_DECAY = 0.01;
+  private static final double SHORT_RTT_DECAY = 0.1;
+  // Weight of the new estimate of the limit
+  private static final double SMOOTHING = 0.2;
+  private static final double MIN_GRADIENT = 0.5;
+
+  private final int _minLimit;
+  private final int _maxLimit;
+  private final double _rttTolerance;
+  private final double _backoffRatio;
+
+  private final AtomicInteger _inFlight = new AtomicInteger();
+  private volatile int _limit;
+
+  // guarded by this
+  private double _estimatedLimit;
+  private double _longRttNanos;
+  private double _shortRttNanos;
+
+  public AdaptiveConcurrencyLimit()
+  {
+    this(DEFAULT_INITIAL_LIMIT, DEFAULT_MIN_LIMIT, DEFAULT_MAX_LIMIT, DEFAULT_RTT_TOLERANCE, DEFAULT_BACKOFF_RATIO);
+  }
+
+  /**
+   * @param initialLimit the limit before any call has completed.
+   * @param minLimit the lowest the limit may shrink to, at least 1.
+   * @param maxLimit the highest the limit may grow to.
+   * @param rttTolerance how many times longer than the long-term round trip time the recent one may be before the
+   *                     limit shrinks, at least 1.
+   * @param backoffRatio the factor applied to the limit when a call is dropped, between 0 and 1.
+   */
+  public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double rttTolerance,
+      double backoffRatio)
+  {
+    if (minLimit < 1 || maxLimit < minLimit)
+    {
+      throw new IllegalArgumentException("Invalid limit bounds: [" + minLimit + ", " + maxLimit + "]");
+    }
+    if (initialLimit < minLimit || initialLimit > maxLimit)
+    {
+      throw new IllegalArgumentException("Initial limit " + initialLimit + " is out of [" + minLimit + ", " + maxLimit + "]");
+    }
+    if (rttTolerance < 1)
+    {
+      throw new IllegalArgumentException("Invalid round trip time tolerance: " + rttTolerance);
+    }
+    if (backoffRatio <= 0 || backoffRatio >= 1)
+    {
+      throw new IllegalArgumentException("Invalid backoff ratio: " + backoffRatio);
+    }
+    _minLimit = minLimit;
+    _maxLimit = maxLimit;
+    _rttTolerance = rttTolerance;
+    _backoffRatio = backoffRatio;
+    _limit = initialLimit;
+    _estimatedLimit = initialLimit;
+  }
+
+  /**
+   * Admits a call if fewer calls than the limit are in flight. An admitted call must be completed with
+   * {@link #onSuccess(long)}, {@link #onDropped()} or {@link #release()}.
+   *
+   * @return whether the call is admitted.
+   */
+  public boolean tryAcquire()
+  {
+    return tryAcquire(1.0);
+  }
+
+  /**
+   * Admits a call if fewer calls than the given share of the limit, rounded down but at least 1, are in flight, which
+   * keeps the rest of the limit for more critical calls. An admitted call must be completed like with
+   * {@link #tryAcquire()}.
+   *
+   * @param share the share of the limit the call may use, between 0 and 1.
+   * @return whether the call is admitted.
+   */
+  public boolean tryAcquire(double share)
+  {
+    while (true)
+    {
+      int inFlight = _inFlight.get();
+      if (inFlight >= Math.max(1, (int) (_limit * share)))
+      {
+        return false;
+      }
+      if (_inFlight.compareAndSet(inFlight, inFlight + 1))
+      {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Completes an admitted call which got a response, adapting the limit to its round trip time.
+   */
+  public void onSuccess(long rttNanos)
+  {
+    int inFlight = _inFlight.getAndDecrement();
+    synchronized (this)
+    {
+      if (_longRttNanos == 0)
+      {
+        _longRttNanos = rttNanos;
+        _shortRttNanos = rttNanos;
+      }
+      else
+      {
+        _longRttNanos += (rttNanos - _longRttNanos) * LONG_RTT_DECAY;
+        _shortRttNanos += (rttNanos - _shortRttNanos) * SHORT_RTT_DECAY;
+      }
+
+      // lets the long-term round trip time recover quickly after a long period of high latency
+      if (_longRttNanos > 2 * _shortRttNanos)
+      {
+        _longRttNanos *= 0.95;
+      }
+
+      double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, _rttTolerance * _longRttNanos / _shortRttNanos));
+      double newLimit = _estimatedLimit * gradient + Math.sqrt(_estimatedLimit);
+      newLimit = _estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+      // the latency of an underused limit does not tell how much further it may grow
+      if (newLimit < _estimatedLimit || inFlight >= _estimatedLimit / 2)
+      {
+        setEstimatedLimit(newLimit);
+      }
+    }
+  }
+
+  /**
+   * Completes an admitted call which was dropped, e.g. timed out or rejected by an overloaded callee, backing off the
+   * limit.
+   */
+  public void onDropped()
+  {
+    _inFlight.decrementAndGet();
+    synchronized (this)
+    {
+      setEstimatedLimit(_estimatedLimit * _backoffRatio);
+    }
+  }
+
+  /**
+   * Completes an admitted call without adapting the limit, e.g. when it failed before being sent.
+   */
+  public void release()
+  {
+    _inFlight.decrementAndGet();
+  }
+
+  private void setEstimatedLimit(double estimatedLimit)
+  {
+    _estimatedLimit = Math.max(_minLimit, Math.min(_maxLimit, estimatedLimit));
+    _limit = (int) _estimatedLimit;
+  }
+
+  /**
+   * @return the current limit.
+   */
+  public int getLimit()
+  {
+    return _limit;
+  }
+
+  /**
+   * @return the number of admitted calls which have not completed yet.
+   */
+  public int getInFlight()
+  {
+    return _inFlight.get();
+  }
+}
@@ -0,0 +1,391 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.limit;
+
+import com.linkedin.r2.RetriableRequestException;
+import com.linkedin.r2.filter.NextFilter;
+import com.linkedin.r2.filter.message.rest.RestFilter;
+import com.linkedin.r2.filter.message.stream.StreamFilter;
+import com.linkedin.r2.message.Request;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.RequestContextKey;
+import com.linkedin.r2.message.Response;
+import com.linkedin.r2.message.rest.RestException;
+import com.linkedin.r2.message.rest.RestRequest;
+import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.message.rest.RestStatus;
+import com.linkedin.r2.message.stream.StreamException;
+import com.linkedin.r2.message.stream.StreamRequest;
+import com.linkedin.r2.message.stream.StreamResponse;
+import com.linkedin.util.clock.Clock;
+import com.linkedin.util.clock.SystemClock;
+import java.net.URI;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+
+/**
+ * Client filter bounding the number of requests in flight to every destination with an
+ * {@link AdaptiveConcurrencyLimit}, so that the requests to a degrading downstream do not pile up.
+ *
+ * A request above the limit of its destination waits in a bounded queue until a request to the same destination
+ * completes, or fails with a {@link RetriableRequestException} when the queue is full, which lets d2 retry it on
+ * another host. Responses adapt the limit to their round trip time, and timeouts, other transport failures and
+ * 429 or 503 responses back it off.
+ *
+ * The destination of a request is the scheme and authority of its URI, which is the host when the filter is part of
+ * the filter chain of the transport clients. A destination without requests in flight or queued is forgotten, with
+ * its limit and statistics, once it has not been used for the idle timeout, so hosts leaving the cluster do not
+ * accumulate.
+ */
+public class ClientConcurrencyLimitFilter implements RestFilter, StreamFilter, ClientConcurrencyLimitFilterJmxMBean
+{
+  public static final long DEFAULT_IDLE_TIMEOUT_MS = 600_000;
+
+  private static final RequestContextKey<Permit> PERMIT_KEY =
+      RequestContextKey.register(ClientConcurrencyLimitFilter.class.getName() + ".permit");
+  private static final int TOO_MANY_REQUESTS = 429;
+
+  private final Supplier<AdaptiveConcurrencyLimit> _limitFactory;
+  private final int _maxQueueSize;
+  private final long _idleTimeoutMs;
+  private final Clock _clock;
+  private final ConcurrentMap<String, Destination> _destinations = new ConcurrentHashMap<>();
+  private final Function<String, Destination> _destinationFactory;
+  private final AtomicLong _rejectedCount = new AtomicLong();
+  private final AtomicLong _nextEvictionMs;
+
+  /**
+   * Creates a filter failing the requests above the default limit of their destination.
+   */
+  public ClientConcurrencyLimitFilter()
+  {
+    this(AdaptiveConcurrencyLimit::new, 0);
+  }
+
+  /**
+   * @param limitFactory creates the limit of every destination.
+   * @param maxQueueSize the number of requests above its limit a destination may queue, or 0 to fail them.
+   */
+  public ClientConcurrencyLimitFilter(Supplier<AdaptiveConcurrencyLimit> limitFactory, int maxQueueSize)
+  {
+    this(limitFactory, maxQueueSize, DEFAULT_IDLE_TIMEOUT_MS, SystemClock.instance());
+  }
+
+  /**
+   * @param limitFactory creates the limit of every destination.
+   * @param maxQueueSize the number of requests above its limit a destination may queue, or 0 to fail them.
+   * @param idleTimeoutMs the time after which a destination without requests in flight or queued is forgotten.
+   * @param clock the clock measuring the idle time of the destinations.
+   */
+  public ClientConcurrencyLimitFilter(Supplier<AdaptiveConcurrencyLimit> limitFactory, int maxQueueSize,
+      long idleTimeoutMs, Clock clock)
+  {
+    if (maxQueueSize < 0)
+    {
+      throw new IllegalArgumentException("Invalid max queue size: " + maxQueueSize);
+    }
+    if (idleTimeoutMs <= 0)
+    {
+      throw new IllegalArgumentException("Invalid idle timeout: " + idleTimeoutMs);
+    }
+    _limitFactory = limitFactory;
+    _maxQueueSize = maxQueueSize;
+    _idleTimeoutMs = idleTimeoutMs;
+    _clock = clock;
+    _nextEvictionMs = new AtomicLong(clock.currentTimeMillis() + idleTimeoutMs);
+    _destinationFactory = name -> new Destination(_limitFactory.get());
+  }
+
+  @Override
+  public void onRestRequest(RestRequest req, RequestContext requestContext, Map<String, String> wireAttrs,
+      NextFilter<RestRequest, RestResponse> nextFilter)
+  {
+    admit(req, requestContext, wireAttrs, nextFilter);
+  }
+
+  @Override
+  public void onRestResponse(RestResponse res, RequestContext requestContext, Map<String, String> wireAttrs,
+      NextFilter<RestRequest, RestResponse> nextFilter)
+  {
+    complete(res.getStatus(), requestContext);
+    nextFilter.onResponse(res, requestContext, wireAttrs);
+  }
+
+  @Override
+  public void onRestError(Throwable ex, RequestContext requestContext, Map<String, String> wireAttrs,
+      NextFilter<RestRequest, RestResponse> nextFilter)
+  {
+    completeWithError(ex, requestContext);
+    nextFilter.onError(ex, requestContext, wireAttrs);
+  }
+
+  @Override
+  public void onStreamRequest(StreamRequest req, RequestContext requestContext, Map<String, String> wireAttrs,
+      NextFilter<StreamRequest, StreamResponse> nextFilter)
+  {
+    admit(req, requestContext, wireAttrs, nextFilter);
+  }
+
+  @Override
+  public void onStreamResponse(StreamResponse res, RequestContext requestContext, Map<String, String> wireAttrs,
+      NextFilter<StreamRequest, StreamResponse> nextFilter)
+  {
+    // the round trip time of a streamed response is the time to its headers
+    complete(res.getStatus(), requestContext);
+    nextFilter.onResponse(res, requestContext, wireAttrs);
+  }
+
+  @Override
+  public void onStreamError(Throwable ex, RequestContext requestContext, Map<String, String> wireAttrs,
+      NextFilter<StreamRequest, StreamResponse> nextFilter)
+  {
+    completeWithError(ex, requestContext);
+    nextFilter.onError(ex, requestContext, wireAttrs);
+  }
+
+  private <REQ extends Request, RES extends Response> void admit(REQ req, RequestContext requestContext,
+      Map<String, String> wireAttrs, NextFilter<REQ, RES> nextFilter)
+  {
+    long now = _clock.currentTimeMillis();
+    evictIdleDestinations(now);
+
+    String name = getDestinationName(req.getURI());
+    Destination destination = _destinations.computeIfAbsent(name, _destinationFactory);
+    destination._lastUsedMs = now;
+    Runnable send = () ->
+    {
+      requestContext.putLocalAttr(PERMIT_KEY, new Permit(destination, System.nanoTime()));
+      try
+      {
+        nextFilter.onRequest(req, requestContext, wireAttrs);
+      }
+      catch (RuntimeException e)
+      {
+        // the request was not sent: its permit is released without adapting the limit
+        if (requestContext.removeLocalAttr(PERMIT_KEY) == null)
+        {
+          // the request has already completed
+          throw e;
+        }
+        destination._limit.release();
+        destination.drain();
+        nextFilter.onError(e, requestContext, wireAttrs);
+      }
+    };
+
+    if (destination._limit.tryAcquire())
+    {
+      send.run();
+    }
+    else if (destination.tryQueue(send, _maxQueueSize))
+    {
+      // a request may have completed before this one was queued
+      destination.drain();
+    }
+    else
+    {
+      destination._rejectedCount.incrementAndGet();
+      _rejectedCount.incrementAndGet();
+      nextFilter.onError(new RetriableRequestException("Concurrency limit of " + destination._limit.getLimit()
+          + " reached for " + name), requestContext, wireAttrs);
+    }
+  }
+
+  private void complete(int status, RequestContext requestContext)
+  {
+    Permit permit = requestContext.removeLocalAttr(PERMIT_KEY);
+    if (permit != null)
+    {
+      if (status == RestStatus.SERVICE_UNAVAILABLE || status == TOO_MANY_REQUESTS)
+      {
+        permit._destination._limit.onDropped();
+      }
+      else
+      {
+        permit._destination._limit.onSuccess(System.nanoTime() - permit._startNanos);
+      }
+      permit._destination._lastUsedMs = _clock.currentTimeMillis();
+      permit._destination.drain();
+    }
+  }
+
+  private void completeWithError(Throwable ex, RequestContext requestContext)
+  {
+    if (ex instanceof RestException)
+    {
+      complete(((RestException) ex).getResponse().getStatus(), requestContext);
+    }
+    else if (ex instanceof StreamException)
+    {
+      complete(((StreamException) ex).getResponse().getStatus(), requestContext);
+    }
+    else
+    {
+      // the request got no response, e.g. it timed out or the connection failed
+      Permit permit = requestContext.removeLocalAttr(PERMIT_KEY);
+      if (permit != null)
+      {
+        permit._destination._limit.onDropped();
+        permit._destination._lastUsedMs = _clock.currentTimeMillis();
+        permit._destination.drain();
+      }
+    }
+  }
+
+  /**
+   * Forgets the destinations which have been idle for the idle timeout, at most once per idle timeout. A request
+   * which got a destination while it was evicted still completes against the evicted destination's limit, which is
+   * harmless as the destination had nothing in flight.
+   */
+  private void evictIdleDestinations(long now)
+  {
+    long nextEvictionMs = _nextEvictionMs.get();
+    if (now < nextEvictionMs || !_nextEvictionMs.compareAndSet(nextEvictionMs, now + _idleTimeoutMs))
+    {
+      return;
+    }
+
+    for (String name : _destinations.keySet())
+    {
+      _destinations.computeIfPresent(name,
+          (key, destination) -> destination.isIdle(now - _idleTimeoutMs) ? null : destination);
+    }
+  }
+
+  private static String getDestinationName(URI uri)
+  {
+    String authority = uri.getRawAuthority();
+    return authority == null ? String.valueOf(uri.getScheme()) : uri.getScheme() + "://" + authority;
+  }
+
+  @Override
+  public Map<String, Integer> getLimits()
+  {
+    Map<String, Integer> limits = new TreeMap<>();
+    _destinations.forEach((name, destination) -> limits.put(name, destination._limit.getLimit()));
+    return limits;
+  }
+
+  @Override
+  public Map<String, Integer> getInFlightCounts()
+  {
+    Map<String, Integer> inFlightCounts = new TreeMap<>();
+    _destinations.forEach((name, destination) -> inFlightCounts.put(name, destination._limit.getInFlight()));
+    return inFlightCounts;
+  }
+
+  @Override
+  public Map<String, Integer> getQueuedCounts()
+  {
+    Map<String, Integer> queuedCounts = new TreeMap<>();
+    _destinations.forEach((name, destination) -> queuedCounts.put(name, destination._queueSize.get()));
+    return queuedCounts;
+  }
+
+  @Override
+  public Map<String, Long> getRejectedCounts()
+  {
+    Map<String, Long> rejectedCounts = new TreeMap<>();
+    _destinations.forEach((name, destination) -> rejectedCounts.put(name, destination._rejectedCount.get()));
+    return rejectedCounts;
+  }
+
+  @Override
+  public long getRejectedCount()
+  {
+    return _rejectedCount.get();
+  }
+
+  private static class Destination
+  {
+    private final AdaptiveConcurrencyLimit _limit;
+    private final Queue<Runnable> _queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger _queueSize = new AtomicInteger();
+    private final AtomicLong _rejectedCount = new AtomicLong();
+    private volatile long _lastUsedMs;
+
+    Destination(AdaptiveConcurrencyLimit limit)
+    {
+      _limit = limit;
+    }
+
+    /**
+     * @return true if the destination has no request in flight or queued, and was last used before the given time.
+     */
+    boolean isIdle(long usedBeforeMs)
+    {
+      return _lastUsedMs < usedBeforeMs && _limit.getInFlight() == 0 && _queueSize.get() == 0;
+    }
+
+    boolean tryQueue(Runnable send, int maxQueueSize)
+    {
+      while (true)
+      {
+        int size = _queueSize.get();
+        if (size >= maxQueueSize)
+        {
+          return false;
+        }
+        if (_queueSize.compareAndSet(size, size + 1))
+        {
+          _queue.add(send);
+          return true;
+        }
+      }
+    }
+
+    /**
+     * Sends the queued requests the limit admits.
+     */
+    void drain()
+    {
+      while (_queueSize.get() > 0 && _limit.tryAcquire())
+      {
+        Runnable send = _queue.poll();
+        if (send == null)
+        {
+          // another thread took the queued request, or it is still being added
+          _limit.release();
+          return;
+        }
+        _queueSize.decrementAndGet();
+        send.run();
+      }
+    }
+  }
+
+  private static class Permit
+  {
+    private final Destination _destination;
+    private final long _startNanos;
+
+    Permit(Destination destination, long startNanos)
+    {
+      _destination = destination;
+      _startNanos = startNanos;
+    }
+  }
+}
@@ -0,0 +1,55 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.limit;
+
+import java.util.Map;
+
+
+/**
+ * Statistics of a {@link ClientConcurrencyLimitFilter}. Per-destination statistics are keyed by the scheme and
+ * authority of the requests, e.g. "http://host:1234".
+ *
+ * The filter is not registered with an MBean server by r2: the application creating it registers it, e.g. with the
+ * platform MBean server, to expose these statistics through JMX.
+ */
+public interface ClientConcurrencyLimitFilterJmxMBean
+{
+  /**
+   * @return the current concurrency limit of every destination.
+   */
+  Map<String, Integer> getLimits();
+
+  /**
+   * @return the number of requests in flight to every destination.
+   */
+  Map<String, Integer> getInFlightCounts();
+
+  /**
+   * @return the number of requests waiting for the concurrency limit of every destination.
+   */
+  Map<String, Integer> getQueuedCounts();
+
+  /**
+   * @return the number of requests rejected for every destination.
+   */
+  Map<String, Long> getRejectedCounts();
+
+  /**
+   * @return the total number of rejected requests.
+   */
+  long getRejectedCount();
+}
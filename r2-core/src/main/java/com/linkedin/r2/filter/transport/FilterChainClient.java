@@ -36,6 +36,7 @@ import com.linkedin.r2.message.timing.TimingKey;
 import com.linkedin.r2.transport.common.bridge.client.TransportClient;
 import com.linkedin.r2.transport.common.bridge.common.TransportCallback;
 import com.linkedin.r2.transport.common.bridge.common.TransportResponse;
+import java.net.URI;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -96,6 +97,12 @@ public class FilterChainClient implements TransportClient
     _filters.onStreamRequest(request, requestContext, wireAttrs);
   }
 
+  @Override
+  public void warmUp(URI uri, int connections, Callback<None> callback)
+  {
+    _client.warmUp(uri, connections, callback);
+  }
+
   @Override
   public void shutdown(Callback<None> callback)
   {
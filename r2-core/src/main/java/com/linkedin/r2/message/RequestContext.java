@@ -20,30 +20,40 @@
 
 package com.linkedin.r2.message;
 
-import java.util.Collections;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * RequestContext should not be shared across requests.
  *
+ * Attributes whose names are registered as a {@link RequestContextKey} live in fixed slots and are read and written
+ * without locking, whether they are accessed through the typed or the string based accessors. All other attributes
+ * are kept in a map guarded by this object.
+ *
  * @author Josh Walker
  * @version $Revision: $
  */
 public class RequestContext
 {
-  private final Map<String, Object> _localAttrs;
+  // Stored in a slot for an attribute explicitly set to null, to tell it apart from an absent attribute
+  private static final Object NULL_VALUE = new Object();
+
+  private final AtomicReferenceArray<Object> _slots;
+  private final Map<String, Object> _localAttrsView = new LocalAttrsView();
+  // Attributes without a slot, created on first use and guarded by this
+  private volatile Map<String, Object> _attrs;
 
   /**
    * Construct a new instance with an empty set of attributes.
    */
   public RequestContext()
   {
-    // We use Collections.synchronizedMap() instead of ConcurrentHashMap because
-    // this class publicly exposes the _localAttrs through getLocalAttrs() and
-    // returned Map that must support null values because there is plenty of code
-    // that is using this property.
-    _localAttrs = Collections.synchronizedMap(new HashMap<>());
+    _slots = new AtomicReferenceArray<>(RequestContextKey.slotCount());
   }
 
   /**
@@ -54,24 +64,38 @@ public class RequestContext
    */
   public RequestContext(RequestContext other)
   {
-    synchronized (other._localAttrs) {
-      _localAttrs = Collections.synchronizedMap(new HashMap<>(other._localAttrs));
+    this();
+    for (int i = 0; i < other._slots.length(); i++)
+    {
+      final Object value = other._slots.get(i);
+      if (value != null)
+      {
+        put(RequestContextKey.forSlot(i).getName(), unmask(value));
+      }
+    }
+    synchronized (other)
+    {
+      if (other._attrs != null)
+      {
+        for (Map.Entry<String, Object> entry : other._attrs.entrySet())
+        {
+          put(entry.getKey(), entry.getValue());
+        }
+      }
     }
-  }
-
-  private RequestContext(Map<String, Object> localAttrs)
-  {
-    _localAttrs = Collections.synchronizedMap(localAttrs);
   }
 
   /**
    * Return the attributes from this object.
    *
+   * The returned map is a live view of the attributes. Iterating over it, or over any of its collection views,
+   * works on a snapshot taken when the iteration starts, so no external synchronization is needed.
+   *
    * @return the attributes contained by this object.
    */
   public Map<String, Object> getLocalAttrs()
   {
-    return _localAttrs;
+    return _localAttrsView;
   }
 
   /**
@@ -82,7 +106,33 @@ public class RequestContext
    */
   public Object getLocalAttr(String key)
   {
-    return _localAttrs.get(key);
+    final int slot = slotOf(RequestContextKey.lookup(key));
+    if (slot != RequestContextKey.NO_SLOT)
+    {
+      return unmask(_slots.get(slot));
+    }
+    synchronized (this)
+    {
+      return _attrs == null ? null : _attrs.get(key);
+    }
+  }
+
+  /**
+   * Return a specific attribute from this object.
+   *
+   * @param key the key for the attribute to be obtained.
+   * @param <T> type of the attribute value.
+   * @return the value of the specified attribute, or null if the attribute does not exist.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T getLocalAttr(RequestContextKey<T> key)
+  {
+    final int slot = slotOf(key);
+    if (slot != RequestContextKey.NO_SLOT)
+    {
+      return (T) unmask(_slots.get(slot));
+    }
+    return (T) getLocalAttr(key.getName());
   }
 
   /**
@@ -93,7 +143,27 @@ public class RequestContext
    */
   public void putLocalAttr(String key, Object value)
   {
-    _localAttrs.put(key, value);
+    put(key, value);
+  }
+
+  /**
+   * Set the value of a specific attribute in this object.
+   *
+   * @param key the key for the attribute to be set.
+   * @param value the value for the attribute to be set.
+   * @param <T> type of the attribute value.
+   */
+  public <T> void putLocalAttr(RequestContextKey<T> key, T value)
+  {
+    final int slot = slotOf(key);
+    if (slot != RequestContextKey.NO_SLOT)
+    {
+      _slots.set(slot, mask(value));
+    }
+    else
+    {
+      put(key.getName(), value);
+    }
   }
 
   /**
@@ -104,33 +174,250 @@ public class RequestContext
    */
   public Object removeLocalAttr(String key)
   {
-    return _localAttrs.remove(key);
+    final int slot = slotOf(RequestContextKey.lookup(key));
+    if (slot != RequestContextKey.NO_SLOT)
+    {
+      return unmask(_slots.getAndSet(slot, null));
+    }
+    synchronized (this)
+    {
+      return _attrs == null ? null : _attrs.remove(key);
+    }
+  }
+
+  /**
+   * Remove a specific attribute from this object.
+   *
+   * @param key the key for the attribute to be removed.
+   * @param <T> type of the attribute value.
+   * @return the previous value of the attribute, or null if the attribute does not exist.
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T removeLocalAttr(RequestContextKey<T> key)
+  {
+    final int slot = slotOf(key);
+    if (slot != RequestContextKey.NO_SLOT)
+    {
+      return (T) unmask(_slots.getAndSet(slot, null));
+    }
+    return (T) removeLocalAttr(key.getName());
   }
 
   @Override
   public RequestContext clone()
   {
-    Map<String, Object> localAttrs = new HashMap<>();
-    localAttrs.putAll(this._localAttrs);
-    return new RequestContext(Collections.synchronizedMap(localAttrs));
+    return new RequestContext(this);
   }
 
   @Override
   public boolean equals(Object o)
   {
     return (o instanceof RequestContext) &&
-        ((RequestContext)o)._localAttrs.equals(this._localAttrs);
+        ((RequestContext)o)._localAttrsView.equals(this._localAttrsView);
   }
 
   @Override
   public int hashCode()
   {
-    return _localAttrs.hashCode();
+    return _localAttrsView.hashCode();
   }
 
   @Override
   public String toString()
   {
-    return _localAttrs.toString();
+    return _localAttrsView.toString();
+  }
+
+  private Object put(String key, Object value)
+  {
+    final int slot = slotOf(RequestContextKey.lookup(key));
+    if (slot != RequestContextKey.NO_SLOT)
+    {
+      return unmask(_slots.getAndSet(slot, mask(value)));
+    }
+    synchronized (this)
+    {
+      if (_attrs == null)
+      {
+        _attrs = new HashMap<>();
+      }
+      return _attrs.put(key, value);
+    }
+  }
+
+  private boolean containsKey(String key)
+  {
+    final int slot = slotOf(RequestContextKey.lookup(key));
+    if (slot != RequestContextKey.NO_SLOT)
+    {
+      return _slots.get(slot) != null;
+    }
+    synchronized (this)
+    {
+      return _attrs != null && _attrs.containsKey(key);
+    }
+  }
+
+  /**
+   * Returns the slot of the given key in this instance, or {@link RequestContextKey#NO_SLOT} if the attribute is kept
+   * in the attribute map. Keys registered after this instance was created have no slot in it.
+   */
+  private int slotOf(RequestContextKey<?> key)
+  {
+    if (key == null)
+    {
+      return RequestContextKey.NO_SLOT;
+    }
+    final int slot = key.getSlot();
+    return slot < _slots.length() ? slot : RequestContextKey.NO_SLOT;
+  }
+
+  private Map<String, Object> snapshot()
+  {
+    final Map<String, Object> snapshot = new HashMap<>();
+    for (int i = 0; i < _slots.length(); i++)
+    {
+      final Object value = _slots.get(i);
+      if (value != null)
+      {
+        snapshot.put(RequestContextKey.forSlot(i).getName(), unmask(value));
+      }
+    }
+    synchronized (this)
+    {
+      if (_attrs != null)
+      {
+        snapshot.putAll(_attrs);
+      }
+    }
+    return snapshot;
+  }
+
+  private static Object mask(Object value)
+  {
+    return value == null ? NULL_VALUE : value;
+  }
+
+  private static Object unmask(Object value)
+  {
+    return value == NULL_VALUE ? null : value;
+  }
+
+  /**
+   * The {@link Map} view returned by {@link #getLocalAttrs()}.
+   */
+  private class LocalAttrsView extends AbstractMap<String, Object>
+  {
+    @Override
+    public Object get(Object key)
+    {
+      return key instanceof String || key == null ? getLocalAttr((String) key) : null;
+    }
+
+    @Override
+    public Object put(String key, Object value)
+    {
+      return RequestContext.this.put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key)
+    {
+      return key instanceof String || key == null ? removeLocalAttr((String) key) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+      return (key instanceof String || key == null) && RequestContext.this.containsKey((String) key);
+    }
+
+    @Override
+    public int size()
+    {
+      int size = 0;
+      for (int i = 0; i < _slots.length(); i++)
+      {
+        if (_slots.get(i) != null)
+        {
+          size++;
+        }
+      }
+      synchronized (RequestContext.this)
+      {
+        return _attrs == null ? size : size + _attrs.size();
+      }
+    }
+
+    @Override
+    public void clear()
+    {
+      for (int i = 0; i < _slots.length(); i++)
+      {
+        _slots.set(i, null);
+      }
+      synchronized (RequestContext.this)
+      {
+        _attrs = null;
+      }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet()
+    {
+      return new AbstractSet<Entry<String, Object>>()
+      {
+        @Override
+        public Iterator<Entry<String, Object>> iterator()
+        {
+          final Iterator<Entry<String, Object>> snapshot = snapshot().entrySet().iterator();
+          return new Iterator<Entry<String, Object>>()
+          {
+            private Entry<String, Object> _current;
+
+            @Override
+            public boolean hasNext()
+            {
+              return snapshot.hasNext();
+            }
+
+            @Override
+            public Entry<String, Object> next()
+            {
+              final Entry<String, Object> entry = snapshot.next();
+              _current = entry;
+              return new SimpleEntry<String, Object>(entry)
+              {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                public Object setValue(Object value)
+                {
+                  RequestContext.this.put(getKey(), value);
+                  return super.setValue(value);
+                }
+              };
+            }
+
+            @Override
+            public void remove()
+            {
+              if (_current == null)
+              {
+                throw new IllegalStateException();
+              }
+              removeLocalAttr(_current.getKey());
+              _current = null;
+            }
+          };
+        }
+
+        @Override
+        public int size()
+        {
+          return LocalAttrsView.this.size();
+        }
+      };
+    }
   }
 }
@@ -0,0 +1,160 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.message;
+
+import com.linkedin.r2.filter.R2Constants;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * A typed key for an attribute stored in a {@link RequestContext}.
+ *
+ * Registered keys are assigned a fixed slot in every {@link RequestContext} created after their registration, so
+ * reading and writing them neither hashes the name nor takes a lock. The name of the key is the name under which
+ * the attribute is visible through {@link RequestContext#getLocalAttrs()} and the string based accessors, which
+ * means typed and string based accesses to the same attribute are interchangeable.
+ *
+ * Keys are meant to be registered once and held in static constants. Once {@link #MAX_SLOTS} keys have been
+ * registered, additional keys are still valid but are stored in the general attribute map.
+ *
+ * @param <T> type of the attribute value
+ * @see RequestContext
+ */
+public final class RequestContextKey<T>
+{
+  static final int MAX_SLOTS = 64;
+  static final int NO_SLOT = -1;
+
+  private static final Object REGISTRY_LOCK = new Object();
+
+  // Copy-on-write so that lookups on the request path never lock
+  private static volatile Map<String, RequestContextKey<?>> _registry = Collections.emptyMap();
+  private static volatile RequestContextKey<?>[] _keysBySlot = new RequestContextKey<?>[0];
+
+  static
+  {
+    // Attributes which the r2 framework reads or writes for most requests
+    register(R2Constants.OPERATION);
+    register(R2Constants.REQUEST_TIMEOUT);
+    register(R2Constants.REQUEST_TIMEOUT_IGNORE_IF_HIGHER_THAN_DEFAULT);
+    register(R2Constants.CLIENT_REQUEST_TIMEOUT_VIEW);
+    register(R2Constants.IS_QUERY_TUNNELED);
+    register(R2Constants.FORCE_QUERY_TUNNEL);
+    register(R2Constants.IS_FULL_REQUEST);
+    register(R2Constants.HTTP_PROTOCOL_VERSION);
+    register(R2Constants.REQUEST_COMPRESSION_OVERRIDE);
+    register(R2Constants.RESPONSE_COMPRESSION_OVERRIDE);
+    register(R2Constants.RESPONSE_DECOMPRESSION_OFF);
+    register(R2Constants.REMOTE_ADDR);
+    register(R2Constants.REMOTE_PORT);
+    register(R2Constants.REMOTE_SERVER_ADDR);
+    register(R2Constants.REMOTE_SERVER_PORT);
+    register(R2Constants.IS_SECURE);
+    register(R2Constants.BACKUP_REQUEST_BUFFERED_BODY);
+    register(R2Constants.SERVER_REQUEST_FINALIZER_MANAGER_REQUEST_CONTEXT_KEY);
+    register(R2Constants.CLIENT_REQUEST_FINALIZER_MANAGER_REQUEST_CONTEXT_KEY);
+  }
+
+  private final String _name;
+  private final int _slot;
+
+  private RequestContextKey(String name, int slot)
+  {
+    _name = name;
+    _slot = slot;
+  }
+
+  /**
+   * Register a key for the attribute with the given name. Registering the same name more than once returns the key
+   * created by the first registration.
+   *
+   * @param name name of the attribute
+   * @param <T> type of the attribute value
+   * @return the key for the attribute
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> RequestContextKey<T> register(String name)
+  {
+    if (name == null)
+    {
+      throw new IllegalArgumentException("Request context key name cannot be null");
+    }
+
+    synchronized (REGISTRY_LOCK)
+    {
+      RequestContextKey<?> key = _registry.get(name);
+      if (key == null)
+      {
+        final int size = _registry.size();
+        key = new RequestContextKey<>(name, size < MAX_SLOTS ? size : NO_SLOT);
+        if (key._slot != NO_SLOT)
+        {
+          final RequestContextKey<?>[] keysBySlot = Arrays.copyOf(_keysBySlot, size + 1);
+          keysBySlot[size] = key;
+          _keysBySlot = keysBySlot;
+        }
+        final Map<String, RequestContextKey<?>> registry = new HashMap<>(_registry);
+        registry.put(name, key);
+        _registry = registry;
+      }
+      return (RequestContextKey<T>) key;
+    }
+  }
+
+  /**
+   * @return the key registered under the given name, or null if there is none.
+   */
+  static RequestContextKey<?> lookup(String name)
+  {
+    return _registry.get(name);
+  }
+
+  /**
+   * @return the key assigned to the given slot.
+   */
+  static RequestContextKey<?> forSlot(int slot)
+  {
+    return _keysBySlot[slot];
+  }
+
+  /**
+   * @return the number of slots a {@link RequestContext} created now has to provide.
+   */
+  static int slotCount()
+  {
+    return _keysBySlot.length;
+  }
+
+  public String getName()
+  {
+    return _name;
+  }
+
+  int getSlot()
+  {
+    return _slot;
+  }
+
+  @Override
+  public String toString()
+  {
+    return _name;
+  }
+}
@@ -0,0 +1,126 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.message.timing;
+
+import com.linkedin.r2.message.RequestContext;
+
+
+/**
+ * Timing records of a fixed set of {@link TimingKey}s for a single request, kept in preallocated arrays indexed by
+ * the position of the key instead of in the timings map of the {@link RequestContext}. This is meant for components,
+ * such as filter chains, that mark many timings per request and know their keys up front.
+ *
+ * The records are merged into the map returned by {@link TimingContextUtil#getTimingsMap(RequestContext)} whenever
+ * it is obtained, so they are visible to the same consumers as any other timing.
+ *
+ * @see TimingContextUtil#getTimingArray(RequestContext, Object, TimingKey[])
+ */
+public final class TimingArray
+{
+  private static final byte NOT_STARTED = 0;
+  private static final byte STARTED = 1;
+  private static final byte COMPLETED = 2;
+
+  private final Object _owner;
+  private final TimingKey[] _keys;
+  private final long[] _startTimeNanos;
+  private final long[] _durationNanos;
+  private final byte[] _states;
+  private final TimingArray _next;
+
+  /**
+   * @param owner the component recording into this array
+   * @param keys the keys that can be recorded, a null key disables recording at its index
+   * @param next the array recorded by another component for the same request, or null
+   */
+  TimingArray(Object owner, TimingKey[] keys, TimingArray next)
+  {
+    _owner = owner;
+    _keys = keys;
+    _startTimeNanos = new long[keys.length];
+    _durationNanos = new long[keys.length];
+    _states = new byte[keys.length];
+    _next = next;
+  }
+
+  /**
+   * Mark the timing at the given index, with the same semantics as
+   * {@link TimingContextUtil#markTiming(RequestContext, TimingKey)}: the first call starts the record, the second
+   * completes it, and further calls have no effect.
+   *
+   * @param index index of the key, as passed at creation time
+   */
+  public void mark(int index)
+  {
+    if (_keys[index] == null)
+    {
+      return;
+    }
+
+    switch (_states[index])
+    {
+      case NOT_STARTED:
+        _startTimeNanos[index] = System.nanoTime();
+        _states[index] = STARTED;
+        break;
+      case STARTED:
+        _durationNanos[index] = System.nanoTime() - _startTimeNanos[index];
+        _states[index] = COMPLETED;
+        break;
+      default:
+        break;
+    }
+  }
+
+  Object getOwner()
+  {
+    return _owner;
+  }
+
+  TimingArray getNext()
+  {
+    return _next;
+  }
+
+  int size()
+  {
+    return _keys.length;
+  }
+
+  TimingKey getKey(int index)
+  {
+    return _keys[index];
+  }
+
+  boolean isStarted(int index)
+  {
+    return _states[index] != NOT_STARTED;
+  }
+
+  long getStartTimeNano(int index)
+  {
+    return _startTimeNanos[index];
+  }
+
+  /**
+   * @return the duration of the record at the given index, or -1 if it has not completed.
+   */
+  long getDurationNano(int index)
+  {
+    return _states[index] == COMPLETED ? _durationNanos[index] : -1;
+  }
+}
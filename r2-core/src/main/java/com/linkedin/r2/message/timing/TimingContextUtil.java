@@ -17,6 +17,7 @@
 package com.linkedin.r2.message.timing;
 
 import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.RequestContextKey;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
@@ -40,24 +41,117 @@ public class TimingContextUtil
   // Used to temporarily disable latency instrumentation for scatter-gather requests
   public static final String TIMINGS_DISABLED_KEY_NAME = "timingsDisabled";
 
+  public static final RequestContextKey<Map<TimingKey, TimingContext>> TIMINGS_KEY =
+      RequestContextKey.register(TIMINGS_KEY_NAME);
+  public static final RequestContextKey<TimingImportance> TIMING_IMPORTANCE_THRESHOLD_KEY =
+      RequestContextKey.register(TIMING_IMPORTANCE_THRESHOLD_KEY_NAME);
+  public static final RequestContextKey<Boolean> TIMINGS_DISABLED_KEY =
+      RequestContextKey.register(TIMINGS_DISABLED_KEY_NAME);
+
+  private static final RequestContextKey<TimingArray> TIMING_ARRAYS_KEY = RequestContextKey.register("timingArrays");
+
   /**
-   * Looks for all timing records in the RequestContext, initiate one if not present.
+   * Looks for all timing records in the RequestContext, initiate one if not present. Records kept in
+   * {@link TimingArray}s are merged into the returned map.
    * @param context RequestContext for the request
-   * @return URI for target service hint, or null if no hint is present in the RequestContext
+   * @return the timing records of the request, keyed by {@link TimingKey}
    */
-  @SuppressWarnings("unchecked")
   public static Map<TimingKey, TimingContext> getTimingsMap(RequestContext context)
   {
-    Map<TimingKey, TimingContext> timings = (Map<TimingKey, TimingContext>)context.getLocalAttr(TIMINGS_KEY_NAME);
+    Map<TimingKey, TimingContext> timings = getOrCreateTimingsMap(context);
+    for (TimingArray array = context.getLocalAttr(TIMING_ARRAYS_KEY); array != null; array = array.getNext())
+    {
+      mergeTimingArray(array, timings);
+    }
+
+    return timings;
+  }
+
+  /**
+   * Returns the {@link TimingArray} recorded by the given owner for a request, creating it if not present.
+   * Keys excluded by the {@link TimingImportance} threshold of the request are not recorded.
+   * @param context RequestContext for the request
+   * @param owner the component recording the timings, compared by identity
+   * @param keys the keys the owner records, in the order of the indexes it marks
+   * @return the timing array, or null if timings are disabled for this request
+   */
+  public static TimingArray getTimingArray(RequestContext context, Object owner, TimingKey[] keys)
+  {
+    if (areTimingsDisabled(context))
+    {
+      return null;
+    }
+
+    final TimingArray head = context.getLocalAttr(TIMING_ARRAYS_KEY);
+    for (TimingArray array = head; array != null; array = array.getNext())
+    {
+      if (array.getOwner() == owner)
+      {
+        return array;
+      }
+    }
+
+    final TimingKey[] recordedKeys = keys.clone();
+    for (int i = 0; i < recordedKeys.length; i++)
+    {
+      if (recordedKeys[i] != null && !checkTimingImportanceThreshold(context, recordedKeys[i]))
+      {
+        recordedKeys[i] = null;
+      }
+    }
+    final TimingArray array = new TimingArray(owner, recordedKeys, head);
+    context.putLocalAttr(TIMING_ARRAYS_KEY, array);
+    return array;
+  }
+
+  private static TimingContext getTiming(RequestContext context, TimingKey timingKey)
+  {
+    final Map<TimingKey, TimingContext> timings = context.getLocalAttr(TIMINGS_KEY);
+    return timings == null ? null : timings.get(timingKey);
+  }
+
+  private static void putTiming(RequestContext context, TimingContext timingContext)
+  {
+    getOrCreateTimingsMap(context).put(timingContext.getName(), timingContext);
+  }
+
+  // The map is only created by the first timing recorded in it, so that requests recording their timings in
+  // TimingArrays or excluding them through the importance threshold do not allocate it.
+  private static Map<TimingKey, TimingContext> getOrCreateTimingsMap(RequestContext context)
+  {
+    Map<TimingKey, TimingContext> timings = context.getLocalAttr(TIMINGS_KEY);
     if (timings == null)
     {
       timings = new ConcurrentHashMap<>();
-      context.putLocalAttr(TIMINGS_KEY_NAME, timings);
+      context.putLocalAttr(TIMINGS_KEY, timings);
     }
 
     return timings;
   }
 
+  private static void mergeTimingArray(TimingArray array, Map<TimingKey, TimingContext> timings)
+  {
+    for (int i = 0; i < array.size(); i++)
+    {
+      final TimingKey timingKey = array.getKey(i);
+      if (timingKey == null || !array.isStarted(i))
+      {
+        continue;
+      }
+
+      final TimingContext timingContext = timings.get(timingKey);
+      if (timingContext == null)
+      {
+        timings.put(timingKey, new TimingContext(timingKey, array.getStartTimeNano(i), array.getDurationNano(i)));
+      }
+      else if (!timingContext.isComplete() && timingContext.getStartTimeNano() == array.getStartTimeNano(i))
+      {
+        // Completed after a previous merge
+        timingContext._durationNano = array.getDurationNano(i);
+      }
+    }
+  }
+
   /**
    * Mark a timing event and record it to the request context.
    * If it's the first time this {@link TimingKey} appears, a new timing record will be created. Current time
@@ -75,16 +169,16 @@ public class TimingContextUtil
       return;
     }
 
-    Map<TimingKey, TimingContext> timings = getTimingsMap(requestContext);
-    if (timings.containsKey(timingKey))
+    final TimingContext timingContext = getTiming(requestContext, timingKey);
+    if (timingContext != null)
     {
-      timings.get(timingKey).complete();
+      timingContext.complete();
     }
     else
     {
       if (checkTimingImportanceThreshold(requestContext, timingKey))
       {
-        timings.put(timingKey, new TimingContext(timingKey));
+        putTiming(requestContext, new TimingContext(timingKey));
       }
     }
   }
@@ -104,8 +198,7 @@ public class TimingContextUtil
       return;
     }
 
-    Map<TimingKey, TimingContext> timings = getTimingsMap(requestContext);
-    if (timings.containsKey(timingKey))
+    if (getTiming(requestContext, timingKey) != null)
     {
       logWarning("Could not mark timing for a key that already exists: " + timingKey);
     }
@@ -113,7 +206,7 @@ public class TimingContextUtil
     {
       if (checkTimingImportanceThreshold(requestContext, timingKey))
       {
-        timings.put(timingKey, new TimingContext(timingKey, durationNano));
+        putTiming(requestContext, new TimingContext(timingKey, durationNano));
       }
     }
   }
@@ -133,14 +226,13 @@ public class TimingContextUtil
 
     if (checkTimingImportanceThreshold(requestContext, timingKey))
     {
-      Map<TimingKey, TimingContext> timings = getTimingsMap(requestContext);
-      if (timings.containsKey(timingKey))
+      if (getTiming(requestContext, timingKey) != null)
       {
         logWarning("Cannot begin timing, timing has already begun for key: " + timingKey);
       }
       else
       {
-        timings.put(timingKey, new TimingContext(timingKey));
+        putTiming(requestContext, new TimingContext(timingKey));
       }
     }
   }
@@ -158,10 +250,10 @@ public class TimingContextUtil
       return;
     }
 
-    Map<TimingKey, TimingContext> timings = getTimingsMap(requestContext);
-    if (timings.containsKey(timingKey))
+    final TimingContext timingContext = getTiming(requestContext, timingKey);
+    if (timingContext != null)
     {
-      timings.get(timingKey).complete();
+      timingContext.complete();
     }
     else if (checkTimingImportanceThreshold(requestContext, timingKey))
     {
@@ -179,8 +271,7 @@ public class TimingContextUtil
    */
   static boolean checkTimingImportanceThreshold(RequestContext requestContext, TimingKey timingKey)
   {
-    TimingImportance timingImportanceThreshold = (TimingImportance) requestContext.getLocalAttr(
-        TIMING_IMPORTANCE_THRESHOLD_KEY_NAME);
+    TimingImportance timingImportanceThreshold = requestContext.getLocalAttr(TIMING_IMPORTANCE_THRESHOLD_KEY);
     return timingImportanceThreshold == null || timingKey.getTimingImportance().isAtLeast(timingImportanceThreshold);
   }
 
@@ -191,8 +282,7 @@ public class TimingContextUtil
    */
   private static boolean areTimingsDisabled(RequestContext requestContext)
   {
-    final Object timingsDisabled = requestContext.getLocalAttr(TIMINGS_DISABLED_KEY_NAME);
-    return timingsDisabled instanceof Boolean && (boolean) timingsDisabled;
+    return Boolean.TRUE.equals(requestContext.getLocalAttr(TIMINGS_DISABLED_KEY));
   }
 
   /**
@@ -236,6 +326,13 @@ public class TimingContextUtil
       _durationNano = durationNano;
     }
 
+    TimingContext(TimingKey timingKey, long startTimeNano, long durationNano)
+    {
+      _timingKey = timingKey;
+      _startTimeNano = startTimeNano;
+      _durationNano = durationNano;
+    }
+
     public TimingKey getName()
     {
       return _timingKey;
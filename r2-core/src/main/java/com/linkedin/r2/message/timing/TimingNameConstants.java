@@ -31,4 +31,6 @@ public class TimingNameConstants
 
   public static final String DNS_RESOLUTION = "dns_resolution";
   public static final String SSL_HANDSHAKE = "ssl_handshake";
+
+  public static final String RESPONSE_COMPRESSION = "response_compression";
 }
@@ -27,6 +27,7 @@ import com.linkedin.r2.message.stream.StreamRequest;
 import com.linkedin.r2.message.stream.StreamResponse;
 import com.linkedin.r2.transport.common.bridge.common.TransportCallback;
 
+import java.net.URI;
 import java.util.Map;
 
 /**
@@ -69,6 +70,23 @@ public interface TransportClient
     throw new UnsupportedOperationException("Please use an implementation that supports streaming.");
   }
 
+  /**
+   * Asynchronously establishes connections to the host of the given URI ahead of the requests to it, so that they do
+   * not pay the connection and TLS handshake latency. The connections are returned to the pool of the client, which
+   * keeps up to its minimum pool size of them open. A multiplexing client establishes one connection regardless of
+   * the number requested. Like a request, this may resolve the host name on the calling thread.
+   *
+   * The default implementation does nothing, for clients without connection pools.
+   *
+   * @param uri the URI of the host, whose scheme picks the pool.
+   * @param connections the number of connections to establish.
+   * @param callback a callback that will be invoked once the connections are established.
+   */
+  default void warmUp(URI uri, int connections, Callback<None> callback)
+  {
+    callback.onSuccess(None.none());
+  }
+
   /**
    * Starts asynchronous shutdown of the client. This method should block minimally, if at all.
    *
@@ -0,0 +1,99 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.util;
+
+import com.linkedin.util.ArgumentUtil;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * An {@link Executor} running its tasks on an executor which must not be blocked, typically an event loop, and
+ * reporting the tasks which run longer than a threshold. Such tasks most likely make blocking calls, which delay
+ * every other task of the event loop.
+ *
+ * The tasks are still run on the delegate executor: the threshold only triggers a warning, logged at most once per
+ * second, and increments {@link #getBlockingTaskCount()}.
+ */
+public class BlockingDetectingExecutor implements Executor
+{
+  private static final Logger LOG = LoggerFactory.getLogger(BlockingDetectingExecutor.class);
+  private static final long LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final Executor _executor;
+  private final long _thresholdNanos;
+  private final AtomicLong _blockingTaskCount = new AtomicLong();
+  private final AtomicLong _lastLogTime = new AtomicLong(System.nanoTime() - LOG_INTERVAL_NANOS);
+
+  /**
+   * @param executor the executor running the tasks.
+   * @param threshold the duration above which a task is reported as blocking.
+   * @param unit the unit of the threshold.
+   */
+  public BlockingDetectingExecutor(Executor executor, long threshold, TimeUnit unit)
+  {
+    ArgumentUtil.notNull(executor, "executor");
+    if (threshold <= 0)
+    {
+      throw new IllegalArgumentException("Invalid blocking threshold: " + threshold);
+    }
+    _executor = executor;
+    _thresholdNanos = unit.toNanos(threshold);
+  }
+
+  @Override
+  public void execute(Runnable command)
+  {
+    _executor.execute(() -> {
+      final long startTime = System.nanoTime();
+      try
+      {
+        command.run();
+      }
+      finally
+      {
+        final long endTime = System.nanoTime();
+        if (endTime - startTime > _thresholdNanos)
+        {
+          onBlockingTask(command, startTime, endTime);
+        }
+      }
+    });
+  }
+
+  private void onBlockingTask(Runnable command, long startTime, long endTime)
+  {
+    _blockingTaskCount.incrementAndGet();
+    final long lastLogTime = _lastLogTime.get();
+    if (endTime - lastLogTime >= LOG_INTERVAL_NANOS && _lastLogTime.compareAndSet(lastLogTime, endTime))
+    {
+      LOG.warn("Task {} blocked thread {} for {}ms. Blocking calls must not be made on event loops.",
+          command, Thread.currentThread().getName(), TimeUnit.NANOSECONDS.toMillis(endTime - startTime));
+    }
+  }
+
+  /**
+   * @return the number of tasks which ran longer than the threshold.
+   */
+  public long getBlockingTaskCount()
+  {
+    return _blockingTaskCount.get();
+  }
+}
@@ -0,0 +1,147 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.message;
+
+import com.linkedin.r2.filter.R2Constants;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+/**
+ * Tests for {@link RequestContext} and {@link RequestContextKey}.
+ */
+public class TestRequestContext
+{
+  private static final RequestContextKey<Integer> TYPED_KEY = RequestContextKey.register("TestRequestContext-typed");
+  private static final String UNREGISTERED_KEY = "TestRequestContext-unregistered";
+
+  @Test
+  public void testRegisterIsIdempotent()
+  {
+    Assert.assertSame(RequestContextKey.register("TestRequestContext-typed"), TYPED_KEY);
+    Assert.assertEquals(TYPED_KEY.getName(), "TestRequestContext-typed");
+  }
+
+  @Test
+  public void testTypedAndStringAccessAreInterchangeable()
+  {
+    RequestContext context = new RequestContext();
+    context.putLocalAttr(TYPED_KEY, 42);
+    Assert.assertEquals(context.getLocalAttr("TestRequestContext-typed"), 42);
+    Assert.assertEquals(context.getLocalAttrs().get("TestRequestContext-typed"), 42);
+
+    context.putLocalAttr("TestRequestContext-typed", 43);
+    Assert.assertEquals(context.getLocalAttr(TYPED_KEY), Integer.valueOf(43));
+
+    Assert.assertEquals(context.removeLocalAttr(TYPED_KEY), Integer.valueOf(43));
+    Assert.assertNull(context.getLocalAttr("TestRequestContext-typed"));
+    Assert.assertTrue(context.getLocalAttrs().isEmpty());
+  }
+
+  @Test
+  public void testFrameworkKeysAreSlotted()
+  {
+    Assert.assertNotEquals(RequestContextKey.lookup(R2Constants.OPERATION).getSlot(), RequestContextKey.NO_SLOT);
+
+    RequestContext context = new RequestContext();
+    context.putLocalAttr(R2Constants.OPERATION, "get");
+    context.putLocalAttr(UNREGISTERED_KEY, "value");
+
+    Map<String, Object> expected = new HashMap<>();
+    expected.put(R2Constants.OPERATION, "get");
+    expected.put(UNREGISTERED_KEY, "value");
+    Assert.assertEquals(context.getLocalAttrs(), expected);
+    Assert.assertEquals(context.getLocalAttrs().size(), 2);
+    Assert.assertEquals(context.getLocalAttrs().hashCode(), expected.hashCode());
+  }
+
+  @Test
+  public void testNullValues()
+  {
+    RequestContext context = new RequestContext();
+    context.putLocalAttr(TYPED_KEY, null);
+    context.putLocalAttr(UNREGISTERED_KEY, null);
+
+    Assert.assertTrue(context.getLocalAttrs().containsKey(TYPED_KEY.getName()));
+    Assert.assertTrue(context.getLocalAttrs().containsKey(UNREGISTERED_KEY));
+    Assert.assertNull(context.getLocalAttr(TYPED_KEY));
+    Assert.assertEquals(context.getLocalAttrs().size(), 2);
+  }
+
+  @Test
+  public void testCopyAndClone()
+  {
+    RequestContext context = new RequestContext();
+    context.putLocalAttr(TYPED_KEY, 1);
+    context.putLocalAttr(UNREGISTERED_KEY, "value");
+
+    RequestContext copy = new RequestContext(context);
+    Assert.assertEquals(copy, context);
+    Assert.assertEquals(context.clone(), context);
+
+    copy.putLocalAttr(TYPED_KEY, 2);
+    Assert.assertEquals(context.getLocalAttr(TYPED_KEY), Integer.valueOf(1));
+    Assert.assertNotEquals(copy, context);
+  }
+
+  @Test
+  public void testKeyRegisteredAfterCreation()
+  {
+    RequestContext context = new RequestContext();
+    RequestContextKey<String> lateKey = RequestContextKey.register("TestRequestContext-late");
+
+    context.putLocalAttr(lateKey, "late");
+    Assert.assertEquals(context.getLocalAttr("TestRequestContext-late"), "late");
+    Assert.assertEquals(context.getLocalAttr(lateKey), "late");
+    Assert.assertEquals(new RequestContext(context).getLocalAttr(lateKey), "late");
+  }
+
+  @Test
+  public void testMapViewWritesThrough()
+  {
+    RequestContext context = new RequestContext();
+    context.getLocalAttrs().put(TYPED_KEY.getName(), 1);
+    context.getLocalAttrs().put(UNREGISTERED_KEY, "value");
+    Assert.assertEquals(context.getLocalAttr(TYPED_KEY), Integer.valueOf(1));
+
+    for (Map.Entry<String, Object> entry : context.getLocalAttrs().entrySet())
+    {
+      if (entry.getKey().equals(TYPED_KEY.getName()))
+      {
+        entry.setValue(2);
+      }
+    }
+    Assert.assertEquals(context.getLocalAttr(TYPED_KEY), Integer.valueOf(2));
+
+    Iterator<Map.Entry<String, Object>> iterator = context.getLocalAttrs().entrySet().iterator();
+    while (iterator.hasNext())
+    {
+      if (iterator.next().getKey().equals(UNREGISTERED_KEY))
+      {
+        iterator.remove();
+      }
+    }
+    Assert.assertFalse(context.getLocalAttrs().containsKey(UNREGISTERED_KEY));
+
+    context.getLocalAttrs().clear();
+    Assert.assertTrue(context.getLocalAttrs().isEmpty());
+    Assert.assertNull(context.getLocalAttr(TYPED_KEY));
+  }
+}
@@ -0,0 +1,48 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.message.timing;
+
+import com.linkedin.r2.message.RequestContext;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+/**
+ * Tests for {@link TimingContextUtil}.
+ */
+public class TestTimingContextUtil
+{
+  private static final TimingKey LOW_KEY = TimingKey.registerNewKey("test/timingContextUtil/l", TimingImportance.LOW);
+
+  @Test
+  public void testTimingsMapCreatedOnFirstRecord()
+  {
+    RequestContext requestContext = new RequestContext();
+    requestContext.putLocalAttr(TimingContextUtil.TIMING_IMPORTANCE_THRESHOLD_KEY, TimingImportance.HIGH);
+
+    // excluded by the importance threshold
+    TimingContextUtil.beginTiming(requestContext, LOW_KEY);
+    TimingContextUtil.endTiming(requestContext, LOW_KEY);
+    TimingContextUtil.markTiming(requestContext, LOW_KEY);
+    Assert.assertNull(requestContext.getLocalAttr(TimingContextUtil.TIMINGS_KEY));
+
+    requestContext.putLocalAttr(TimingContextUtil.TIMING_IMPORTANCE_THRESHOLD_KEY, TimingImportance.LOW);
+    TimingContextUtil.beginTiming(requestContext, LOW_KEY);
+    TimingContextUtil.endTiming(requestContext, LOW_KEY);
+    Assert.assertTrue(requestContext.getLocalAttr(TimingContextUtil.TIMINGS_KEY).get(LOW_KEY).isComplete());
+  }
+}
@@ -0,0 +1,80 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestBlockingDetectingExecutor
+{
+  @Test
+  public void testBlockingTasksAreCounted()
+  {
+    BlockingDetectingExecutor executor = new BlockingDetectingExecutor(Runnable::run, 10, TimeUnit.MILLISECONDS);
+    AtomicInteger runs = new AtomicInteger();
+
+    executor.execute(runs::incrementAndGet);
+    Assert.assertEquals(runs.get(), 1);
+    Assert.assertEquals(executor.getBlockingTaskCount(), 0);
+
+    executor.execute(() -> {
+      runs.incrementAndGet();
+      sleep(50);
+    });
+    Assert.assertEquals(runs.get(), 2);
+    Assert.assertEquals(executor.getBlockingTaskCount(), 1);
+  }
+
+  @Test
+  public void testFailingTaskIsCounted()
+  {
+    BlockingDetectingExecutor executor = new BlockingDetectingExecutor(Runnable::run, 10, TimeUnit.MILLISECONDS);
+    try
+    {
+      executor.execute(() -> {
+        sleep(50);
+        throw new IllegalStateException();
+      });
+      Assert.fail("Expected the task to fail");
+    }
+    catch (IllegalStateException e)
+    {
+      Assert.assertEquals(executor.getBlockingTaskCount(), 1);
+    }
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testInvalidThreshold()
+  {
+    new BlockingDetectingExecutor(Runnable::run, 0, TimeUnit.MILLISECONDS);
+  }
+
+  private static void sleep(long millis)
+  {
+    try
+    {
+      Thread.sleep(millis);
+    }
+    catch (InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
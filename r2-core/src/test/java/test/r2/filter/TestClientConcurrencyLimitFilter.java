@@ -0,0 +1,249 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package test.r2.filter;
+
+import com.linkedin.r2.RetriableRequestException;
+import com.linkedin.r2.filter.FilterChain;
+import com.linkedin.r2.filter.FilterChains;
+import com.linkedin.r2.filter.NextFilter;
+import com.linkedin.r2.filter.limit.AdaptiveConcurrencyLimit;
+import com.linkedin.r2.filter.limit.ClientConcurrencyLimitFilter;
+import com.linkedin.r2.filter.message.rest.RestFilter;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.rest.RestException;
+import com.linkedin.r2.message.rest.RestRequest;
+import com.linkedin.r2.message.rest.RestRequestBuilder;
+import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.message.rest.RestResponseBuilder;
+import com.linkedin.r2.message.rest.RestStatus;
+import com.linkedin.r2.testutils.filter.CaptureLastCallFilter;
+import com.linkedin.r2.testutils.filter.FilterUtil;
+import com.linkedin.r2.testutils.filter.RestCountFilter;
+import com.linkedin.util.clock.SettableClock;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestClientConcurrencyLimitFilter
+{
+  private static final String HOST_1 = "http://host-1:1234";
+  private static final String HOST_2 = "http://host-2:1234";
+  private static final String HOST_3 = "http://host-3:1234";
+
+  @Test
+  public void testAdaptiveConcurrencyLimit()
+  {
+    AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 2, 100, 1.5, 0.5);
+    for (int i = 0; i < 4; i++)
+    {
+      Assert.assertTrue(limit.tryAcquire());
+    }
+    Assert.assertFalse(limit.tryAcquire());
+    Assert.assertEquals(limit.getInFlight(), 4);
+
+    // steady latency with the limit in use grows it
+    for (int i = 0; i < 50; i++)
+    {
+      limit.onSuccess(1_000_000);
+      Assert.assertTrue(limit.tryAcquire());
+    }
+    int grownLimit = limit.getLimit();
+    Assert.assertTrue(grownLimit > 4, "Limit did not grow: " + grownLimit);
+
+    // much higher latency shrinks it
+    for (int i = 0; i < 50; i++)
+    {
+      limit.onSuccess(20_000_000);
+      Assert.assertTrue(limit.tryAcquire() || limit.getInFlight() >= limit.getLimit());
+    }
+    Assert.assertTrue(limit.getLimit() < grownLimit, "Limit did not shrink: " + limit.getLimit());
+
+    // drops back it off down to the minimum
+    for (int i = 0; i < 20; i++)
+    {
+      limit.onDropped();
+      limit.tryAcquire();
+    }
+    Assert.assertEquals(limit.getLimit(), 2);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testInvalidLimit()
+  {
+    new AdaptiveConcurrencyLimit(1, 2, 100, 1.5, 0.5);
+  }
+
+  @Test
+  public void testRejectWhenLimitReached()
+  {
+    ClientConcurrencyLimitFilter filter =
+        new ClientConcurrencyLimitFilter(() -> new AdaptiveConcurrencyLimit(2, 1, 10, 1.5, 0.9), 0);
+    CaptureLastCallFilter captureFilter = new CaptureLastCallFilter();
+    RestCountFilter countFilter = new RestCountFilter();
+    FilterChain filterChain = FilterChains.createRestChain(captureFilter, filter, countFilter);
+
+    RequestContext first = sendRequest(filterChain, HOST_1);
+    sendRequest(filterChain, HOST_1);
+    // the limits of the destinations are independent
+    sendRequest(filterChain, HOST_2);
+    Assert.assertEquals(countFilter.getRestReqCount(), 3);
+
+    sendRequest(filterChain, HOST_1);
+    Assert.assertEquals(countFilter.getRestReqCount(), 3);
+    Assert.assertTrue(captureFilter.getLastErr() instanceof RetriableRequestException);
+    Assert.assertEquals(filter.getRejectedCount(), 1);
+    Assert.assertEquals(filter.getRejectedCounts().get(HOST_1), Long.valueOf(1));
+    Assert.assertEquals(filter.getInFlightCounts().get(HOST_1), Integer.valueOf(2));
+
+    // the rejected request did not take a slot, and a completed one frees it
+    FilterUtil.fireRestResponse(filterChain, new RestResponseBuilder().build(), first, Collections.emptyMap());
+    Assert.assertEquals(filter.getInFlightCounts().get(HOST_1), Integer.valueOf(1));
+    sendRequest(filterChain, HOST_1);
+    Assert.assertEquals(countFilter.getRestReqCount(), 4);
+  }
+
+  @Test
+  public void testQueueWhenLimitReached()
+  {
+    ClientConcurrencyLimitFilter filter =
+        new ClientConcurrencyLimitFilter(() -> new AdaptiveConcurrencyLimit(1, 1, 10, 1.5, 0.9), 1);
+    CaptureLastCallFilter captureFilter = new CaptureLastCallFilter();
+    RestCountFilter countFilter = new RestCountFilter();
+    FilterChain filterChain = FilterChains.createRestChain(captureFilter, filter, countFilter);
+
+    RequestContext first = sendRequest(filterChain, HOST_1);
+    RequestContext second = sendRequest(filterChain, HOST_1);
+    Assert.assertEquals(countFilter.getRestReqCount(), 1);
+    Assert.assertEquals(filter.getQueuedCounts().get(HOST_1), Integer.valueOf(1));
+
+    // the queue is full
+    sendRequest(filterChain, HOST_1);
+    Assert.assertTrue(captureFilter.getLastErr() instanceof RetriableRequestException);
+
+    // an error response completes the first request and sends the queued one
+    FilterUtil.fireRestError(filterChain,
+        new RestException(new RestResponseBuilder().setStatus(RestStatus.NOT_FOUND).build()), first,
+        Collections.emptyMap());
+    Assert.assertEquals(countFilter.getRestReqCount(), 2);
+    Assert.assertEquals(filter.getQueuedCounts().get(HOST_1), Integer.valueOf(0));
+    Assert.assertEquals(filter.getInFlightCounts().get(HOST_1), Integer.valueOf(1));
+
+    FilterUtil.fireRestError(filterChain, new TimeoutException(), second, Collections.emptyMap());
+    Assert.assertEquals(filter.getInFlightCounts().get(HOST_1), Integer.valueOf(0));
+    Assert.assertEquals(filter.getLimits().get(HOST_1), Integer.valueOf(1));
+  }
+
+  @Test
+  public void testPermitIsReleasedWhenSendingFails()
+  {
+    ClientConcurrencyLimitFilter filter =
+        new ClientConcurrencyLimitFilter(() -> new AdaptiveConcurrencyLimit(1, 1, 10, 1.5, 0.9), 1);
+    CaptureLastCallFilter captureFilter = new CaptureLastCallFilter();
+    AtomicBoolean failing = new AtomicBoolean(true);
+    RestCountFilter countFilter = new RestCountFilter();
+    RestFilter failingFilter = new RestFilter()
+    {
+      @Override
+      public void onRestRequest(RestRequest req, RequestContext requestContext, Map<String, String> wireAttrs,
+          NextFilter<RestRequest, RestResponse> nextFilter)
+      {
+        if (failing.get())
+        {
+          throw new IllegalStateException("Cannot send");
+        }
+        nextFilter.onRequest(req, requestContext, wireAttrs);
+      }
+    };
+    FilterChain filterChain = FilterChains.createRestChain(captureFilter, filter, failingFilter, countFilter);
+
+    sendRequest(filterChain, HOST_1);
+    Assert.assertTrue(captureFilter.getLastErr() instanceof IllegalStateException);
+    Assert.assertEquals(filter.getInFlightCounts().get(HOST_1), Integer.valueOf(0));
+
+    // a queued request failing to be sent releases its permit too
+    failing.set(false);
+    RequestContext first = sendRequest(filterChain, HOST_1);
+    sendRequest(filterChain, HOST_1);
+    Assert.assertEquals(filter.getQueuedCounts().get(HOST_1), Integer.valueOf(1));
+    failing.set(true);
+    FilterUtil.fireRestResponse(filterChain, new RestResponseBuilder().build(), first, Collections.emptyMap());
+    Assert.assertEquals(filter.getQueuedCounts().get(HOST_1), Integer.valueOf(0));
+    Assert.assertEquals(filter.getInFlightCounts().get(HOST_1), Integer.valueOf(0));
+    Assert.assertTrue(captureFilter.getLastErr() instanceof IllegalStateException);
+    Assert.assertEquals(countFilter.getRestReqCount(), 1);
+  }
+
+  @Test
+  public void testIdleDestinationsAreEvicted()
+  {
+    SettableClock clock = new SettableClock();
+    ClientConcurrencyLimitFilter filter =
+        new ClientConcurrencyLimitFilter(() -> new AdaptiveConcurrencyLimit(2, 1, 10, 1.5, 0.9), 1, 1000, clock);
+    FilterChain filterChain = FilterChains.createRestChain(filter);
+
+    RequestContext first = sendRequest(filterChain, HOST_1);
+    RequestContext second = sendRequest(filterChain, HOST_2);
+    FilterUtil.fireRestResponse(filterChain, new RestResponseBuilder().build(), second, Collections.emptyMap());
+    Assert.assertEquals(filter.getLimits().keySet(), new HashSet<>(Arrays.asList(HOST_1, HOST_2)));
+
+    // not idle for long enough yet
+    clock.addDuration(999);
+    FilterUtil.fireRestResponse(filterChain, new RestResponseBuilder().build(), sendRequest(filterChain, HOST_3),
+        Collections.emptyMap());
+    Assert.assertEquals(filter.getLimits().size(), 3);
+
+    // the destination with a request in flight is kept
+    clock.addDuration(1000);
+    RequestContext third = sendRequest(filterChain, HOST_3);
+    Assert.assertEquals(filter.getLimits().keySet(), new HashSet<>(Arrays.asList(HOST_1, HOST_3)));
+    Assert.assertEquals(filter.getInFlightCounts().get(HOST_1), Integer.valueOf(1));
+    Assert.assertTrue(filter.getRejectedCounts().keySet().containsAll(filter.getLimits().keySet()));
+
+    // completing a request counts as using its destination
+    FilterUtil.fireRestResponse(filterChain, new RestResponseBuilder().build(), first, Collections.emptyMap());
+    FilterUtil.fireRestResponse(filterChain, new RestResponseBuilder().build(), third, Collections.emptyMap());
+    clock.addDuration(1000);
+    sendRequest(filterChain, HOST_2);
+    Assert.assertEquals(filter.getLimits().keySet(), new HashSet<>(Arrays.asList(HOST_1, HOST_2, HOST_3)));
+
+    clock.addDuration(1001);
+    sendRequest(filterChain, HOST_2);
+    Assert.assertEquals(filter.getLimits().keySet(), Collections.singleton(HOST_2));
+    Assert.assertEquals(filter.getQueuedCounts().keySet(), Collections.singleton(HOST_2));
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testInvalidIdleTimeout()
+  {
+    new ClientConcurrencyLimitFilter(AdaptiveConcurrencyLimit::new, 0, 0, new SettableClock());
+  }
+
+  private static RequestContext sendRequest(FilterChain filterChain, String host)
+  {
+    RestRequest request = new RestRequestBuilder(URI.create(host + "/resource")).build();
+    RequestContext requestContext = new RequestContext();
+    FilterUtil.fireRestRequest(filterChain, request, requestContext, Collections.emptyMap());
+    return requestContext;
+  }
+}
@@ -30,10 +30,13 @@ import com.linkedin.r2.message.rest.RestResponse;
 import com.linkedin.r2.message.rest.RestResponseBuilder;
 import com.linkedin.r2.message.stream.StreamRequest;
 import com.linkedin.r2.message.stream.StreamResponse;
+import com.linkedin.r2.message.timing.TimingContextUtil;
+import com.linkedin.r2.message.timing.TimingKey;
 import com.linkedin.r2.testutils.filter.RestCountFilter;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -327,6 +330,101 @@ public class TestFilterChainImpl
     Assert.assertEquals(filter2.getOrder(), 5);
   }
 
+  @Test
+  public void testFilterTimingsRecorded()
+  {
+    AtomicInteger count = new AtomicInteger(0);
+    final FilterChain fc = FilterChains.createRestChain(new CheckOrderFilter(count), new CheckOrderFilter(count));
+    RequestContext requestContext = createRequestContext();
+
+    fc.onRestRequest(new RestRequestBuilder(URI.create("test")).build(), requestContext, createWireAttributes());
+    Map<TimingKey, TimingContextUtil.TimingContext> timings = TimingContextUtil.getTimingsMap(requestContext);
+    Assert.assertEquals(timings.size(), 2);
+    timings.values().forEach(timing -> Assert.assertTrue(timing.isComplete()));
+
+    fc.onRestResponse(new RestResponseBuilder().build(), requestContext, createWireAttributes());
+    timings = TimingContextUtil.getTimingsMap(requestContext);
+    Assert.assertEquals(timings.size(), 4);
+    timings.values().forEach(timing -> Assert.assertTrue(timing.isComplete()));
+  }
+
+  @Test
+  public void testFilterTimingsDisabled()
+  {
+    final FilterChain fc = FilterChains.createRestChain(new CheckOrderFilter(new AtomicInteger(0)));
+    RequestContext requestContext = createRequestContext();
+    requestContext.putLocalAttr(TimingContextUtil.TIMINGS_DISABLED_KEY, true);
+
+    fc.onRestRequest(new RestRequestBuilder(URI.create("test")).build(), requestContext, createWireAttributes());
+    Assert.assertTrue(TimingContextUtil.getTimingsMap(requestContext).isEmpty());
+  }
+
+  @Test
+  public void testShortCircuitAndExceptionRouting()
+  {
+    final List<String> events = new ArrayList<>();
+    final RestFilter recorder = new RestFilter()
+    {
+      @Override
+      public void onRestRequest(RestRequest req, RequestContext requestContext, Map<String, String> wireAttrs,
+          NextFilter<RestRequest, RestResponse> nextFilter)
+      {
+        events.add("recorder-request");
+        nextFilter.onRequest(req, requestContext, wireAttrs);
+      }
+
+      @Override
+      public void onRestResponse(RestResponse res, RequestContext requestContext, Map<String, String> wireAttrs,
+          NextFilter<RestRequest, RestResponse> nextFilter)
+      {
+        events.add("recorder-response");
+        nextFilter.onResponse(res, requestContext, wireAttrs);
+      }
+
+      @Override
+      public void onRestError(Throwable ex, RequestContext requestContext, Map<String, String> wireAttrs,
+          NextFilter<RestRequest, RestResponse> nextFilter)
+      {
+        events.add("recorder-error");
+        nextFilter.onError(ex, requestContext, wireAttrs);
+      }
+    };
+    final RestFilter shortCircuit = new RestFilter()
+    {
+      @Override
+      public void onRestRequest(RestRequest req, RequestContext requestContext, Map<String, String> wireAttrs,
+          NextFilter<RestRequest, RestResponse> nextFilter)
+      {
+        events.add("short-circuit-request");
+        nextFilter.onResponse(new RestResponseBuilder().build(), requestContext, wireAttrs);
+      }
+    };
+    final RestFilter throwing = new RestFilter()
+    {
+      @Override
+      public void onRestRequest(RestRequest req, RequestContext requestContext, Map<String, String> wireAttrs,
+          NextFilter<RestRequest, RestResponse> nextFilter)
+      {
+        throw new IllegalStateException();
+      }
+
+      @Override
+      public void onRestError(Throwable ex, RequestContext requestContext, Map<String, String> wireAttrs,
+          NextFilter<RestRequest, RestResponse> nextFilter)
+      {
+        events.add("throwing-error");
+        nextFilter.onError(ex, requestContext, wireAttrs);
+      }
+    };
+
+    fireRestRequest(FilterChains.createRestChain(recorder, shortCircuit));
+    Assert.assertEquals(events, Arrays.asList("recorder-request", "short-circuit-request", "recorder-response"));
+
+    events.clear();
+    fireRestRequest(FilterChains.createRestChain(recorder, throwing));
+    Assert.assertEquals(events, Arrays.asList("recorder-request", "throwing-error", "recorder-error"));
+  }
+
   private void fireRestRequest(FilterChain fc)
   {
     fc.onRestRequest(new RestRequestBuilder(URI.create("test")).build(),
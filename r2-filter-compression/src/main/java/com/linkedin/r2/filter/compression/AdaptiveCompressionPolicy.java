@@ -0,0 +1,267 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.compression;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Decides whether a response that is above the compression threshold is worth compressing, based on the compression
+ * ratio and CPU cost recently measured for the same encoding, resource and payload size class.
+ *
+ * Responses of a resource which recently compressed by less than the minimum savings, e.g. because they embed already
+ * compressed or high entropy data, are sent uncompressed. One in every probe interval of those is still compressed, so
+ * that the statistics follow changes in the payloads.
+ *
+ * The resource of a request is the first segment of its path.
+ */
+public class AdaptiveCompressionPolicy implements AdaptiveCompressionPolicyJmxMBean
+{
+  public static final double DEFAULT_MIN_SAVINGS = 0.05;
+  public static final int DEFAULT_MIN_SAMPLES = 20;
+  public static final int DEFAULT_PROBE_INTERVAL = 100;
+
+  // Bounds the statistics kept for requests to arbitrary paths, further resources share a single entry
+  static final int MAX_TRACKED_RESOURCES = 1000;
+  static final String OTHER_RESOURCE = "_other";
+
+  // Weight of the latest sample in the moving averages
+  private static final double DECAY = 0.1;
+  private static final int[] SIZE_CLASS_LIMITS = {4 * 1024, 64 * 1024};
+  private static final String[] SIZE_CLASS_NAMES = {"0-4KB", "4KB-64KB", "64KB+"};
+  private static final char KEY_SEPARATOR = '/';
+
+  private final double _minSavings;
+  private final double _maxNanosPerSavedByte;
+  private final int _minSamples;
+  private final int _probeInterval;
+
+  private final ConcurrentMap<String, Stats[]> _stats = new ConcurrentHashMap<>();
+  private final AtomicLong _compressedCount = new AtomicLong();
+  private final AtomicLong _skippedCount = new AtomicLong();
+
+  public AdaptiveCompressionPolicy()
+  {
+    this(DEFAULT_MIN_SAVINGS, Double.MAX_VALUE, DEFAULT_MIN_SAMPLES, DEFAULT_PROBE_INTERVAL);
+  }
+
+  /**
+   * @param minSavings the fraction of the size compression has to save, e.g. 0.05 for 5%.
+   * @param maxNanosPerSavedByte the most CPU time compression may cost per byte it saves.
+   * @param minSamples the number of compressions to measure before responses may be skipped.
+   * @param probeInterval one in every this many responses that would be skipped is compressed anyway.
+   */
+  public AdaptiveCompressionPolicy(double minSavings, double maxNanosPerSavedByte, int minSamples, int probeInterval)
+  {
+    if (minSavings < 0 || minSavings >= 1)
+    {
+      throw new IllegalArgumentException("Invalid minimum savings: " + minSavings);
+    }
+    if (probeInterval < 1)
+    {
+      throw new IllegalArgumentException("Invalid probe interval: " + probeInterval);
+    }
+    _minSavings = minSavings;
+    _maxNanosPerSavedByte = maxNanosPerSavedByte;
+    _minSamples = minSamples;
+    _probeInterval = probeInterval;
+  }
+
+  /**
+   * @param encoding content encoding the response would be compressed with.
+   * @param resource resource of the request, see {@link #getResource(URI)}.
+   * @param length length of the uncompressed response.
+   * @return true if the response should be compressed.
+   */
+  public boolean shouldCompress(String encoding, String resource, int length)
+  {
+    if (getStats(encoding, resource, length).shouldCompress())
+    {
+      _compressedCount.incrementAndGet();
+      return true;
+    }
+    _skippedCount.incrementAndGet();
+    return false;
+  }
+
+  /**
+   * Records the outcome of compressing a response which {@link #shouldCompress(String, String, int)} allowed.
+   *
+   * @param encoding content encoding the response was compressed with.
+   * @param resource resource of the request, see {@link #getResource(URI)}.
+   * @param length length of the uncompressed response.
+   * @param compressedLength length of the compressed response.
+   * @param durationNano time spent compressing.
+   */
+  public void recordCompression(String encoding, String resource, int length, int compressedLength, long durationNano)
+  {
+    if (length > 0)
+    {
+      getStats(encoding, resource, length).record((double) compressedLength / length, (double) durationNano / length);
+    }
+  }
+
+  /**
+   * @return the resource the statistics of a request to the given URI are kept under.
+   */
+  public static String getResource(URI uri)
+  {
+    String path = uri.getRawPath();
+    if (path == null)
+    {
+      return OTHER_RESOURCE;
+    }
+    int start = path.startsWith("/") ? 1 : 0;
+    int end = path.indexOf('/', start);
+    return path.substring(start, end < 0 ? path.length() : end);
+  }
+
+  @Override
+  public long getCompressedCount()
+  {
+    return _compressedCount.get();
+  }
+
+  @Override
+  public long getSkippedCount()
+  {
+    return _skippedCount.get();
+  }
+
+  @Override
+  public Map<String, Double> getCompressionRatios()
+  {
+    Map<String, Double> ratios = new TreeMap<>();
+    for (Map.Entry<String, Stats[]> entry : _stats.entrySet())
+    {
+      for (int i = 0; i < SIZE_CLASS_NAMES.length; i++)
+      {
+        Stats stats = entry.getValue()[i];
+        synchronized (stats)
+        {
+          if (stats._samples > 0)
+          {
+            ratios.put(entry.getKey() + KEY_SEPARATOR + SIZE_CLASS_NAMES[i], stats._ratio);
+          }
+        }
+      }
+    }
+    return ratios;
+  }
+
+  @Override
+  public Map<String, Double> getNanosPerByte()
+  {
+    Map<String, Double> nanosPerByte = new TreeMap<>();
+    for (Map.Entry<String, Stats[]> entry : _stats.entrySet())
+    {
+      for (int i = 0; i < SIZE_CLASS_NAMES.length; i++)
+      {
+        Stats stats = entry.getValue()[i];
+        synchronized (stats)
+        {
+          if (stats._samples > 0)
+          {
+            nanosPerByte.put(entry.getKey() + KEY_SEPARATOR + SIZE_CLASS_NAMES[i], stats._nanosPerByte);
+          }
+        }
+      }
+    }
+    return nanosPerByte;
+  }
+
+  private Stats getStats(String encoding, String resource, int length)
+  {
+    String key = encoding + KEY_SEPARATOR + (resource == null ? OTHER_RESOURCE : resource);
+    Stats[] stats = _stats.get(key);
+    if (stats == null)
+    {
+      if (_stats.size() >= MAX_TRACKED_RESOURCES)
+      {
+        key = encoding + KEY_SEPARATOR + OTHER_RESOURCE;
+      }
+      stats = _stats.computeIfAbsent(key, k -> newStats());
+    }
+
+    int sizeClass = 0;
+    while (sizeClass < SIZE_CLASS_LIMITS.length && length >= SIZE_CLASS_LIMITS[sizeClass])
+    {
+      sizeClass++;
+    }
+    return stats[sizeClass];
+  }
+
+  private Stats[] newStats()
+  {
+    Stats[] stats = new Stats[SIZE_CLASS_NAMES.length];
+    for (int i = 0; i < stats.length; i++)
+    {
+      stats[i] = new Stats();
+    }
+    return stats;
+  }
+
+  private class Stats
+  {
+    private double _ratio;
+    private double _nanosPerByte;
+    private long _samples;
+    private int _skippedSinceProbe;
+
+    synchronized boolean shouldCompress()
+    {
+      if (_samples < _minSamples)
+      {
+        return true;
+      }
+
+      double savings = 1 - _ratio;
+      if (savings >= _minSavings && _nanosPerByte <= _maxNanosPerSavedByte * savings)
+      {
+        _skippedSinceProbe = 0;
+        return true;
+      }
+
+      if (++_skippedSinceProbe >= _probeInterval)
+      {
+        _skippedSinceProbe = 0;
+        return true;
+      }
+      return false;
+    }
+
+    synchronized void record(double ratio, double nanosPerByte)
+    {
+      if (_samples == 0)
+      {
+        _ratio = ratio;
+        _nanosPerByte = nanosPerByte;
+      }
+      else
+      {
+        _ratio += DECAY * (ratio - _ratio);
+        _nanosPerByte += DECAY * (nanosPerByte - _nanosPerByte);
+      }
+      _samples++;
+    }
+  }
+}
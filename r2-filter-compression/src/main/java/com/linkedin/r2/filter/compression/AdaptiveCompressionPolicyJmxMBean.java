@@ -0,0 +1,47 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.compression;
+
+import java.util.Map;
+
+
+/**
+ * Statistics of an {@link AdaptiveCompressionPolicy}. Per-encoding statistics are keyed by
+ * "encoding/resource/size class", e.g. "gzip/greetings/4KB-64KB".
+ */
+public interface AdaptiveCompressionPolicyJmxMBean
+{
+  /**
+   * @return the number of responses the policy let be compressed.
+   */
+  long getCompressedCount();
+
+  /**
+   * @return the number of responses the policy skipped compressing.
+   */
+  long getSkippedCount();
+
+  /**
+   * @return the moving average of compressed size divided by original size.
+   */
+  Map<String, Double> getCompressionRatios();
+
+  /**
+   * @return the moving average of nanoseconds spent compressing per original byte.
+   */
+  Map<String, Double> getNanosPerByte();
+}
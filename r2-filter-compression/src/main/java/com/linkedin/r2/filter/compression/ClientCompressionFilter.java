@@ -29,6 +29,10 @@ import com.linkedin.r2.message.rest.RestRequestBuilder;
 import com.linkedin.r2.message.rest.RestResponse;
 import com.linkedin.r2.transport.http.common.HttpConstants;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -47,6 +51,7 @@ public class ClientCompressionFilter implements RestFilter
   private static final Logger LOG = LoggerFactory.getLogger(ClientCompressionFilter.class);
 
   private final EncodingType _requestContentEncoding;
+  private final Map<EncodingType, Compressor> _compressors;
   private final CompressionConfig _responseCompressionConfig;
   private final String _acceptEncodingHeader;
   private final ClientCompressionHelper _helper;
@@ -67,6 +72,35 @@ public class ClientCompressionFilter implements RestFilter
                                  EncodingType[] acceptedEncodings,
                                  CompressionConfig responseCompressionConfig,
                                  List<String> responseCompressionOperations)
+  {
+    this(requestContentEncoding,
+        requestCompressionConfig,
+        acceptedEncodings,
+        responseCompressionConfig,
+        responseCompressionOperations,
+        Collections.emptyList());
+  }
+
+  /**
+   * Instantiates a client compression filter.
+   *
+   * @param requestContentEncoding the encoding that should be used to compress requests.
+   * @param requestCompressionConfig config for determining when to compress requests.
+   * @param acceptedEncodings encodings accepted by the client, used to generate Accept-Encoding header.
+   * @param responseCompressionConfig config for determining when to ask the server to compress responses.
+   *                                  This overrides the config in the server.
+   * @param responseCompressionOperations the set of operations for which response compression will be turned on.
+   * @param compressors compressors replacing the default compressor of the encoding they are named after, e.g. to
+   *                    use another compression level, or to provide the dictionary {@link EncodingType#ZSTD_DICTIONARY}
+   *                    requires. Encodings without a compressor are neither used for requests nor accepted for
+   *                    responses.
+   */
+  public ClientCompressionFilter(EncodingType requestContentEncoding,
+                                 CompressionConfig requestCompressionConfig,
+                                 EncodingType[] acceptedEncodings,
+                                 CompressionConfig responseCompressionConfig,
+                                 List<String> responseCompressionOperations,
+                                 Collection<? extends Compressor> compressors)
   {
     if (requestContentEncoding == null)
     {
@@ -97,26 +131,77 @@ public class ClientCompressionFilter implements RestFilter
     }
     // Null response compression config is allowed. This means that the default threshold on the server will be used.
 
+    _compressors = new EnumMap<>(EncodingType.class);
+    for (EncodingType type : EncodingType.values())
+    {
+      if (type.hasCompressor())
+      {
+        _compressors.put(type, type.getCompressor());
+      }
+    }
+    for (Compressor compressor : compressors)
+    {
+      _compressors.put(EncodingType.get(compressor.getContentEncodingName()), compressor);
+    }
+
+    // Encodings such as ZSTD_DICTIONARY may be listed by the server without this client being able to use them
+    if (requestContentEncoding != EncodingType.IDENTITY && !_compressors.containsKey(requestContentEncoding))
+    {
+      LOG.warn(CompressionConstants.NO_COMPRESSOR_ERROR + requestContentEncoding.getHttpName());
+      requestContentEncoding = EncodingType.IDENTITY;
+    }
+    List<EncodingType> usableAcceptedEncodings = new ArrayList<>(acceptedEncodings.length);
+    for (EncodingType type : acceptedEncodings)
+    {
+      if (type == EncodingType.IDENTITY || type == EncodingType.ANY || _compressors.containsKey(type))
+      {
+        usableAcceptedEncodings.add(type);
+      }
+      else
+      {
+        LOG.warn(CompressionConstants.NO_COMPRESSOR_ERROR + type.getHttpName());
+      }
+    }
+
     _requestContentEncoding = requestContentEncoding;
-    _acceptEncodingHeader = buildAcceptEncodingHeader(acceptedEncodings);
+    _acceptEncodingHeader = buildAcceptEncodingHeader(usableAcceptedEncodings.toArray(new EncodingType[0]));
     _responseCompressionConfig = responseCompressionConfig;
     _helper = new ClientCompressionHelper(requestCompressionConfig, responseCompressionOperations);
   }
 
   /**
-   * Same as previous constructor, but with comma delimited strings for requestContentEncoding and acceptedEncodings.
+   * Same as the first constructor, but with comma delimited strings for requestContentEncoding and acceptedEncodings.
    */
   public ClientCompressionFilter(String requestContentEncoding,
                                  CompressionConfig requestCompressionConfig,
                                  String acceptedEncodings,
                                  CompressionConfig responseCompressionConfig,
                                  List<String> responseCompressionOperations)
+  {
+    this(requestContentEncoding,
+        requestCompressionConfig,
+        acceptedEncodings,
+        responseCompressionConfig,
+        responseCompressionOperations,
+        Collections.emptyList());
+  }
+
+  /**
+   * Same as previous constructor, but with comma delimited strings for requestContentEncoding and acceptedEncodings.
+   */
+  public ClientCompressionFilter(String requestContentEncoding,
+                                 CompressionConfig requestCompressionConfig,
+                                 String acceptedEncodings,
+                                 CompressionConfig responseCompressionConfig,
+                                 List<String> responseCompressionOperations,
+                                 Collection<? extends Compressor> compressors)
   {
     this(requestContentEncoding.trim().isEmpty() ? EncodingType.IDENTITY : EncodingType.get(requestContentEncoding.trim().toLowerCase()),
         requestCompressionConfig,
         AcceptEncoding.parseAcceptEncoding(acceptedEncodings),
         responseCompressionConfig,
-        responseCompressionOperations);
+        responseCompressionOperations,
+        compressors);
   }
 
 
@@ -194,13 +279,13 @@ public class ClientCompressionFilter implements RestFilter
   {
     try
     {
-      if (_requestContentEncoding.hasCompressor())
+      Compressor compressor = _compressors.get(_requestContentEncoding);
+      if (compressor != null)
       {
         if (_helper.shouldCompressRequest(req.getEntity().length(),
             (CompressionOption) requestContext.getLocalAttr(R2Constants.REQUEST_COMPRESSION_OVERRIDE)
         ))
         {
-          Compressor compressor = _requestContentEncoding.getCompressor();
           ByteString compressed = compressor.deflate(req.getEntity());
 
           if (compressed.length() < req.getEntity().length())
@@ -256,11 +341,12 @@ public class ClientCompressionFilter implements RestFilter
           {
             throw new CompressionException(CompressionConstants.SERVER_ENCODING_ERROR + compressionHeader);
           }
-          if (!encoding.hasCompressor())
+          Compressor compressor = _compressors.get(encoding);
+          if (compressor == null)
           {
             throw new CompressionException(CompressionConstants.SERVER_ENCODING_ERROR + compressionHeader);
           }
-          ByteString inflated = encoding.getCompressor().inflate(res.getEntity());
+          ByteString inflated = compressor.inflate(res.getEntity());
           Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
           headers.putAll(res.getHeaders());
           headers.remove(HttpConstants.CONTENT_ENCODING);
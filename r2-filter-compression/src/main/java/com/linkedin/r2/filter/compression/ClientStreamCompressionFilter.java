@@ -38,6 +38,10 @@ import com.linkedin.r2.message.stream.entitystream.EntityStream;
 import com.linkedin.r2.message.stream.entitystream.EntityStreams;
 import com.linkedin.r2.transport.http.common.HttpConstants;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 
@@ -67,6 +71,7 @@ public class ClientStreamCompressionFilter implements StreamFilter
   private final ClientCompressionHelper _helper;
 
   private final Executor _executor;
+  private final Map<StreamEncodingType, StreamingCompressor> _compressors;
 
 
   /**
@@ -83,6 +88,35 @@ public class ClientStreamCompressionFilter implements StreamFilter
                                        CompressionConfig responseCompressionConfig,
                                        List<String> responseCompressionOperations,
                                        Executor executor)
+  {
+    this(requestContentEncoding,
+        requestCompressionConfig,
+        acceptedEncodings,
+        responseCompressionConfig,
+        responseCompressionOperations,
+        executor,
+        Collections.emptyList());
+  }
+
+  /**
+   * Instantiates a client compression filter.
+   *
+   * @param requestContentEncoding the encoding that should be used to compress requests.
+   * @param requestCompressionConfig config for determining when to compress requests.
+   * @param acceptedEncodings encodings accepted by the client, used to generate Accept-Encoding header.
+   * @param responseCompressionOperations the set of operations for which response compression will be turned on.
+   * @param compressors compressors replacing the default compressor of the encoding they are named after, e.g. to
+   *                    use another compression level, or to provide the dictionary
+   *                    {@link StreamEncodingType#ZSTD_DICTIONARY} requires. Encodings without a compressor are neither
+   *                    used for requests nor accepted for responses.
+   */
+  public ClientStreamCompressionFilter(StreamEncodingType requestContentEncoding,
+                                       CompressionConfig requestCompressionConfig,
+                                       StreamEncodingType[] acceptedEncodings,
+                                       CompressionConfig responseCompressionConfig,
+                                       List<String> responseCompressionOperations,
+                                       Executor executor,
+                                       Collection<? extends StreamingCompressor> compressors)
   {
     if (requestContentEncoding == null)
     {
@@ -109,18 +143,48 @@ public class ClientStreamCompressionFilter implements StreamFilter
           + requestContentEncoding.getHttpName());
     }
 
+    _executor = executor;
+    _compressors = new EnumMap<>(StreamEncodingType.class);
+    for (StreamingCompressor compressor : compressors)
+    {
+      StreamEncodingType type = StreamEncodingType.get(compressor.getContentEncodingName());
+      if (type == null)
+      {
+        throw new IllegalArgumentException(CompressionConstants.UNSUPPORTED_ENCODING + compressor.getContentEncodingName());
+      }
+      _compressors.put(type, compressor);
+    }
+
+    // Encodings such as ZSTD_DICTIONARY may be listed by the server without this client being able to use them
+    if (getCompressor(requestContentEncoding) == null)
+    {
+      LOG.warn(CompressionConstants.NO_COMPRESSOR_ERROR + requestContentEncoding.getHttpName());
+      requestContentEncoding = StreamEncodingType.IDENTITY;
+    }
+    List<StreamEncodingType> usableAcceptedEncodings = new ArrayList<>(acceptedEncodings.length);
+    for (StreamEncodingType type : acceptedEncodings)
+    {
+      if (type == StreamEncodingType.ANY || getCompressor(type) != null)
+      {
+        usableAcceptedEncodings.add(type);
+      }
+      else
+      {
+        LOG.warn(CompressionConstants.NO_COMPRESSOR_ERROR + type.getHttpName());
+      }
+    }
+
     _requestContentEncoding = requestContentEncoding;
     _requestCompressionConfig = requestCompressionConfig;
-    _acceptedEncodings = acceptedEncodings;
+    _acceptedEncodings = usableAcceptedEncodings.toArray(new StreamEncodingType[0]);
     _responseCompressionConfig = responseCompressionConfig;
 
     _acceptEncodingHeader = buildAcceptEncodingHeader();
     _helper = new ClientCompressionHelper(requestCompressionConfig, responseCompressionOperations);
-    _executor = executor;
   }
 
   /**
-   * Same as previous constructor, but with comma delimited strings for requestContentEncoding and acceptedEncodings.
+   * Same as the first constructor, but with comma delimited strings for requestContentEncoding and acceptedEncodings.
    */
   public ClientStreamCompressionFilter(String requestContentEncoding,
                                        CompressionConfig requestCompressionConfig,
@@ -128,13 +192,34 @@ public class ClientStreamCompressionFilter implements StreamFilter
                                        CompressionConfig responseCompressionConfig,
                                        List<String> responseCompressionOperations,
                                        Executor executor)
+  {
+    this(requestContentEncoding,
+        requestCompressionConfig,
+        acceptedEncodings,
+        responseCompressionConfig,
+        responseCompressionOperations,
+        executor,
+        Collections.emptyList());
+  }
+
+  /**
+   * Same as previous constructor, but with comma delimited strings for requestContentEncoding and acceptedEncodings.
+   */
+  public ClientStreamCompressionFilter(String requestContentEncoding,
+                                       CompressionConfig requestCompressionConfig,
+                                       String acceptedEncodings,
+                                       CompressionConfig responseCompressionConfig,
+                                       List<String> responseCompressionOperations,
+                                       Executor executor,
+                                       Collection<? extends StreamingCompressor> compressors)
   {
     this(requestContentEncoding.trim().isEmpty() ? StreamEncodingType.IDENTITY : StreamEncodingType.get(requestContentEncoding.trim().toLowerCase()),
         requestCompressionConfig,
         AcceptEncoding.parseAcceptEncoding(acceptedEncodings),
         responseCompressionConfig,
         responseCompressionOperations,
-        executor);
+        executor,
+        compressors);
   }
 
   /**
@@ -185,7 +270,7 @@ public class ClientStreamCompressionFilter implements StreamFilter
     if (_requestContentEncoding != StreamEncodingType.IDENTITY)
     {
       final StreamRequest request = req;
-      final StreamingCompressor compressor = _requestContentEncoding.getCompressor(_executor);
+      final StreamingCompressor compressor = getCompressor(_requestContentEncoding);
       CompressionOption option = (CompressionOption) requestContext.getLocalAttr(R2Constants.REQUEST_COMPRESSION_OVERRIDE);
       if (option == null || option != CompressionOption.FORCE_OFF)
       {
@@ -249,7 +334,13 @@ public class ClientStreamCompressionFilter implements StreamFilter
           return;
         }
 
-        final StreamingCompressor compressor = encoding.getCompressor(_executor);
+        final StreamingCompressor compressor = getCompressor(encoding);
+        if (compressor == null)
+        {
+          nextFilter.onError(new IllegalArgumentException(CompressionConstants.SERVER_ENCODING_ERROR +
+              compressionHeader), requestContext, wireAttrs);
+          return;
+        }
         EntityStream uncompressedStream = compressor.inflate(res.getEntityStream());
         StreamResponseBuilder builder = res.builder();
         Map<String, String> headers =
@@ -280,9 +371,9 @@ public class ClientStreamCompressionFilter implements StreamFilter
         if (compressionHeader != null)
         {
           StreamEncodingType encoding = StreamEncodingType.get(compressionHeader.trim().toLowerCase());
-          if (encoding != null)
+          final StreamingCompressor compressor = encoding == null ? null : getCompressor(encoding);
+          if (compressor != null)
           {
-            final StreamingCompressor compressor = encoding.getCompressor(_executor);
             EntityStream uncompressedStream = compressor.inflate(response.getEntityStream());
 
             StreamResponseBuilder builder = response.builder();
@@ -297,6 +388,12 @@ public class ClientStreamCompressionFilter implements StreamFilter
     nextFilter.onError(ex, requestContext, wireAttrs);
   }
 
+  private StreamingCompressor getCompressor(StreamEncodingType encoding)
+  {
+    StreamingCompressor compressor = _compressors.get(encoding);
+    return compressor != null ? compressor : encoding.getCompressor(_executor);
+  }
+
   private Map<String, String> stripHeaders(Map<String, String> headerMap, String...headers)
   {
     Map<String, String> newMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
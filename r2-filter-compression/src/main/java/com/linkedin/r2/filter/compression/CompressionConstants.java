@@ -17,6 +17,8 @@ public class CompressionConstants
   public static final String REQUEST_ANY_ERROR = "ANY may not be used as request encoding type: ";
   public static final String UNKNOWN_ENCODING = "Unknown encoding type: ";
   protected static final String INVALID_THRESHOLD = "Invalid compression threshold: ";
+  public static final String INVALID_LEVEL = "Invalid compression level: ";
+  public static final String NO_COMPRESSOR_ERROR = "No compressor is configured for encoding: ";
 
 
   public static final String ENCODING_DELIMITER = ",";
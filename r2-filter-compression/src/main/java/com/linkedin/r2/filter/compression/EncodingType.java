@@ -31,6 +31,10 @@ public enum EncodingType
   BZIP2(new Bzip2Compressor()),
   SNAPPY(new SnappyCompressor()),
   SNAPPY_FRAMED(new SnappyFramedCompressor()),
+  ZSTD(new ZstdCompressor()),
+  // Requires a ZstdCompressor constructed with the dictionary shared by client and server
+  ZSTD_DICTIONARY(ZstdCompressor.DICTIONARY_HTTP_NAME),
+  LZ4_FRAMED(new Lz4FramedCompressor()),
   IDENTITY("identity"),
   ANY("*");
 
@@ -113,7 +117,7 @@ public enum EncodingType
 
   /**
    * @return if this encoding has a compressor. Generally, speaking, this is false
-   * for ANY (*).
+   * for ANY (*), and for ZSTD_DICTIONARY which needs a compressor configured with a dictionary.
    */
   public boolean hasCompressor()
   {
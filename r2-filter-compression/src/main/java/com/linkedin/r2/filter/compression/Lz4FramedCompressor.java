@@ -0,0 +1,87 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FrameInputStream;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+import net.jpountz.xxhash.XXHashFactory;
+
+
+/**
+ * Compressor for "x-lz4-framed" Encoding, the LZ4 frame format.
+ */
+public class Lz4FramedCompressor extends AbstractCompressor
+{
+  static final String HTTP_NAME = "x-lz4-framed";
+
+  /** Level of the fast compressor, higher levels use the slower high compression compressor. */
+  public static final int DEFAULT_LEVEL = 0;
+  public static final int MAX_LEVEL = 17;
+
+  private final int _level;
+  private final LZ4Compressor _compressor;
+
+  public Lz4FramedCompressor()
+  {
+    this(DEFAULT_LEVEL);
+  }
+
+  /**
+   * @param level compression level, from {@link #DEFAULT_LEVEL} to {@link #MAX_LEVEL}.
+   */
+  public Lz4FramedCompressor(int level)
+  {
+    if (level < DEFAULT_LEVEL || level > MAX_LEVEL)
+    {
+      throw new IllegalArgumentException(CompressionConstants.INVALID_LEVEL + level);
+    }
+    _level = level;
+    _compressor = level == DEFAULT_LEVEL
+        ? LZ4Factory.fastestInstance().fastCompressor()
+        : LZ4Factory.fastestInstance().highCompressor(level);
+  }
+
+  public int getLevel()
+  {
+    return _level;
+  }
+
+  @Override
+  public String getContentEncodingName()
+  {
+    return HTTP_NAME;
+  }
+
+  @Override
+  protected InputStream createInflaterInputStream(InputStream compressedDataStream) throws IOException
+  {
+    return new LZ4FrameInputStream(compressedDataStream);
+  }
+
+  @Override
+  protected OutputStream createDeflaterOutputStream(OutputStream decompressedDataStream) throws IOException
+  {
+    // The default 4MB blocks would allocate far more than most messages need
+    return new LZ4FrameOutputStream(decompressedDataStream, LZ4FrameOutputStream.BLOCKSIZE.SIZE_64KB, -1L, _compressor,
+        XXHashFactory.fastestInstance().hash32(), LZ4FrameOutputStream.FLG.Bits.BLOCK_INDEPENDENCE);
+  }
+}
@@ -18,6 +18,9 @@ package com.linkedin.r2.filter.compression;
 
 import com.linkedin.data.ByteString;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -31,10 +34,15 @@ import com.linkedin.r2.filter.CompressionConfig;
 import com.linkedin.r2.filter.NextFilter;
 import com.linkedin.r2.filter.message.rest.RestFilter;
 import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.RequestContextKey;
 import com.linkedin.r2.message.rest.RestException;
 import com.linkedin.r2.message.rest.RestRequest;
 import com.linkedin.r2.message.rest.RestResponse;
 import com.linkedin.r2.message.rest.RestResponseBuilder;
+import com.linkedin.r2.message.timing.TimingContextUtil;
+import com.linkedin.r2.message.timing.TimingImportance;
+import com.linkedin.r2.message.timing.TimingKey;
+import com.linkedin.r2.message.timing.TimingNameConstants;
 import com.linkedin.r2.transport.http.common.HttpConstants;
 
 /**
@@ -47,9 +55,15 @@ import com.linkedin.r2.transport.http.common.HttpConstants;
 public class ServerCompressionFilter implements RestFilter
 {
   private static final Logger LOG = LoggerFactory.getLogger(ServerCompressionFilter.class);
+  private static final TimingKey TIMING_KEY =
+      TimingKey.registerNewKey(TimingNameConstants.RESPONSE_COMPRESSION, TimingImportance.LOW);
+  private static final RequestContextKey<String> RESOURCE_KEY =
+      RequestContextKey.register(ServerCompressionFilter.class.getName() + ".resource");
 
   private final Set<EncodingType> _supportedEncoding;
+  private final Map<EncodingType, Compressor> _compressors;
   private final ServerCompressionHelper _serverCompressionHelper;
+  private final AdaptiveCompressionPolicy _adaptiveCompressionPolicy;
 
   private static final String EMPTY = "";
 
@@ -81,15 +95,81 @@ public class ServerCompressionFilter implements RestFilter
    * @param supportedEncoding
    */
   public ServerCompressionFilter(EncodingType[] supportedEncoding, CompressionConfig defaultResponseCompressionConfig)
+  {
+    this(supportedEncoding, defaultResponseCompressionConfig, Collections.emptyList());
+  }
+
+  /**
+   * Same as previous constructor, but with comma delimited string for supported encodings.
+   */
+  public ServerCompressionFilter(String acceptedFilters, CompressionConfig responseCompressionConfig,
+      Collection<? extends Compressor> compressors)
+  {
+    this(AcceptEncoding.parseAcceptEncoding(acceptedFilters), responseCompressionConfig, compressors);
+  }
+
+  /** Instantiates a compression filter
+   * that supports the compression methods in the given set in argument.
+   * @param supportedEncoding
+   * @param compressors compressors replacing the default compressor of the encoding they are named after, e.g. to
+   *                    use another compression level, or to provide the dictionary {@link EncodingType#ZSTD_DICTIONARY}
+   *                    requires.
+   */
+  public ServerCompressionFilter(EncodingType[] supportedEncoding, CompressionConfig defaultResponseCompressionConfig,
+      Collection<? extends Compressor> compressors)
+  {
+    this(supportedEncoding, defaultResponseCompressionConfig, compressors, null);
+  }
+
+  /**
+   * Same as previous constructor, but with comma delimited string for supported encodings.
+   */
+  public ServerCompressionFilter(String acceptedFilters, CompressionConfig responseCompressionConfig,
+      Collection<? extends Compressor> compressors, AdaptiveCompressionPolicy adaptiveCompressionPolicy)
+  {
+    this(AcceptEncoding.parseAcceptEncoding(acceptedFilters), responseCompressionConfig, compressors,
+        adaptiveCompressionPolicy);
+  }
+
+  /** Instantiates a compression filter
+   * that supports the compression methods in the given set in argument.
+   * @param supportedEncoding
+   * @param compressors compressors replacing the default compressor of the encoding they are named after.
+   * @param adaptiveCompressionPolicy policy deciding whether responses above the compression threshold are worth
+   *                                  compressing, or null to compress all of them.
+   */
+  public ServerCompressionFilter(EncodingType[] supportedEncoding, CompressionConfig defaultResponseCompressionConfig,
+      Collection<? extends Compressor> compressors, AdaptiveCompressionPolicy adaptiveCompressionPolicy)
   {
     if (defaultResponseCompressionConfig == null)
     {
       throw new IllegalArgumentException(CompressionConstants.NULL_CONFIG_ERROR);
     }
+    _compressors = new EnumMap<>(EncodingType.class);
+    for (EncodingType type : EncodingType.values())
+    {
+      if (type.hasCompressor())
+      {
+        _compressors.put(type, type.getCompressor());
+      }
+    }
+    for (Compressor compressor : compressors)
+    {
+      _compressors.put(EncodingType.get(compressor.getContentEncodingName()), compressor);
+    }
+
     _supportedEncoding = new HashSet<>(Arrays.asList(supportedEncoding));
+    for (EncodingType type : _supportedEncoding)
+    {
+      if (type != EncodingType.IDENTITY && type != EncodingType.ANY && !_compressors.containsKey(type))
+      {
+        throw new IllegalArgumentException(CompressionConstants.NO_COMPRESSOR_ERROR + type.getHttpName());
+      }
+    }
     _supportedEncoding.add(EncodingType.IDENTITY);
     _supportedEncoding.add(EncodingType.ANY);
     _serverCompressionHelper = new ServerCompressionHelper(defaultResponseCompressionConfig);
+    _adaptiveCompressionPolicy = adaptiveCompressionPolicy;
   }
 
   /**
@@ -125,14 +205,20 @@ public class ServerCompressionFilter implements RestFilter
         }
 
         //Process the correct compression types only
-        if (encoding.hasCompressor())
+        Compressor compressor = _compressors.get(encoding);
+        if (compressor != null)
         {
-          ByteString decompressedContent = encoding.getCompressor().inflate(req.getEntity());
+          ByteString decompressedContent = compressor.inflate(req.getEntity());
           Map<String, String> headers = new HashMap<>(req.getHeaders());
           headers.remove(HttpConstants.CONTENT_ENCODING);
           headers.put(HttpConstants.CONTENT_LENGTH, Integer.toString(decompressedContent.length()));
           req = req.builder().setEntity(decompressedContent).setHeaders(headers).build();
         }
+        else if (encoding != EncodingType.IDENTITY)
+        {
+          throw new CompressionException(CompressionConstants.UNSUPPORTED_ENCODING
+              + requestContentEncoding);
+        }
       }
 
       //Get client support for compression and flag compress if need be
@@ -141,12 +227,16 @@ public class ServerCompressionFilter implements RestFilter
       {
         responseAcceptedEncodings = EMPTY; //Only permit identity
       }
-      requestContext.putLocalAttr(HttpConstants.ACCEPT_ENCODING, responseAcceptedEncodings);
+      requestContext.putLocalAttr(ServerCompressionHelper.ACCEPT_ENCODING_KEY, responseAcceptedEncodings);
 
       if (!responseAcceptedEncodings.isEmpty())
       {
-        requestContext.putLocalAttr(HttpConstants.HEADER_RESPONSE_COMPRESSION_THRESHOLD,
+        requestContext.putLocalAttr(ServerCompressionHelper.RESPONSE_COMPRESSION_THRESHOLD_KEY,
             _serverCompressionHelper.getResponseCompressionThreshold(req));
+        if (_adaptiveCompressionPolicy != null)
+        {
+          requestContext.putLocalAttr(RESOURCE_KEY, AdaptiveCompressionPolicy.getResource(req.getURI()));
+        }
       }
       nextFilter.onRequest(req, requestContext, wireAttrs);
     }
@@ -171,7 +261,7 @@ public class ServerCompressionFilter implements RestFilter
     {
       if (res.getEntity().length() > 0)
       {
-        String responseAcceptedEncodings = (String) requestContext.getLocalAttr(HttpConstants.ACCEPT_ENCODING);
+        String responseAcceptedEncodings = requestContext.getLocalAttr(ServerCompressionHelper.ACCEPT_ENCODING_KEY);
         if (responseAcceptedEncodings == null)
         {
           throw new CompressionException(HttpConstants.ACCEPT_ENCODING + " not in local attribute.");
@@ -183,11 +273,23 @@ public class ServerCompressionFilter implements RestFilter
         //Check if there exists an acceptable encoding
         if (selectedEncoding != null)
         {
-          if (selectedEncoding.hasCompressor() &&
-              res.getEntity().length() > (Integer) requestContext.getLocalAttr(HttpConstants.HEADER_RESPONSE_COMPRESSION_THRESHOLD))
+          Compressor compressor = _compressors.get(selectedEncoding);
+          int length = res.getEntity().length();
+          String resource = requestContext.getLocalAttr(RESOURCE_KEY);
+          if (compressor != null &&
+              length > requestContext.getLocalAttr(ServerCompressionHelper.RESPONSE_COMPRESSION_THRESHOLD_KEY) &&
+              (_adaptiveCompressionPolicy == null ||
+                  _adaptiveCompressionPolicy.shouldCompress(compressor.getContentEncodingName(), resource, length)))
           {
-            Compressor compressor = selectedEncoding.getCompressor();
+            long startTime = System.nanoTime();
             ByteString compressed = compressor.deflate(res.getEntity());
+            long duration = System.nanoTime() - startTime;
+            TimingContextUtil.markTiming(requestContext, TIMING_KEY, duration);
+            if (_adaptiveCompressionPolicy != null)
+            {
+              _adaptiveCompressionPolicy.recordCompression(compressor.getContentEncodingName(), resource, length,
+                  compressed.length(), duration);
+            }
 
             if (compressed.length() < res.getEntity().length())
             {
@@ -18,6 +18,7 @@ package com.linkedin.r2.filter.compression;
 
 import com.linkedin.r2.filter.CompressionConfig;
 import com.linkedin.r2.message.MessageHeaders;
+import com.linkedin.r2.message.RequestContextKey;
 import com.linkedin.r2.transport.http.common.HttpConstants;
 
 
@@ -26,6 +27,11 @@ import com.linkedin.r2.transport.http.common.HttpConstants;
  */
 public final class ServerCompressionHelper
 {
+  // Accept-Encoding of the request and response compression threshold, set on the request and read on the response
+  static final RequestContextKey<String> ACCEPT_ENCODING_KEY = RequestContextKey.register(HttpConstants.ACCEPT_ENCODING);
+  static final RequestContextKey<Integer> RESPONSE_COMPRESSION_THRESHOLD_KEY =
+      RequestContextKey.register(HttpConstants.HEADER_RESPONSE_COMPRESSION_THRESHOLD);
+
   private final CompressionConfig _defaultResponseCompressionConfig;
 
   public ServerCompressionHelper(int defaultThreshold)
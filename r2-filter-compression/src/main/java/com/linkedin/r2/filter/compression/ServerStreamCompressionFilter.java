@@ -30,6 +30,9 @@ import com.linkedin.r2.message.stream.StreamResponseBuilder;
 import com.linkedin.r2.message.stream.entitystream.EntityStream;
 import com.linkedin.r2.message.stream.entitystream.EntityStreams;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -56,6 +59,7 @@ public class ServerStreamCompressionFilter implements StreamFilter
 
   private final Set<StreamEncodingType> _supportedEncoding;
   private final Executor _executor;
+  private final Map<StreamEncodingType, StreamingCompressor> _compressors;
   private final ServerCompressionHelper _serverCompressionHelper;
 
 
@@ -80,10 +84,50 @@ public class ServerStreamCompressionFilter implements StreamFilter
    */
   public ServerStreamCompressionFilter(StreamEncodingType[] supportedEncoding, Executor executor, int compressThreshold)
   {
+    this(supportedEncoding, executor, compressThreshold, Collections.emptyList());
+  }
+
+  /**
+   * Same as previous constructor, but with comma delimited string for supported encodings.
+   */
+  public ServerStreamCompressionFilter(String acceptedFilters, Executor executor, int compressThreshold,
+      Collection<? extends StreamingCompressor> compressors)
+  {
+    this(AcceptEncoding.parseAcceptEncoding(acceptedFilters), executor, compressThreshold, compressors);
+  }
+
+  /** Instantiates a compression filter
+   * that supports the compression methods in the given set in argument.
+   * @param supportedEncoding
+   * @param compressors compressors replacing the default compressor of the encoding they are named after, e.g. to
+   *                    use another compression level, or to provide the dictionary
+   *                    {@link StreamEncodingType#ZSTD_DICTIONARY} requires.
+   */
+  public ServerStreamCompressionFilter(StreamEncodingType[] supportedEncoding, Executor executor, int compressThreshold,
+      Collection<? extends StreamingCompressor> compressors)
+  {
+    _executor = executor;
+    _compressors = new EnumMap<>(StreamEncodingType.class);
+    for (StreamingCompressor compressor : compressors)
+    {
+      StreamEncodingType type = StreamEncodingType.get(compressor.getContentEncodingName());
+      if (type == null)
+      {
+        throw new IllegalArgumentException(CompressionConstants.UNSUPPORTED_ENCODING + compressor.getContentEncodingName());
+      }
+      _compressors.put(type, compressor);
+    }
+
     _supportedEncoding = new HashSet<>(Arrays.asList(supportedEncoding));
+    for (StreamEncodingType type : _supportedEncoding)
+    {
+      if (type != StreamEncodingType.ANY && getCompressor(type) == null)
+      {
+        throw new IllegalArgumentException(CompressionConstants.NO_COMPRESSOR_ERROR + type.getHttpName());
+      }
+    }
     _supportedEncoding.add(StreamEncodingType.IDENTITY);
     _supportedEncoding.add(StreamEncodingType.ANY);
-    _executor = executor;
     _serverCompressionHelper = new ServerCompressionHelper(compressThreshold);
   }
 
@@ -107,7 +151,7 @@ public class ServerStreamCompressionFilter implements StreamFilter
           throw new CompressionException(CompressionConstants.UNSUPPORTED_ENCODING + requestContentEncoding);
         }
         //Process the correct content-encoding types only
-        StreamingCompressor compressor = encoding.getCompressor(_executor);
+        StreamingCompressor compressor = getCompressor(encoding);
         if (compressor == null)
         {
           throw new CompressionException(CompressionConstants.UNKNOWN_ENCODING + encoding);
@@ -127,11 +171,11 @@ public class ServerStreamCompressionFilter implements StreamFilter
       }
       if (!responseCompression.equalsIgnoreCase(StreamEncodingType.IDENTITY.getHttpName()))
       {
-        requestContext.putLocalAttr(HttpConstants.HEADER_RESPONSE_COMPRESSION_THRESHOLD,
+        requestContext.putLocalAttr(ServerCompressionHelper.RESPONSE_COMPRESSION_THRESHOLD_KEY,
             _serverCompressionHelper.getResponseCompressionThreshold(req));
       }
 
-      requestContext.putLocalAttr(HttpConstants.ACCEPT_ENCODING, responseCompression);
+      requestContext.putLocalAttr(ServerCompressionHelper.ACCEPT_ENCODING_KEY, responseCompression);
       nextFilter.onRequest(req, requestContext, wireAttrs);
     }
     catch (CompressionException ex)
@@ -152,7 +196,7 @@ public class ServerStreamCompressionFilter implements StreamFilter
     StreamResponse response = res;
     try
     {
-      String responseCompression = (String) requestContext.getLocalAttr(HttpConstants.ACCEPT_ENCODING);
+      String responseCompression = requestContext.getLocalAttr(ServerCompressionHelper.ACCEPT_ENCODING_KEY);
       if (responseCompression == null)
       {
         throw new CompressionException(HttpConstants.ACCEPT_ENCODING + " not in local attribute.");
@@ -169,8 +213,8 @@ public class ServerStreamCompressionFilter implements StreamFilter
       }
       else if (selectedEncoding != StreamEncodingType.IDENTITY)
       {
-        final int threshold = (Integer) requestContext.getLocalAttr(HttpConstants.HEADER_RESPONSE_COMPRESSION_THRESHOLD);
-        final StreamingCompressor compressor = selectedEncoding.getCompressor(_executor);
+        final int threshold = requestContext.getLocalAttr(ServerCompressionHelper.RESPONSE_COMPRESSION_THRESHOLD_KEY);
+        final StreamingCompressor compressor = getCompressor(selectedEncoding);
         PartialReader reader = new PartialReader(threshold, new Callback<EntityStream[]>()
         {
           @Override
@@ -223,6 +267,12 @@ public class ServerStreamCompressionFilter implements StreamFilter
     nextFilter.onError(ex, requestContext, wireAttrs);
   }
 
+  private StreamingCompressor getCompressor(StreamEncodingType encoding)
+  {
+    StreamingCompressor compressor = _compressors.get(encoding);
+    return compressor != null ? compressor : encoding.getCompressor(_executor);
+  }
+
   private Map<String, String> stripHeaders(Map<String, String> headerMap, String...headers)
   {
     Map<String, String> newMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
@@ -0,0 +1,140 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.compression;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Compressor for "zstd" Encoding, and for "x-zstd-dict" Encoding when constructed with a dictionary.
+ *
+ * Dictionary compression makes small payloads, such as most Rest.li responses, compress considerably better, but
+ * requires both sides to be configured with the same dictionary. It therefore uses its own content encoding so that it
+ * is only negotiated with peers that have one. Frames carry the ID of their dictionary, so a peer configured with a
+ * different dictionary fails to decode rather than producing corrupt data.
+ */
+public class ZstdCompressor extends AbstractCompressor
+{
+  static final String HTTP_NAME = "zstd";
+  static final String DICTIONARY_HTTP_NAME = "x-zstd-dict";
+
+  /** Same as the default level of the zstd library, a good balance between speed and ratio. */
+  public static final int DEFAULT_LEVEL = 3;
+  public static final int MAX_LEVEL = 22;
+
+  private final int _level;
+  private final ZstdDictCompress _compressDictionary;
+  private final ZstdDictDecompress _decompressDictionary;
+
+  public ZstdCompressor()
+  {
+    this(DEFAULT_LEVEL);
+  }
+
+  /**
+   * @param level compression level, up to {@link #MAX_LEVEL}. Negative levels trade ratio for even faster compression.
+   */
+  public ZstdCompressor(int level)
+  {
+    this(level, null);
+  }
+
+  /**
+   * @param level compression level, up to {@link #MAX_LEVEL}. Negative levels trade ratio for even faster compression.
+   * @param dictionary dictionary, e.g. trained with {@link #trainDictionary(List, int)}, or null for none.
+   */
+  public ZstdCompressor(int level, byte[] dictionary)
+  {
+    if (level > MAX_LEVEL)
+    {
+      throw new IllegalArgumentException(CompressionConstants.INVALID_LEVEL + level);
+    }
+    _level = level;
+    if (dictionary == null)
+    {
+      _compressDictionary = null;
+      _decompressDictionary = null;
+    }
+    else
+    {
+      // Digest the dictionary once, instead of once per message
+      _compressDictionary = new ZstdDictCompress(dictionary, level);
+      _decompressDictionary = new ZstdDictDecompress(dictionary);
+    }
+  }
+
+  /**
+   * Trains a dictionary from sample payloads, which should be representative of the messages to compress.
+   *
+   * @param samples sample payloads, typically a few thousand.
+   * @param dictionarySize maximum size of the dictionary in bytes, typically around 100KB.
+   * @return the trained dictionary.
+   * @throws CompressionException if the samples are not sufficient to train a dictionary.
+   */
+  public static byte[] trainDictionary(List<byte[]> samples, int dictionarySize) throws CompressionException
+  {
+    byte[] dictionary = new byte[dictionarySize];
+    long size = Zstd.trainFromBuffer(samples.toArray(new byte[samples.size()][]), dictionary);
+    if (Zstd.isError(size))
+    {
+      throw new CompressionException("Cannot train zstd dictionary: " + Zstd.getErrorName(size));
+    }
+    return Arrays.copyOf(dictionary, (int) size);
+  }
+
+  public int getLevel()
+  {
+    return _level;
+  }
+
+  @Override
+  public String getContentEncodingName()
+  {
+    return _compressDictionary == null ? HTTP_NAME : DICTIONARY_HTTP_NAME;
+  }
+
+  @Override
+  protected InputStream createInflaterInputStream(InputStream compressedDataStream) throws IOException
+  {
+    ZstdInputStream in = new ZstdInputStream(compressedDataStream);
+    if (_decompressDictionary != null)
+    {
+      in.setDict(_decompressDictionary);
+    }
+    return in;
+  }
+
+  @Override
+  protected OutputStream createDeflaterOutputStream(OutputStream decompressedDataStream) throws IOException
+  {
+    ZstdOutputStream out = new ZstdOutputStream(decompressedDataStream, _level);
+    if (_compressDictionary != null)
+    {
+      out.setDict(_compressDictionary);
+    }
+    return out;
+  }
+}
@@ -0,0 +1,97 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.compression.streaming;
+
+import com.linkedin.r2.filter.compression.CompressionConstants;
+import com.linkedin.r2.filter.compression.Lz4FramedCompressor;
+import com.linkedin.r2.message.stream.entitystream.EntityStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.Executor;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FrameInputStream;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+import net.jpountz.xxhash.XXHashFactory;
+
+
+/**
+ * Streaming compressor for "x-lz4-framed" Encoding, the LZ4 frame format.
+ *
+ * @see Lz4FramedCompressor
+ */
+public class Lz4Compressor extends AbstractCompressor
+{
+  private final Executor _executor;
+  private final LZ4Compressor _compressor;
+
+  public Lz4Compressor(Executor executor)
+  {
+    this(executor, Lz4FramedCompressor.DEFAULT_LEVEL);
+  }
+
+  /**
+   * @param executor executor to decompress on.
+   * @param level compression level, from {@link Lz4FramedCompressor#DEFAULT_LEVEL} to
+   *              {@link Lz4FramedCompressor#MAX_LEVEL}.
+   */
+  public Lz4Compressor(Executor executor, int level)
+  {
+    if (level < Lz4FramedCompressor.DEFAULT_LEVEL || level > Lz4FramedCompressor.MAX_LEVEL)
+    {
+      throw new IllegalArgumentException(CompressionConstants.INVALID_LEVEL + level);
+    }
+    _executor = executor;
+    _compressor = level == Lz4FramedCompressor.DEFAULT_LEVEL
+        ? LZ4Factory.fastestInstance().fastCompressor()
+        : LZ4Factory.fastestInstance().highCompressor(level);
+  }
+
+  @Override
+  public String getContentEncodingName()
+  {
+    return StreamEncodingType.LZ4_FRAMED.getHttpName();
+  }
+
+  @Override
+  protected StreamingInflater createInflater(EntityStream underlying)
+  {
+    return new StreamingInflater(underlying, _executor)
+    {
+      @Override
+      protected InputStream createInputStream(InputStream in) throws IOException
+      {
+        return new LZ4FrameInputStream(in);
+      }
+    };
+  }
+
+  @Override
+  protected StreamingDeflater createDeflater(EntityStream underlying)
+  {
+    return new StreamingDeflater(underlying)
+    {
+      @Override
+      protected OutputStream createOutputStream(OutputStream out) throws IOException
+      {
+        return new LZ4FrameOutputStream(out, LZ4FrameOutputStream.BLOCKSIZE.SIZE_64KB, -1L, _compressor,
+            XXHashFactory.fastestInstance().hash32(), LZ4FrameOutputStream.FLG.Bits.BLOCK_INDEPENDENCE);
+      }
+    };
+  }
+}
@@ -31,6 +31,10 @@ public enum StreamEncodingType
   DEFLATE("deflate"),
   SNAPPY_FRAMED("x-snappy-framed"),
   BZIP2("bzip2"),
+  ZSTD("zstd"),
+  // Requires a ZstdCompressor constructed with the dictionary shared by client and server
+  ZSTD_DICTIONARY("x-zstd-dict"),
+  LZ4_FRAMED("x-lz4-framed"),
   IDENTITY("identity"),
   ANY("*");
 
@@ -58,6 +62,11 @@ public enum StreamEncodingType
     return _httpName;
   }
 
+  /**
+   * @param executor executor to decompress on.
+   * @return a new compressor for this encoding, or null for ANY, and for ZSTD_DICTIONARY which needs a compressor
+   * configured with a dictionary.
+   */
   public StreamingCompressor getCompressor(Executor executor)
   {
     switch (this)
@@ -70,6 +79,10 @@ public enum StreamEncodingType
         return new Bzip2Compressor(executor);
       case SNAPPY_FRAMED:
         return new SnappyCompressor(executor);
+      case ZSTD:
+        return new ZstdCompressor(executor);
+      case LZ4_FRAMED:
+        return new Lz4Compressor(executor);
       case IDENTITY:
         return new NoopCompressor();
       default:
@@ -0,0 +1,116 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.compression.streaming;
+
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+import com.linkedin.r2.filter.compression.CompressionConstants;
+import com.linkedin.r2.message.stream.entitystream.EntityStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.Executor;
+
+
+/**
+ * Streaming compressor for "zstd" Encoding, and for "x-zstd-dict" Encoding when constructed with a dictionary.
+ *
+ * @see com.linkedin.r2.filter.compression.ZstdCompressor
+ */
+public class ZstdCompressor extends AbstractCompressor
+{
+  private final Executor _executor;
+  private final int _level;
+  private final ZstdDictCompress _compressDictionary;
+  private final ZstdDictDecompress _decompressDictionary;
+
+  public ZstdCompressor(Executor executor)
+  {
+    this(executor, com.linkedin.r2.filter.compression.ZstdCompressor.DEFAULT_LEVEL, null);
+  }
+
+  /**
+   * @param executor executor to decompress on.
+   * @param level compression level, up to {@link com.linkedin.r2.filter.compression.ZstdCompressor#MAX_LEVEL}.
+   * @param dictionary dictionary shared with the peer, or null for none.
+   */
+  public ZstdCompressor(Executor executor, int level, byte[] dictionary)
+  {
+    if (level > com.linkedin.r2.filter.compression.ZstdCompressor.MAX_LEVEL)
+    {
+      throw new IllegalArgumentException(CompressionConstants.INVALID_LEVEL + level);
+    }
+    _executor = executor;
+    _level = level;
+    if (dictionary == null)
+    {
+      _compressDictionary = null;
+      _decompressDictionary = null;
+    }
+    else
+    {
+      _compressDictionary = new ZstdDictCompress(dictionary, level);
+      _decompressDictionary = new ZstdDictDecompress(dictionary);
+    }
+  }
+
+  @Override
+  public String getContentEncodingName()
+  {
+    return _compressDictionary == null
+        ? StreamEncodingType.ZSTD.getHttpName()
+        : StreamEncodingType.ZSTD_DICTIONARY.getHttpName();
+  }
+
+  @Override
+  protected StreamingInflater createInflater(EntityStream underlying)
+  {
+    return new StreamingInflater(underlying, _executor)
+    {
+      @Override
+      protected InputStream createInputStream(InputStream in) throws IOException
+      {
+        ZstdInputStream zstdIn = new ZstdInputStream(in);
+        if (_decompressDictionary != null)
+        {
+          zstdIn.setDict(_decompressDictionary);
+        }
+        return zstdIn;
+      }
+    };
+  }
+
+  @Override
+  protected StreamingDeflater createDeflater(EntityStream underlying)
+  {
+    return new StreamingDeflater(underlying)
+    {
+      @Override
+      protected OutputStream createOutputStream(OutputStream out) throws IOException
+      {
+        ZstdOutputStream zstdOut = new ZstdOutputStream(out, _level);
+        if (_compressDictionary != null)
+        {
+          zstdOut.setDict(_compressDictionary);
+        }
+        return zstdOut;
+      }
+    };
+  }
+}
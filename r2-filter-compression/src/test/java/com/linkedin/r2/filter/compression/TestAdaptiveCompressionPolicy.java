@@ -0,0 +1,166 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.filter.compression;
+
+import com.linkedin.r2.filter.CompressionConfig;
+import com.linkedin.r2.filter.NextFilter;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.rest.RestRequest;
+import com.linkedin.r2.message.rest.RestRequestBuilder;
+import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.message.rest.RestResponseBuilder;
+import com.linkedin.r2.transport.http.common.HttpConstants;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+/**
+ * Tests for {@link AdaptiveCompressionPolicy}.
+ */
+public class TestAdaptiveCompressionPolicy
+{
+  @Test
+  public void testSkipsPoorlyCompressingResponses()
+  {
+    AdaptiveCompressionPolicy policy = new AdaptiveCompressionPolicy(0.05, Double.MAX_VALUE, 2, 3);
+    for (int i = 0; i < 2; i++)
+    {
+      Assert.assertTrue(policy.shouldCompress("gzip", "images", 1000));
+      policy.recordCompression("gzip", "images", 1000, 990, 1000);
+    }
+
+    // One in every probe interval is still compressed
+    Assert.assertFalse(policy.shouldCompress("gzip", "images", 1000));
+    Assert.assertFalse(policy.shouldCompress("gzip", "images", 1000));
+    Assert.assertTrue(policy.shouldCompress("gzip", "images", 1000));
+    Assert.assertEquals(policy.getSkippedCount(), 2);
+    Assert.assertEquals(policy.getCompressedCount(), 3);
+
+    // Statistics are kept per encoding, resource and size class
+    Assert.assertTrue(policy.shouldCompress("zstd", "images", 1000));
+    Assert.assertTrue(policy.shouldCompress("gzip", "greetings", 1000));
+    Assert.assertTrue(policy.shouldCompress("gzip", "images", 100000));
+
+    Assert.assertEquals(policy.getCompressionRatios(), Collections.singletonMap("gzip/images/0-4KB", 0.99));
+    Assert.assertEquals(policy.getNanosPerByte(), Collections.singletonMap("gzip/images/0-4KB", 1.0));
+  }
+
+  @Test
+  public void testRecoversWhenResponsesCompressBetter()
+  {
+    AdaptiveCompressionPolicy policy = new AdaptiveCompressionPolicy(0.05, Double.MAX_VALUE, 1, 1);
+    policy.recordCompression("gzip", "greetings", 1000, 1000, 1000);
+    for (int i = 0; i < 50; i++)
+    {
+      Assert.assertTrue(policy.shouldCompress("gzip", "greetings", 1000));
+      policy.recordCompression("gzip", "greetings", 1000, 100, 1000);
+    }
+    Assert.assertTrue(policy.getCompressionRatios().get("gzip/greetings/0-4KB") < 0.95);
+  }
+
+  @Test
+  public void testSkipsExpensiveCompression()
+  {
+    AdaptiveCompressionPolicy policy = new AdaptiveCompressionPolicy(0.05, 10, 1, Integer.MAX_VALUE);
+    policy.recordCompression("bzip2", "greetings", 1000, 500, 100000);
+    Assert.assertFalse(policy.shouldCompress("bzip2", "greetings", 1000));
+
+    policy.recordCompression("gzip", "greetings", 1000, 500, 1000);
+    Assert.assertTrue(policy.shouldCompress("gzip", "greetings", 1000));
+  }
+
+  @Test
+  public void testTrackedResourcesAreBounded()
+  {
+    AdaptiveCompressionPolicy policy = new AdaptiveCompressionPolicy();
+    for (int i = 0; i < AdaptiveCompressionPolicy.MAX_TRACKED_RESOURCES * 2; i++)
+    {
+      policy.recordCompression("gzip", "resource" + i, 1000, 500, 1000);
+    }
+    Assert.assertEquals(policy.getCompressionRatios().size(), AdaptiveCompressionPolicy.MAX_TRACKED_RESOURCES + 1);
+    Assert.assertTrue(policy.getCompressionRatios().containsKey("gzip/" + AdaptiveCompressionPolicy.OTHER_RESOURCE + "/0-4KB"));
+  }
+
+  @Test
+  public void testGetResource()
+  {
+    Assert.assertEquals(AdaptiveCompressionPolicy.getResource(URI.create("http://localhost/greetings/1?fields=id")), "greetings");
+    Assert.assertEquals(AdaptiveCompressionPolicy.getResource(URI.create("/greetings")), "greetings");
+    Assert.assertEquals(AdaptiveCompressionPolicy.getResource(URI.create("greetings/1/subs")), "greetings");
+  }
+
+  @Test
+  public void testServerFilterSkipsIncompressibleResponses()
+  {
+    AdaptiveCompressionPolicy policy = new AdaptiveCompressionPolicy(0.05, Double.MAX_VALUE, 5, Integer.MAX_VALUE);
+    ServerCompressionFilter filter = new ServerCompressionFilter("gzip", new CompressionConfig(0),
+        Collections.<Compressor>emptyList(), policy);
+
+    byte[] entity = new byte[1000];
+    new Random(1).nextBytes(entity);
+    byte[] compressibleEntity = new byte[1000];
+    Arrays.fill(compressibleEntity, (byte) 'A');
+
+    for (int i = 0; i < 5; i++)
+    {
+      Assert.assertNull(compressResponse(filter, "/images/" + i, entity));
+    }
+    Assert.assertEquals(policy.getCompressedCount(), 5);
+    Assert.assertNull(compressResponse(filter, "/images/5", entity));
+    Assert.assertEquals(policy.getSkippedCount(), 1);
+
+    Assert.assertEquals(compressResponse(filter, "/greetings/1", compressibleEntity), "gzip");
+    Assert.assertEquals(policy.getCompressedCount(), 6);
+  }
+
+  private static String compressResponse(ServerCompressionFilter filter, String path, byte[] entity)
+  {
+    RestRequest request = new RestRequestBuilder(URI.create(path)).setHeader(HttpConstants.ACCEPT_ENCODING, "gzip").build();
+    RequestContext context = new RequestContext();
+    AtomicReference<String> contentEncoding = new AtomicReference<>();
+    NextFilter<RestRequest, RestResponse> nextFilter = new NextFilter<RestRequest, RestResponse>()
+    {
+      @Override
+      public void onRequest(RestRequest restRequest, RequestContext requestContext, Map<String, String> wireAttrs)
+      {
+      }
+
+      @Override
+      public void onResponse(RestResponse restResponse, RequestContext requestContext, Map<String, String> wireAttrs)
+      {
+        contentEncoding.set(restResponse.getHeader(HttpConstants.CONTENT_ENCODING));
+      }
+
+      @Override
+      public void onError(Throwable ex, RequestContext requestContext, Map<String, String> wireAttrs)
+      {
+        Assert.fail("Unexpected error", ex);
+      }
+    };
+
+    filter.onRestRequest(request, context, Collections.<String, String>emptyMap(), nextFilter);
+    filter.onRestResponse(new RestResponseBuilder().setEntity(entity).build(), context,
+        Collections.<String, String>emptyMap(), nextFilter);
+    return contentEncoding.get();
+  }
+}
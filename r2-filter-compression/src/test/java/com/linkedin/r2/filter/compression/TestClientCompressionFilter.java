@@ -258,4 +258,41 @@ public class TestClientCompressionFilter
   {
     Assert.assertEquals(ClientCompressionFilter.buildAcceptEncodingHeader(encoding), acceptEncoding);
   }
+
+  @Test
+  public void testEncodingsWithoutCompressorAreNotUsed() throws URISyntaxException
+  {
+    ClientCompressionFilter clientCompressionFilter = new ClientCompressionFilter(EncodingType.ZSTD_DICTIONARY.getHttpName(),
+                                                                                  new CompressionConfig(0),
+                                                                                  "x-zstd-dict, zstd, x-lz4-framed",
+                                                                                  new CompressionConfig(0),
+                                                                                  Arrays.asList(ClientCompressionHelper.COMPRESS_ALL_RESPONSES_INDICATOR));
+    byte[] entity = new byte[100];
+    Arrays.fill(entity, (byte) 'A');
+    RestRequest restRequest = new RestRequestBuilder(new URI(URI)).setMethod(RestMethod.POST).setEntity(entity).build();
+    clientCompressionFilter.onRestRequest(restRequest, new RequestContext(), Collections.<String, String>emptyMap(),
+                                          new HeaderCaptureFilter(HttpConstants.CONTENT_ENCODING, null));
+    clientCompressionFilter.onRestRequest(restRequest, new RequestContext(), Collections.<String, String>emptyMap(),
+                                          new HeaderCaptureFilter(HttpConstants.ACCEPT_ENCODING, "zstd;q=1.00,x-lz4-framed;q=0.67"));
+  }
+
+  @Test
+  public void testDictionaryCompression() throws URISyntaxException, CompressionException
+  {
+    byte[] dictionary = "{\"id\":0,\"name\":\"greeting\",\"message\":\"hello world\"}".getBytes();
+    ZstdCompressor compressor = new ZstdCompressor(ZstdCompressor.DEFAULT_LEVEL, dictionary);
+    ClientCompressionFilter clientCompressionFilter = new ClientCompressionFilter(EncodingType.ZSTD_DICTIONARY.getHttpName(),
+                                                                                  new CompressionConfig(0),
+                                                                                  "x-zstd-dict, zstd",
+                                                                                  new CompressionConfig(0),
+                                                                                  Arrays.asList(ClientCompressionHelper.COMPRESS_ALL_RESPONSES_INDICATOR),
+                                                                                  Collections.singletonList(compressor));
+    byte[] entity = "{\"id\":1,\"name\":\"greeting\",\"message\":\"hello world\"}".getBytes();
+    RestRequest restRequest = new RestRequestBuilder(new URI(URI)).setMethod(RestMethod.POST).setEntity(entity).build();
+    int compressedLength = compressor.deflate(new ByteArrayInputStream(entity)).length;
+    clientCompressionFilter.onRestRequest(restRequest, new RequestContext(), Collections.<String, String>emptyMap(),
+                                          new HeaderCaptureFilter(HttpConstants.CONTENT_ENCODING, "x-zstd-dict", compressedLength));
+    clientCompressionFilter.onRestRequest(restRequest, new RequestContext(), Collections.<String, String>emptyMap(),
+                                          new HeaderCaptureFilter(HttpConstants.ACCEPT_ENCODING, "x-zstd-dict;q=1.00,zstd;q=0.67"));
+  }
 }
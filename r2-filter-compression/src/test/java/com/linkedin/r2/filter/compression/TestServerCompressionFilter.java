@@ -16,6 +16,7 @@
 
 package com.linkedin.r2.filter.compression;
 
+import com.linkedin.r2.filter.CompressionConfig;
 import com.linkedin.r2.filter.NextFilter;
 import com.linkedin.r2.message.RequestContext;
 import com.linkedin.r2.message.rest.RestRequest;
@@ -39,7 +40,7 @@ import java.util.Map;
  */
 public class TestServerCompressionFilter
 {
-  private static final String ACCEPT_COMPRESSIONS = "gzip, deflate, bzip2, snappy, x-snappy-framed";
+  private static final String ACCEPT_COMPRESSIONS = "gzip, deflate, bzip2, snappy, x-snappy-framed, zstd, x-lz4-framed";
 
   class HeaderCaptureFilter implements NextFilter<RestRequest, RestResponse>
   {
@@ -101,7 +102,10 @@ public class TestServerCompressionFilter
         {"gzip;q=1.00,deflate;q=0.80,bzip2;q=0.60,snappy;q=0.40", 1000, null},
         {"snappy", 1000, null},
         {"unknown;q=1.00,bzip2;q=0.70", 1000, null},
-        {"x-snappy-framed", 0, EncodingType.SNAPPY_FRAMED}
+        {"x-snappy-framed", 0, EncodingType.SNAPPY_FRAMED},
+        {"zstd", 0, EncodingType.ZSTD},
+        {"x-lz4-framed", 0, EncodingType.LZ4_FRAMED},
+        {"x-zstd-dict;q=1.00,zstd;q=0.50", 0, EncodingType.ZSTD}
     };
   }
 
@@ -124,4 +128,30 @@ public class TestServerCompressionFilter
     serverCompressionFilter.onRestResponse(restResponse, context, Collections.<String, String>emptyMap(),
                                            new HeaderCaptureFilter(HttpConstants.CONTENT_ENCODING, expectedContentEncodingName, compressedLength));
   }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testDictionaryEncodingRequiresCompressor()
+  {
+    new ServerCompressionFilter("x-zstd-dict, zstd");
+  }
+
+  @Test
+  public void testDictionaryCompression() throws CompressionException
+  {
+    byte[] dictionary = "{\"id\":0,\"name\":\"greeting\",\"message\":\"hello world\"}".getBytes();
+    ZstdCompressor compressor = new ZstdCompressor(ZstdCompressor.DEFAULT_LEVEL, dictionary);
+    ServerCompressionFilter serverCompressionFilter = new ServerCompressionFilter("x-zstd-dict, zstd",
+        new CompressionConfig(0), Collections.singletonList(compressor));
+
+    RequestContext context = new RequestContext();
+    context.putLocalAttr(HttpConstants.ACCEPT_ENCODING, "x-zstd-dict;q=1.00,zstd;q=0.50");
+    context.putLocalAttr(HttpConstants.HEADER_RESPONSE_COMPRESSION_THRESHOLD, 0);
+    byte[] entity = "{\"id\":1,\"name\":\"greeting\",\"message\":\"hello world\"}".getBytes();
+    RestResponse restResponse = new RestResponseBuilder().setEntity(entity).build();
+    int compressedLength = compressor.deflate(new ByteArrayInputStream(entity)).length;
+    Assert.assertTrue(compressedLength < EncodingType.ZSTD.getCompressor().deflate(new ByteArrayInputStream(entity)).length);
+
+    serverCompressionFilter.onRestResponse(restResponse, context, Collections.<String, String>emptyMap(),
+        new HeaderCaptureFilter(HttpConstants.CONTENT_ENCODING, "x-zstd-dict", compressedLength));
+  }
 }
@@ -24,13 +24,16 @@ import com.linkedin.r2.filter.compression.CompressionException;
 import com.linkedin.r2.filter.compression.streaming.Bzip2Compressor;
 import com.linkedin.r2.filter.compression.streaming.DeflateCompressor;
 import com.linkedin.r2.filter.compression.streaming.GzipCompressor;
+import com.linkedin.r2.filter.compression.streaming.Lz4Compressor;
 import com.linkedin.r2.filter.compression.streaming.SnappyCompressor;
 import com.linkedin.r2.filter.compression.streaming.StreamingCompressor;
+import com.linkedin.r2.filter.compression.streaming.ZstdCompressor;
 import com.linkedin.r2.message.stream.entitystream.ByteStringWriter;
 import com.linkedin.r2.message.stream.entitystream.EntityStream;
 import com.linkedin.r2.message.stream.entitystream.EntityStreams;
 import com.linkedin.r2.message.stream.entitystream.ReadHandle;
 import com.linkedin.r2.message.stream.entitystream.Reader;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Arrays;
@@ -41,7 +44,9 @@ import java.util.zip.DeflaterOutputStream;
 import java.util.zip.GZIPOutputStream;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
 import org.apache.commons.io.IOUtils;
+import com.github.luben.zstd.ZstdOutputStream;
 import io.airlift.compress.snappy.SnappyFramedOutputStream;
+import net.jpountz.lz4.LZ4FrameInputStream;
 import org.testng.Assert;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
@@ -144,6 +149,60 @@ public class TestStreamingCompression
     testCompressThenDecompress(compressor, origin);
   }
 
+  @Test
+  public void testZstdCompressor()
+      throws IOException, InterruptedException, CompressionException, ExecutionException
+  {
+    StreamingCompressor compressor = new ZstdCompressor(_executor);
+    final byte[] origin = new byte[BUF_SIZE];
+    Arrays.fill(origin, (byte)'d');
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ZstdOutputStream zstd = new ZstdOutputStream(out, com.linkedin.r2.filter.compression.ZstdCompressor.DEFAULT_LEVEL);
+    IOUtils.write(origin, zstd);
+    zstd.close();
+    byte[] compressed = out.toByteArray();
+
+    testCompress(compressor, origin, compressed);
+    testDecompress(compressor, origin, compressed);
+    testCompressThenDecompress(compressor, origin);
+  }
+
+  @Test
+  public void testZstdDictionaryCompressor()
+      throws InterruptedException, CompressionException, ExecutionException
+  {
+    byte[] dictionary = new byte[1024];
+    Arrays.fill(dictionary, (byte)'e');
+    StreamingCompressor compressor = new ZstdCompressor(_executor, 1, dictionary);
+    Assert.assertEquals(compressor.getContentEncodingName(), "x-zstd-dict");
+
+    final byte[] origin = new byte[BUF_SIZE];
+    Arrays.fill(origin, (byte)'e');
+    testCompressThenDecompress(compressor, origin);
+  }
+
+  @Test
+  public void testLz4Compressor()
+      throws IOException, InterruptedException, CompressionException, ExecutionException
+  {
+    final byte[] origin = new byte[BUF_SIZE];
+    Arrays.fill(origin, (byte)'f');
+
+    for (int level : new int[]{0, 9})
+    {
+      StreamingCompressor compressor = new Lz4Compressor(_executor, level);
+      FutureCallback<byte[]> callback = new FutureCallback<>();
+      compressor.deflate(EntityStreams.newEntityStream(new ByteWriter(origin))).setReader(new ByteReader(callback));
+      byte[] compressed = callback.get();
+
+      // The output has to be readable by any implementation of the LZ4 frame format
+      Assert.assertEquals(IOUtils.toByteArray(new LZ4FrameInputStream(new ByteArrayInputStream(compressed))), origin);
+      testDecompress(compressor, origin, compressed);
+      testCompressThenDecompress(compressor, origin);
+    }
+  }
+
   private void testCompress(StreamingCompressor compressor, byte[] uncompressed, byte[] compressed)
       throws CompressionException, ExecutionException, InterruptedException
   {
@@ -28,6 +28,7 @@ import com.linkedin.r2.transport.common.bridge.common.TransportCallback;
 import com.linkedin.r2.transport.common.bridge.common.TransportResponse;
 import com.linkedin.r2.transport.common.bridge.common.TransportResponseImpl;
 import java.util.Queue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -46,7 +47,7 @@ public class StreamExecutionCallback implements TransportCallback<StreamResponse
 {
   private static final Logger LOG = LoggerFactory.getLogger(StreamExecutionCallback.class);
 
-  private final ExecutorService _executor;
+  private final Executor _executor;
   private final Queue<Runnable> _taskQueue = new LinkedBlockingQueue<>();
   private final AtomicInteger _pending = new AtomicInteger(0);
   private AtomicReference<TransportCallback<StreamResponse>>  _callbackRef;
@@ -83,6 +84,17 @@ public class StreamExecutionCallback implements TransportCallback<StreamResponse
    * @param callback the {@link TransportCallback} to be invoked on success or error.
    */
   public StreamExecutionCallback(ExecutorService executor, TransportCallback<StreamResponse> callback)
+  {
+    this((Executor) executor, callback);
+  }
+
+  /**
+   * Construct a new instance.
+   *
+   * @param executor the {@link Executor} used to execute the given {@link TransportCallback}.
+   * @param callback the {@link TransportCallback} to be invoked on success or error.
+   */
+  public StreamExecutionCallback(Executor executor, TransportCallback<StreamResponse> callback)
   {
     _executor = executor;
     _callbackRef = new AtomicReference<>(callback);
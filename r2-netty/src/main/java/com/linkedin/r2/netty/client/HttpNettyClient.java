@@ -53,6 +53,7 @@ import com.linkedin.r2.transport.http.client.common.ChannelPoolManager;
 import com.linkedin.r2.transport.http.client.common.ssl.SslSessionValidator;
 import com.linkedin.r2.transport.http.common.HttpBridge;
 import com.linkedin.r2.transport.http.common.HttpProtocolVersion;
+import com.linkedin.r2.util.BlockingDetectingExecutor;
 import com.linkedin.r2.util.Cancellable;
 import com.linkedin.r2.util.RequestTimeoutUtil;
 import com.linkedin.r2.util.Timeout;
@@ -61,10 +62,12 @@ import com.linkedin.util.clock.Clock;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.pool.ChannelPool;
 import io.netty.channel.unix.DomainSocketAddress;
 import io.netty.handler.codec.http.HttpScheme;
+import io.netty.util.concurrent.EventExecutor;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
@@ -73,6 +76,7 @@ import java.net.UnknownHostException;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -98,6 +102,7 @@ public class HttpNettyClient implements TransportClient
   private static final int HTTP_DEFAULT_PORT = 80;
   private static final int HTTPS_DEFAULT_PORT = 443;
   private static final int DEFAULT_STREAMING_TIMEOUT = -1;
+  private static final long CALLBACK_BLOCKING_THRESHOLD_MS = 100;
 
   private final EventLoopGroup _eventLoopGroup;
   private final ScheduledExecutorService _scheduler;
@@ -111,6 +116,8 @@ public class HttpNettyClient implements TransportClient
   private final long _shutdownTimeout;
   private final String _udsAddress;
   private final DnsMetricsCallback _dnsMetricsCallback;
+  private final boolean _eventLoopAffine;
+  private final Map<EventExecutor, Executor> _eventLoopCallbackExecutors = new ConcurrentHashMap<>();
 
   private final AtomicReference<NettyClientState> _state;
 
@@ -192,6 +199,36 @@ public class HttpNettyClient implements TransportClient
       long shutdownTimeout,
       String udsAddress,
       DnsMetricsCallback dnsMetricsCallback)
+  {
+    this(eventLoopGroup, scheduler, callbackExecutor, channelPoolManager, sslChannelPoolManager, protocolVersion,
+        clock, requestTimeout, streamingTimeout, shutdownTimeout, udsAddress, dnsMetricsCallback, false);
+  }
+
+  /**
+   * Creates a new instance of {@link HttpNettyClient}.
+   *
+   * @param eventLoopAffine If true, the callbacks of the requests sent from an event loop, either one of the event
+   *                        loop group or the one set as {@link R2Constants#EVENT_LOOP} in the request context, are
+   *                        executed on that event loop instead of the callback executor. The callbacks must then
+   *                        not block; the ones running for more than {@value #CALLBACK_BLOCKING_THRESHOLD_MS}ms are
+   *                        logged.
+   * @see #HttpNettyClient(EventLoopGroup, ScheduledExecutorService, ExecutorService, ChannelPoolManager,
+   *      ChannelPoolManager, HttpProtocolVersion, Clock, long, long, long, String, DnsMetricsCallback)
+   */
+  public HttpNettyClient(
+      EventLoopGroup eventLoopGroup,
+      ScheduledExecutorService scheduler,
+      ExecutorService callbackExecutor,
+      ChannelPoolManager channelPoolManager,
+      ChannelPoolManager sslChannelPoolManager,
+      HttpProtocolVersion protocolVersion,
+      Clock clock,
+      long requestTimeout,
+      long streamingTimeout,
+      long shutdownTimeout,
+      String udsAddress,
+      DnsMetricsCallback dnsMetricsCallback,
+      boolean eventLoopAffine)
   {
     ArgumentUtil.notNull(eventLoopGroup, "eventLoopGroup");
     ArgumentUtil.notNull(scheduler, "scheduler");
@@ -221,6 +258,7 @@ public class HttpNettyClient implements TransportClient
     _shutdownTimeout = shutdownTimeout;
     _udsAddress = udsAddress;
     _dnsMetricsCallback = dnsMetricsCallback;
+    _eventLoopAffine = eventLoopAffine;
 
 
     _state = new AtomicReference<>(NettyClientState.RUNNING);
@@ -266,6 +304,36 @@ public class HttpNettyClient implements TransportClient
 
 
 
+  /**
+   * Establishes channels to the host of the given URI. HTTP/2 multiplexes the requests over a single connection, so
+   * only one channel is established for it.
+   */
+  @Override
+  public void warmUp(URI uri, int connections, Callback<None> callback)
+  {
+    if (_state.get() != NettyClientState.RUNNING)
+    {
+      callback.onError(new IllegalStateException("Client is not running"));
+      return;
+    }
+
+    final Request request = new RestRequestBuilder(uri).build();
+    final SocketAddress address;
+    try
+    {
+      address = StringUtils.isEmpty(_udsAddress)
+          ? resolveAddress(request, new RequestContext()) : new DomainSocketAddress(_udsAddress);
+    }
+    catch (Exception e)
+    {
+      callback.onError(e);
+      return;
+    }
+
+    final int channels = _protocolVersion == HttpProtocolVersion.HTTP_2 ? Math.min(1, connections) : connections;
+    getChannelPoolManagerPerRequest(request).warmUp(address, channels, callback);
+  }
+
   @Override
   public void shutdown(Callback<None> callback)
   {
@@ -343,7 +411,7 @@ public class HttpNettyClient implements TransportClient
    */
   private void sendRequest(Request request, RequestContext requestContext, Map<String, String> wireAttrs, TransportCallback<StreamResponse> callback)
   {
-    final TransportCallback<StreamResponse> decoratedCallback = decorateUserCallback(request, callback);
+    final TransportCallback<StreamResponse> decoratedCallback = decorateUserCallback(request, requestContext, callback);
 
     final NettyClientState state = _state.get();
     if (state != NettyClientState.RUNNING)
@@ -544,10 +612,11 @@ public class HttpNettyClient implements TransportClient
    * <li> Callback is not sensitive to response status code, see {@link HttpBridge} #streamToHttpCallback
    * </ul><p>
    */
-  private TransportCallback<StreamResponse> decorateUserCallback(Request request, TransportCallback<StreamResponse> callback)
+  private TransportCallback<StreamResponse> decorateUserCallback(Request request, RequestContext requestContext,
+      TransportCallback<StreamResponse> callback)
   {
     final TransportCallback<StreamResponse> httpCallback = HttpBridge.streamToHttpCallback(callback, request);
-    final TransportCallback<StreamResponse> executionCallback = getExecutionCallback(httpCallback);
+    final TransportCallback<StreamResponse> executionCallback = getExecutionCallback(requestContext, httpCallback);
     final TransportCallback<StreamResponse> shutdownAwareCallback = getShutdownAwareCallback(executionCallback);
     return shutdownAwareCallback;
   }
@@ -555,9 +624,53 @@ public class HttpNettyClient implements TransportClient
   /**
    * Given a callback, returns the wrapped callback that will be executed on a custom executor
    */
-  private TransportCallback<StreamResponse> getExecutionCallback(TransportCallback<StreamResponse> callback)
+  private TransportCallback<StreamResponse> getExecutionCallback(RequestContext requestContext,
+      TransportCallback<StreamResponse> callback)
+  {
+    return new StreamExecutionCallback(getCallbackExecutor(requestContext), callback);
+  }
+
+  /**
+   * Returns the executor of the callbacks of a request: in event loop affine mode, the event loop sending the request
+   * if any, so that the response does not hop to another thread pool.
+   */
+  private Executor getCallbackExecutor(RequestContext requestContext)
   {
-    return new StreamExecutionCallback(_callbackExecutor, callback);
+    if (_eventLoopAffine)
+    {
+      final EventLoop eventLoop = getCurrentEventLoop(requestContext);
+      if (eventLoop != null)
+      {
+        return _eventLoopCallbackExecutors.computeIfAbsent(eventLoop, executor ->
+            new BlockingDetectingExecutor(executor, CALLBACK_BLOCKING_THRESHOLD_MS, TimeUnit.MILLISECONDS));
+      }
+    }
+    return _callbackExecutor;
+  }
+
+  /**
+   * Returns the event loop running the current thread: the one set as {@link R2Constants#EVENT_LOOP} by a server
+   * running in event loop affine mode, or else one of the event loops of this client. Other executors, such as the
+   * threads of a {@link io.netty.util.concurrent.DefaultEventExecutorGroup}, are not event loops.
+   *
+   * @return the event loop, or null if the current thread is not running one.
+   */
+  private EventLoop getCurrentEventLoop(RequestContext requestContext)
+  {
+    final Object requestEventLoop = requestContext.getLocalAttr(R2Constants.EVENT_LOOP);
+    if (requestEventLoop instanceof EventLoop && ((EventLoop) requestEventLoop).inEventLoop())
+    {
+      return (EventLoop) requestEventLoop;
+    }
+
+    for (EventExecutor executor : _eventLoopGroup)
+    {
+      if (executor instanceof EventLoop && executor.inEventLoop())
+      {
+        return (EventLoop) executor;
+      }
+    }
+    return null;
   }
 
   /**
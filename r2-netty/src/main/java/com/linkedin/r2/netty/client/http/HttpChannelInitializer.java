@@ -16,6 +16,7 @@
 
 package com.linkedin.r2.netty.client.http;
 
+import com.linkedin.r2.netty.common.SslSessionCache;
 import com.linkedin.r2.netty.handler.common.CancelTimeoutHandler;
 import com.linkedin.r2.netty.handler.common.CertificateHandler;
 import com.linkedin.r2.netty.handler.common.ChannelLifecycleHandler;
@@ -77,10 +78,11 @@ class HttpChannelInitializer extends ChannelInitializer<Channel>
   private final long _maxContentLength;
   private final boolean _ssl;
   private final boolean _enableSSLSessionResumption;
+  private final SslSessionCache _sslSessionCache;
 
   HttpChannelInitializer(SSLContext sslContext, SSLParameters sslParameters, int maxInitialLineLength,
       int maxHeaderSize, int maxChunkSize, long maxContentLength, boolean enableSSLSessionResumption,
-      int sslHandShakeTimeout)
+      int sslHandShakeTimeout, SslSessionCache sslSessionCache)
   {
     _sslContext = sslContext;
     _sslParameters = sslParameters;
@@ -91,6 +93,7 @@ class HttpChannelInitializer extends ChannelInitializer<Channel>
     _sslHandShakeTimeout = sslHandShakeTimeout;
     _ssl = _sslContext != null && _sslParameters != null;
     _enableSSLSessionResumption = enableSSLSessionResumption;
+    _sslSessionCache = sslSessionCache;
   }
 
   @Override
@@ -99,7 +102,8 @@ class HttpChannelInitializer extends ChannelInitializer<Channel>
     if (_ssl)
     {
       channel.pipeline().addLast(SessionResumptionSslHandler.PIPELINE_SESSION_RESUMPTION_HANDLER,
-          new SessionResumptionSslHandler(_sslContext, _sslParameters, _enableSSLSessionResumption, _sslHandShakeTimeout));
+          new SessionResumptionSslHandler(_sslContext, _sslParameters, _enableSSLSessionResumption, _sslHandShakeTimeout,
+              _sslSessionCache));
     }
 
     channel.pipeline().addLast("codec", new HttpClientCodec(_maxInitialLineLength, _maxHeaderSize, _maxChunkSize));
@@ -17,6 +17,7 @@
 package com.linkedin.r2.netty.client.http2;
 
 import com.linkedin.r2.netty.common.NettyChannelAttributes;
+import com.linkedin.r2.netty.common.SslSessionCache;
 import com.linkedin.r2.netty.handler.common.CancelTimeoutHandler;
 import com.linkedin.r2.netty.handler.common.CertificateHandler;
 import com.linkedin.r2.netty.handler.common.ChannelLifecycleHandler;
@@ -126,10 +127,12 @@ class Http2ChannelInitializer extends ChannelInitializer<Channel>
   private final int _sslHandShakeTimeout;
   private final boolean _ssl;
   private final boolean _enableSSLSessionResumption;
+  private final SslSessionCache _sslSessionCache;
+  private final SslContext _alpnSslContext;
 
   Http2ChannelInitializer(SSLContext sslContext, SSLParameters sslParameters, int maxInitialLineLength,
       int maxHeaderSize, int maxChunkSize, long maxContentLength, boolean enableSSLSessionResumption,
-      int sslHandShakeTimeout)
+      int sslHandShakeTimeout, SslSessionCache sslSessionCache)
   {
     _sslContext = sslContext;
     _sslParameters = sslParameters;
@@ -140,6 +143,9 @@ class Http2ChannelInitializer extends ChannelInitializer<Channel>
     _sslHandShakeTimeout = sslHandShakeTimeout;
     _ssl = _sslContext != null && _sslParameters != null;
     _enableSSLSessionResumption = enableSSLSessionResumption;
+    _sslSessionCache = sslSessionCache;
+    // the context only wraps the SSLContext, so it is created once and shared by all the channels
+    _alpnSslContext = _ssl ? createSslContext() : null;
   }
 
   @Override
@@ -160,14 +166,14 @@ class Http2ChannelInitializer extends ChannelInitializer<Channel>
    */
   private void configureSsl(Channel channel) throws SSLException
   {
-    final SslContext sslCtx = createSslContext();
     final ChannelPromise alpnPromise = channel.newPromise();
 
     channel.attr(NettyChannelAttributes.INITIALIZATION_FUTURE).set(alpnPromise);
 
     channel.pipeline().addLast(
         SessionResumptionSslHandler.PIPELINE_SESSION_RESUMPTION_HANDLER,
-        new SessionResumptionSslHandler(sslCtx, _enableSSLSessionResumption, _sslHandShakeTimeout));
+        new SessionResumptionSslHandler(_alpnSslContext, _enableSSLSessionResumption, _sslHandShakeTimeout,
+            _sslSessionCache));
     channel.pipeline().addLast(new Http2AlpnHandler(alpnPromise, createHttp2Settings()));
   }
 
@@ -17,6 +17,7 @@
 package com.linkedin.r2.netty.client.http2;
 
 import com.linkedin.common.stats.NoopLongTracker;
+import com.linkedin.r2.netty.common.SslSessionCache;
 import com.linkedin.r2.transport.http.client.AsyncPool;
 import com.linkedin.r2.transport.http.client.AsyncPoolImpl;
 import com.linkedin.r2.transport.http.client.NoopRateLimiter;
@@ -29,12 +30,10 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import java.net.SocketAddress;
 import java.util.concurrent.ScheduledExecutorService;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLParameters;
-import org.apache.commons.lang3.StringUtils;
 
 
 /**
@@ -101,10 +100,37 @@ public class Http2ChannelPoolFactory implements ChannelPoolFactory
       int connectTimeout,
       int sslHandShakeTimeout,
       String udsAddress)
+  {
+    this(scheduler, eventLoopGroup, channelGroup, strategy, sslContext, sslParameters, maxPoolSize, minPoolSize,
+        maxPoolWaiterSize, maxInitialLineLength, maxHeaderSize, maxChunkSize, idleTimeout, maxContentLength, tcpNoDelay,
+        enableSSLSessionResumption, connectTimeout, sslHandShakeTimeout, udsAddress, null);
+  }
+
+  public Http2ChannelPoolFactory(
+      ScheduledExecutorService scheduler,
+      EventLoopGroup eventLoopGroup,
+      ChannelGroup channelGroup,
+      AsyncPoolImpl.Strategy strategy,
+      SSLContext sslContext,
+      SSLParameters sslParameters,
+      int maxPoolSize,
+      int minPoolSize,
+      int maxPoolWaiterSize,
+      int maxInitialLineLength,
+      int maxHeaderSize,
+      int maxChunkSize,
+      long idleTimeout,
+      long maxContentLength,
+      boolean tcpNoDelay,
+      boolean enableSSLSessionResumption,
+      int connectTimeout,
+      int sslHandShakeTimeout,
+      String udsAddress,
+      SslSessionCache sslSessionCache)
   {
     final ChannelInitializer<Channel> initializer = new Http2ChannelInitializer(
         sslContext, sslParameters, maxInitialLineLength, maxHeaderSize, maxChunkSize, maxContentLength,
-        enableSSLSessionResumption, sslHandShakeTimeout);
+        enableSSLSessionResumption, sslHandShakeTimeout, sslSessionCache);
 
     _scheduler = scheduler;
     _allChannels = channelGroup;
@@ -116,10 +142,8 @@ public class Http2ChannelPoolFactory implements ChannelPoolFactory
     _maxContentLength = maxContentLength;
     _tcpNoDelay = tcpNoDelay;
 
-    Bootstrap bootstrap = !StringUtils.isEmpty(udsAddress) ?
-        new Bootstrap().channel(getDomainSocketClass()) : new Bootstrap().channel(NioSocketChannel.class);
-
-    _bootstrap = bootstrap
+    _bootstrap = new Bootstrap()
+        .channel(getChannelClass(eventLoopGroup, udsAddress))
         .group(eventLoopGroup)
         .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout)
         .handler(initializer);
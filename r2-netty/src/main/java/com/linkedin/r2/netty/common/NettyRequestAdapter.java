@@ -65,7 +65,7 @@ public class NettyRequestAdapter
       path = "/";
     }
 
-    ByteBuf content = Unpooled.wrappedBuffer(request.getEntity().asByteBuffer());
+    ByteBuf content = Unpooled.wrappedBuffer(request.getEntity().asByteBuffers());
     HttpRequest nettyRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, nettyMethod, path, content);
     nettyRequest.headers().set(HttpConstants.CONTENT_LENGTH, request.getEntity().length());
 
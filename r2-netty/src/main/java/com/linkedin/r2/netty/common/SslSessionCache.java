@@ -0,0 +1,156 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.netty.common;
+
+import io.netty.handler.ssl.SslHandler;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
+
+
+/**
+ * The TLS session cache shared by the channel pools of a client factory, with the statistics of the handshakes.
+ *
+ * The sessions are cached in the client session context of the {@link SSLContext}, keyed by the host and port of the
+ * connection when SSL session resumption is enabled. Every channel pool using the same {@link SSLContext} therefore
+ * already resumes the sessions established by the others. This class optionally bounds the number and the lifetime of
+ * the cached sessions, which are unbounded in number on Java 8, and leaves the settings of the {@link SSLContext}
+ * untouched otherwise. Note that the bounds apply to every user of the registered {@link SSLContext}.
+ *
+ * A handshake is counted as resumed when its session was created before the handshake started.
+ */
+public class SslSessionCache implements SslSessionCacheJmxMBean
+{
+  private final Integer _sessionCacheSize;
+  private final Integer _sessionTimeoutSeconds;
+  private final Set<SSLSessionContext> _sessionContexts =
+      Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+  private final AtomicLong _fullHandshakes = new AtomicLong();
+  private final AtomicLong _resumedHandshakes = new AtomicLong();
+  private final AtomicLong _failedHandshakes = new AtomicLong();
+
+  /**
+   * Creates a cache which only tracks the handshakes, without changing the settings of the registered contexts.
+   */
+  public SslSessionCache()
+  {
+    this(null, null);
+  }
+
+  /**
+   * @param sessionCacheSize maximum number of sessions cached per {@link SSLContext}, 0 for no limit, or null to keep
+   *                         the size of the context.
+   * @param sessionTimeoutSeconds maximum lifetime of a cached session in seconds, 0 for no limit, or null to keep the
+   *                              timeout of the context.
+   */
+  public SslSessionCache(Integer sessionCacheSize, Integer sessionTimeoutSeconds)
+  {
+    if (sessionCacheSize != null && sessionCacheSize < 0)
+    {
+      throw new IllegalArgumentException("Invalid session cache size: " + sessionCacheSize);
+    }
+    if (sessionTimeoutSeconds != null && sessionTimeoutSeconds < 0)
+    {
+      throw new IllegalArgumentException("Invalid session timeout: " + sessionTimeoutSeconds);
+    }
+    _sessionCacheSize = sessionCacheSize;
+    _sessionTimeoutSeconds = sessionTimeoutSeconds;
+  }
+
+  /**
+   * Applies the configured bounds of this cache to the client sessions of the given context. Does nothing if the
+   * context was already registered.
+   */
+  public void register(SSLContext sslContext)
+  {
+    SSLSessionContext sessionContext = sslContext.getClientSessionContext();
+    if (sessionContext != null && _sessionContexts.add(sessionContext))
+    {
+      if (_sessionCacheSize != null)
+      {
+        sessionContext.setSessionCacheSize(_sessionCacheSize);
+      }
+      if (_sessionTimeoutSeconds != null)
+      {
+        sessionContext.setSessionTimeout(_sessionTimeoutSeconds);
+      }
+    }
+  }
+
+  /**
+   * Records the outcome of the handshake of the given handler once it completes. Must be called before the handshake
+   * starts.
+   */
+  public void track(SslHandler sslHandler)
+  {
+    final long startTime = System.currentTimeMillis();
+    sslHandler.handshakeFuture().addListener(future -> {
+      if (!future.isSuccess())
+      {
+        _failedHandshakes.incrementAndGet();
+      }
+      else if (sslHandler.engine().getSession().getCreationTime() < startTime)
+      {
+        _resumedHandshakes.incrementAndGet();
+      }
+      else
+      {
+        _fullHandshakes.incrementAndGet();
+      }
+    });
+  }
+
+  @Override
+  public long getFullHandshakeCount()
+  {
+    return _fullHandshakes.get();
+  }
+
+  @Override
+  public long getResumedHandshakeCount()
+  {
+    return _resumedHandshakes.get();
+  }
+
+  @Override
+  public long getFailedHandshakeCount()
+  {
+    return _failedHandshakes.get();
+  }
+
+  @Override
+  public int getCachedSessionCount()
+  {
+    int count = 0;
+    synchronized (_sessionContexts)
+    {
+      for (SSLSessionContext sessionContext : _sessionContexts)
+      {
+        for (Enumeration<byte[]> ids = sessionContext.getIds(); ids.hasMoreElements(); ids.nextElement())
+        {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+}
@@ -0,0 +1,47 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.netty.common;
+
+/**
+ * Statistics of a {@link SslSessionCache}.
+ *
+ * The cache is not registered with an MBean server by r2: the application gets it from
+ * {@code HttpClientFactory#getSslSessionCache} and registers it, e.g. with the platform MBean server, to expose these
+ * statistics through JMX.
+ */
+public interface SslSessionCacheJmxMBean
+{
+  /**
+   * @return the number of handshakes which established a new session.
+   */
+  long getFullHandshakeCount();
+
+  /**
+   * @return the number of handshakes which resumed a cached session.
+   */
+  long getResumedHandshakeCount();
+
+  /**
+   * @return the number of handshakes which failed.
+   */
+  long getFailedHandshakeCount();
+
+  /**
+   * @return the number of sessions currently cached.
+   */
+  int getCachedSessionCount();
+}
@@ -17,6 +17,7 @@
 package com.linkedin.r2.netty.handler.common;
 
 import com.linkedin.r2.netty.common.SslHandlerUtil;
+import com.linkedin.r2.netty.common.SslSessionCache;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelOutboundHandlerAdapter;
@@ -55,13 +56,25 @@ public class SessionResumptionSslHandler extends ChannelOutboundHandlerAdapter
 
   private final SslHandlerGenerator _hostPortToSslHandler;
   private final int _sslHandShakeTimeout;
+  private final SslSessionCache _sslSessionCache;
 
   /**
    * @param sslContext note that the type is SslContext (netty implementation) and not SSLContext (JDK implementation)
    */
   public SessionResumptionSslHandler(SslContext sslContext, boolean enableResumption, int sslHandShakeTimeout)
+  {
+    this(sslContext, enableResumption, sslHandShakeTimeout, null);
+  }
+
+  /**
+   * @param sslContext note that the type is SslContext (netty implementation) and not SSLContext (JDK implementation)
+   * @param sslSessionCache records the outcome of the handshakes, can be null
+   */
+  public SessionResumptionSslHandler(SslContext sslContext, boolean enableResumption, int sslHandShakeTimeout,
+      SslSessionCache sslSessionCache)
   {
     _sslHandShakeTimeout = sslHandShakeTimeout;
+    _sslSessionCache = sslSessionCache;
     _hostPortToSslHandler = enableResumption ?
       (ctx, host, port) -> sslContext.newHandler(ctx.alloc(), host, port) :
       (ctx, host, port) -> sslContext.newHandler(ctx.alloc());
@@ -73,8 +86,19 @@ public class SessionResumptionSslHandler extends ChannelOutboundHandlerAdapter
    */
   public SessionResumptionSslHandler(SSLContext sslContext, SSLParameters sslParameters,
       boolean enableResumption, int sslHandShakeTimeout)
+  {
+    this(sslContext, sslParameters, enableResumption, sslHandShakeTimeout, null);
+  }
+
+  /**
+   * @param sslContext note that the type is SSLContext (JDK implementation) and not SslContext (netty implementation)
+   * @param sslSessionCache records the outcome of the handshakes, can be null
+   */
+  public SessionResumptionSslHandler(SSLContext sslContext, SSLParameters sslParameters,
+      boolean enableResumption, int sslHandShakeTimeout, SslSessionCache sslSessionCache)
   {
     _sslHandShakeTimeout = sslHandShakeTimeout;
+    _sslSessionCache = sslSessionCache;
     _hostPortToSslHandler = enableResumption ?
       (ctx, host, port) -> SslHandlerUtil.getClientSslHandler(sslContext, sslParameters, host, port) :
       (ctx, host, port) -> SslHandlerUtil.getSslHandler(sslContext, sslParameters, true);
@@ -87,6 +111,10 @@ public class SessionResumptionSslHandler extends ChannelOutboundHandlerAdapter
     final InetSocketAddress address = ((InetSocketAddress) remoteAddress);
     final SslHandler sslHandler = _hostPortToSslHandler.create(ctx, address.getHostName(), address.getPort());
     sslHandler.setHandshakeTimeout(_sslHandShakeTimeout, TimeUnit.MILLISECONDS);
+    if (_sslSessionCache != null)
+    {
+      _sslSessionCache.track(sslHandler);
+    }
 
     ctx.pipeline().addAfter(PIPELINE_SESSION_RESUMPTION_HANDLER, SslHandlerUtil.PIPELINE_SSL_HANDLER, sslHandler);
     ctx.pipeline().addAfter(SslHandlerUtil.PIPELINE_SSL_HANDLER, SslHandshakeTimingHandler.SSL_HANDSHAKE_TIMING_HANDLER,
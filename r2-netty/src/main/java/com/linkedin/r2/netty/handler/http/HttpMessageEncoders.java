@@ -96,7 +96,7 @@ public class HttpMessageEncoders
       }
       else
       {
-        out.add(new DefaultHttpContent(Unpooled.wrappedBuffer(data.asByteBuffer())));
+        out.add(new DefaultHttpContent(Unpooled.wrappedBuffer(data.asByteBuffers())));
       }
     }
   }
@@ -82,7 +82,7 @@ public final class Http2MessageEncoders
     protected void encode(ChannelHandlerContext ctx, RestRequest request, List<Object> out) throws Exception
     {
       out.add(new DefaultHttp2HeadersFrame(NettyRequestAdapter.toHttp2Headers(request)));
-      ByteBuf content = Unpooled.wrappedBuffer(request.getEntity().asByteBuffer());
+      ByteBuf content = Unpooled.wrappedBuffer(request.getEntity().asByteBuffers());
       out.add(new DefaultHttp2DataFrame(content, true));
     }
   }
@@ -102,7 +102,7 @@ public final class Http2MessageEncoders
       }
       else
       {
-        out.add(new DefaultHttp2DataFrame(Unpooled.wrappedBuffer(data.asByteBuffer())));
+        out.add(new DefaultHttp2DataFrame(Unpooled.wrappedBuffer(data.asByteBuffers())));
       }
     }
   }
@@ -26,6 +26,7 @@ import com.linkedin.r2.event.EventProviderRegistry;
 import com.linkedin.r2.filter.CompressionConfig;
 import com.linkedin.r2.filter.FilterChain;
 import com.linkedin.r2.filter.FilterChains;
+import com.linkedin.r2.filter.R2Constants;
 import com.linkedin.r2.filter.TimedRestFilter;
 import com.linkedin.r2.filter.TimedStreamFilter;
 import com.linkedin.r2.filter.compression.ClientCompressionFilter;
@@ -41,6 +42,7 @@ import com.linkedin.r2.message.rest.RestResponse;
 import com.linkedin.r2.message.stream.StreamRequest;
 import com.linkedin.r2.message.stream.StreamResponse;
 import com.linkedin.r2.netty.client.DnsMetricsCallback;
+import com.linkedin.r2.netty.common.SslSessionCache;
 import com.linkedin.r2.transport.common.TransportClientFactory;
 import com.linkedin.r2.transport.common.bridge.client.TransportClient;
 import com.linkedin.r2.transport.common.bridge.common.TransportCallback;
@@ -59,8 +61,10 @@ import com.linkedin.r2.util.ConfigValueExtractor;
 import com.linkedin.r2.util.NamedThreadFactory;
 import com.linkedin.util.clock.SystemClock;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -204,6 +208,12 @@ public class HttpClientFactory implements TransportClientFactory
   private final int _sslHandShakeTimeout;
   private final int _channelPoolWaiterTimeout;
   private final String _udsAddress;
+  /** TLS session cache shared by all the channel pools of this factory, null if not configured. */
+  private final SslSessionCache _sslSessionCache;
+  /** Whether the v2 clients complete the callbacks of the requests sent from an event loop on that event loop. */
+  private final boolean _eventLoopAffine;
+  /** Whether the rest requests to the clients are sent as stream requests, which decides the client to warm up. */
+  private final boolean _restOverStream;
   /** Request compression config for each http service. */
   private final Map<String, CompressionConfig> _requestCompressionConfigs;
   /** Response compression config for each http service. */
@@ -657,7 +667,8 @@ public class HttpClientFactory implements TransportClientFactory
         shutdownCallbackExecutor, jmxManager, requestCompressionThresholdDefault, requestCompressionConfigs,
         responseCompressionConfigs, compressionExecutor, defaultHttpVersion, shareConnection, eventProviderRegistry,
         enableSSLSessionResumption, usePipelineV2, executorsToShutDown, DEFAULT_CONNECT_TIMEOUT,
-        DEFAULT_SSL_HANDSHAKE_TIMEOUT, DEFAULT_CHANNELPOOL_WAITER_TIMEOUT, udsAddress, null);
+        DEFAULT_SSL_HANDSHAKE_TIMEOUT, DEFAULT_CHANNELPOOL_WAITER_TIMEOUT, udsAddress, null, null, false,
+        R2Constants.DEFAULT_REST_OVER_STREAM);
   }
 
   private HttpClientFactory(FilterChain filters,
@@ -682,7 +693,10 @@ public class HttpClientFactory implements TransportClientFactory
                             int sslHandShakeTimeout,
                             int channelPoolWaiterTimeout,
                             String udsAddress,
-                            DnsMetricsCallback dnsMetricsCallback)
+                            DnsMetricsCallback dnsMetricsCallback,
+                            SslSessionCache sslSessionCache,
+                            boolean eventLoopAffine,
+                            boolean restOverStream)
   {
     _filters = filters;
     _eventLoopGroup = eventLoopGroup;
@@ -700,6 +714,9 @@ public class HttpClientFactory implements TransportClientFactory
     _channelPoolWaiterTimeout = channelPoolWaiterTimeout;
     _udsAddress = udsAddress;
     _dnsMetricsCallback = dnsMetricsCallback;
+    _sslSessionCache = sslSessionCache;
+    _eventLoopAffine = eventLoopAffine;
+    _restOverStream = restOverStream;
     if (requestCompressionConfigs == null)
     {
       throw new IllegalArgumentException("requestCompressionConfigs should not be null.");
@@ -715,7 +732,7 @@ public class HttpClientFactory implements TransportClientFactory
     _defaultHttpVersion = defaultHttpVersion;
     _channelPoolManagerFactory = new ChannelPoolManagerFactoryImpl(
         _eventLoopGroup, _executor, enableSSLSessionResumption,_usePipelineV2, _channelPoolWaiterTimeout,
-        _connectTimeout, _sslHandShakeTimeout);
+        _connectTimeout, _sslHandShakeTimeout, _sslSessionCache);
 
     if (eventProviderRegistry != null)
     {
@@ -747,6 +764,7 @@ public class HttpClientFactory implements TransportClientFactory
     private boolean                    _useClientCompression = true;
     private boolean                    _usePipelineV2 = false;
     private String                     _udsAddress = null;
+    private boolean                    _useNativeTransport = false;
     private int                        _pipelineV2MinimumMaturityLevel = PIPELINE_V2_MATURITY_LEVEL;
     private Executor                   _customCompressionExecutor = null;
     private AbstractJmxManager         _jmxManager = AbstractJmxManager.NULL_JMX_MANAGER;
@@ -761,6 +779,10 @@ public class HttpClientFactory implements TransportClientFactory
     private int _sslHandShakeTimeout = DEFAULT_SSL_HANDSHAKE_TIMEOUT;
     private int _channelPoolWaiterTimeout = DEFAULT_CHANNELPOOL_WAITER_TIMEOUT;
     private DnsMetricsCallback _dnsMetricsCallback;
+    private Integer _sslSessionCacheSize;
+    private Integer _sslSessionTimeout;
+    private boolean _eventLoopAffine = false;
+    private boolean _restOverStream = R2Constants.DEFAULT_REST_OVER_STREAM;
 
     /**
      * @param eventLoopGroup the {@link EventLoopGroup} that all Clients created by this
@@ -772,6 +794,17 @@ public class HttpClientFactory implements TransportClientFactory
       return this;
     }
 
+    /**
+     * @param useNativeTransport if true and no {@link EventLoopGroup} is set, the factory creates an epoll event loop
+     *                           group when the native transport is available. The clients bootstrap their channels
+     *                           with the transport of the event loop group in use.
+     */
+    public Builder setUseNativeTransport(boolean useNativeTransport)
+    {
+      _useNativeTransport = useNativeTransport;
+      return this;
+    }
+
     /**
      * @param nioEventLoopGroup the {@link NioEventLoopGroup} that all Clients created by this
      *                          factory will share
@@ -931,6 +964,27 @@ public class HttpClientFactory implements TransportClientFactory
       return this;
     }
 
+    /**
+     * @param sslSessionCacheSize maximum number of TLS sessions cached per SSL context for resumption, 0 for no limit.
+     *                            The cache is shared by all the clients created by this factory. If not set, the size
+     *                            of the SSL contexts is left unchanged.
+     */
+    public Builder setSslSessionCacheSize(int sslSessionCacheSize)
+    {
+      _sslSessionCacheSize = sslSessionCacheSize;
+      return this;
+    }
+
+    /**
+     * @param sslSessionTimeout maximum lifetime in seconds of the cached TLS sessions, 0 for no limit. If not set, the
+     *                          timeout of the SSL contexts is left unchanged.
+     */
+    public Builder setSslSessionTimeout(int sslSessionTimeout)
+    {
+      _sslSessionTimeout = sslSessionTimeout;
+      return this;
+    }
+
     public Builder setChannelPoolWaiterTimeout(int channelPoolWaiterTimeout)
     {
       _channelPoolWaiterTimeout = channelPoolWaiterTimeout;
@@ -943,6 +997,31 @@ public class HttpClientFactory implements TransportClientFactory
       return this;
     }
 
+    /**
+     * @param eventLoopAffine if true, the callbacks of the requests sent from an event loop, either one of this factory
+     *                        or the one set as {@link R2Constants#EVENT_LOOP} in the request context by a server
+     *                        running in event loop affine mode, are executed on that event loop instead of the
+     *                        callback executor. The callbacks must not block. Only supported by the pipeline v2
+     *                        clients.
+     */
+    public Builder setEventLoopAffine(boolean eventLoopAffine)
+    {
+      _eventLoopAffine = eventLoopAffine;
+      return this;
+    }
+
+    /**
+     * @param restOverStream whether the rest requests to the clients of this factory are sent as stream requests,
+     *                       e.g. by a {@link com.linkedin.r2.transport.common.bridge.client.TransportClientAdapter}
+     *                       created with rest over stream. Without pipeline v2, the rest and stream requests are sent
+     *                       by different clients, and only the one sending the rest requests is warmed up.
+     */
+    public Builder setRestOverStream(boolean restOverStream)
+    {
+      _restOverStream = restOverStream;
+      return this;
+    }
+
     public Builder setUdsAddress(String udsAddress)
     {
       _udsAddress = udsAddress;
@@ -962,9 +1041,18 @@ public class HttpClientFactory implements TransportClientFactory
       EventLoopGroup eventLoopGroup = _eventLoopGroup;
       if (eventLoopGroup == null)
       {
-        eventLoopGroup = StringUtils.isEmpty(_udsAddress) ?
-              new NioEventLoopGroup(0 /* use default settings */, new NamedThreadFactory("R2 Nio Event Loop"))
-            : new EpollEventLoopGroup(0, new NamedThreadFactory("R2 Domain Socket Loop"));
+        if (!StringUtils.isEmpty(_udsAddress))
+        {
+          eventLoopGroup = new EpollEventLoopGroup(0, new NamedThreadFactory("R2 Domain Socket Loop"));
+        }
+        else if (_useNativeTransport && Epoll.isAvailable())
+        {
+          eventLoopGroup = new EpollEventLoopGroup(0, new NamedThreadFactory("R2 Epoll Event Loop"));
+        }
+        else
+        {
+          eventLoopGroup = new NioEventLoopGroup(0 /* use default settings */, new NamedThreadFactory("R2 Nio Event Loop"));
+        }
       }
 
       ScheduledExecutorService scheduledExecutorService = _executor;
@@ -1002,16 +1090,31 @@ public class HttpClientFactory implements TransportClientFactory
         _usePipelineV2 = false;
       }
 
+      if (_eventLoopAffine && !_usePipelineV2)
+      {
+        LOG.warn("Event loop affine callbacks are only supported by Pipeline V2, the callback executor is used.");
+      }
+
       return new HttpClientFactory(_filters, eventLoopGroup, _shutdownFactory, scheduledExecutorService,
         _shutdownExecutor, callbackExecutorGroup, _shutdownCallbackExecutor, _jmxManager,
         _requestCompressionThresholdDefault, _requestCompressionConfigs, _responseCompressionConfigs,
         compressionExecutor, _defaultHttpVersion, _shareConnection, eventProviderRegistry, _enableSSLSessionResumption,
           _usePipelineV2, executorsToShutDown, _connectTimeout, _sslHandShakeTimeout, _channelPoolWaiterTimeout,
-          _udsAddress, _dnsMetricsCallback);
+          _udsAddress, _dnsMetricsCallback, new SslSessionCache(_sslSessionCacheSize, _sslSessionTimeout),
+          _eventLoopAffine, _restOverStream);
     }
 
   }
 
+  /**
+   * @return the TLS session cache shared by the clients of this factory, with the statistics of their handshakes,
+   *         or null if the factory was not created by a {@link Builder}.
+   */
+  public SslSessionCache getSslSessionCache()
+  {
+    return _sslSessionCache;
+  }
+
   @Override
   public TransportClient getClient(Map<String, ? extends Object> properties)
   {
@@ -1471,7 +1574,7 @@ public class HttpClientFactory implements TransportClientFactory
 
       return new com.linkedin.r2.netty.client.HttpNettyClient(_eventLoopGroup, _executor, _callbackExecutorGroup,
           channelPoolManager, sslChannelPoolManager, httpProtocolVersion, SystemClock.instance(),
-              requestTimeout, streamingTimeout, shutdownTimeout, _udsAddress, _dnsMetricsCallback);
+              requestTimeout, streamingTimeout, shutdownTimeout, _udsAddress, _dnsMetricsCallback, _eventLoopAffine);
     }
 
     TransportClient streamClient;
@@ -1479,12 +1582,12 @@ public class HttpClientFactory implements TransportClientFactory
       case HTTP_1_1:
         streamClient = new HttpNettyStreamClient(_eventLoopGroup, _executor, requestTimeout, shutdownTimeout,
             _callbackExecutorGroup, _jmxManager, _channelPoolManagerFactory.buildStream(key),
-            _channelPoolManagerFactory.buildStream(sslKey));
+            _channelPoolManagerFactory.buildStream(sslKey), _udsAddress);
         break;
       case HTTP_2:
         streamClient = new Http2NettyStreamClient(_eventLoopGroup, _executor, requestTimeout, shutdownTimeout,
             _callbackExecutorGroup, _jmxManager, _channelPoolManagerFactory.buildHttp2Stream(key),
-            _channelPoolManagerFactory.buildHttp2Stream(sslKey));
+            _channelPoolManagerFactory.buildHttp2Stream(sslKey), _udsAddress);
         break;
       default:
         throw new IllegalArgumentException("Unrecognized HTTP protocol version " + httpProtocolVersion);
@@ -1492,9 +1595,10 @@ public class HttpClientFactory implements TransportClientFactory
 
     HttpNettyClient legacyClient =
         new HttpNettyClient(_eventLoopGroup, _executor, requestTimeout, shutdownTimeout, _callbackExecutorGroup,
-            _jmxManager, _channelPoolManagerFactory.buildRest(key), _channelPoolManagerFactory.buildRest(sslKey));
+            _jmxManager, _channelPoolManagerFactory.buildRest(key), _channelPoolManagerFactory.buildRest(sslKey),
+            _udsAddress);
 
-    return new MixedClient(legacyClient, streamClient);
+    return new MixedClient(legacyClient, streamClient, _restOverStream);
   }
 
   /**
@@ -1698,6 +1802,12 @@ public class HttpClientFactory implements TransportClientFactory
       _client.streamRequest(request, requestContext, wireAttrs, callback);
     }
 
+    @Override
+    public void warmUp(URI uri, int connections, Callback<None> callback)
+    {
+      _client.warmUp(uri, connections, callback);
+    }
+
     @Override
     public void shutdown(final Callback<None> callback)
     {
@@ -1750,11 +1860,13 @@ public class HttpClientFactory implements TransportClientFactory
   {
     private final TransportClient _legacyClient;
     private final TransportClient _streamClient;
+    private final boolean _restOverStream;
 
-    MixedClient(TransportClient legacyClient, TransportClient streamClient)
+    MixedClient(TransportClient legacyClient, TransportClient streamClient, boolean restOverStream)
     {
       _legacyClient = legacyClient;
       _streamClient = streamClient;
+      _restOverStream = restOverStream;
     }
 
     @Override
@@ -1775,6 +1887,20 @@ public class HttpClientFactory implements TransportClientFactory
       _streamClient.streamRequest(request, requestContext, wireAttrs, callback);
     }
 
+    @Override
+    public void warmUp(URI uri, int connections, Callback<None> callback)
+    {
+      // only the client sending the rest requests is warmed up, so as not to open twice the connections
+      if (_restOverStream)
+      {
+        _streamClient.warmUp(uri, connections, callback);
+      }
+      else
+      {
+        _legacyClient.warmUp(uri, connections, callback);
+      }
+    }
+
     @Override
     public void shutdown(final Callback<None> callback)
     {
@@ -23,6 +23,7 @@ import com.linkedin.r2.message.Request;
 import com.linkedin.r2.message.RequestContext;
 import com.linkedin.r2.message.Response;
 import com.linkedin.r2.message.rest.RestRequest;
+import com.linkedin.r2.message.rest.RestRequestBuilder;
 import com.linkedin.r2.message.rest.RestResponse;
 import com.linkedin.r2.message.stream.StreamRequest;
 import com.linkedin.r2.message.stream.StreamResponse;
@@ -44,8 +45,10 @@ import com.linkedin.r2.transport.http.client.PoolStats;
 import com.linkedin.r2.transport.http.client.TimeoutTransportCallback;
 import com.linkedin.r2.transport.http.common.HttpBridge;
 import io.netty.channel.group.DefaultChannelGroup;
+import io.netty.channel.unix.DomainSocketAddress;
 import io.netty.util.concurrent.GlobalEventExecutor;
 import java.net.SocketAddress;
+import java.net.URI;
 import java.net.UnknownHostException;
 import java.util.Map;
 import java.util.Set;
@@ -54,6 +57,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -84,6 +88,7 @@ public abstract class AbstractNettyClient<Req extends Request, Res extends Respo
   private final long _shutdownTimeout;
 
   private final AbstractJmxManager _jmxManager;
+  private final String _udsAddress;
 
   /**
    * Keeps track of the callbacks attached to the user's requests and in case of shutdown, it fires them
@@ -108,6 +113,21 @@ public abstract class AbstractNettyClient<Req extends Request, Res extends Respo
                              AbstractJmxManager jmxManager,
                              ChannelPoolManager channelPoolManager,
                              ChannelPoolManager sslChannelPoolManager)
+  {
+    this(executor, requestTimeout, shutdownTimeout, jmxManager, channelPoolManager, sslChannelPoolManager, null);
+  }
+
+  /**
+   * @param udsAddress                Unix domain socket all the requests are sent through, or null to connect
+   *                                  to the hosts of the requests
+   */
+  public AbstractNettyClient(ScheduledExecutorService executor,
+                             long requestTimeout,
+                             long shutdownTimeout,
+                             AbstractJmxManager jmxManager,
+                             ChannelPoolManager channelPoolManager,
+                             ChannelPoolManager sslChannelPoolManager,
+                             String udsAddress)
   {
     _scheduler = executor;
     _requestTimeout = requestTimeout;
@@ -115,6 +135,7 @@ public abstract class AbstractNettyClient<Req extends Request, Res extends Respo
     _jmxManager = jmxManager;
     _channelPoolManager = channelPoolManager;
     _sslChannelPoolManager = sslChannelPoolManager;
+    _udsAddress = udsAddress;
     _jmxManager.onProviderCreate(_channelPoolManager);
     _jmxManager.onProviderCreate(_sslChannelPoolManager);
   }
@@ -126,6 +147,7 @@ public abstract class AbstractNettyClient<Req extends Request, Res extends Respo
     _requestTimeout = requestTimeout;
     _shutdownTimeout = shutdownTimeout;
     _jmxManager = AbstractJmxManager.NULL_JMX_MANAGER;
+    _udsAddress = null;
     DefaultChannelGroup allChannels = new DefaultChannelGroup("R2 client channels", GlobalEventExecutor.INSTANCE);
 
     _channelPoolManager = new ChannelPoolManagerImpl(factory, allChannels, _scheduler);
@@ -221,7 +243,7 @@ public abstract class AbstractNettyClient<Req extends Request, Res extends Respo
     try
     {
       TimingContextUtil.markTiming(requestContext, TIMING_KEY);
-      address = HttpNettyClient.resolveAddress(request, requestContext);
+      address = resolveAddress(request, requestContext);
       TimingContextUtil.markTiming(requestContext, TIMING_KEY);
     }
     catch (UnknownHostException | UnknownSchemeException e)
@@ -233,6 +255,16 @@ public abstract class AbstractNettyClient<Req extends Request, Res extends Respo
     doWriteRequest(request, requestContext, address, wireAttrs, timeoutCallback, requestTimeout);
   }
 
+  private SocketAddress resolveAddress(Request request, RequestContext requestContext)
+      throws UnknownHostException, UnknownSchemeException
+  {
+    if (!StringUtils.isEmpty(_udsAddress))
+    {
+      return new DomainSocketAddress(_udsAddress);
+    }
+    return HttpNettyClient.resolveAddress(request, requestContext);
+  }
+
   private static boolean isSslRequest(Request request)
   {
     return "https".equals(request.getURI().getScheme());
@@ -243,6 +275,38 @@ public abstract class AbstractNettyClient<Req extends Request, Res extends Respo
     return isSslRequest(request) ? _sslChannelPoolManager : _channelPoolManager;
   }
 
+  @Override
+  public void warmUp(URI uri, int connections, Callback<None> callback)
+  {
+    if (_state.get() != NettyClientState.RUNNING)
+    {
+      callback.onError(new IllegalStateException("Client is not running"));
+      return;
+    }
+
+    final Request request = new RestRequestBuilder(uri).build();
+    final SocketAddress address;
+    try
+    {
+      address = resolveAddress(request, new RequestContext());
+    }
+    catch (Exception e)
+    {
+      callback.onError(e);
+      return;
+    }
+
+    getChannelPoolManagerPerRequest(request).warmUp(address, getWarmUpChannels(connections), callback);
+  }
+
+  /**
+   * @return the number of channels to establish when warming up the given number of connections to a host.
+   */
+  protected int getWarmUpChannels(int connections)
+  {
+    return connections;
+  }
+
 
   @Override
   public final void shutdown(final Callback<None> callback) {
@@ -23,12 +23,19 @@ package com.linkedin.r2.transport.http.client.common;
 
 import com.linkedin.r2.transport.http.client.AsyncPool;
 import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
 import io.netty.channel.epoll.Epoll;
 import io.netty.channel.epoll.EpollDomainSocketChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.kqueue.KQueue;
 import io.netty.channel.kqueue.KQueueDomainSocketChannel;
+import io.netty.channel.kqueue.KQueueEventLoopGroup;
+import io.netty.channel.kqueue.KQueueSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.channel.unix.DomainSocketChannel;
 import java.net.SocketAddress;
+import org.apache.commons.lang3.StringUtils;
 
 /**
  * @author Steven Ihde
@@ -51,4 +58,35 @@ public interface ChannelPoolFactory
       throw new IllegalStateException("Neither Epoll or Kqueue domain socket transport available");
     }
   }
+
+  /**
+   * Returns the class of the channels to bootstrap on the given event loop group. The native transport of the group is
+   * used when it has one, NIO otherwise.
+   *
+   * @param udsAddress the Unix domain socket to connect through, or null to connect to the hosts over TCP.
+   */
+  default Class<? extends Channel> getChannelClass(EventLoopGroup eventLoopGroup, String udsAddress)
+  {
+    if (!StringUtils.isEmpty(udsAddress))
+    {
+      if (eventLoopGroup instanceof EpollEventLoopGroup)
+      {
+        return EpollDomainSocketChannel.class;
+      }
+      if (eventLoopGroup instanceof KQueueEventLoopGroup)
+      {
+        return KQueueDomainSocketChannel.class;
+      }
+      return getDomainSocketClass();
+    }
+    if (eventLoopGroup instanceof EpollEventLoopGroup)
+    {
+      return EpollSocketChannel.class;
+    }
+    if (eventLoopGroup instanceof KQueueEventLoopGroup)
+    {
+      return KQueueSocketChannel.class;
+    }
+    return NioSocketChannel.class;
+  }
 }
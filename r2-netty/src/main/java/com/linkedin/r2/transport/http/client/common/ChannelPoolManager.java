@@ -17,6 +17,7 @@
 package com.linkedin.r2.transport.http.client.common;
 
 import com.linkedin.common.callback.Callback;
+import com.linkedin.common.callback.MultiCallback;
 import com.linkedin.common.util.None;
 import com.linkedin.r2.transport.http.client.AsyncPool;
 import com.linkedin.r2.transport.http.client.AsyncPoolStats;
@@ -43,6 +44,54 @@ public interface ChannelPoolManager extends PoolStatsProvider
 
   AsyncPool<Channel> getPoolForAddress(SocketAddress address) throws IllegalStateException;
 
+  /**
+   * Establishes channels to the given address ahead of the first request, by checking out the given number of channels
+   * from its pool at the same time and putting them back as soon as they are ready.
+   *
+   * @param address the address to connect to.
+   * @param channels the number of channels to establish.
+   * @param callback called once all the attempts completed, with an error if any of them failed.
+   */
+  default void warmUp(SocketAddress address, int channels, Callback<None> callback)
+  {
+    final AsyncPool<Channel> pool;
+    try
+    {
+      pool = getPoolForAddress(address);
+    }
+    catch (IllegalStateException e)
+    {
+      callback.onError(e);
+      return;
+    }
+
+    if (channels <= 0)
+    {
+      callback.onSuccess(None.none());
+      return;
+    }
+
+    final Callback<None> warmUpCallback = new MultiCallback(callback, channels);
+    for (int i = 0; i < channels; i++)
+    {
+      pool.get(new Callback<Channel>()
+      {
+        @Override
+        public void onError(Throwable e)
+        {
+          warmUpCallback.onError(e);
+        }
+
+        @Override
+        public void onSuccess(Channel channel)
+        {
+          pool.put(channel);
+          warmUpCallback.onSuccess(None.none());
+        }
+      });
+    }
+  }
+
   /**
    * Get statistics from each pool. The map keys represent pool names.
    * The values are the corresponding {@link AsyncPoolStats} objects.
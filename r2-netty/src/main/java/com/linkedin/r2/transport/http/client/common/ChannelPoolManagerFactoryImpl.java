@@ -20,6 +20,7 @@ import com.linkedin.common.callback.Callback;
 import com.linkedin.common.util.None;
 import com.linkedin.r2.netty.client.http.HttpChannelPoolFactory;
 import com.linkedin.r2.netty.client.http2.Http2ChannelPoolFactory;
+import com.linkedin.r2.netty.common.SslSessionCache;
 import com.linkedin.r2.transport.http.client.rest.HttpNettyChannelPoolFactory;
 import com.linkedin.r2.transport.http.client.stream.http.HttpNettyStreamChannelPoolFactory;
 import com.linkedin.r2.transport.http.client.stream.http2.Http2NettyStreamChannelPoolFactory;
@@ -56,6 +57,7 @@ public class ChannelPoolManagerFactoryImpl implements ChannelPoolManagerFactory
   private final int _channelPoolWaiterTimeout;
   private final int _connectTimeout;
   private final int _sslHandShakeTimeout;
+  private final SslSessionCache _sslSessionCache;
 
   /**
    * @param eventLoopGroup The EventLoopGroup; it is the caller's responsibility to shut
@@ -68,6 +70,18 @@ public class ChannelPoolManagerFactoryImpl implements ChannelPoolManagerFactory
   public ChannelPoolManagerFactoryImpl(EventLoopGroup eventLoopGroup, ScheduledExecutorService scheduler,
       boolean enableSSLSessionResumption, boolean usePipelineV2, int channelPoolWaiterTimeout,
       int connectTimeout, int sslHandShakeTimeout)
+  {
+    this(eventLoopGroup, scheduler, enableSSLSessionResumption, usePipelineV2, channelPoolWaiterTimeout, connectTimeout,
+        sslHandShakeTimeout, null);
+  }
+
+  /**
+   * @param sslSessionCache The TLS session cache shared by all the channel pool managers built by this factory,
+   *                        or null to leave the session caches of the SSL contexts untouched.
+   */
+  public ChannelPoolManagerFactoryImpl(EventLoopGroup eventLoopGroup, ScheduledExecutorService scheduler,
+      boolean enableSSLSessionResumption, boolean usePipelineV2, int channelPoolWaiterTimeout,
+      int connectTimeout, int sslHandShakeTimeout, SslSessionCache sslSessionCache)
   {
     _eventLoopGroup = eventLoopGroup;
     _scheduler = scheduler;
@@ -76,11 +90,13 @@ public class ChannelPoolManagerFactoryImpl implements ChannelPoolManagerFactory
     _channelPoolWaiterTimeout = channelPoolWaiterTimeout;
     _connectTimeout = connectTimeout;
     _sslHandShakeTimeout = sslHandShakeTimeout;
+    _sslSessionCache = sslSessionCache;
   }
 
   @Override
   public ChannelPoolManager buildRest(ChannelPoolManagerKey channelPoolManagerKey)
   {
+    registerSslContext(channelPoolManagerKey);
     DefaultChannelGroup channelGroup = new DefaultChannelGroup("R2 client channels", _eventLoopGroup.next());
 
     // Logs a warning if the configured max response size exceeds the maximum integer value. Only the lower 32-bit
@@ -111,7 +127,9 @@ public class ChannelPoolManagerFactoryImpl implements ChannelPoolManagerFactory
         channelGroup,
         _channelPoolWaiterTimeout,
         _connectTimeout,
-        _sslHandShakeTimeout),
+        _sslHandShakeTimeout,
+        channelPoolManagerKey.getUdsAddress(),
+        _sslSessionCache),
       channelPoolManagerKey.getName(),
       channelGroup,
       _scheduler);
@@ -120,6 +138,7 @@ public class ChannelPoolManagerFactoryImpl implements ChannelPoolManagerFactory
   @Override
   public ChannelPoolManager buildStream(ChannelPoolManagerKey channelPoolManagerKey)
   {
+    registerSslContext(channelPoolManagerKey);
     DefaultChannelGroup channelGroup = new DefaultChannelGroup("R2 client channels", _eventLoopGroup.next());
     ChannelPoolFactory channelPoolFactory;
     if (_usePipelineV2)
@@ -145,7 +164,8 @@ public class ChannelPoolManagerFactoryImpl implements ChannelPoolManagerFactory
           _channelPoolWaiterTimeout,
           _connectTimeout,
           _sslHandShakeTimeout,
-          channelPoolManagerKey.getUdsAddress());
+          channelPoolManagerKey.getUdsAddress(),
+          _sslSessionCache);
     }
     else
     {
@@ -168,7 +188,9 @@ public class ChannelPoolManagerFactoryImpl implements ChannelPoolManagerFactory
           channelGroup,
           _channelPoolWaiterTimeout,
           _connectTimeout,
-          _sslHandShakeTimeout);
+          _sslHandShakeTimeout,
+          channelPoolManagerKey.getUdsAddress(),
+          _sslSessionCache);
     }
     return new ChannelPoolManagerImpl(
         channelPoolFactory,
@@ -180,6 +202,7 @@ public class ChannelPoolManagerFactoryImpl implements ChannelPoolManagerFactory
   @Override
   public ChannelPoolManager buildHttp2Stream(ChannelPoolManagerKey channelPoolManagerKey)
   {
+    registerSslContext(channelPoolManagerKey);
     DefaultChannelGroup channelGroup = new DefaultChannelGroup("R2 client channels", _eventLoopGroup.next());
     ChannelPoolFactory channelPoolFactory;
 
@@ -204,7 +227,8 @@ public class ChannelPoolManagerFactoryImpl implements ChannelPoolManagerFactory
           _enableSSLSessionResumption,
           _connectTimeout,
           _sslHandShakeTimeout,
-          channelPoolManagerKey.getUdsAddress());
+          channelPoolManagerKey.getUdsAddress(),
+          _sslSessionCache);
     }
     else
     {
@@ -224,7 +248,9 @@ public class ChannelPoolManagerFactoryImpl implements ChannelPoolManagerFactory
           _eventLoopGroup,
           channelGroup,
           _connectTimeout,
-          _sslHandShakeTimeout);
+          _sslHandShakeTimeout,
+          channelPoolManagerKey.getUdsAddress(),
+          _sslSessionCache);
     }
 
     return new ChannelPoolManagerImpl(
@@ -234,6 +260,14 @@ public class ChannelPoolManagerFactoryImpl implements ChannelPoolManagerFactory
       _scheduler);
   }
 
+  private void registerSslContext(ChannelPoolManagerKey channelPoolManagerKey)
+  {
+    if (_sslSessionCache != null && channelPoolManagerKey.getSslContext() != null)
+    {
+      _sslSessionCache.register(channelPoolManagerKey.getSslContext());
+    }
+  }
+
   /**
    * The standard {@link ChannelPoolManagerFactoryImpl} is stateless, and doesn't need to do any operation at shutdown
    */
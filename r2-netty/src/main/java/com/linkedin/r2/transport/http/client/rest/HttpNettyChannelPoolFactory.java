@@ -18,6 +18,7 @@ package com.linkedin.r2.transport.http.client.rest;
 
 import com.linkedin.common.stats.NoopLongTracker;
 import com.linkedin.r2.netty.common.SslHandlerUtil;
+import com.linkedin.r2.netty.common.SslSessionCache;
 import com.linkedin.r2.netty.handler.common.SessionResumptionSslHandler;
 import com.linkedin.r2.transport.http.client.AsyncPool;
 import com.linkedin.r2.transport.http.client.AsyncPoolImpl;
@@ -31,7 +32,6 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.HttpClientCodec;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import java.net.SocketAddress;
@@ -63,16 +63,28 @@ public class HttpNettyChannelPoolFactory implements ChannelPoolFactory
                                      boolean enableSSLSessionResumption, ChannelGroup allChannels, int channelPoolWaiterTimeout,
                                      int connectTimeout, int sslHandShakeTimeout)
   {
+    this(maxPoolSize, idleTimeout, maxPoolWaiterSize, strategy, minPoolSize, eventLoopGroup, sslContext, sslParameters,
+        maxHeaderSize, maxChunkSize, maxResponseSize, scheduler, maxConcurrentConnectionInitializations,
+        enableSSLSessionResumption, allChannels, channelPoolWaiterTimeout, connectTimeout, sslHandShakeTimeout, null, null);
+  }
+
+  public HttpNettyChannelPoolFactory(int maxPoolSize, long idleTimeout, int maxPoolWaiterSize, AsyncPoolImpl.Strategy strategy,
+                                     int minPoolSize, EventLoopGroup eventLoopGroup, SSLContext sslContext, SSLParameters sslParameters, int maxHeaderSize,
+                                     int maxChunkSize, int maxResponseSize, ScheduledExecutorService scheduler, int maxConcurrentConnectionInitializations,
+                                     boolean enableSSLSessionResumption, ChannelGroup allChannels, int channelPoolWaiterTimeout,
+                                     int connectTimeout, int sslHandShakeTimeout, String udsAddress,
+                                     SslSessionCache sslSessionCache)
+  {
 
     _allChannels = allChannels;
     _scheduler = scheduler;
     _maxConcurrentConnectionInitializations = maxConcurrentConnectionInitializations;
     _channelPoolWaiterTimeout = channelPoolWaiterTimeout;
     Bootstrap bootstrap = new Bootstrap().group(eventLoopGroup)
-      .channel(NioSocketChannel.class)
+      .channel(getChannelClass(eventLoopGroup, udsAddress))
       .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout)
       .handler(new HttpClientPipelineInitializer(sslContext, sslParameters, maxHeaderSize, maxChunkSize, maxResponseSize,
-          enableSSLSessionResumption, sslHandShakeTimeout));
+          enableSSLSessionResumption, sslHandShakeTimeout, sslSessionCache));
 
     _bootstrap = bootstrap;
     _maxPoolSize = maxPoolSize;
@@ -107,7 +119,7 @@ public class HttpNettyChannelPoolFactory implements ChannelPoolFactory
     );
   }
 
-  static class HttpClientPipelineInitializer extends ChannelInitializer<NioSocketChannel>
+  static class HttpClientPipelineInitializer extends ChannelInitializer<Channel>
   {
     private final SSLContext _sslContext;
     private final SSLParameters _sslParameters;
@@ -120,6 +132,7 @@ public class HttpNettyChannelPoolFactory implements ChannelPoolFactory
     private final int _maxResponseSize;
     private final boolean _enableSSLSessionResumption;
     private final int _sslSessionTimeout;
+    private final SslSessionCache _sslSessionCache;
 
     /**
      * Creates new instance. If sslParameters is present the PipelineInitializer
@@ -133,28 +146,31 @@ public class HttpNettyChannelPoolFactory implements ChannelPoolFactory
      * @param maxChunkSize
      * @param maxResponseSize
      * @param enableSSLSessionResumption
+     * @param sslSessionCache records the handshakes of the channels, may be null
      */
     public HttpClientPipelineInitializer(SSLContext sslContext, SSLParameters sslParameters, int maxHeaderSize,
                                          int maxChunkSize, int maxResponseSize, boolean enableSSLSessionResumption,
-                                         int sslSessionTimeout)
+                                         int sslSessionTimeout, SslSessionCache sslSessionCache)
     {
       _maxHeaderSize = maxHeaderSize;
       _maxChunkSize = maxChunkSize;
       _maxResponseSize = maxResponseSize;
       _enableSSLSessionResumption = enableSSLSessionResumption;
       _sslSessionTimeout = sslSessionTimeout;
+      _sslSessionCache = sslSessionCache;
       SslHandlerUtil.validateSslParameters(sslContext, sslParameters);
       _sslContext = sslContext;
       _sslParameters = sslParameters;
     }
 
     @Override
-    protected void initChannel(NioSocketChannel ch) throws Exception
+    protected void initChannel(Channel ch) throws Exception
     {
       if (_sslContext != null)
       {
         ch.pipeline().addLast(SessionResumptionSslHandler.PIPELINE_SESSION_RESUMPTION_HANDLER,
-          new SessionResumptionSslHandler(_sslContext, _sslParameters, _enableSSLSessionResumption, _sslSessionTimeout));
+          new SessionResumptionSslHandler(_sslContext, _sslParameters, _enableSSLSessionResumption, _sslSessionTimeout,
+              _sslSessionCache));
       }
       ch.pipeline().addLast("codec", new HttpClientCodec(4096, _maxHeaderSize, _maxChunkSize));
       ch.pipeline().addLast("dechunker", new HttpObjectAggregator(_maxResponseSize));
@@ -83,7 +83,7 @@ class RAPClientCodec extends ChannelDuplexHandler
         path = "/";
       }
       ByteString entity = request.getEntity();
-      ByteBuf content = Unpooled.wrappedBuffer(entity.asByteBuffer());
+      ByteBuf content = Unpooled.wrappedBuffer(entity.asByteBuffers());
       FullHttpRequest nettyRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, nettyMethod, path, content);
 
       NettyRequestAdapter.setHttpHeadersAndCookies(request, url, nettyRequest);
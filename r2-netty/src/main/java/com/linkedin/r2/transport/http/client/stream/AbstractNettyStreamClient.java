@@ -76,7 +76,16 @@ public abstract class AbstractNettyStreamClient extends AbstractNettyClient<Stre
                                    long shutdownTimeout, ExecutorService callbackExecutors, AbstractJmxManager jmxManager,
                                    ChannelPoolManager channelPoolManager, ChannelPoolManager sslChannelPoolManager)
   {
-    super(executor, requestTimeout, shutdownTimeout, jmxManager, channelPoolManager, sslChannelPoolManager);
+    this(eventLoopGroup, executor, requestTimeout, shutdownTimeout, callbackExecutors, jmxManager, channelPoolManager,
+        sslChannelPoolManager, null);
+  }
+
+  public AbstractNettyStreamClient(EventLoopGroup eventLoopGroup, ScheduledExecutorService executor, long requestTimeout,
+                                   long shutdownTimeout, ExecutorService callbackExecutors, AbstractJmxManager jmxManager,
+                                   ChannelPoolManager channelPoolManager, ChannelPoolManager sslChannelPoolManager,
+                                   String udsAddress)
+  {
+    super(executor, requestTimeout, shutdownTimeout, jmxManager, channelPoolManager, sslChannelPoolManager, udsAddress);
     _callbackExecutors = callbackExecutors == null ? eventLoopGroup : callbackExecutors;
   }
 
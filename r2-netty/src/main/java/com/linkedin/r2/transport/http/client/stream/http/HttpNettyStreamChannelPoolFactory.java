@@ -17,6 +17,7 @@
 package com.linkedin.r2.transport.http.client.stream.http;
 
 import com.linkedin.common.stats.NoopLongTracker;
+import com.linkedin.r2.netty.common.SslSessionCache;
 import com.linkedin.r2.transport.http.client.AsyncPool;
 import com.linkedin.r2.transport.http.client.AsyncPoolImpl;
 import com.linkedin.r2.transport.http.client.common.ChannelPoolFactory;
@@ -30,7 +31,6 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
-import io.netty.channel.socket.nio.NioSocketChannel;
 
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLParameters;
@@ -74,12 +74,40 @@ public class HttpNettyStreamChannelPoolFactory implements ChannelPoolFactory
                                            int connectTimeout,
                                            int sslHandShakeTimeout)
   {
-    ChannelInitializer<NioSocketChannel> initializer =
+    this(maxPoolSize, idleTimeout, maxPoolWaiterSize, strategy, minPoolSize, tcpNoDelay, scheduler,
+        maxConcurrentConnectionInitializations, sslContext, sslParameters, maxHeaderSize, maxChunkSize, maxResponseSize,
+        enableSSLSessionResumption, eventLoopGroup, channelGroup, channelPoolWaiterTimeout, connectTimeout,
+        sslHandShakeTimeout, null, null);
+  }
+
+  public HttpNettyStreamChannelPoolFactory(int maxPoolSize,
+                                           long idleTimeout,
+                                           int maxPoolWaiterSize,
+                                           AsyncPoolImpl.Strategy strategy,
+                                           int minPoolSize,
+                                           boolean tcpNoDelay,
+                                           ScheduledExecutorService scheduler,
+                                           int maxConcurrentConnectionInitializations,
+                                           SSLContext sslContext,
+                                           SSLParameters sslParameters,
+                                           int maxHeaderSize,
+                                           int maxChunkSize,
+                                           long maxResponseSize,
+                                           boolean enableSSLSessionResumption,
+                                           EventLoopGroup eventLoopGroup,
+                                           ChannelGroup channelGroup,
+                                           int channelPoolWaiterTimeout,
+                                           int connectTimeout,
+                                           int sslHandShakeTimeout,
+                                           String udsAddress,
+                                           SslSessionCache sslSessionCache)
+  {
+    ChannelInitializer<Channel> initializer =
       new RAPStreamClientPipelineInitializer(sslContext, sslParameters, maxHeaderSize, maxChunkSize, maxResponseSize,
-          enableSSLSessionResumption, sslHandShakeTimeout);
+          enableSSLSessionResumption, sslHandShakeTimeout, sslSessionCache);
 
     Bootstrap bootstrap = new Bootstrap().group(eventLoopGroup)
-      .channel(NioSocketChannel.class)
+      .channel(getChannelClass(eventLoopGroup, udsAddress))
       .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout)
       .handler(initializer);
 
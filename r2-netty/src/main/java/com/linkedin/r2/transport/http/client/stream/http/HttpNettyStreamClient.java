@@ -79,9 +79,23 @@ public class HttpNettyStreamClient extends AbstractNettyStreamClient
                                AbstractJmxManager jmxManager,
                                ChannelPoolManager channelPoolManager,
                                ChannelPoolManager sslChannelPoolManager)
+  {
+    this(eventLoopGroup, executor, requestTimeout, shutdownTimeout, callbackExecutors, jmxManager, channelPoolManager,
+        sslChannelPoolManager, null);
+  }
+
+  public HttpNettyStreamClient(EventLoopGroup eventLoopGroup,
+                               ScheduledExecutorService executor,
+                               long requestTimeout,
+                               long shutdownTimeout,
+                               ExecutorService callbackExecutors,
+                               AbstractJmxManager jmxManager,
+                               ChannelPoolManager channelPoolManager,
+                               ChannelPoolManager sslChannelPoolManager,
+                               String udsAddress)
   {
     super(eventLoopGroup, executor, requestTimeout, shutdownTimeout, callbackExecutors,
-      jmxManager, channelPoolManager, sslChannelPoolManager);
+      jmxManager, channelPoolManager, sslChannelPoolManager, udsAddress);
   }
 
   /* Constructor for test purpose ONLY. */
@@ -16,9 +16,10 @@
 
 package com.linkedin.r2.transport.http.client.stream.http;
 
+import com.linkedin.r2.netty.common.SslSessionCache;
 import com.linkedin.r2.netty.handler.common.SessionResumptionSslHandler;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.HttpClientCodec;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -32,7 +33,7 @@ import org.slf4j.LoggerFactory;
 /**
  * Netty HTTP/1.1 streaming implementation of {@link ChannelInitializer}
  */
-public class RAPStreamClientPipelineInitializer extends ChannelInitializer<NioSocketChannel>
+public class RAPStreamClientPipelineInitializer extends ChannelInitializer<Channel>
 {
   static final Logger LOG = LoggerFactory.getLogger(RAPStreamClientPipelineInitializer.class);
 
@@ -43,6 +44,7 @@ public class RAPStreamClientPipelineInitializer extends ChannelInitializer<NioSo
   private final long _maxResponseSize;
   private final boolean _enableSSLSessionResumption;
   private final int _sslHandShakeTimeout;
+  private final SslSessionCache _sslSessionCache;
 
   /**
    * Creates new instance.
@@ -52,10 +54,11 @@ public class RAPStreamClientPipelineInitializer extends ChannelInitializer<NioSo
    *          SSLContext.getDefaultSSLParameters(), but those turned out to be
    *          exceedingly difficult to configure, so we can't pass all desired
    *          configuration in sslContext.
+   * @param sslSessionCache records the handshakes of the channels, may be null.
    */
   RAPStreamClientPipelineInitializer(SSLContext sslContext, SSLParameters sslParameters, int maxHeaderSize,
                                      int maxChunkSize, long maxResponseSize, boolean enableSSLSessionResumption,
-                                     int sslHandShakeTimeout)
+                                     int sslHandShakeTimeout, SslSessionCache sslSessionCache)
   {
     // Check if requested parameters are present in the supported params of the context.
     // Log warning for those not present. Throw an exception if none present.
@@ -89,6 +92,7 @@ public class RAPStreamClientPipelineInitializer extends ChannelInitializer<NioSo
     _maxResponseSize = maxResponseSize;
     _enableSSLSessionResumption = enableSSLSessionResumption;
     _sslHandShakeTimeout = sslHandShakeTimeout;
+    _sslSessionCache = sslSessionCache;
   }
 
   /**
@@ -125,12 +129,13 @@ public class RAPStreamClientPipelineInitializer extends ChannelInitializer<NioSo
   }
 
   @Override
-  protected void initChannel(NioSocketChannel ch)
+  protected void initChannel(Channel ch)
   {
     if (_sslContext != null)
     {
       ch.pipeline().addLast(SessionResumptionSslHandler.PIPELINE_SESSION_RESUMPTION_HANDLER,
-          new SessionResumptionSslHandler(_sslContext, _sslParameters, _enableSSLSessionResumption, _sslHandShakeTimeout));
+          new SessionResumptionSslHandler(_sslContext, _sslParameters, _enableSSLSessionResumption, _sslHandShakeTimeout,
+              _sslSessionCache));
     }
     ch.pipeline().addLast("codec", new HttpClientCodec(4096, _maxHeaderSize, _maxChunkSize));
     ch.pipeline().addLast("rapFullRequestEncoder", new RAPStreamFullRequestEncoder());
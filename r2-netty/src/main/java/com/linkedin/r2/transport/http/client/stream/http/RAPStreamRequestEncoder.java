@@ -109,7 +109,7 @@ class RAPStreamRequestEncoder extends ChannelDuplexHandler
 
     public void onDataAvailable(final ByteString data)
     {
-      HttpContent content = new DefaultHttpContent(Unpooled.wrappedBuffer(data.asByteBuffer()));
+      HttpContent content = new DefaultHttpContent(Unpooled.wrappedBuffer(data.asByteBuffers()));
       _ctx.write(content).addListener(new ChannelFutureListener()
       {
         @Override
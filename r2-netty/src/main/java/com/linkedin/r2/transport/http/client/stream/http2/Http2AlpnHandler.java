@@ -25,6 +25,7 @@ import com.linkedin.r2.transport.common.bridge.common.TransportCallback;
 import com.linkedin.r2.transport.common.bridge.common.TransportResponseImpl;
 import com.linkedin.r2.transport.http.client.TimeoutAsyncPoolHandle;
 import com.linkedin.r2.netty.handler.common.SessionResumptionSslHandler;
+import com.linkedin.r2.netty.common.SslSessionCache;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelException;
 import io.netty.channel.ChannelFuture;
@@ -58,9 +59,16 @@ class Http2AlpnHandler extends ChannelDuplexHandler
   private ChannelPromise _alpnPromise;
   private final boolean _enableSSLSessionResumption;
   private final int _sslHandShakeTimeout;
+  private final SslSessionCache _sslSessionCache;
 
   public Http2AlpnHandler(SslContext sslContext, Http2StreamCodec http2Handler, boolean enableSSLSessionResumption,
       int sslHandShakeTimeout)
+  {
+    this(sslContext, http2Handler, enableSSLSessionResumption, sslHandShakeTimeout, null);
+  }
+
+  public Http2AlpnHandler(SslContext sslContext, Http2StreamCodec http2Handler, boolean enableSSLSessionResumption,
+      int sslHandShakeTimeout, SslSessionCache sslSessionCache)
   {
     ObjectUtil.checkNotNull(sslContext, "sslContext");
     ObjectUtil.checkNotNull(http2Handler, "http2Handler");
@@ -69,6 +77,7 @@ class Http2AlpnHandler extends ChannelDuplexHandler
     _http2Handler = http2Handler;
     _enableSSLSessionResumption = enableSSLSessionResumption;
     _sslHandShakeTimeout = sslHandShakeTimeout;
+    _sslSessionCache = sslSessionCache;
   }
 
   @Override
@@ -78,7 +87,8 @@ class Http2AlpnHandler extends ChannelDuplexHandler
 
     // the class will take care of establishing the SSL connection
     ctx.pipeline().addFirst(SessionResumptionSslHandler.PIPELINE_SESSION_RESUMPTION_HANDLER,
-      new SessionResumptionSslHandler(_sslContext, _enableSSLSessionResumption, _sslHandShakeTimeout));
+      new SessionResumptionSslHandler(_sslContext, _enableSSLSessionResumption, _sslHandShakeTimeout,
+        _sslSessionCache));
 
     // Fail the ALPN promise when channel is closed
     ctx.channel().closeFuture().addListener(future -> {
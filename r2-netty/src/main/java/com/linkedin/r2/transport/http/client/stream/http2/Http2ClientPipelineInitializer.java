@@ -16,9 +16,9 @@
 
 package com.linkedin.r2.transport.http.client.stream.http2;
 
+import com.linkedin.r2.netty.common.SslSessionCache;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.HttpClientCodec;
 import io.netty.handler.codec.http.HttpClientUpgradeHandler;
 import io.netty.handler.codec.http.HttpScheme;
@@ -43,7 +43,7 @@ import org.slf4j.LoggerFactory;
 /**
  * Initializes Netty HTTP/2 streaming pipeline implementation of {@link io.netty.channel.ChannelInitializer}
  */
-class Http2ClientPipelineInitializer extends ChannelInitializer<NioSocketChannel>
+class Http2ClientPipelineInitializer extends ChannelInitializer<Channel>
 {
   private static final Logger LOG = LoggerFactory.getLogger(Http2ClientPipelineInitializer.class);
 
@@ -66,11 +66,21 @@ class Http2ClientPipelineInitializer extends ChannelInitializer<NioSocketChannel
       = AttributeKey.valueOf("Handle");
   private final boolean _enableSSLSessionResumption;
   private final int _sslHandShakeTimeout;
+  private final SslSessionCache _sslSessionCache;
 
   public Http2ClientPipelineInitializer(SSLContext sslContext, SSLParameters sslParameters,
                                         int maxHeaderSize, int maxChunkSize, long maxResponseSize,
                                         long gracefulShutdownTimeout, boolean enableSSLSessionResumption,
                                         int sslHandShakeTimeout)
+  {
+    this(sslContext, sslParameters, maxHeaderSize, maxChunkSize, maxResponseSize, gracefulShutdownTimeout,
+        enableSSLSessionResumption, sslHandShakeTimeout, null);
+  }
+
+  public Http2ClientPipelineInitializer(SSLContext sslContext, SSLParameters sslParameters,
+                                        int maxHeaderSize, int maxChunkSize, long maxResponseSize,
+                                        long gracefulShutdownTimeout, boolean enableSSLSessionResumption,
+                                        int sslHandShakeTimeout, SslSessionCache sslSessionCache)
   {
     // Check if requested parameters are present in the supported params of the context.
     // Log warning for those not present. Throw an exception if none present.
@@ -105,10 +115,11 @@ class Http2ClientPipelineInitializer extends ChannelInitializer<NioSocketChannel
     _gracefulShutdownTimeout = gracefulShutdownTimeout;
     _enableSSLSessionResumption = enableSSLSessionResumption;
     _sslHandShakeTimeout = sslHandShakeTimeout;
+    _sslSessionCache = sslSessionCache;
   }
 
   @Override
-  protected void initChannel(NioSocketChannel channel) throws Exception
+  protected void initChannel(Channel channel) throws Exception
   {
     Http2Connection connection = new DefaultHttp2Connection(false /* not server */);
     channel.attr(HTTP2_CONNECTION_ATTR_KEY).set(connection);
@@ -159,7 +170,7 @@ class Http2ClientPipelineInitializer extends ChannelInitializer<NioSocketChannel
    * Sets up HTTP/2 over TLS through ALPN (h2) pipeline
    */
   @SuppressWarnings("deprecation")
-  private void configureHttpsPipeline(NioSocketChannel ctx, Http2Connection connection) throws Exception
+  private void configureHttpsPipeline(Channel ctx, Http2Connection connection) throws Exception
   {
     JdkSslContext context = new JdkSslContext(
       _sslContext,
@@ -182,7 +193,8 @@ class Http2ClientPipelineInitializer extends ChannelInitializer<NioSocketChannel
       .gracefulShutdownTimeoutMillis(_gracefulShutdownTimeout)
       .build();
 
-    Http2AlpnHandler alpnHandler = new Http2AlpnHandler(context, http2Codec, _enableSSLSessionResumption, _sslHandShakeTimeout);
+    Http2AlpnHandler alpnHandler = new Http2AlpnHandler(context, http2Codec, _enableSSLSessionResumption, _sslHandShakeTimeout,
+        _sslSessionCache);
     Http2SchemeHandler schemeHandler = new Http2SchemeHandler(HttpScheme.HTTPS.toString());
     Http2StreamResponseHandler responseHandler = new Http2StreamResponseHandler();
 
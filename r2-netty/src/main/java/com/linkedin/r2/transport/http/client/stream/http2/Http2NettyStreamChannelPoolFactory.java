@@ -17,6 +17,7 @@
 package com.linkedin.r2.transport.http.client.stream.http2;
 
 import com.linkedin.common.stats.NoopLongTracker;
+import com.linkedin.r2.netty.common.SslSessionCache;
 import com.linkedin.r2.transport.http.client.AsyncPool;
 import com.linkedin.r2.transport.http.client.AsyncSharedPoolImpl;
 import com.linkedin.r2.transport.http.client.common.ChannelPoolFactory;
@@ -30,7 +31,6 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
-import io.netty.channel.socket.nio.NioSocketChannel;
 
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLParameters;
@@ -66,11 +66,33 @@ public class Http2NettyStreamChannelPoolFactory implements ChannelPoolFactory
     EventLoopGroup eventLoopGroup,
     ChannelGroup channelGroup, int connectTimeout, int sslHandShakeTimeout)
   {
-    ChannelInitializer<NioSocketChannel> initializer = new Http2ClientPipelineInitializer(
+    this(idleTimeout, maxPoolWaiterSize, minPoolSize, tcpNoDelay, scheduler, sslContext, sslParameters,
+        gracefulShutdownTimeout, maxHeaderSize, maxChunkSize, maxResponseSize, enableSSLSessionResumption, eventLoopGroup,
+        channelGroup, connectTimeout, sslHandShakeTimeout, null, null);
+  }
+
+  public Http2NettyStreamChannelPoolFactory(
+    long idleTimeout,
+    int maxPoolWaiterSize,
+    int minPoolSize,
+    boolean tcpNoDelay,
+    ScheduledExecutorService scheduler,
+    SSLContext sslContext,
+    SSLParameters sslParameters,
+    int gracefulShutdownTimeout,
+    int maxHeaderSize,
+    int maxChunkSize,
+    long maxResponseSize,
+    boolean enableSSLSessionResumption,
+    EventLoopGroup eventLoopGroup,
+    ChannelGroup channelGroup, int connectTimeout, int sslHandShakeTimeout, String udsAddress,
+    SslSessionCache sslSessionCache)
+  {
+    ChannelInitializer<Channel> initializer = new Http2ClientPipelineInitializer(
       sslContext, sslParameters, maxHeaderSize, maxChunkSize, maxResponseSize, gracefulShutdownTimeout,
-        enableSSLSessionResumption, sslHandShakeTimeout);
+        enableSSLSessionResumption, sslHandShakeTimeout, sslSessionCache);
 
-    _bootstrap = new Bootstrap().group(eventLoopGroup).channel(NioSocketChannel.class).
+    _bootstrap = new Bootstrap().group(eventLoopGroup).channel(getChannelClass(eventLoopGroup, udsAddress)).
         option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout).handler(initializer);
     _idleTimeout = idleTimeout;
     _maxPoolWaiterSize = maxPoolWaiterSize;
@@ -76,9 +76,21 @@ public class Http2NettyStreamClient extends AbstractNettyStreamClient
                                 AbstractJmxManager jmxManager,
                                 ChannelPoolManager channelPoolManager,
                                 ChannelPoolManager sslChannelPoolManager)
+  {
+    this(eventLoopGroup, scheduler, requestTimeout, shutdownTimeout, callbackExecutors, jmxManager, channelPoolManager,
+        sslChannelPoolManager, null);
+  }
+
+  public Http2NettyStreamClient(EventLoopGroup eventLoopGroup, ScheduledExecutorService scheduler,
+                                long requestTimeout, long shutdownTimeout,
+                                ExecutorService callbackExecutors,
+                                AbstractJmxManager jmxManager,
+                                ChannelPoolManager channelPoolManager,
+                                ChannelPoolManager sslChannelPoolManager,
+                                String udsAddress)
   {
     super(eventLoopGroup, scheduler, requestTimeout, shutdownTimeout, callbackExecutors,
-      jmxManager, channelPoolManager, sslChannelPoolManager);
+      jmxManager, channelPoolManager, sslChannelPoolManager, udsAddress);
   }
 
   @Override
@@ -107,6 +119,15 @@ public class Http2NettyStreamClient extends AbstractNettyStreamClient
     }
   }
 
+  /**
+   * All the streams share a single connection, so there is only one channel to establish.
+   */
+  @Override
+  protected int getWarmUpChannels(int connections)
+  {
+    return Math.min(1, connections);
+  }
+
   private class ChannelPoolGetCallback implements Callback<Channel>
   {
     private final AsyncPool<Channel> _pool;
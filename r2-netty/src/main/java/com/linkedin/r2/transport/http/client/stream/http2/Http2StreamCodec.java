@@ -111,7 +111,7 @@ class Http2StreamCodec extends Http2ConnectionHandler
       headersFuture.addListener(future -> {
         if (future.isSuccess())
         {
-          final ByteBuf data = Unpooled.wrappedBuffer(restRequest.getEntity().asByteBuffer());
+          final ByteBuf data = Unpooled.wrappedBuffer(restRequest.getEntity().asByteBuffers());
           LOG.debug("Sent HTTP/2 DATA frame, stream={}, end={}, data={}bytes, padding={}bytes",
               new Object[]{streamId, END_STREAM, data.readableBytes(), NO_PADDING});
           encoder.writeData(ctx, streamId, data, NO_PADDING, END_STREAM, ctx.newPromise());
@@ -279,7 +279,7 @@ class Http2StreamCodec extends Http2ConnectionHandler
     @Override
     public void onDataAvailable(final ByteString data)
     {
-      ByteBuf content = Unpooled.wrappedBuffer(data.asByteBuffer());
+      ByteBuf content = Unpooled.wrappedBuffer(data.asByteBuffers());
       _encoder.writeData(_ctx, _streamId, content, NO_PADDING, NOT_END_STREAM, _ctx.channel().newPromise())
           .addListener(future -> _readHandle.request(1));
       LOG.debug("Sent HTTP/2 DATA frame, stream={}, end={}, data={}bytes, padding={}bytes",
@@ -47,6 +47,7 @@ import javax.net.ssl.SSLParameters;
   private final SSLContext _sslContext;
   private final SSLParameters _sslParameters;
   private final int _startupTimeoutMillis;
+  private final boolean _eventLoopAffine;
 
   private NioEventLoopGroup _bossGroup;
   private NioEventLoopGroup _workerGroup;
@@ -76,6 +77,18 @@ import javax.net.ssl.SSLParameters;
 
   public HttpNettyServer(int port, int threadPoolSize, HttpDispatcher dispatcher, boolean restOverStream,
                          SSLContext sslContext, SSLParameters sslParameters, int startupTimeoutMillis)
+  {
+    this(port, threadPoolSize, dispatcher, restOverStream, sslContext, sslParameters, startupTimeoutMillis, false);
+  }
+
+  /**
+   * @param eventLoopAffine if true, the requests are dispatched on the event loops which received them instead of a
+   *                        pool of threadPoolSize threads, and the event loop is set in the request context under
+   *                        {@link R2Constants#EVENT_LOOP}. The dispatcher must not block.
+   */
+  public HttpNettyServer(int port, int threadPoolSize, HttpDispatcher dispatcher, boolean restOverStream,
+                         SSLContext sslContext, SSLParameters sslParameters, int startupTimeoutMillis,
+                         boolean eventLoopAffine)
   {
     _port = port;
     _threadPoolSize = threadPoolSize;
@@ -84,12 +97,13 @@ import javax.net.ssl.SSLParameters;
     _sslContext = sslContext;
     _sslParameters = sslParameters;
     _startupTimeoutMillis = startupTimeoutMillis;
+    _eventLoopAffine = eventLoopAffine;
   }
 
   @Override
   public void start()
   {
-    _eventExecutors =  new DefaultEventExecutorGroup(_threadPoolSize);
+    _eventExecutors = _eventLoopAffine ? null : new DefaultEventExecutorGroup(_threadPoolSize);
     _bossGroup = new NioEventLoopGroup(1, new NamedThreadFactory("R2 Nio Boss"));
     _workerGroup = new NioEventLoopGroup(0, new NamedThreadFactory("R2 Nio Worker"));
 
@@ -124,13 +138,16 @@ import javax.net.ssl.SSLParameters;
       // Do nothing
     }
 
-    try
+    if (_eventExecutors != null)
     {
-      _eventExecutors.shutdownGracefully().sync();
-    }
-    catch(Exception ex)
-    {
-      // Do nothing
+      try
+      {
+        _eventExecutors.shutdownGracefully().sync();
+      }
+      catch(Exception ex)
+      {
+        // Do nothing
+      }
     }
   }
 
@@ -139,6 +156,9 @@ import javax.net.ssl.SSLParameters;
   {
     _bossGroup.terminationFuture().await();
     _workerGroup.terminationFuture().await();
-    _eventExecutors.terminationFuture().await();
+    if (_eventExecutors != null)
+    {
+      _eventExecutors.terminationFuture().await();
+    }
   }
 }
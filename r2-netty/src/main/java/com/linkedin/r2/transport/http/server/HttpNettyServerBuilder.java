@@ -36,6 +36,7 @@ public class HttpNettyServerBuilder
 {
   public static final int DEFAULT_NETTY_HTTP_SERVER_PORT = 8080;
   public static final int DEFAULT_THREAD_POOL_SIZE = 256;
+  private static final int DEFAULT_STARTUP_TIMEOUT_MILLIS = 10000;
 
   // The following fields are required.
   private TransportDispatcher _transportDispatcher = null;
@@ -45,6 +46,7 @@ public class HttpNettyServerBuilder
   private int _port = DEFAULT_NETTY_HTTP_SERVER_PORT;
   private int _threadPoolSize = DEFAULT_THREAD_POOL_SIZE;
   private boolean _restOverStream = R2Constants.DEFAULT_REST_OVER_STREAM;
+  private boolean _eventLoopAffine = false;
 
   // The following fields are optional.
   private SSLContext _sslContext = null;
@@ -80,6 +82,16 @@ public class HttpNettyServerBuilder
     return this;
   }
 
+  /**
+   * Dispatches the requests on the event loops which received them, see {@link R2Constants#EVENT_LOOP}.
+   * Only non-blocking dispatchers may be used in this mode.
+   */
+  public HttpNettyServerBuilder eventLoopAffine(boolean eventLoopAffine)
+  {
+    _eventLoopAffine = eventLoopAffine;
+    return this;
+  }
+
   public HttpNettyServerBuilder sslContext(SSLContext sslContext)
   {
     _sslContext = sslContext;
@@ -97,7 +109,8 @@ public class HttpNettyServerBuilder
     validateParameters();
     final TransportDispatcher filterDispatcher = new FilterChainDispatcher(_transportDispatcher, _filters);
     final HttpDispatcher dispatcher = HttpDispatcherFactory.create((filterDispatcher));
-    return new HttpNettyServer(_port, _threadPoolSize, dispatcher, _sslContext, _sslParameters);
+    return new HttpNettyServer(_port, _threadPoolSize, dispatcher, _restOverStream, _sslContext, _sslParameters,
+        DEFAULT_STARTUP_TIMEOUT_MILLIS, _eventLoopAffine);
   }
 
   private void validateParameters()
@@ -39,6 +39,10 @@ public class HttpNettyServerPipelineInitializer extends ChannelInitializer<NioSo
   private final HttpDispatcher _dispatcher;
 
 
+  /**
+   * @param eventExecutors the executors running the request handlers, or null to run them on the event loops of the
+   *                       channels.
+   */
   HttpNettyServerPipelineInitializer(HttpDispatcher dispatcher, EventExecutorGroup eventExecutors,
                                      SSLContext sslContext, SSLParameters sslParameters,
                                      boolean restOverStream)
@@ -66,8 +70,9 @@ public class HttpNettyServerPipelineInitializer extends ChannelInitializer<NioSo
     ch.pipeline().addLast("encoder", new HttpResponseEncoder());
     ch.pipeline().addLast("rapi", new RAPServerCodec());
 
+    final boolean eventLoopAffine = _eventExecutors == null;
     final SimpleChannelInboundHandler<RestRequest> restHandler = _restOverStream ?
-        new PipelineStreamHandler(_dispatcher) : new PipelineRestHandler(_dispatcher);
+        new PipelineStreamHandler(_dispatcher, eventLoopAffine) : new PipelineRestHandler(_dispatcher, eventLoopAffine);
     ch.pipeline().addLast(_eventExecutors, "handler", restHandler);
   }
 }
@@ -16,6 +16,8 @@
 
 package com.linkedin.r2.transport.http.server;
 
+import com.linkedin.r2.filter.R2Constants;
+import com.linkedin.r2.message.RequestContext;
 import com.linkedin.r2.message.rest.RestRequest;
 import com.linkedin.r2.message.rest.RestResponse;
 import com.linkedin.r2.message.rest.RestResponseBuilder;
@@ -36,10 +38,21 @@ class PipelineRestHandler extends SimpleChannelInboundHandler<RestRequest>
 {
   private static final Logger LOG = LoggerFactory.getLogger(PipelineRestHandler.class);
   private final HttpDispatcher _dispatcher;
+  private final boolean _eventLoopAffine;
 
   PipelineRestHandler(HttpDispatcher dispatcher)
+  {
+    this(dispatcher, false);
+  }
+
+  /**
+   * @param eventLoopAffine whether the handler runs on the event loop of the channel, which is then made available
+   *                        to the request handlers through {@link R2Constants#EVENT_LOOP}.
+   */
+  PipelineRestHandler(HttpDispatcher dispatcher, boolean eventLoopAffine)
   {
     _dispatcher = dispatcher;
+    _eventLoopAffine = eventLoopAffine;
   }
 
   @Override
@@ -77,13 +90,24 @@ class PipelineRestHandler extends SimpleChannelInboundHandler<RestRequest>
     };
     try
     {
-      _dispatcher.handleRequest(request, writeResponseCallback);
+      _dispatcher.handleRequest(request, createRequestContext(ctx), writeResponseCallback);
     }
     catch (Exception ex)
     {
       writeResponseCallback.onResponse(TransportResponseImpl.<RestResponse> error(ex, Collections.<String, String> emptyMap()));
     }
   }
+
+  private RequestContext createRequestContext(ChannelHandlerContext ctx)
+  {
+    final RequestContext requestContext = new RequestContext();
+    if (_eventLoopAffine)
+    {
+      requestContext.putLocalAttr(R2Constants.EVENT_LOOP, ctx.channel().eventLoop());
+    }
+    return requestContext;
+  }
+
   @Override
   public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception
   {
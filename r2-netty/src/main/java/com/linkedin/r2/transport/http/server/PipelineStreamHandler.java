@@ -17,7 +17,9 @@
 package com.linkedin.r2.transport.http.server;
 
 import com.linkedin.common.callback.Callback;
+import com.linkedin.r2.filter.R2Constants;
 import com.linkedin.r2.message.Messages;
+import com.linkedin.r2.message.RequestContext;
 import com.linkedin.r2.message.rest.RestRequest;
 import com.linkedin.r2.message.rest.RestResponse;
 import com.linkedin.r2.message.rest.RestResponseBuilder;
@@ -39,10 +41,21 @@ class PipelineStreamHandler extends SimpleChannelInboundHandler<RestRequest>
 {
   private static final Logger LOG = LoggerFactory.getLogger(PipelineStreamHandler.class);
   private final HttpDispatcher _dispatcher;
+  private final boolean _eventLoopAffine;
 
   PipelineStreamHandler(HttpDispatcher dispatcher)
+  {
+    this(dispatcher, false);
+  }
+
+  /**
+   * @param eventLoopAffine whether the handler runs on the event loop of the channel, which is then made available
+   *                        to the request handlers through {@link R2Constants#EVENT_LOOP}.
+   */
+  PipelineStreamHandler(HttpDispatcher dispatcher, boolean eventLoopAffine)
   {
     _dispatcher = dispatcher;
+    _eventLoopAffine = eventLoopAffine;
   }
 
   private void writeError(Channel ch, TransportResponse<StreamResponse> response, Throwable ex)
@@ -103,7 +116,7 @@ class PipelineStreamHandler extends SimpleChannelInboundHandler<RestRequest>
     };
     try
     {
-      _dispatcher.handleRequest(Messages.toStreamRequest(request), writeResponseCallback);
+      _dispatcher.handleRequest(Messages.toStreamRequest(request), createRequestContext(ctx), writeResponseCallback);
     }
     catch (Exception ex)
     {
@@ -112,6 +125,16 @@ class PipelineStreamHandler extends SimpleChannelInboundHandler<RestRequest>
     }
   }
 
+  private RequestContext createRequestContext(ChannelHandlerContext ctx)
+  {
+    final RequestContext requestContext = new RequestContext();
+    if (_eventLoopAffine)
+    {
+      requestContext.putLocalAttr(R2Constants.EVENT_LOOP, ctx.channel().eventLoop());
+    }
+    return requestContext;
+  }
+
   @Override
   public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception
   {
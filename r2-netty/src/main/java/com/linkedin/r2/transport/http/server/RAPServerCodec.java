@@ -108,7 +108,7 @@ class RAPServerCodec extends ChannelDuplexHandler
         throws Exception
     {
       final ByteString entity = response.getEntity();
-      ByteBuf content = Unpooled.wrappedBuffer(entity.asByteBuffer());
+      ByteBuf content = Unpooled.wrappedBuffer(entity.asByteBuffers());
 
       HttpResponse nettyResponse =
           new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.valueOf(response.getStatus()), content);
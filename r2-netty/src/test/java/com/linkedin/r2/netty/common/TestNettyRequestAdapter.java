@@ -25,6 +25,8 @@ import com.linkedin.r2.message.stream.entitystream.ByteStringWriter;
 import com.linkedin.r2.message.stream.entitystream.EntityStreams;
 
 import com.linkedin.r2.netty.common.NettyRequestAdapter;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
@@ -86,6 +88,26 @@ public class TestNettyRequestAdapter
     Assert.assertEquals(nettyRequest.headers().get("Cookie"), ANY_COOKIE);
   }
 
+  @Test
+  public void testRestToNettyRequestWithCompoundEntity() throws Exception
+  {
+    ByteString entity = new ByteString.Builder()
+        .append(ByteString.copyString("foo", Charset.defaultCharset()))
+        .append(ByteString.copyString("bar", Charset.defaultCharset()))
+        .build();
+    RestRequestBuilder restRequestBuilder = new RestRequestBuilder(new URI(ANY_URI));
+    restRequestBuilder.setMethod("POST");
+    restRequestBuilder.setEntity(entity);
+    RestRequest restRequest = restRequestBuilder.build();
+
+    FullHttpRequest nettyRequest = (FullHttpRequest) NettyRequestAdapter.toNettyRequest(restRequest);
+    // the chunks of the entity are not copied into a single buffer
+    Assert.assertTrue(nettyRequest.content() instanceof CompositeByteBuf);
+    Assert.assertEquals(((CompositeByteBuf) nettyRequest.content()).numComponents(), 2);
+    Assert.assertEquals(nettyRequest.content().toString(Charset.defaultCharset()), "foobar");
+    Assert.assertEquals(nettyRequest.headers().get("Content-Length"), "6");
+  }
+
   @Test
   public void testRestToNettyRequestWithMultipleCookies() throws Exception
   {
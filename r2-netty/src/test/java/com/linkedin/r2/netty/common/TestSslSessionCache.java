@@ -0,0 +1,118 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.netty.common;
+
+import io.netty.channel.Channel;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.util.concurrent.DefaultPromise;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import io.netty.util.concurrent.Promise;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLSession;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestSslSessionCache
+{
+  @Test
+  public void testRegisterBoundsClientSessions() throws Exception
+  {
+    SSLContext sslContext = SSLContext.getInstance("TLS");
+    sslContext.init(null, null, null);
+
+    SslSessionCache cache = new SslSessionCache(100, 60);
+    cache.register(sslContext);
+    Assert.assertEquals(sslContext.getClientSessionContext().getSessionCacheSize(), 100);
+    Assert.assertEquals(sslContext.getClientSessionContext().getSessionTimeout(), 60);
+    Assert.assertEquals(cache.getCachedSessionCount(), 0);
+
+    // registering again does not override changes made by the owner of the context
+    sslContext.getClientSessionContext().setSessionCacheSize(10);
+    cache.register(sslContext);
+    Assert.assertEquals(sslContext.getClientSessionContext().getSessionCacheSize(), 10);
+  }
+
+  @Test
+  public void testRegisterKeepsUnsetBounds() throws Exception
+  {
+    SSLContext sslContext = SSLContext.getInstance("TLS");
+    sslContext.init(null, null, null);
+    sslContext.getClientSessionContext().setSessionCacheSize(10);
+    sslContext.getClientSessionContext().setSessionTimeout(30);
+
+    new SslSessionCache().register(sslContext);
+    Assert.assertEquals(sslContext.getClientSessionContext().getSessionCacheSize(), 10);
+    Assert.assertEquals(sslContext.getClientSessionContext().getSessionTimeout(), 30);
+
+    SSLContext otherSslContext = SSLContext.getInstance("TLS");
+    otherSslContext.init(null, null, null);
+    otherSslContext.getClientSessionContext().setSessionTimeout(30);
+
+    new SslSessionCache(100, null).register(otherSslContext);
+    Assert.assertEquals(otherSslContext.getClientSessionContext().getSessionCacheSize(), 100);
+    Assert.assertEquals(otherSslContext.getClientSessionContext().getSessionTimeout(), 30);
+  }
+
+  @Test
+  public void testTrackHandshakes()
+  {
+    SslSessionCache cache = new SslSessionCache();
+    long now = System.currentTimeMillis();
+
+    Promise<Channel> full = trackHandshake(cache, now + 1000);
+    Promise<Channel> resumed = trackHandshake(cache, now - 1000);
+    Promise<Channel> failed = trackHandshake(cache, now);
+    Assert.assertEquals(cache.getFullHandshakeCount(), 0);
+
+    full.setSuccess(null);
+    resumed.setSuccess(null);
+    failed.setFailure(new Exception("Handshake failed"));
+    Assert.assertEquals(cache.getFullHandshakeCount(), 1);
+    Assert.assertEquals(cache.getResumedHandshakeCount(), 1);
+    Assert.assertEquals(cache.getFailedHandshakeCount(), 1);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testInvalidSessionCacheSize()
+  {
+    new SslSessionCache(-1, null);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testInvalidSessionTimeout()
+  {
+    new SslSessionCache(null, -1);
+  }
+
+  private static Promise<Channel> trackHandshake(SslSessionCache cache, long sessionCreationTime)
+  {
+    SSLSession session = Mockito.mock(SSLSession.class);
+    Mockito.when(session.getCreationTime()).thenReturn(sessionCreationTime);
+    SSLEngine engine = Mockito.mock(SSLEngine.class);
+    Mockito.when(engine.getSession()).thenReturn(session);
+    Promise<Channel> handshakeFuture = new DefaultPromise<>(ImmediateEventExecutor.INSTANCE);
+    SslHandler sslHandler = Mockito.mock(SslHandler.class);
+    Mockito.when(sslHandler.engine()).thenReturn(engine);
+    Mockito.when(sslHandler.handshakeFuture()).thenReturn(handshakeFuture);
+
+    cache.track(sslHandler);
+    return handshakeFuture;
+  }
+}
@@ -21,12 +21,14 @@
 package com.linkedin.r2.transport.http.client;
 
 import com.linkedin.common.callback.Callback;
+import com.linkedin.common.callback.FutureCallback;
 import com.linkedin.common.util.None;
 import com.linkedin.r2.transport.http.client.common.ChannelPoolFactory;
 import com.linkedin.r2.transport.http.client.common.ChannelPoolManager;
 import com.linkedin.r2.transport.http.client.common.ChannelPoolManagerImpl;
 import com.linkedin.r2.util.Cancellable;
 import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -35,6 +37,8 @@ import java.net.SocketAddress;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Steven Ihde
@@ -74,6 +78,104 @@ public class TestChannelPoolManager
     }
   }
 
+  @Test
+  public void testWarmUpChecksOutAndReturnsChannels() throws Exception
+  {
+    WarmUpPool pool = new WarmUpPool(0);
+    ChannelPoolManager m = new ChannelPoolManagerImpl(address -> pool, null, null);
+
+    FutureCallback<None> callback = new FutureCallback<>();
+    m.warmUp(new InetSocketAddress(0), 3, callback);
+
+    callback.get(5, TimeUnit.SECONDS);
+    Assert.assertEquals(pool._gets, 3);
+    Assert.assertEquals(pool._puts, 3);
+  }
+
+  @Test
+  public void testWarmUpFailsIfAnyChannelFails() throws Exception
+  {
+    WarmUpPool pool = new WarmUpPool(1);
+    ChannelPoolManager m = new ChannelPoolManagerImpl(address -> pool, null, null);
+
+    FutureCallback<None> callback = new FutureCallback<>();
+    m.warmUp(new InetSocketAddress(0), 3, callback);
+
+    try
+    {
+      callback.get(5, TimeUnit.SECONDS);
+      Assert.fail("The warm-up should have failed");
+    }
+    catch (ExecutionException e)
+    {
+      // expected
+    }
+    Assert.assertEquals(pool._gets, 3);
+    Assert.assertEquals(pool._puts, 2);
+  }
+
+  @Test
+  public void testWarmUpWithoutChannels() throws Exception
+  {
+    WarmUpPool pool = new WarmUpPool(0);
+    ChannelPoolManager m = new ChannelPoolManagerImpl(address -> pool, null, null);
+
+    FutureCallback<None> callback = new FutureCallback<>();
+    m.warmUp(new InetSocketAddress(0), 0, callback);
+
+    callback.get(5, TimeUnit.SECONDS);
+    Assert.assertEquals(pool._gets, 0);
+  }
+
+  @Test(expectedExceptions = ExecutionException.class)
+  public void testWarmUpAfterShutdown() throws Exception
+  {
+    ChannelPoolManagerImpl m = new ChannelPoolManagerImpl(address -> new WarmUpPool(0), null, null);
+    m.shutdownPool(new FutureCallback<None>());
+
+    FutureCallback<None> callback = new FutureCallback<>();
+    m.warmUp(new InetSocketAddress(0), 1, callback);
+
+    callback.get(5, TimeUnit.SECONDS);
+  }
+
+  /**
+   * Hands out channels right away, except for the given number of first checkouts which fail.
+   */
+  private static class WarmUpPool extends FakePool<Channel>
+  {
+    private int _failures;
+    private int _gets;
+    private int _puts;
+
+    WarmUpPool(int failures)
+    {
+      _failures = failures;
+    }
+
+    @Override
+    public Cancellable get(Callback<Channel> callback)
+    {
+      _gets++;
+      if (_failures > 0)
+      {
+        _failures--;
+        callback.onError(new Exception("Connection refused"));
+      }
+      else
+      {
+        callback.onSuccess(new EmbeddedChannel());
+      }
+      return null;
+    }
+
+    @Override
+    public void put(Channel channel)
+    {
+      _puts++;
+    }
+  }
+
   private static class FakePool<T> implements AsyncPool<T>
   {
     @Override
@@ -0,0 +1,237 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.transport.http.client;
+
+import com.linkedin.common.callback.FutureCallback;
+import com.linkedin.common.util.None;
+import com.linkedin.r2.filter.FilterChains;
+import com.linkedin.r2.filter.R2Constants;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.rest.RestRequest;
+import com.linkedin.r2.message.rest.RestRequestBuilder;
+import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.message.rest.RestResponseBuilder;
+import com.linkedin.r2.transport.common.Server;
+import com.linkedin.r2.transport.common.bridge.client.TransportClient;
+import com.linkedin.r2.transport.common.bridge.common.TransportCallback;
+import com.linkedin.r2.transport.common.bridge.common.TransportResponseImpl;
+import com.linkedin.r2.transport.common.bridge.server.TransportDispatcher;
+import com.linkedin.r2.transport.http.server.HttpNettyServerBuilder;
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.concurrent.DefaultEventExecutor;
+import io.netty.util.concurrent.EventExecutor;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+
+/**
+ * Tests the threads completing the callbacks of the pipeline v2 {@link com.linkedin.r2.netty.client.HttpNettyClient},
+ * with and without event loop affinity.
+ */
+public class TestHttpNettyClientEventLoopAffine
+{
+  private int _port;
+  private Server _server;
+  private EventLoop _eventLoop;
+  private Thread _eventLoopThread;
+  private EventExecutor _eventExecutor;
+
+  @BeforeClass
+  public void setUp() throws Exception
+  {
+    try (ServerSocket socket = new ServerSocket(0))
+    {
+      _port = socket.getLocalPort();
+    }
+    _server = new HttpNettyServerBuilder()
+        .transportDispatcher(new TransportDispatcher()
+        {
+          @Override
+          public void handleRestRequest(RestRequest req, Map<String, String> wireAttrs,
+              RequestContext requestContext, TransportCallback<RestResponse> callback)
+          {
+            callback.onResponse(TransportResponseImpl.success(new RestResponseBuilder().build()));
+          }
+        })
+        .filters(FilterChains.empty())
+        .port(_port)
+        .build();
+    _server.start();
+
+    _eventLoop = new DefaultEventLoop();
+    _eventLoopThread = _eventLoop.submit(Thread::currentThread).get();
+    _eventExecutor = new DefaultEventExecutor();
+  }
+
+  @AfterClass
+  public void tearDown() throws Exception
+  {
+    _server.stop();
+    _server.waitForStop();
+    _eventLoop.shutdownGracefully();
+    _eventExecutor.shutdownGracefully();
+  }
+
+  @Test
+  public void testCallbacksCompleteOnSendingEventLoop() throws Exception
+  {
+    HttpClientFactory factory = new HttpClientFactory.Builder()
+        .setUsePipelineV2(true)
+        .setEventLoopAffine(true)
+        .build();
+    try
+    {
+      // the event loop sending the request is given by the request context
+      Assert.assertSame(sendRequest(factory, _eventLoop, true), _eventLoopThread);
+
+      // requests sent from other threads still complete on the callback executor
+      Thread callbackThread = sendRequest(factory, null, false);
+      Assert.assertNotSame(callbackThread, _eventLoopThread);
+      Assert.assertNotSame(callbackThread, Thread.currentThread());
+
+      // an event loop which is neither set in the request context nor one of the client is not detected
+      Assert.assertNotSame(sendRequest(factory, _eventLoop, false), _eventLoopThread);
+    }
+    finally
+    {
+      shutdown(factory);
+    }
+  }
+
+  @Test
+  public void testCallbacksCompleteOnCallbackExecutorByDefault() throws Exception
+  {
+    HttpClientFactory factory = new HttpClientFactory.Builder()
+        .setUsePipelineV2(true)
+        .build();
+    try
+    {
+      Assert.assertNotSame(sendRequest(factory, _eventLoop, true), _eventLoopThread);
+    }
+    finally
+    {
+      shutdown(factory);
+    }
+  }
+
+  @Test
+  public void testCallbacksCompleteOnClientEventLoop() throws Exception
+  {
+    NioEventLoopGroup eventLoopGroup = new NioEventLoopGroup(1);
+    HttpClientFactory factory = new HttpClientFactory.Builder()
+        .setEventLoopGroup(eventLoopGroup)
+        .setUsePipelineV2(true)
+        .setEventLoopAffine(true)
+        .build();
+    try
+    {
+      EventLoop clientEventLoop = eventLoopGroup.next();
+      Thread clientEventLoopThread = clientEventLoop.submit(Thread::currentThread).get();
+      Assert.assertSame(sendRequest(factory, clientEventLoop, false), clientEventLoopThread);
+    }
+    finally
+    {
+      shutdown(factory);
+      eventLoopGroup.shutdownGracefully();
+    }
+  }
+
+  @Test
+  public void testCallbacksDoNotCompleteOnOtherEventExecutors() throws Exception
+  {
+    HttpClientFactory factory = new HttpClientFactory.Builder()
+        .setUsePipelineV2(true)
+        .setEventLoopAffine(true)
+        .build();
+    try
+    {
+      Thread eventExecutorThread = _eventExecutor.submit(Thread::currentThread).get();
+      Assert.assertNotSame(sendRequest(factory, _eventExecutor, true), eventExecutorThread);
+    }
+    finally
+    {
+      shutdown(factory);
+    }
+  }
+
+  /**
+   * @param sendingExecutor the executor sending the request, or null to send it from the current thread.
+   * @param setEventLoop whether the sending executor is set as the event loop of the request context.
+   * @return the thread which completed the callback of the request.
+   */
+  private Thread sendRequest(HttpClientFactory factory, Executor sendingExecutor, boolean setEventLoop)
+      throws Exception
+  {
+    TransportClient client = factory.getClient(Collections.<String, String>emptyMap());
+    RestRequest request = new RestRequestBuilder(URI.create("http://localhost:" + _port + "/test")).build();
+    CompletableFuture<Thread> callbackThread = new CompletableFuture<>();
+    RequestContext requestContext = new RequestContext();
+    if (setEventLoop)
+    {
+      requestContext.putLocalAttr(R2Constants.EVENT_LOOP, sendingExecutor);
+    }
+    Runnable send = () -> client.restRequest(request, requestContext, new HashMap<>(), response ->
+    {
+      if (response.hasError())
+      {
+        callbackThread.completeExceptionally(response.getError());
+      }
+      else
+      {
+        callbackThread.complete(Thread.currentThread());
+      }
+    });
+    if (sendingExecutor != null)
+    {
+      sendingExecutor.execute(send);
+    }
+    else
+    {
+      send.run();
+    }
+    try
+    {
+      return callbackThread.get(10, TimeUnit.SECONDS);
+    }
+    finally
+    {
+      FutureCallback<None> shutdownCallback = new FutureCallback<>();
+      client.shutdown(shutdownCallback);
+      shutdownCallback.get(10, TimeUnit.SECONDS);
+    }
+  }
+
+  private static void shutdown(HttpClientFactory factory) throws Exception
+  {
+    FutureCallback<None> callback = new FutureCallback<>();
+    factory.shutdown(callback);
+    callback.get(10, TimeUnit.SECONDS);
+  }
+}
@@ -0,0 +1,187 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.transport.http.client;
+
+import com.linkedin.common.callback.Callback;
+import com.linkedin.common.callback.FutureCallback;
+import com.linkedin.common.util.None;
+import com.linkedin.r2.netty.client.HttpNettyClient;
+import com.linkedin.r2.transport.common.bridge.client.TransportClient;
+import com.linkedin.r2.transport.http.client.common.ChannelPoolManager;
+import com.linkedin.r2.transport.http.client.stream.http.HttpNettyStreamClient;
+import com.linkedin.r2.transport.http.client.stream.http2.Http2NettyStreamClient;
+import com.linkedin.r2.transport.http.common.HttpProtocolVersion;
+import com.linkedin.util.clock.SystemClock;
+import io.netty.channel.EventLoopGroup;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+/**
+ * Tests the number of channels the netty clients establish when warming up connections to a host.
+ */
+public class TestNettyClientWarmUp
+{
+  private static final URI HTTP_URI = URI.create("http://127.0.0.1:8080/service");
+  private static final URI HTTPS_URI = URI.create("https://127.0.0.1:8443/service");
+
+  private ChannelPoolManager _channelPoolManager;
+  private ChannelPoolManager _sslChannelPoolManager;
+
+  @BeforeMethod
+  public void setUp()
+  {
+    _channelPoolManager = mockChannelPoolManager();
+    _sslChannelPoolManager = mockChannelPoolManager();
+  }
+
+  @DataProvider
+  public Object[][] clients()
+  {
+    return new Object[][]
+    {
+      { "HttpNettyStreamClient", 4 },
+      { "Http2NettyStreamClient", 1 },
+      { "HttpNettyClient HTTP/1.1", 4 },
+      { "HttpNettyClient HTTP/2", 1 },
+    };
+  }
+
+  @Test(dataProvider = "clients")
+  public void testWarmUpChannels(String clientName, int expectedChannels) throws Exception
+  {
+    TransportClient client = createClient(clientName);
+
+    FutureCallback<None> callback = new FutureCallback<>();
+    client.warmUp(HTTP_URI, 4, callback);
+    callback.get(5, TimeUnit.SECONDS);
+
+    Mockito.verify(_channelPoolManager)
+        .warmUp(Matchers.eq(new InetSocketAddress("127.0.0.1", 8080)), Matchers.eq(expectedChannels), Matchers.any());
+    Mockito.verify(_sslChannelPoolManager, Mockito.never())
+        .warmUp(Matchers.any(), Matchers.anyInt(), Matchers.any());
+  }
+
+  @Test(dataProvider = "clients")
+  public void testWarmUpHttpsUsesSslPool(String clientName, int expectedChannels) throws Exception
+  {
+    TransportClient client = createClient(clientName);
+
+    FutureCallback<None> callback = new FutureCallback<>();
+    client.warmUp(HTTPS_URI, 4, callback);
+    callback.get(5, TimeUnit.SECONDS);
+
+    Mockito.verify(_sslChannelPoolManager)
+        .warmUp(Matchers.eq(new InetSocketAddress("127.0.0.1", 8443)), Matchers.eq(expectedChannels), Matchers.any());
+    Mockito.verify(_channelPoolManager, Mockito.never())
+        .warmUp(Matchers.any(), Matchers.anyInt(), Matchers.any());
+  }
+
+  @Test(dataProvider = "clients", expectedExceptions = ExecutionException.class)
+  public void testWarmUpAfterShutdown(String clientName, int expectedChannels) throws Exception
+  {
+    TransportClient client = createClient(clientName);
+    client.shutdown(new FutureCallback<>());
+
+    FutureCallback<None> callback = new FutureCallback<>();
+    client.warmUp(HTTP_URI, 4, callback);
+    callback.get(5, TimeUnit.SECONDS);
+  }
+
+  @DataProvider
+  public Object[][] restOverStream()
+  {
+    return new Object[][] { { false }, { true } };
+  }
+
+  @Test(dataProvider = "restOverStream")
+  public void testMixedClientWarmsUpRestClient(boolean restOverStream) throws Exception
+  {
+    TransportClient legacyClient = new com.linkedin.r2.transport.http.client.rest.HttpNettyClient(
+        Mockito.mock(EventLoopGroup.class), Mockito.mock(ScheduledExecutorService.class), 1000, 1000,
+        Mockito.mock(ExecutorService.class), AbstractJmxManager.NULL_JMX_MANAGER, _channelPoolManager,
+        _sslChannelPoolManager);
+    ChannelPoolManager streamChannelPoolManager = mockChannelPoolManager();
+    TransportClient streamClient = new HttpNettyStreamClient(Mockito.mock(EventLoopGroup.class),
+        Mockito.mock(ScheduledExecutorService.class), 1000, 1000, Mockito.mock(ExecutorService.class),
+        AbstractJmxManager.NULL_JMX_MANAGER, streamChannelPoolManager, _sslChannelPoolManager);
+    TransportClient client = new HttpClientFactory.MixedClient(legacyClient, streamClient, restOverStream);
+
+    FutureCallback<None> callback = new FutureCallback<>();
+    client.warmUp(HTTP_URI, 4, callback);
+    callback.get(5, TimeUnit.SECONDS);
+
+    // only the client sending the rest requests opens connections
+    Mockito.verify(restOverStream ? streamChannelPoolManager : _channelPoolManager)
+        .warmUp(Matchers.eq(new InetSocketAddress("127.0.0.1", 8080)), Matchers.eq(4), Matchers.any());
+    Mockito.verify(restOverStream ? _channelPoolManager : streamChannelPoolManager, Mockito.never())
+        .warmUp(Matchers.any(), Matchers.anyInt(), Matchers.any());
+  }
+
+  private TransportClient createClient(String clientName)
+  {
+    EventLoopGroup eventLoopGroup = Mockito.mock(EventLoopGroup.class);
+    ScheduledExecutorService scheduler = Mockito.mock(ScheduledExecutorService.class);
+    ExecutorService callbackExecutor = Mockito.mock(ExecutorService.class);
+    switch (clientName)
+    {
+      case "HttpNettyStreamClient":
+        return new HttpNettyStreamClient(eventLoopGroup, scheduler, 1000, 1000, callbackExecutor,
+            AbstractJmxManager.NULL_JMX_MANAGER, _channelPoolManager, _sslChannelPoolManager);
+      case "Http2NettyStreamClient":
+        return new Http2NettyStreamClient(eventLoopGroup, scheduler, 1000, 1000, callbackExecutor,
+            AbstractJmxManager.NULL_JMX_MANAGER, _channelPoolManager, _sslChannelPoolManager);
+      case "HttpNettyClient HTTP/1.1":
+        return new HttpNettyClient(eventLoopGroup, scheduler, callbackExecutor, _channelPoolManager,
+            _sslChannelPoolManager, HttpProtocolVersion.HTTP_1_1, SystemClock.instance(), 1000, 1000, 1000);
+      case "HttpNettyClient HTTP/2":
+        return new HttpNettyClient(eventLoopGroup, scheduler, callbackExecutor, _channelPoolManager,
+            _sslChannelPoolManager, HttpProtocolVersion.HTTP_2, SystemClock.instance(), 1000, 1000, 1000);
+      default:
+        throw new IllegalArgumentException("Unknown client: " + clientName);
+    }
+  }
+
+  private static ChannelPoolManager mockChannelPoolManager()
+  {
+    ChannelPoolManager channelPoolManager = Mockito.mock(ChannelPoolManager.class);
+    Mockito.doAnswer(invocation ->
+    {
+      @SuppressWarnings("unchecked")
+      Callback<None> callback = (Callback<None>) invocation.getArguments()[2];
+      callback.onSuccess(None.none());
+      return null;
+    }).when(channelPoolManager).warmUp(Matchers.any(), Matchers.anyInt(), Matchers.any());
+    Mockito.doAnswer(invocation ->
+    {
+      @SuppressWarnings("unchecked")
+      Callback<None> callback = (Callback<None>) invocation.getArguments()[0];
+      callback.onSuccess(None.none());
+      return null;
+    }).when(channelPoolManager).shutdown(Matchers.any(), Matchers.any(), Matchers.any(), Matchers.anyLong());
+    return channelPoolManager;
+  }
+}
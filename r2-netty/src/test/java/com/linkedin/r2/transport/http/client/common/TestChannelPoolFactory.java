@@ -0,0 +1,69 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.transport.http.client.common;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollDomainSocketChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+
+public class TestChannelPoolFactory
+{
+  private static final ChannelPoolFactory FACTORY = address -> null;
+
+  @Test
+  public void testNioChannelClass()
+  {
+    EventLoopGroup eventLoopGroup = new NioEventLoopGroup(1);
+    try
+    {
+      Assert.assertEquals(FACTORY.getChannelClass(eventLoopGroup, null), NioSocketChannel.class);
+      Assert.assertEquals(FACTORY.getChannelClass(eventLoopGroup, ""), NioSocketChannel.class);
+    }
+    finally
+    {
+      eventLoopGroup.shutdownGracefully();
+    }
+  }
+
+  @Test
+  public void testEpollChannelClass()
+  {
+    if (!Epoll.isAvailable())
+    {
+      throw new SkipException("Epoll is not available");
+    }
+
+    EventLoopGroup eventLoopGroup = new EpollEventLoopGroup(1);
+    try
+    {
+      Assert.assertEquals(FACTORY.getChannelClass(eventLoopGroup, null), EpollSocketChannel.class);
+      Assert.assertEquals(FACTORY.getChannelClass(eventLoopGroup, "/tmp/r2.sock"), EpollDomainSocketChannel.class);
+    }
+    finally
+    {
+      eventLoopGroup.shutdownGracefully();
+    }
+  }
+}
@@ -0,0 +1,157 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.r2.transport.http.server;
+
+import com.linkedin.r2.filter.FilterChains;
+import com.linkedin.r2.filter.R2Constants;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.rest.RestRequest;
+import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.r2.message.rest.RestResponseBuilder;
+import com.linkedin.r2.message.stream.StreamRequest;
+import com.linkedin.r2.message.stream.StreamResponse;
+import com.linkedin.r2.message.stream.StreamResponseBuilder;
+import com.linkedin.r2.message.stream.entitystream.DrainReader;
+import com.linkedin.r2.message.stream.entitystream.EntityStreams;
+import com.linkedin.r2.transport.common.Server;
+import com.linkedin.r2.transport.common.bridge.common.TransportCallback;
+import com.linkedin.r2.transport.common.bridge.common.TransportResponseImpl;
+import com.linkedin.r2.transport.common.bridge.server.TransportDispatcher;
+import io.netty.channel.EventLoop;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+/**
+ * Tests the threads dispatching the requests of a {@link HttpNettyServer}, with and without event loop affinity.
+ */
+public class TestHttpNettyServerEventLoopAffine
+{
+  @DataProvider
+  public Object[][] restOverStream()
+  {
+    return new Object[][] { { false }, { true } };
+  }
+
+  @Test(dataProvider = "restOverStream")
+  public void testRequestsAreDispatchedOnEventLoop(boolean restOverStream) throws Exception
+  {
+    RecordingDispatcher dispatcher = new RecordingDispatcher();
+    int port = getFreePort();
+    Server server = new HttpNettyServerBuilder()
+        .transportDispatcher(dispatcher)
+        .filters(FilterChains.empty())
+        .port(port)
+        ._restOverStream(restOverStream)
+        .eventLoopAffine(true)
+        .build();
+    server.start();
+    try
+    {
+      Assert.assertEquals(sendRequest(port), 200);
+
+      Object eventLoop = dispatcher._requestContext.get().getLocalAttr(R2Constants.EVENT_LOOP);
+      Assert.assertTrue(eventLoop instanceof EventLoop);
+      Assert.assertTrue(((EventLoop) eventLoop).inEventLoop(dispatcher._thread.get()));
+    }
+    finally
+    {
+      server.stop();
+      server.waitForStop();
+    }
+  }
+
+  @Test(dataProvider = "restOverStream")
+  public void testRequestsAreDispatchedOnExecutorsByDefault(boolean restOverStream) throws Exception
+  {
+    RecordingDispatcher dispatcher = new RecordingDispatcher();
+    int port = getFreePort();
+    Server server = new HttpNettyServerBuilder()
+        .transportDispatcher(dispatcher)
+        .filters(FilterChains.empty())
+        .port(port)
+        ._restOverStream(restOverStream)
+        .build();
+    server.start();
+    try
+    {
+      Assert.assertEquals(sendRequest(port), 200);
+
+      Assert.assertNull(dispatcher._requestContext.get().getLocalAttr(R2Constants.EVENT_LOOP));
+      Assert.assertFalse(dispatcher._thread.get().getName().startsWith("R2 Nio Worker"));
+    }
+    finally
+    {
+      server.stop();
+      server.waitForStop();
+    }
+  }
+
+  private static int sendRequest(int port) throws IOException
+  {
+    HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + "/test").openConnection();
+    try
+    {
+      return connection.getResponseCode();
+    }
+    finally
+    {
+      connection.disconnect();
+    }
+  }
+
+  private static int getFreePort() throws IOException
+  {
+    try (ServerSocket socket = new ServerSocket(0))
+    {
+      return socket.getLocalPort();
+    }
+  }
+
+  private static class RecordingDispatcher implements TransportDispatcher
+  {
+    private final AtomicReference<Thread> _thread = new AtomicReference<>();
+    private final AtomicReference<RequestContext> _requestContext = new AtomicReference<>();
+
+    @Override
+    public void handleRestRequest(RestRequest req, Map<String, String> wireAttrs, RequestContext requestContext,
+        TransportCallback<RestResponse> callback)
+    {
+      _thread.set(Thread.currentThread());
+      _requestContext.set(requestContext);
+      callback.onResponse(TransportResponseImpl.success(new RestResponseBuilder().build()));
+    }
+
+    @Override
+    public void handleStreamRequest(StreamRequest req, Map<String, String> wireAttrs, RequestContext requestContext,
+        TransportCallback<StreamResponse> callback)
+    {
+      _thread.set(Thread.currentThread());
+      _requestContext.set(requestContext);
+      req.getEntityStream().setReader(new DrainReader());
+      callback.onResponse(
+          TransportResponseImpl.success(new StreamResponseBuilder().build(EntityStreams.emptyStream())));
+    }
+  }
+}
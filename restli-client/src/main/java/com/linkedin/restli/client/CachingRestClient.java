@@ -0,0 +1,740 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkedin.common.callback.Callback;
+import com.linkedin.common.callback.Callbacks;
+import com.linkedin.common.callback.FutureCallback;
+import com.linkedin.common.util.None;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.schema.PathSpec;
+import com.linkedin.data.template.DataTemplateUtil;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.data.transform.DataComplexProcessor;
+import com.linkedin.data.transform.DataProcessingException;
+import com.linkedin.data.transform.filter.Filter;
+import com.linkedin.data.transform.filter.request.MaskCreator;
+import com.linkedin.data.transform.filter.request.MaskOperation;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.restli.client.multiplexer.MultiplexedRequest;
+import com.linkedin.restli.client.multiplexer.MultiplexedResponse;
+import com.linkedin.restli.client.response.BatchKVResponse;
+import com.linkedin.restli.common.BatchResponse;
+import com.linkedin.restli.common.EntityResponse;
+import com.linkedin.restli.common.HttpStatus;
+import com.linkedin.restli.common.ProtocolVersion;
+import com.linkedin.restli.common.RestConstants;
+import com.linkedin.restli.internal.client.ResponseFutureImpl;
+import com.linkedin.restli.internal.client.ResponseImpl;
+import com.linkedin.restli.internal.common.AllProtocolVersions;
+import com.linkedin.restli.internal.common.ProtocolVersionUtil;
+import com.linkedin.restli.internal.common.URIParamUtils;
+import com.linkedin.util.ArgumentUtil;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * Decorator Rest.li {@link Client} implementation that caches the entities returned by GET and BATCH_GET requests
+ * for a bounded time. Entities are cached per resource and key, together with the projection they were fetched with.
+ * A GET is served from the cache when the cached entity was fetched with the same projection or a wider one, in which
+ * case it is projected down to the requested fields. A BATCH_GET only requests the keys that cannot be served from
+ * the cache, and the cached entities are merged into its response.
+ *
+ * The responses built from the cache have no headers other than the protocol version, since entities are cached
+ * regardless of the headers of the requests. Requests with query parameters other than the keys and the projection
+ * are not cached, nor are requests streaming their response to a {@link ResponseElementListener}. UPDATE,
+ * PARTIAL_UPDATE and DELETE requests, and their batch variants, sent through this client invalidate the cached
+ * entities of their keys, and the response of a GET or BATCH_GET sent before such a write completed is not cached.
+ *
+ * CREATE and ACTION requests, and the writes not sent through this client, do not invalidate anything: the entities
+ * they modify are served from the cache until they expire. Such resources should either use a short time to live,
+ * or have their entities invalidated with {@link #invalidateAll()}.
+ */
+public class CachingRestClient implements Client
+{
+  private static final ProtocolVersion CACHE_PROTOCOL_VERSION = AllProtocolVersions.LATEST_PROTOCOL_VERSION;
+  private static final Map<String, String> CACHE_RESPONSE_HEADERS =
+      Collections.singletonMap(RestConstants.HEADER_RESTLI_PROTOCOL_VERSION, CACHE_PROTOCOL_VERSION.toString());
+  private static final Set<String> CACHEABLE_QUERY_PARAMS =
+      new HashSet<>(Collections.singletonList(RestConstants.FIELDS_PARAM));
+  private static final Set<String> CACHEABLE_BATCH_QUERY_PARAMS =
+      new HashSet<>(Arrays.asList(RestConstants.FIELDS_PARAM, RestConstants.QUERY_BATCH_IDS_PARAM));
+  // Must be a power of two
+  private static final int WRITE_GENERATION_STRIPES = 1024;
+
+  private final Client _client;
+  private final Cache<EntityKey, CachedEntity> _cache;
+  // Incremented whenever the keys hashing to the stripe are written, so that a read which was sent before a write
+  // completed does not cache its result. Distinct keys may share a stripe, which only skips caching some results.
+  private final AtomicLongArray _writeGenerations = new AtomicLongArray(WRITE_GENERATION_STRIPES);
+
+  private final AtomicLong _hitCount = new AtomicLong();
+  private final AtomicLong _missCount = new AtomicLong();
+
+  /**
+   * @param client the decorated client.
+   * @param ttlMillis how long an entity stays in the cache after it has been fetched, in milliseconds.
+   * @param maximumSize the maximum number of entities in the cache.
+   */
+  public CachingRestClient(Client client, long ttlMillis, long maximumSize)
+  {
+    ArgumentUtil.notNull(client, "client");
+    ArgumentUtil.checkArgument(ttlMillis > 0, "ttlMillis");
+    ArgumentUtil.checkArgument(maximumSize > 0, "maximumSize");
+
+    _client = client;
+    _cache = Caffeine.newBuilder()
+        .expireAfterWrite(ttlMillis, TimeUnit.MILLISECONDS)
+        .maximumSize(maximumSize)
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * @return the number of keys that have been served from the cache.
+   */
+  public long getHitCount()
+  {
+    return _hitCount.get();
+  }
+
+  /**
+   * @return the number of keys that could not be served from the cache, either because they were not cached or
+   *         because they were cached with a narrower projection.
+   */
+  public long getMissCount()
+  {
+    return _missCount.get();
+  }
+
+  /**
+   * @return the number of entities that have been evicted from the cache because of its size or their expiration.
+   */
+  public long getEvictionCount()
+  {
+    return _cache.stats().evictionCount();
+  }
+
+  /**
+   * @return the approximate number of entities in the cache.
+   */
+  public long getSize()
+  {
+    return _cache.estimatedSize();
+  }
+
+  /**
+   * Removes all the entities from the cache.
+   */
+  public void invalidateAll()
+  {
+    _cache.invalidateAll();
+  }
+
+  @Override
+  public void shutdown(Callback<None> callback)
+  {
+    _cache.invalidateAll();
+    _client.shutdown(callback);
+  }
+
+  @Override
+  public <T> ResponseFuture<T> sendRequest(Request<T> request, RequestContext requestContext)
+  {
+    return sendRequest(request, requestContext, ErrorHandlingBehavior.FAIL_ON_ERROR);
+  }
+
+  @Override
+  public <T> ResponseFuture<T> sendRequest(Request<T> request, RequestContext requestContext,
+      ErrorHandlingBehavior errorHandlingBehavior)
+  {
+    if (!isCacheable(request, requestContext) && !isWrite(request))
+    {
+      return _client.sendRequest(request, requestContext, errorHandlingBehavior);
+    }
+    FutureCallback<Response<T>> callback = new FutureCallback<>();
+    sendRequest(request, requestContext, callback);
+    return new ResponseFutureImpl<>(callback, errorHandlingBehavior);
+  }
+
+  @Override
+  public <T> ResponseFuture<T> sendRequest(RequestBuilder<? extends Request<T>> requestBuilder,
+      RequestContext requestContext)
+  {
+    return sendRequest(requestBuilder.build(), requestContext);
+  }
+
+  @Override
+  public <T> ResponseFuture<T> sendRequest(RequestBuilder<? extends Request<T>> requestBuilder,
+      RequestContext requestContext, ErrorHandlingBehavior errorHandlingBehavior)
+  {
+    return sendRequest(requestBuilder.build(), requestContext, errorHandlingBehavior);
+  }
+
+  @Override
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public <T> void sendRequest(Request<T> request, RequestContext requestContext, Callback<Response<T>> callback)
+  {
+    if (isCacheable(request, requestContext))
+    {
+      if (request instanceof GetRequest)
+      {
+        sendGetRequest((GetRequest) request, requestContext, (Callback) callback);
+      }
+      else
+      {
+        sendBatchGetRequest((BatchRequest) request, requestContext, (Callback) callback);
+      }
+    }
+    else if (isWrite(request))
+    {
+      Set<EntityKey> keys = getWrittenKeys(request);
+      invalidate(keys);
+      _client.sendRequest(request, requestContext, new Callback<Response<T>>()
+      {
+        @Override
+        public void onError(Throwable e)
+        {
+          invalidate(keys);
+          callback.onError(e);
+        }
+
+        @Override
+        public void onSuccess(Response<T> result)
+        {
+          invalidate(keys);
+          callback.onSuccess(result);
+        }
+      });
+    }
+    else
+    {
+      _client.sendRequest(request, requestContext, callback);
+    }
+  }
+
+  @Override
+  public <T> void sendRequest(RequestBuilder<? extends Request<T>> requestBuilder, RequestContext requestContext,
+      Callback<Response<T>> callback)
+  {
+    sendRequest(requestBuilder.build(), requestContext, callback);
+  }
+
+  @Override
+  public <T> ResponseFuture<T> sendRequest(Request<T> request)
+  {
+    return sendRequest(request, new RequestContext());
+  }
+
+  @Override
+  public <T> ResponseFuture<T> sendRequest(Request<T> request, ErrorHandlingBehavior errorHandlingBehavior)
+  {
+    return sendRequest(request, new RequestContext(), errorHandlingBehavior);
+  }
+
+  @Override
+  public <T> ResponseFuture<T> sendRequest(RequestBuilder<? extends Request<T>> requestBuilder)
+  {
+    return sendRequest(requestBuilder.build(), new RequestContext());
+  }
+
+  @Override
+  public <T> ResponseFuture<T> sendRequest(RequestBuilder<? extends Request<T>> requestBuilder,
+      ErrorHandlingBehavior errorHandlingBehavior)
+  {
+    return sendRequest(requestBuilder.build(), new RequestContext(), errorHandlingBehavior);
+  }
+
+  @Override
+  public <T> void sendRequest(Request<T> request, Callback<Response<T>> callback)
+  {
+    sendRequest(request, new RequestContext(), callback);
+  }
+
+  @Override
+  public <T> void sendRequest(RequestBuilder<? extends Request<T>> requestBuilder, Callback<Response<T>> callback)
+  {
+    sendRequest(requestBuilder.build(), new RequestContext(), callback);
+  }
+
+  @Override
+  public void sendRequest(MultiplexedRequest multiplexedRequest)
+  {
+    _client.sendRequest(multiplexedRequest, new RequestContext(), Callbacks.empty());
+  }
+
+  @Override
+  public void sendRequest(MultiplexedRequest multiplexedRequest, Callback<MultiplexedResponse> callback)
+  {
+    _client.sendRequest(multiplexedRequest, new RequestContext(), callback);
+  }
+
+  @Override
+  public void sendRequest(MultiplexedRequest multiplexedRequest, RequestContext requestContext,
+      Callback<MultiplexedResponse> callback)
+  {
+    _client.sendRequest(multiplexedRequest, requestContext, callback);
+  }
+
+  private static boolean isCacheable(Request<?> request, RequestContext requestContext)
+  {
+    if (request.isStreaming() || requestContext.getLocalAttr(RESPONSE_ELEMENT_LISTENER) != null)
+    {
+      return false;
+    }
+    if (request instanceof GetRequest)
+    {
+      return ((GetRequest<?>) request).getObjectId() != null
+          && CACHEABLE_QUERY_PARAMS.containsAll(request.getQueryParamsObjects().keySet());
+    }
+    return (request instanceof BatchGetEntityRequest || request instanceof BatchGetKVRequest)
+        && CACHEABLE_BATCH_QUERY_PARAMS.containsAll(request.getQueryParamsObjects().keySet());
+  }
+
+  private static boolean isWrite(Request<?> request)
+  {
+    switch (request.getMethod())
+    {
+      case UPDATE:
+      case PARTIAL_UPDATE:
+      case DELETE:
+      case BATCH_UPDATE:
+      case BATCH_PARTIAL_UPDATE:
+      case BATCH_DELETE:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private static Set<EntityKey> getWrittenKeys(Request<?> request)
+  {
+    Collection<Object> ids;
+    if (request instanceof BatchRequest)
+    {
+      ids = ((BatchRequest<?>) request).getObjectIds();
+    }
+    else if (request instanceof UpdateRequest)
+    {
+      ids = Collections.singleton(((UpdateRequest<?>) request).getId());
+    }
+    else if (request instanceof PartialUpdateRequest)
+    {
+      ids = Collections.singleton(((PartialUpdateRequest<?>) request).getId());
+    }
+    else if (request instanceof PartialUpdateEntityRequest)
+    {
+      ids = Collections.singleton(((PartialUpdateEntityRequest<?>) request).getId());
+    }
+    else if (request instanceof DeleteRequest)
+    {
+      ids = Collections.singleton(((DeleteRequest<?>) request).getId());
+    }
+    else
+    {
+      ids = Collections.emptySet();
+    }
+
+    Set<EntityKey> keys = new HashSet<>();
+    for (Object id : ids)
+    {
+      if (id != null)
+      {
+        keys.add(new EntityKey(request, id));
+      }
+    }
+    return keys;
+  }
+
+  private <T extends RecordTemplate> void sendGetRequest(GetRequest<T> request, RequestContext requestContext,
+      Callback<Response<T>> callback)
+  {
+    EntityKey key = new EntityKey(request, request.getObjectId());
+    DataMap mask = getMask(request.getFields());
+    long writeGeneration = getWriteGeneration(key);
+    DataMap data = getCachedEntity(key, mask);
+    if (data != null)
+    {
+      callback.onSuccess(new ResponseImpl<>(HttpStatus.S_200_OK.getCode(), CACHE_RESPONSE_HEADERS,
+          Collections.emptyList(), DataTemplateUtil.wrap(data, request.getEntityClass()), null));
+      return;
+    }
+
+    _client.sendRequest(request, requestContext, new Callback<Response<T>>()
+    {
+      @Override
+      public void onError(Throwable e)
+      {
+        callback.onError(e);
+      }
+
+      @Override
+      public void onSuccess(Response<T> result)
+      {
+        if (result.getStatus() == HttpStatus.S_200_OK.getCode() && result.getEntity() != null)
+        {
+          putCachedEntity(key, writeGeneration, mask, result.getEntity());
+        }
+        callback.onSuccess(result);
+      }
+    });
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private void sendBatchGetRequest(BatchRequest<BatchKVResponse<Object, RecordTemplate>> request,
+      RequestContext requestContext, Callback<Response<BatchKVResponse<Object, RecordTemplate>>> callback)
+  {
+    DataMap mask = getMask(request.getFields());
+    Map<Object, DataMap> hits = new HashMap<>();
+    Map<Object, EntityKey> misses = new HashMap<>();
+    Map<EntityKey, Long> writeGenerations = new HashMap<>();
+    for (Object id : request.getObjectIds())
+    {
+      EntityKey key = new EntityKey(request, id);
+      writeGenerations.put(key, getWriteGeneration(key));
+      DataMap data = getCachedEntity(key, mask);
+      if (data != null)
+      {
+        hits.put(id, data);
+      }
+      else
+      {
+        misses.put(id, key);
+      }
+    }
+
+    if (misses.isEmpty())
+    {
+      try
+      {
+        BatchKVResponse<Object, RecordTemplate> response = mergeCachedEntities(request, new DataMap(), hits,
+            CACHE_RESPONSE_HEADERS, CACHE_PROTOCOL_VERSION);
+        callback.onSuccess(new ResponseImpl<>(HttpStatus.S_200_OK.getCode(), CACHE_RESPONSE_HEADERS,
+            Collections.emptyList(), response, null));
+      }
+      catch (RestLiDecodingException e)
+      {
+        callback.onError(e);
+      }
+      return;
+    }
+
+    Request<BatchKVResponse<Object, RecordTemplate>> missRequest =
+        hits.isEmpty() ? request : (Request) withIds(request, misses.keySet());
+    _client.sendRequest(missRequest, requestContext, new Callback<Response<BatchKVResponse<Object, RecordTemplate>>>()
+    {
+      @Override
+      public void onError(Throwable e)
+      {
+        callback.onError(e);
+      }
+
+      @Override
+      public void onSuccess(Response<BatchKVResponse<Object, RecordTemplate>> result)
+      {
+        BatchKVResponse<Object, RecordTemplate> batchResponse = result.getEntity();
+        if (batchResponse == null)
+        {
+          callback.onSuccess(result);
+          return;
+        }
+
+        for (Map.Entry<Object, EntityKey> miss : misses.entrySet())
+        {
+          RecordTemplate entity = batchResponse.getResults().get(miss.getKey());
+          if (entity instanceof EntityResponse)
+          {
+            EntityResponse<?> entityResponse = (EntityResponse<?>) entity;
+            entity = entityResponse.hasError() ? null : entityResponse.getEntity();
+          }
+          if (entity != null)
+          {
+            putCachedEntity(miss.getValue(), writeGenerations.get(miss.getValue()), mask, entity);
+          }
+        }
+
+        if (hits.isEmpty())
+        {
+          callback.onSuccess(result);
+          return;
+        }
+
+        try
+        {
+          BatchKVResponse<Object, RecordTemplate> merged = mergeCachedEntities(request, batchResponse.data().copy(),
+              hits, result.getHeaders(), ProtocolVersionUtil.extractProtocolVersion(result.getHeaders()));
+          callback.onSuccess(new ResponseImpl<>(result, merged));
+        }
+        catch (CloneNotSupportedException | RestLiDecodingException e)
+        {
+          callback.onError(e);
+        }
+      }
+    });
+  }
+
+  /**
+   * Creates a BATCH_GET request identical to the given one, but for a subset of its keys.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Request<?> withIds(BatchRequest<?> request, Set<Object> ids)
+  {
+    Map<String, Object> queryParams = new HashMap<>(request.getQueryParamsObjects());
+    queryParams.put(RestConstants.QUERY_BATCH_IDS_PARAM, new HashSet<>(ids));
+    if (request instanceof BatchGetEntityRequest)
+    {
+      return new BatchGetEntityRequest(request.getHeaders(), request.getCookies(), request.getResponseDecoder(),
+          queryParams, request.getQueryParamClasses(), request.getResourceSpec(), request.getBaseUriTemplate(),
+          request.getPathKeys(), request.getRequestOptions());
+    }
+    return new BatchGetKVRequest(request.getHeaders(), request.getCookies(), request.getResponseDecoder(),
+        queryParams, request.getQueryParamClasses(), request.getResourceSpec(), request.getBaseUriTemplate(),
+        request.getPathKeys(), request.getRequestOptions());
+  }
+
+  /**
+   * Adds the cached entities to the raw data of a batch response, and decodes it with the decoder of the request.
+   */
+  private static BatchKVResponse<Object, RecordTemplate> mergeCachedEntities(
+      Request<BatchKVResponse<Object, RecordTemplate>> request, DataMap data, Map<Object, DataMap> hits,
+      Map<String, String> headers, ProtocolVersion version) throws RestLiDecodingException
+  {
+    DataMap results = getOrCreateDataMap(data, BatchResponse.RESULTS);
+    getOrCreateDataMap(data, BatchResponse.ERRORS);
+    DataMap statuses = request instanceof BatchGetEntityRequest ? getOrCreateDataMap(data, BatchResponse.STATUSES) : null;
+    for (Map.Entry<Object, DataMap> hit : hits.entrySet())
+    {
+      String key = URIParamUtils.encodeKeyForBody(hit.getKey(), false, version);
+      results.put(key, hit.getValue());
+      if (statuses != null)
+      {
+        statuses.put(key, HttpStatus.S_200_OK.getCode());
+      }
+    }
+
+    try
+    {
+      return request.getResponseDecoder().wrapResponse(data, headers, version);
+    }
+    catch (Exception e)
+    {
+      throw new RestLiDecodingException("Could not merge cached entities into the response", e);
+    }
+  }
+
+  private static DataMap getOrCreateDataMap(DataMap data, String key)
+  {
+    DataMap value = data.getDataMap(key);
+    if (value == null)
+    {
+      value = new DataMap();
+      data.put(key, value);
+    }
+    return value;
+  }
+
+  /**
+   * @return the positive mask of the projection, or null if all the fields are requested.
+   */
+  private static DataMap getMask(Set<PathSpec> fields)
+  {
+    return fields == null || fields.isEmpty() ? null : MaskCreator.createPositiveMask(fields).getDataMap();
+  }
+
+  /**
+   * @return a copy of the cached entity projected to the mask, or null if it is not cached with a projection
+   *         covering the mask.
+   */
+  private DataMap getCachedEntity(EntityKey key, DataMap mask)
+  {
+    CachedEntity cachedEntity = _cache.getIfPresent(key);
+    if (cachedEntity == null || !covers(cachedEntity._mask, mask))
+    {
+      _missCount.incrementAndGet();
+      return null;
+    }
+
+    try
+    {
+      DataMap data = cachedEntity._data.copy();
+      if (mask != null && !mask.equals(cachedEntity._mask))
+      {
+        new DataComplexProcessor(new Filter(), mask, data).run(false);
+      }
+      _hitCount.incrementAndGet();
+      return data;
+    }
+    catch (CloneNotSupportedException | DataProcessingException e)
+    {
+      _missCount.incrementAndGet();
+      return null;
+    }
+  }
+
+  /**
+   * Caches an entity, unless its key has been written since the given generation was read, before the entity was
+   * requested.
+   */
+  private void putCachedEntity(EntityKey key, long writeGeneration, DataMap mask, RecordTemplate entity)
+  {
+    if (getWriteGeneration(key) != writeGeneration)
+    {
+      return;
+    }
+
+    try
+    {
+      DataMap data = entity.data().copy();
+      data.makeReadOnly();
+      _cache.put(key, new CachedEntity(data, mask));
+    }
+    catch (CloneNotSupportedException e)
+    {
+      // the entity is not cached
+      return;
+    }
+
+    // a write which started after the check above may have invalidated the key before the entity was put
+    if (getWriteGeneration(key) != writeGeneration)
+    {
+      _cache.invalidate(key);
+    }
+  }
+
+  private void invalidate(Set<EntityKey> keys)
+  {
+    for (EntityKey key : keys)
+    {
+      _writeGenerations.incrementAndGet(getWriteGenerationStripe(key));
+    }
+    _cache.invalidateAll(keys);
+  }
+
+  private long getWriteGeneration(EntityKey key)
+  {
+    return _writeGenerations.get(getWriteGenerationStripe(key));
+  }
+
+  private static int getWriteGenerationStripe(EntityKey key)
+  {
+    int hashCode = key.hashCode();
+    return (hashCode ^ (hashCode >>> 16)) & (WRITE_GENERATION_STRIPES - 1);
+  }
+
+  /**
+   * @return whether the fields selected by the second positive mask are all selected by the first one. A null mask
+   *         selects all the fields.
+   */
+  private static boolean covers(DataMap mask, DataMap requestedMask)
+  {
+    if (mask == null)
+    {
+      return true;
+    }
+    if (requestedMask == null)
+    {
+      return false;
+    }
+
+    for (Map.Entry<String, Object> entry : requestedMask.entrySet())
+    {
+      Object value = mask.get(entry.getKey());
+      if (value == null)
+      {
+        return false;
+      }
+      if (MaskOperation.POSITIVE_MASK_OP.getRepresentation().equals(value))
+      {
+        continue;
+      }
+      if (value instanceof DataMap && entry.getValue() instanceof DataMap)
+      {
+        if (!covers((DataMap) value, (DataMap) entry.getValue()))
+        {
+          return false;
+        }
+      }
+      else if (!value.equals(entry.getValue()))
+      {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static class CachedEntity
+  {
+    private final DataMap _data;
+    private final DataMap _mask;
+
+    private CachedEntity(DataMap data, DataMap mask)
+    {
+      _data = data;
+      _mask = mask;
+    }
+  }
+
+  private static class EntityKey
+  {
+    private final String _baseUriTemplate;
+    private final Map<String, Object> _pathKeys;
+    private final String _key;
+    private final int _hashCode;
+
+    private EntityKey(Request<?> request, Object id)
+    {
+      _baseUriTemplate = request.getBaseUriTemplate();
+      _pathKeys = request.getPathKeys();
+      _key = URIParamUtils.encodeKeyForBody(id, true, CACHE_PROTOCOL_VERSION);
+      _hashCode = Objects.hash(_baseUriTemplate, _pathKeys, _key);
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+      if (this == o)
+      {
+        return true;
+      }
+      if (!(o instanceof EntityKey))
+      {
+        return false;
+      }
+      EntityKey other = (EntityKey) o;
+      return _key.equals(other._key) && _baseUriTemplate.equals(other._baseUriTemplate)
+          && _pathKeys.equals(other._pathKeys);
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return _hashCode;
+    }
+  }
+}
@@ -42,6 +42,11 @@ public interface Client
    */
   String SCATTER_GATHER_STRATEGY = "SCATTER_GATHER_STRATEGY";
 
+  /**
+   * {@link ResponseElementListener} the elements of a collection or batch response are streamed to
+   */
+  String RESPONSE_ELEMENT_LISTENER = "RESPONSE_ELEMENT_LISTENER";
+
   /**
    * Shuts down the underlying {@link com.linkedin.r2.transport.common.Client} which this RestClient wraps.
    * @param callback
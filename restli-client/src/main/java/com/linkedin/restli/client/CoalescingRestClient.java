@@ -0,0 +1,438 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.client;
+
+import com.linkedin.common.callback.Callback;
+import com.linkedin.common.callback.Callbacks;
+import com.linkedin.common.callback.FutureCallback;
+import com.linkedin.common.util.None;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.schema.PathSpec;
+import com.linkedin.data.template.DataTemplateUtil;
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.data.transform.DataComplexProcessor;
+import com.linkedin.data.transform.DataProcessingException;
+import com.linkedin.data.transform.filter.Filter;
+import com.linkedin.data.transform.filter.request.MaskCreator;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.restli.client.multiplexer.MultiplexedRequest;
+import com.linkedin.restli.client.multiplexer.MultiplexedResponse;
+import com.linkedin.restli.client.response.BatchKVResponse;
+import com.linkedin.restli.common.ResourceMethod;
+import com.linkedin.restli.internal.client.ResponseFutureImpl;
+import com.linkedin.restli.internal.client.ResponseImpl;
+import com.linkedin.util.ArgumentUtil;
+import java.net.HttpCookie;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Decorator Rest.li {@link Client} implementation that coalesces concurrent GET requests for entities of the same
+ * resource into a single BATCH_GET. GET requests that can be batched together, as defined by {@link BatchingKey},
+ * and that have the same headers and cookies are collected for a window of time or until a maximum number of
+ * requests is reached. They are then sent as one BATCH_GET with the union of their ids and projections, and the
+ * result or error of every id is delivered to the callbacks of the GET requests asking for it.
+ *
+ * Only GET requests to resources supporting BATCH_GET and sent with an empty {@link RequestContext} are coalesced,
+ * since the BATCH_GET is sent with a new one. Every other request, including BATCH_GET requests which are already batched, is passed to the decorated
+ * {@link Client} as it is.
+ */
+public class CoalescingRestClient implements Client
+{
+  private static final Logger LOG = LoggerFactory.getLogger(CoalescingRestClient.class);
+
+  private final Client _client;
+  private final ScheduledExecutorService _scheduler;
+  private final long _windowMillis;
+  private final int _maxBatchSize;
+
+  private final Map<CoalescingKey, PendingBatch> _pendingBatches = new HashMap<>();
+  private final AtomicLong _coalescedRequestCount = new AtomicLong();
+  private final AtomicLong _batchRequestCount = new AtomicLong();
+
+  /**
+   * @param client the decorated client.
+   * @param scheduler the executor the windows of the batches are scheduled on.
+   * @param windowMillis how long GET requests are collected before being sent.
+   * @param maxBatchSize the number of GET requests after which they are sent without waiting for the window to end.
+   */
+  public CoalescingRestClient(Client client, ScheduledExecutorService scheduler, long windowMillis, int maxBatchSize)
+  {
+    ArgumentUtil.notNull(client, "client");
+    ArgumentUtil.notNull(scheduler, "scheduler");
+    ArgumentUtil.checkArgument(windowMillis >= 0, "windowMillis");
+    ArgumentUtil.checkArgument(maxBatchSize > 0, "maxBatchSize");
+
+    _client = client;
+    _scheduler = scheduler;
+    _windowMillis = windowMillis;
+    _maxBatchSize = maxBatchSize;
+  }
+
+  /**
+   * @return the number of GET requests that have been sent as part of a BATCH_GET.
+   */
+  public long getCoalescedRequestCount()
+  {
+    return _coalescedRequestCount.get();
+  }
+
+  /**
+   * @return the number of BATCH_GET requests sent for coalesced GET requests.
+   */
+  public long getBatchRequestCount()
+  {
+    return _batchRequestCount.get();
+  }
+
+  @Override
+  public void shutdown(Callback<None> callback)
+  {
+    List<PendingBatch> pendingBatches;
+    synchronized (_pendingBatches)
+    {
+      pendingBatches = new ArrayList<>(_pendingBatches.values());
+      _pendingBatches.clear();
+    }
+    pendingBatches.forEach(this::send);
+    _client.shutdown(callback);
+  }
+
+  @Override
+  public <T> ResponseFuture<T> sendRequest(Request<T> request, RequestContext requestContext)
+  {
+    return sendRequest(request, requestContext, ErrorHandlingBehavior.FAIL_ON_ERROR);
+  }
+
+  @Override
+  public <T> ResponseFuture<T> sendRequest(Request<T> request, RequestContext requestContext,
+      ErrorHandlingBehavior errorHandlingBehavior)
+  {
+    if (!isCoalescable(request, requestContext))
+    {
+      return _client.sendRequest(request, requestContext, errorHandlingBehavior);
+    }
+    FutureCallback<Response<T>> callback = new FutureCallback<>();
+    coalesce((GetRequest<?>) request, callback);
+    return new ResponseFutureImpl<>(callback, errorHandlingBehavior);
+  }
+
+  @Override
+  public <T> ResponseFuture<T> sendRequest(RequestBuilder<? extends Request<T>> requestBuilder,
+      RequestContext requestContext)
+  {
+    return sendRequest(requestBuilder.build(), requestContext);
+  }
+
+  @Override
+  public <T> ResponseFuture<T> sendRequest(RequestBuilder<? extends Request<T>> requestBuilder,
+      RequestContext requestContext, ErrorHandlingBehavior errorHandlingBehavior)
+  {
+    return sendRequest(requestBuilder.build(), requestContext, errorHandlingBehavior);
+  }
+
+  @Override
+  public <T> void sendRequest(Request<T> request, RequestContext requestContext, Callback<Response<T>> callback)
+  {
+    if (!isCoalescable(request, requestContext))
+    {
+      _client.sendRequest(request, requestContext, callback);
+      return;
+    }
+    coalesce((GetRequest<?>) request, callback);
+  }
+
+  @Override
+  public <T> void sendRequest(RequestBuilder<? extends Request<T>> requestBuilder, RequestContext requestContext,
+      Callback<Response<T>> callback)
+  {
+    sendRequest(requestBuilder.build(), requestContext, callback);
+  }
+
+  @Override
+  public <T> ResponseFuture<T> sendRequest(Request<T> request)
+  {
+    return sendRequest(request, new RequestContext());
+  }
+
+  @Override
+  public <T> ResponseFuture<T> sendRequest(Request<T> request, ErrorHandlingBehavior errorHandlingBehavior)
+  {
+    return sendRequest(request, new RequestContext(), errorHandlingBehavior);
+  }
+
+  @Override
+  public <T> ResponseFuture<T> sendRequest(RequestBuilder<? extends Request<T>> requestBuilder)
+  {
+    return sendRequest(requestBuilder.build(), new RequestContext());
+  }
+
+  @Override
+  public <T> ResponseFuture<T> sendRequest(RequestBuilder<? extends Request<T>> requestBuilder,
+      ErrorHandlingBehavior errorHandlingBehavior)
+  {
+    return sendRequest(requestBuilder.build(), new RequestContext(), errorHandlingBehavior);
+  }
+
+  @Override
+  public <T> void sendRequest(Request<T> request, Callback<Response<T>> callback)
+  {
+    sendRequest(request, new RequestContext(), callback);
+  }
+
+  @Override
+  public <T> void sendRequest(RequestBuilder<? extends Request<T>> requestBuilder, Callback<Response<T>> callback)
+  {
+    sendRequest(requestBuilder.build(), new RequestContext(), callback);
+  }
+
+  @Override
+  public void sendRequest(MultiplexedRequest multiplexedRequest)
+  {
+    _client.sendRequest(multiplexedRequest, new RequestContext(), Callbacks.empty());
+  }
+
+  @Override
+  public void sendRequest(MultiplexedRequest multiplexedRequest, Callback<MultiplexedResponse> callback)
+  {
+    _client.sendRequest(multiplexedRequest, new RequestContext(), callback);
+  }
+
+  @Override
+  public void sendRequest(MultiplexedRequest multiplexedRequest, RequestContext requestContext,
+      Callback<MultiplexedResponse> callback)
+  {
+    _client.sendRequest(multiplexedRequest, requestContext, callback);
+  }
+
+  private static boolean isCoalescable(Request<?> request, RequestContext requestContext)
+  {
+    return request instanceof GetRequest
+        && ((GetRequest<?>) request).getObjectId() != null
+        && request.getResourceProperties().getSupportedMethods().contains(ResourceMethod.BATCH_GET)
+        && request.getStreamingAttachments() == null
+        && requestContext.getLocalAttrs().isEmpty();
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private void coalesce(GetRequest<?> request, Callback<? extends Response<?>> callback)
+  {
+    BatchGetKVRequest<?, ?> batchRequest = BatchGetRequestBuilder.batchKV((GetRequest) request);
+    CoalescingKey key = new CoalescingKey(batchRequest);
+    PendingGet pendingGet = new PendingGet(request, batchRequest, (Callback<Response<?>>) callback);
+
+    PendingBatch batch;
+    boolean newBatch = false;
+    boolean full = false;
+    synchronized (_pendingBatches)
+    {
+      batch = _pendingBatches.get(key);
+      if (batch == null)
+      {
+        batch = new PendingBatch();
+        _pendingBatches.put(key, batch);
+        newBatch = true;
+      }
+      batch._gets.add(pendingGet);
+      if (batch._gets.size() >= _maxBatchSize)
+      {
+        _pendingBatches.remove(key);
+        full = true;
+      }
+    }
+
+    if (full)
+    {
+      send(batch);
+    }
+    else if (newBatch)
+    {
+      final PendingBatch scheduledBatch = batch;
+      _scheduler.schedule(() -> sendIfPending(key, scheduledBatch), _windowMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  private void sendIfPending(CoalescingKey key, PendingBatch batch)
+  {
+    synchronized (_pendingBatches)
+    {
+      // the batch has already been sent if it has been filled up in the meantime
+      if (_pendingBatches.get(key) != batch)
+      {
+        return;
+      }
+      _pendingBatches.remove(key);
+    }
+    send(batch);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private void send(PendingBatch batch)
+  {
+    final List<PendingGet> gets = batch._gets;
+    if (gets.size() == 1)
+    {
+      // nothing to coalesce with, the GET request is sent as it is
+      PendingGet get = gets.get(0);
+      _client.sendRequest((Request) get._request, new RequestContext(), (Callback) get._callback);
+      return;
+    }
+
+    final List<BatchGetKVRequest> batchRequests = new ArrayList<>(gets.size());
+    boolean sameFields = true;
+    final Set<PathSpec> fields = gets.get(0)._request.getFields();
+    for (PendingGet get : gets)
+    {
+      batchRequests.add(get._batchRequest);
+      sameFields &= Objects.equals(fields, get._request.getFields());
+    }
+
+    final BatchGetKVRequest<Object, RecordTemplate> batchRequest;
+    try
+    {
+      batchRequest = BatchGetRequestBuilder.batchKV((List) batchRequests, true);
+    }
+    catch (RuntimeException e)
+    {
+      gets.forEach(get -> get._callback.onError(e));
+      return;
+    }
+
+    _coalescedRequestCount.addAndGet(gets.size());
+    _batchRequestCount.incrementAndGet();
+    final boolean projectionWidened = !sameFields;
+    _client.sendRequest(batchRequest, new RequestContext(), new Callback<Response<BatchKVResponse<Object, RecordTemplate>>>()
+    {
+      @Override
+      public void onError(Throwable e)
+      {
+        gets.forEach(get -> get._callback.onError(e));
+      }
+
+      @Override
+      public void onSuccess(Response<BatchKVResponse<Object, RecordTemplate>> response)
+      {
+        for (PendingGet get : gets)
+        {
+          Response<RecordTemplate> getResponse;
+          try
+          {
+            getResponse = BatchGetRequestUtil.unbatchKVResponse(batchRequest, response, get._request.getObjectId());
+            if (projectionWidened)
+            {
+              getResponse = project(get._request, getResponse);
+            }
+          }
+          catch (Exception e)
+          {
+            get._callback.onError(e);
+            continue;
+          }
+          get._callback.onSuccess(getResponse);
+        }
+      }
+    });
+  }
+
+  /**
+   * Applies the projection of a GET request to the entity returned for it with the wider projection of the batch.
+   */
+  private static Response<RecordTemplate> project(GetRequest<?> request, Response<RecordTemplate> response)
+      throws CloneNotSupportedException, DataProcessingException
+  {
+    Set<PathSpec> fields = request.getFields();
+    if (fields == null || fields.isEmpty())
+    {
+      return response;
+    }
+
+    DataMap data = response.getEntity().data().copy();
+    new DataComplexProcessor(new Filter(), MaskCreator.createPositiveMask(fields).getDataMap(), data).run(false);
+    LOG.debug("Projected coalesced response of {} to {}", request.getBaseUriTemplate(), fields);
+    return new ResponseImpl<>(response, DataTemplateUtil.wrap(data, request.getEntityClass()));
+  }
+
+  private static class PendingGet
+  {
+    private final GetRequest<?> _request;
+    private final BatchGetKVRequest<?, ?> _batchRequest;
+    private final Callback<Response<?>> _callback;
+
+    private PendingGet(GetRequest<?> request, BatchGetKVRequest<?, ?> batchRequest, Callback<Response<?>> callback)
+    {
+      _request = request;
+      _batchRequest = batchRequest;
+      _callback = callback;
+    }
+  }
+
+  private static class PendingBatch
+  {
+    private final List<PendingGet> _gets = new ArrayList<>();
+  }
+
+  /**
+   * Requests with equal keys can be sent as one BATCH_GET, whatever their ids and projections.
+   */
+  private static class CoalescingKey
+  {
+    private final BatchingKey<?, ?> _batchingKey;
+    private final Map<String, String> _headers;
+    private final List<HttpCookie> _cookies;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private CoalescingKey(BatchGetKVRequest<?, ?> batchRequest)
+    {
+      // not batching fields makes the key ignore the projection
+      _batchingKey = new BatchingKey(batchRequest, false);
+      _headers = batchRequest.getHeaders();
+      _cookies = batchRequest.getCookies();
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+      if (this == o)
+      {
+        return true;
+      }
+      if (!(o instanceof CoalescingKey))
+      {
+        return false;
+      }
+      CoalescingKey other = (CoalescingKey) o;
+      return _batchingKey.equals(other._batchingKey) && _headers.equals(other._headers)
+          && _cookies.equals(other._cookies);
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return Objects.hash(_batchingKey, _headers, _cookies);
+    }
+  }
+}
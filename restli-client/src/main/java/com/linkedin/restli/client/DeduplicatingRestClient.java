@@ -0,0 +1,353 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.client;
+
+import com.linkedin.common.callback.Callback;
+import com.linkedin.common.callback.Callbacks;
+import com.linkedin.common.callback.FutureCallback;
+import com.linkedin.common.util.None;
+import com.linkedin.r2.filter.R2Constants;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.transport.http.client.TimeoutCallback;
+import com.linkedin.restli.client.multiplexer.MultiplexedRequest;
+import com.linkedin.restli.client.multiplexer.MultiplexedResponse;
+import com.linkedin.restli.client.util.RestliRequestUriSignature;
+import com.linkedin.restli.common.ResourceMethod;
+import com.linkedin.restli.internal.client.ResponseFutureImpl;
+import com.linkedin.util.ArgumentUtil;
+import java.net.HttpCookie;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Decorator Rest.li {@link Client} implementation that deduplicates identical in-flight read requests. A read request
+ * that is identical to one which has been sent and has not completed yet, as defined by its
+ * {@link RestliRequestUriSignature}, method, headers, cookies and {@link RestliRequestOptions}, is not sent again: its
+ * callback receives the response of the request already in flight.
+ *
+ * The decoded {@link Response} is shared by the callbacks of all the identical requests, so its entity must not be
+ * modified.
+ *
+ * Only requests whose {@link RequestContext} is empty or only holds a {@link R2Constants#REQUEST_TIMEOUT} are
+ * deduplicated. The shared request is sent with the {@link RequestContext} of the request which initiated it, so it
+ * uses that request's timeout, and the timeout of every other request is applied to its own callback: a request with a
+ * longer timeout than the one in flight may fail with the timeout of the latter. Every other request is passed to the
+ * decorated {@link Client} as it is.
+ */
+public class DeduplicatingRestClient implements Client
+{
+  private static final Set<ResourceMethod> READ_METHODS = EnumSet.of(ResourceMethod.GET,
+                                                                     ResourceMethod.BATCH_GET,
+                                                                     ResourceMethod.FINDER,
+                                                                     ResourceMethod.BATCH_FINDER,
+                                                                     ResourceMethod.GET_ALL);
+
+  private final Client _client;
+  private final ScheduledExecutorService _scheduler;
+
+  private final ConcurrentMap<DeduplicationKey, InFlightRequest> _inFlightRequests = new ConcurrentHashMap<>();
+  private final AtomicLong _deduplicatedRequestCount = new AtomicLong();
+
+  /**
+   * @param client the decorated client.
+   * @param scheduler the executor the timeouts of the requests are scheduled on.
+   */
+  public DeduplicatingRestClient(Client client, ScheduledExecutorService scheduler)
+  {
+    ArgumentUtil.notNull(client, "client");
+    ArgumentUtil.notNull(scheduler, "scheduler");
+
+    _client = client;
+    _scheduler = scheduler;
+  }
+
+  /**
+   * @return the number of requests that have not been sent because an identical request was in flight.
+   */
+  public long getDeduplicatedRequestCount()
+  {
+    return _deduplicatedRequestCount.get();
+  }
+
+  /**
+   * @return the number of distinct read requests currently in flight.
+   */
+  public int getInFlightRequestCount()
+  {
+    return _inFlightRequests.size();
+  }
+
+  @Override
+  public void shutdown(Callback<None> callback)
+  {
+    _client.shutdown(callback);
+  }
+
+  @Override
+  public <T> ResponseFuture<T> sendRequest(Request<T> request, RequestContext requestContext)
+  {
+    return sendRequest(request, requestContext, ErrorHandlingBehavior.FAIL_ON_ERROR);
+  }
+
+  @Override
+  public <T> ResponseFuture<T> sendRequest(Request<T> request, RequestContext requestContext,
+      ErrorHandlingBehavior errorHandlingBehavior)
+  {
+    if (!isDeduplicable(request, requestContext))
+    {
+      return _client.sendRequest(request, requestContext, errorHandlingBehavior);
+    }
+    FutureCallback<Response<T>> callback = new FutureCallback<>();
+    deduplicate(request, requestContext, callback);
+    return new ResponseFutureImpl<>(callback, errorHandlingBehavior);
+  }
+
+  @Override
+  public <T> ResponseFuture<T> sendRequest(RequestBuilder<? extends Request<T>> requestBuilder,
+      RequestContext requestContext)
+  {
+    return sendRequest(requestBuilder.build(), requestContext);
+  }
+
+  @Override
+  public <T> ResponseFuture<T> sendRequest(RequestBuilder<? extends Request<T>> requestBuilder,
+      RequestContext requestContext, ErrorHandlingBehavior errorHandlingBehavior)
+  {
+    return sendRequest(requestBuilder.build(), requestContext, errorHandlingBehavior);
+  }
+
+  @Override
+  public <T> void sendRequest(Request<T> request, RequestContext requestContext, Callback<Response<T>> callback)
+  {
+    if (!isDeduplicable(request, requestContext))
+    {
+      _client.sendRequest(request, requestContext, callback);
+      return;
+    }
+    deduplicate(request, requestContext, callback);
+  }
+
+  @Override
+  public <T> void sendRequest(RequestBuilder<? extends Request<T>> requestBuilder, RequestContext requestContext,
+      Callback<Response<T>> callback)
+  {
+    sendRequest(requestBuilder.build(), requestContext, callback);
+  }
+
+  @Override
+  public <T> ResponseFuture<T> sendRequest(Request<T> request)
+  {
+    return sendRequest(request, new RequestContext());
+  }
+
+  @Override
+  public <T> ResponseFuture<T> sendRequest(Request<T> request, ErrorHandlingBehavior errorHandlingBehavior)
+  {
+    return sendRequest(request, new RequestContext(), errorHandlingBehavior);
+  }
+
+  @Override
+  public <T> ResponseFuture<T> sendRequest(RequestBuilder<? extends Request<T>> requestBuilder)
+  {
+    return sendRequest(requestBuilder.build(), new RequestContext());
+  }
+
+  @Override
+  public <T> ResponseFuture<T> sendRequest(RequestBuilder<? extends Request<T>> requestBuilder,
+      ErrorHandlingBehavior errorHandlingBehavior)
+  {
+    return sendRequest(requestBuilder.build(), new RequestContext(), errorHandlingBehavior);
+  }
+
+  @Override
+  public <T> void sendRequest(Request<T> request, Callback<Response<T>> callback)
+  {
+    sendRequest(request, new RequestContext(), callback);
+  }
+
+  @Override
+  public <T> void sendRequest(RequestBuilder<? extends Request<T>> requestBuilder, Callback<Response<T>> callback)
+  {
+    sendRequest(requestBuilder.build(), new RequestContext(), callback);
+  }
+
+  @Override
+  public void sendRequest(MultiplexedRequest multiplexedRequest)
+  {
+    _client.sendRequest(multiplexedRequest, new RequestContext(), Callbacks.empty());
+  }
+
+  @Override
+  public void sendRequest(MultiplexedRequest multiplexedRequest, Callback<MultiplexedResponse> callback)
+  {
+    _client.sendRequest(multiplexedRequest, new RequestContext(), callback);
+  }
+
+  @Override
+  public void sendRequest(MultiplexedRequest multiplexedRequest, RequestContext requestContext,
+      Callback<MultiplexedResponse> callback)
+  {
+    _client.sendRequest(multiplexedRequest, requestContext, callback);
+  }
+
+  private static boolean isDeduplicable(Request<?> request, RequestContext requestContext)
+  {
+    if (!READ_METHODS.contains(request.getMethod()) || request.getStreamingAttachments() != null)
+    {
+      return false;
+    }
+    Map<String, Object> localAttrs = requestContext.getLocalAttrs();
+    return localAttrs.isEmpty()
+        || (localAttrs.size() == 1 && localAttrs.get(R2Constants.REQUEST_TIMEOUT) instanceof Number);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> void deduplicate(Request<T> request, RequestContext requestContext, Callback<Response<T>> callback)
+  {
+    Number timeout = (Number) requestContext.getLocalAttr(R2Constants.REQUEST_TIMEOUT);
+    Callback<Response<?>> waiter = (Callback<Response<?>>) (Callback<?>) (timeout == null ? callback :
+        new TimeoutCallback<>(_scheduler, timeout.longValue(), TimeUnit.MILLISECONDS, callback,
+            "deduplicated request to " + request.getBaseUriTemplate()));
+
+    DeduplicationKey key = new DeduplicationKey(request);
+    while (true)
+    {
+      InFlightRequest inFlightRequest = _inFlightRequests.get(key);
+      if (inFlightRequest != null)
+      {
+        if (inFlightRequest.addWaiter(waiter))
+        {
+          _deduplicatedRequestCount.incrementAndGet();
+          return;
+        }
+        // the request has just completed, it is sent again
+        _inFlightRequests.remove(key, inFlightRequest);
+        continue;
+      }
+
+      inFlightRequest = new InFlightRequest(key);
+      inFlightRequest.addWaiter(waiter);
+      if (_inFlightRequests.putIfAbsent(key, inFlightRequest) == null)
+      {
+        _client.sendRequest(request, requestContext, (Callback<Response<T>>) (Callback<?>) inFlightRequest);
+        return;
+      }
+    }
+  }
+
+  /**
+   * Callback of a request in flight, which completes the callbacks of all the requests identical to it.
+   */
+  private class InFlightRequest implements Callback<Response<?>>
+  {
+    private final DeduplicationKey _key;
+    private final List<Callback<Response<?>>> _waiters = new ArrayList<>(1);
+    private boolean _completed;
+
+    private InFlightRequest(DeduplicationKey key)
+    {
+      _key = key;
+    }
+
+    /**
+     * @return false if the request has completed and the waiter can no longer be added.
+     */
+    private synchronized boolean addWaiter(Callback<Response<?>> waiter)
+    {
+      if (_completed)
+      {
+        return false;
+      }
+      _waiters.add(waiter);
+      return true;
+    }
+
+    private List<Callback<Response<?>>> complete()
+    {
+      _inFlightRequests.remove(_key, this);
+      synchronized (this)
+      {
+        _completed = true;
+        return _waiters;
+      }
+    }
+
+    @Override
+    public void onError(Throwable e)
+    {
+      complete().forEach(waiter -> waiter.onError(e));
+    }
+
+    @Override
+    public void onSuccess(Response<?> result)
+    {
+      complete().forEach(waiter -> waiter.onSuccess(result));
+    }
+  }
+
+  private static class DeduplicationKey
+  {
+    private final RestliRequestUriSignature _signature;
+    private final ResourceMethod _method;
+    private final Map<String, String> _headers;
+    private final List<HttpCookie> _cookies;
+    private final RestliRequestOptions _requestOptions;
+    private final int _hashCode;
+
+    private DeduplicationKey(Request<?> request)
+    {
+      _signature = new RestliRequestUriSignature(request, RestliRequestUriSignature.ALL_FIELDS);
+      _method = request.getMethod();
+      _headers = request.getHeaders();
+      _cookies = request.getCookies();
+      _requestOptions = request.getRequestOptions();
+      _hashCode = Objects.hash(_signature, _method, _headers, _cookies, _requestOptions);
+    }
+
+    @Override
+    public boolean equals(Object o)
+    {
+      if (this == o)
+      {
+        return true;
+      }
+      if (!(o instanceof DeduplicationKey))
+      {
+        return false;
+      }
+      DeduplicationKey other = (DeduplicationKey) o;
+      return _method == other._method && _signature.equals(other._signature) && _headers.equals(other._headers)
+          && _cookies.equals(other._cookies) && _requestOptions.equals(other._requestOptions);
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return _hashCode;
+    }
+  }
+}
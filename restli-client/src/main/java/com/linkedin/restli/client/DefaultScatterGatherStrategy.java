@@ -46,6 +46,7 @@ import org.slf4j.LoggerFactory;
 
 import java.net.URI;
 import java.util.*;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 
@@ -63,10 +64,21 @@ public class DefaultScatterGatherStrategy implements ScatterGatherStrategy
   private static final Set<ResourceMethod> SG_STRATEGY_METHODS = EnumSet.of(ResourceMethod.BATCH_GET, ResourceMethod.BATCH_DELETE,
           ResourceMethod.BATCH_PARTIAL_UPDATE, ResourceMethod.BATCH_UPDATE);
   private final URIMapper _uriMapper;
+  private final ScatterGatherOptions _scatterGatherOptions;
 
   public DefaultScatterGatherStrategy(URIMapper uriMapper)
+  {
+    this(uriMapper, null);
+  }
+
+  /**
+   * @param uriMapper mapper of the request keys to hosts.
+   * @param scatterGatherOptions options for the execution of the scattered requests, or null for the defaults.
+   */
+  public DefaultScatterGatherStrategy(URIMapper uriMapper, ScatterGatherOptions scatterGatherOptions)
   {
     _uriMapper = uriMapper;
+    _scatterGatherOptions = scatterGatherOptions;
   }
 
   /**
@@ -466,6 +478,52 @@ public class DefaultScatterGatherStrategy implements ScatterGatherStrategy
     }).collect(Collectors.toList());
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> ScatterGatherOptions getScatterGatherOptions(Request<T> request)
+  {
+    return _scatterGatherOptions;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * Only BATCH_GET requests are hedged, since duplicating a write may apply it twice. The keys of the scattered request
+   * are mapped with {@link URIMapper#mapUrisToAlternateHosts(List, Set)}, and the scattered request is hedged only if
+   * they are all mapped to the same alternate host.
+   */
+  @Override
+  public <T> RequestInfo hedgeRequest(Request<T> request, ProtocolVersion protocolVersion,
+      RequestInfo scatteredRequest, Set<URI> excludedHosts)
+  {
+    Request<?> hedgedRequest = scatteredRequest.getRequest();
+    if (request.getMethod() != ResourceMethod.BATCH_GET || !(hedgedRequest instanceof BatchRequest))
+    {
+      return null;
+    }
+
+    URIMappingResult<Object> mappingResult;
+    try
+    {
+      mappingResult = _uriMapper.mapUrisToAlternateHosts(getUris(hedgedRequest, protocolVersion), excludedHosts);
+    }
+    catch (ServiceUnavailableException e)
+    {
+      log.warn("Unable to map scattered request to an alternate host, not hedging it: " + hedgedRequest, e);
+      return null;
+    }
+    if (mappingResult == null || mappingResult.getMappedKeys().size() != 1
+        || !mappingResult.getUnmappedKeys().isEmpty())
+    {
+      return null;
+    }
+    URI alternateHost = mappingResult.getMappedKeys().keySet().iterator().next();
+    return new RequestInfo(hedgedRequest,
+        createRequestContextWithTargetHint(scatteredRequest.getRequestContext(), alternateHost));
+  }
+
   /**
    * Update request context with D2 Target host hint and flag whether to accept other hosts. Note that the
    * incoming request context will not be modified since it will be shared by scattered requests, this will
@@ -601,7 +659,9 @@ public class DefaultScatterGatherStrategy implements ScatterGatherStrategy
   {
     ErrorResponse errorResponse = new ErrorResponse();
     errorResponse.setMessage(e.getMessage());
-    errorResponse.setStatus(HttpStatus.S_500_INTERNAL_SERVER_ERROR.getCode());
+    // scattered requests which did not complete within the sub-request timeout fail with a TimeoutException
+    errorResponse.setStatus(e instanceof TimeoutException ? HttpStatus.S_504_GATEWAY_TIMEOUT.getCode()
+        : HttpStatus.S_500_INTERNAL_SERVER_ERROR.getCode());
     errorResponse.setExceptionClass(e.getClass().getName());
 
     keys.forEach(key ->
@@ -0,0 +1,43 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.client;
+
+
+/**
+ * Listener of the elements of a collection or batch response, which are passed to it one by one as they are decoded
+ * from the response stream instead of being held in the decoded response. Set it as the
+ * {@link Client#RESPONSE_ELEMENT_LISTENER} local attribute of the request context of a FINDER, GET_ALL, BATCH_FINDER
+ * or BATCH_GET request.
+ *
+ * The listener is invoked on the thread decoding the response, and the next part of the response is only read once
+ * it returns. The elements are passed in the order they are decoded, before the callback of the request is completed
+ * with the rest of the response.
+ *
+ * @param <K> the key type of a batch response. Keys are null for the elements of collection responses.
+ * @param <E> the element type: the entity of a collection response, the {@link com.linkedin.restli.common.BatchFinderCriteriaResult}
+ *            of a BATCH_FINDER response, or the value of a BATCH_GET response.
+ */
+public interface ResponseElementListener<K, E>
+{
+  /**
+   * Invoked when an element of the response has been decoded. An exception thrown by the listener fails the request.
+   *
+   * @param key the key of the element in a batch response, or null for an element of a collection response.
+   * @param element the decoded element.
+   */
+  void onElement(K key, E element) throws Exception;
+}
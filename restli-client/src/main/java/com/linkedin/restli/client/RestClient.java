@@ -78,8 +78,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
 import javax.activation.MimeTypeParseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -280,7 +278,7 @@ public class RestClient implements Client {
     {
       // Disable latency instrumentation altogether for scatter-gather requests
       // TODO: Remove this once instrumentation is supported for scatter-gather
-      requestContext.putLocalAttr(TimingContextUtil.TIMINGS_DISABLED_KEY_NAME, true);
+      requestContext.putLocalAttr(TimingContextUtil.TIMINGS_DISABLED_KEY, true);
 
       // scatter gather case
       handleScatterGatherRequest(request, requestContext, strategy, callback);
@@ -315,10 +313,16 @@ public class RestClient implements Client {
     //Note that it is not possible for the list of streaming attachments to be non-null and have 0 elements. If the
     //list of streaming attachments is non null then it must have at least one attachment. The request builders enforce
     //this invariant.
-    if (_restLiClientConfig.isUseStreaming() || request.getStreamingAttachments() != null || request.getRequestOptions().getAcceptResponseAttachments())
+    //
+    //The elements of the response can only be streamed to a ResponseElementListener from a StreamResponse.
+    final ResponseElementListener<?, ?> elementListener =
+        (ResponseElementListener<?, ?>) requestContext.removeLocalAttr(RESPONSE_ELEMENT_LISTENER);
+    if (elementListener != null || _restLiClientConfig.isUseStreaming() || request.getStreamingAttachments() != null
+        || request.getRequestOptions().getAcceptResponseAttachments())
     {
       //Set content type and accept type correctly and use StreamRequest/StreamResponse
-      sendStreamRequest(request, requestContext, new RestLiStreamCallbackAdapter<>(request.getResponseDecoder(), callback, requestContext));
+      sendStreamRequest(request, requestContext,
+          new RestLiStreamCallbackAdapter<>(request.getResponseDecoder(), callback, requestContext, elementListener));
     }
     else
     {
@@ -1120,40 +1124,10 @@ public class RestClient implements Client {
         // for mapped keys, we will send scattered requests
         List<RequestInfo> scatteredRequests =
             strategy.scatterRequest(request, requestContext, mappingResults);
-        // we are using counter instead of CountDownLatch to avoid blocking this thread in CountDownLatch.await
-        final AtomicInteger reqCount = new AtomicInteger(scatteredRequests.size());
-        final Map<RequestInfo, Response<T>> successResponses = new ConcurrentHashMap<>();
-        final Map<RequestInfo, Throwable> failureResponses = new ConcurrentHashMap<>();
-        for (RequestInfo requestInfo : scatteredRequests)
-        {
-          Callback<Response<T>> cb = new Callback<Response<T>>()
-          {
-            @Override
-            public void onSuccess(Response<T> response)
-            {
-              successResponses.put(requestInfo, response);
-              if (reqCount.decrementAndGet() == 0)
-              {
-                // all scattered requests are handled
-                strategy.onAllResponsesReceived(request, protocolVersion, successResponses, failureResponses,
-                        mappingResults.getUnmappedKeys(), callback);
-              }
-            }
-
-            @Override
-            public void onError(Throwable e)
-            {
-              failureResponses.put(requestInfo, e);
-              if (reqCount.decrementAndGet() == 0)
-              {
-                // all scattered requests are handled
-                strategy.onAllResponsesReceived(request, protocolVersion, successResponses, failureResponses,
-                        mappingResults.getUnmappedKeys(), callback);
-              }
-            }
-          };
-          sendRequestNoScatterGather((Request<T>)requestInfo.getRequest(), requestInfo.getRequestContext(), cb);
-        }
+        new ScatterGatherExecution<>(request, protocolVersion, strategy, mappingResults.getUnmappedKeys(),
+            (RequestInfo requestInfo, Callback<Response<T>> cb) -> sendRequestNoScatterGather(
+                (Request<T>) requestInfo.getRequest(), requestInfo.getRequestContext(), cb),
+            callback).execute(scatteredRequests);
       }
     });
   }
@@ -42,6 +42,7 @@ public class RestLiStreamCallbackAdapter<T> implements Callback<StreamResponse>
   private final Callback<Response<T>> _wrappedCallback;
   private final RestResponseDecoder<T> _decoder;
   private final RequestContext _requestContext;
+  private final ResponseElementListener<?, ?> _elementListener;
 
   public RestLiStreamCallbackAdapter(RestResponseDecoder<T> decoder, Callback<Response<T>> wrappedCallback)
   {
@@ -50,10 +51,20 @@ public class RestLiStreamCallbackAdapter<T> implements Callback<StreamResponse>
 
   public RestLiStreamCallbackAdapter(RestResponseDecoder<T> decoder, Callback<Response<T>> wrappedCallback,
       RequestContext requestContext)
+  {
+    this(decoder, wrappedCallback, requestContext, null);
+  }
+
+  /**
+   * @param elementListener listener the elements of a collection or batch response are streamed to, or null.
+   */
+  public RestLiStreamCallbackAdapter(RestResponseDecoder<T> decoder, Callback<Response<T>> wrappedCallback,
+      RequestContext requestContext, ResponseElementListener<?, ?> elementListener)
   {
     _wrappedCallback = wrappedCallback;
     _decoder = decoder;
     _requestContext = requestContext;
+    _elementListener = elementListener;
   }
 
   @Override
@@ -106,7 +117,7 @@ public class RestLiStreamCallbackAdapter<T> implements Callback<StreamResponse>
     TimingContextUtil.beginTiming(_requestContext, FrameworkTimingKeys.CLIENT_RESPONSE_RESTLI_DESERIALIZATION.key());
     try
     {
-      _decoder.decodeResponse(result, callback);
+      _decoder.decodeResponse(result, callback, _elementListener);
     }
     catch(Exception exception)
     {
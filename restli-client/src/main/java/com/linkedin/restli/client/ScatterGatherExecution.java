@@ -0,0 +1,241 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.client;
+
+import com.linkedin.common.callback.Callback;
+import com.linkedin.d2.backuprequests.BackupRequestsStrategy;
+import com.linkedin.d2.balancer.KeyMapper;
+import com.linkedin.restli.common.ProtocolVersion;
+import java.net.URI;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Sends the scattered requests of a scatter-gather request and gathers their responses with
+ * {@link ScatterGatherStrategy#onAllResponsesReceived(Request, ProtocolVersion, Map, Map, Map, Callback)}, applying the
+ * sub-request timeout and hedging of the {@link ScatterGatherOptions} of the strategy.
+ *
+ * @param <K> batch request key type.
+ * @param <T> response type.
+ */
+class ScatterGatherExecution<K, T>
+{
+  private static final Logger LOG = LoggerFactory.getLogger(ScatterGatherExecution.class);
+
+  private final Request<T> _request;
+  private final ProtocolVersion _protocolVersion;
+  private final ScatterGatherStrategy _strategy;
+  private final ScatterGatherOptions _options;
+  private final Map<Integer, Set<K>> _unmappedKeys;
+  private final BiConsumer<RequestInfo, Callback<Response<T>>> _sender;
+  private final Callback<Response<T>> _callback;
+
+  private final Map<RequestInfo, Response<T>> _successResponses = new ConcurrentHashMap<>();
+  private final Map<RequestInfo, Throwable> _failureResponses = new ConcurrentHashMap<>();
+  // we are using counter instead of CountDownLatch to avoid blocking this thread in CountDownLatch.await
+  private final AtomicInteger _pendingRequests = new AtomicInteger();
+
+  /**
+   * @param sender sends a scattered request without scatter-gather.
+   */
+  ScatterGatherExecution(Request<T> request, ProtocolVersion protocolVersion, ScatterGatherStrategy strategy,
+      Map<Integer, Set<K>> unmappedKeys, BiConsumer<RequestInfo, Callback<Response<T>>> sender,
+      Callback<Response<T>> callback)
+  {
+    _request = request;
+    _protocolVersion = protocolVersion;
+    _strategy = strategy;
+    _options = strategy.getScatterGatherOptions(request);
+    _unmappedKeys = unmappedKeys;
+    _sender = sender;
+    _callback = callback;
+  }
+
+  void execute(List<RequestInfo> scatteredRequests)
+  {
+    _pendingRequests.set(scatteredRequests.size());
+    for (RequestInfo requestInfo : scatteredRequests)
+    {
+      new ScatteredRequest(requestInfo).send();
+    }
+  }
+
+  private void onScatteredRequestCompleted()
+  {
+    if (_pendingRequests.decrementAndGet() == 0)
+    {
+      // all scattered requests are handled
+      _strategy.onAllResponsesReceived(_request, _protocolVersion, _successResponses, _failureResponses,
+          _unmappedKeys, _callback);
+    }
+  }
+
+  /**
+   * A scattered request, which completes with the first response of the request or of its hedged duplicate, or fails
+   * when the sub-request timeout expires or when all the sent requests have failed.
+   */
+  private class ScatteredRequest
+  {
+    private final RequestInfo _requestInfo;
+    private final AtomicBoolean _done = new AtomicBoolean();
+    private final AtomicInteger _outstanding = new AtomicInteger(1);
+    private volatile ScheduledFuture<?> _timeout;
+    private volatile ScheduledFuture<?> _hedge;
+
+    ScatteredRequest(RequestInfo requestInfo)
+    {
+      _requestInfo = requestInfo;
+    }
+
+    void send()
+    {
+      BackupRequestsStrategy hedgingStrategy = null;
+      if (_options != null)
+      {
+        if (_options.getSubRequestTimeoutMs() > 0)
+        {
+          _timeout = _options.getScheduler().schedule(this::onTimeout, _options.getSubRequestTimeoutMs(),
+              TimeUnit.MILLISECONDS);
+        }
+        hedgingStrategy = _options.getHedgingStrategy();
+        if (hedgingStrategy != null)
+        {
+          Optional<Long> hedgeDelayNano = hedgingStrategy.getTimeUntilBackupRequestNano();
+          if (hedgeDelayNano.isPresent())
+          {
+            _hedge = _options.getScheduler().schedule(this::hedge, hedgeDelayNano.get(), TimeUnit.NANOSECONDS);
+          }
+        }
+      }
+      sendRequest(_requestInfo, hedgingStrategy);
+    }
+
+    /**
+     * Sends the scattered request or its hedged duplicate. The latencies of the scattered requests, but not of their
+     * duplicates, are recorded in the hedging strategy.
+     */
+    private void sendRequest(RequestInfo requestInfo, BackupRequestsStrategy hedgingStrategy)
+    {
+      final long startNano = System.nanoTime();
+      _sender.accept(requestInfo, new Callback<Response<T>>()
+      {
+        @Override
+        public void onSuccess(Response<T> response)
+        {
+          recordLatency();
+          if (_done.compareAndSet(false, true))
+          {
+            _successResponses.put(_requestInfo, response);
+            complete();
+          }
+        }
+
+        @Override
+        public void onError(Throwable e)
+        {
+          recordLatency();
+          // wait for the response of the other request if the scattered request has been hedged
+          if (_outstanding.decrementAndGet() == 0 && _done.compareAndSet(false, true))
+          {
+            _failureResponses.put(_requestInfo, e);
+            complete();
+          }
+        }
+
+        private void recordLatency()
+        {
+          if (hedgingStrategy != null)
+          {
+            hedgingStrategy.recordCompletion(System.nanoTime() - startNano);
+          }
+        }
+      });
+    }
+
+    private void onTimeout()
+    {
+      if (_done.compareAndSet(false, true))
+      {
+        _failureResponses.put(_requestInfo, new TimeoutException("Scattered request to "
+            + KeyMapper.TargetHostHints.getRequestContextTargetHost(_requestInfo.getRequestContext())
+            + " did not complete within " + _options.getSubRequestTimeoutMs() + "ms"));
+        complete();
+      }
+    }
+
+    private void hedge()
+    {
+      if (_done.get() || !_options.getHedgingStrategy().isBackupRequestAllowed())
+      {
+        return;
+      }
+
+      URI targetHost = KeyMapper.TargetHostHints.getRequestContextTargetHost(_requestInfo.getRequestContext());
+      Set<URI> excludedHosts = targetHost == null ? Collections.emptySet() : Collections.singleton(targetHost);
+      RequestInfo hedgedRequest;
+      try
+      {
+        hedgedRequest = _strategy.hedgeRequest(_request, _protocolVersion, _requestInfo, excludedHosts);
+      }
+      catch (RuntimeException e)
+      {
+        LOG.warn("Unable to hedge scattered request: " + _requestInfo.getRequest(), e);
+        return;
+      }
+      if (hedgedRequest == null)
+      {
+        return;
+      }
+
+      _outstanding.incrementAndGet();
+      // the scattered request may have failed while the hedged request was built
+      if (_done.get())
+      {
+        return;
+      }
+      sendRequest(hedgedRequest, null);
+    }
+
+    private void complete()
+    {
+      cancel(_timeout);
+      cancel(_hedge);
+      onScatteredRequestCompleted();
+    }
+
+    private void cancel(ScheduledFuture<?> future)
+    {
+      if (future != null)
+      {
+        future.cancel(false);
+      }
+    }
+  }
+}
@@ -0,0 +1,81 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.client;
+
+import com.linkedin.d2.backuprequests.BackupRequestsStrategy;
+import java.util.concurrent.ScheduledExecutorService;
+
+
+/**
+ * Options for the execution of the scattered requests of a scatter-gather request, returned by
+ * {@link ScatterGatherStrategy#getScatterGatherOptions(Request)}.
+ *
+ * <p>A scattered request that has not completed within the sub-request timeout fails with a
+ * {@link java.util.concurrent.TimeoutException}, and the responses of the other scattered requests are gathered
+ * without waiting for it. Its keys are reported as per-key errors of the gathered batch response.</p>
+ *
+ * <p>When a hedging strategy is set, a scattered request that has not completed after the delay returned by
+ * {@link BackupRequestsStrategy#getTimeUntilBackupRequestNano()} is duplicated to an alternate host found by
+ * {@link ScatterGatherStrategy#hedgeRequest(Request, com.linkedin.restli.common.ProtocolVersion, RequestInfo, java.util.Set)},
+ * and the first response of either request is used. A
+ * {@link com.linkedin.d2.backuprequests.BoundedCostBackupRequestsStrategy} created with percent 5 hedges the scattered
+ * requests slower than the 95th percentile of the recent ones, and sends at most 5% more requests. The strategy tracks
+ * the latencies of the scattered requests it is used for, so share an instance only between requests to the same
+ * service.</p>
+ */
+public class ScatterGatherOptions
+{
+  private final ScheduledExecutorService _scheduler;
+  private final long _subRequestTimeoutMs;
+  private final BackupRequestsStrategy _hedgingStrategy;
+
+  /**
+   * @param scheduler scheduler of the sub-request timeouts and hedged requests.
+   * @param subRequestTimeoutMs time after which a scattered request is failed, or 0 to wait for its response.
+   * @param hedgingStrategy strategy deciding when to hedge a scattered request, or null to never hedge.
+   */
+  public ScatterGatherOptions(ScheduledExecutorService scheduler, long subRequestTimeoutMs,
+      BackupRequestsStrategy hedgingStrategy)
+  {
+    if (scheduler == null)
+    {
+      throw new IllegalArgumentException("scheduler is required");
+    }
+    if (subRequestTimeoutMs < 0)
+    {
+      throw new IllegalArgumentException("subRequestTimeoutMs must not be negative, got: " + subRequestTimeoutMs);
+    }
+    _scheduler = scheduler;
+    _subRequestTimeoutMs = subRequestTimeoutMs;
+    _hedgingStrategy = hedgingStrategy;
+  }
+
+  public ScheduledExecutorService getScheduler()
+  {
+    return _scheduler;
+  }
+
+  public long getSubRequestTimeoutMs()
+  {
+    return _subRequestTimeoutMs;
+  }
+
+  public BackupRequestsStrategy getHedgingStrategy()
+  {
+    return _hedgingStrategy;
+  }
+}
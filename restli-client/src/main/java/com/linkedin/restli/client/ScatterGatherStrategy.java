@@ -103,6 +103,35 @@ public interface ScatterGatherStrategy
   <K, T> List<RequestInfo> scatterRequest(Request<T> request, RequestContext requestContext,
       URIMappingResult<K> mappingResult);
 
+  /**
+   * Returns the options for the execution of the scattered requests of the given request, such as a sub-request timeout
+   * after which partial results are gathered, and hedging of slow scattered requests. The default implementation returns
+   * null, in which case the responses of all the scattered requests are awaited and no request is hedged.
+   *
+   * @param request original request
+   * @return scatter-gather options, or null.
+   */
+  default <T> ScatterGatherOptions getScatterGatherOptions(Request<T> request)
+  {
+    return null;
+  }
+
+  /**
+   * Builds a hedged duplicate of a scattered request, routed to a host other than the given ones. The first response
+   * of either the scattered request or its hedged duplicate is gathered. The default implementation does not hedge.
+   *
+   * @param request original request
+   * @param protocolVersion rest.li protocol version
+   * @param scatteredRequest scattered request which is slow to respond
+   * @param excludedHosts hosts the scattered request has already been sent to
+   * @return the hedged request, or null if the scattered request cannot be hedged.
+   */
+  default <T> RequestInfo hedgeRequest(Request<T> request, ProtocolVersion protocolVersion,
+      RequestInfo scatteredRequest, Set<URI> excludedHosts)
+  {
+    return null;
+  }
+
   /**
    * Merge all responses from scattered requests and unmapped keys into a final response, and invoke callback based
    * on your business needs. This method should normally perform the following steps:
@@ -17,13 +17,18 @@
 package com.linkedin.restli.internal.client;
 
 import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.entitystream.DataElementListener;
 import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.restli.client.ResponseElementListener;
 import com.linkedin.restli.common.BatchCollectionResponse;
 import com.linkedin.restli.common.BatchFinderCriteriaResult;
+import com.linkedin.restli.common.CollectionResponse;
 import com.linkedin.restli.common.ProtocolVersion;
 import com.linkedin.restli.internal.common.BatchFinderCriteriaResultDecoder;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 
 
 /**
@@ -34,6 +39,8 @@ import java.util.Map;
 public class BatchCollectionResponseDecoder<T extends RecordTemplate>
                   extends RestResponseDecoder<BatchCollectionResponse<T>>
 {
+  private static final Set<String> STREAMED_FIELDS = Collections.singleton(CollectionResponse.ELEMENTS);
+
   private final Class<T> _elementClass;
 
   public BatchCollectionResponseDecoder(Class<T> elementClass)
@@ -54,4 +61,21 @@ public class BatchCollectionResponseDecoder<T extends RecordTemplate>
     BatchFinderCriteriaResultDecoder<T> decoder = new BatchFinderCriteriaResultDecoder(_elementClass);
     return dataMap == null ? null : new BatchCollectionResponse(dataMap, decoder);
   }
+
+  @Override
+  protected Set<String> getStreamedFields()
+  {
+    return STREAMED_FIELDS;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  protected DataElementListener createElementListener(ResponseElementListener<?, ?> elementListener,
+      ProtocolVersion version)
+  {
+    ResponseElementListener<Object, BatchFinderCriteriaResult<T>> listener =
+        (ResponseElementListener<Object, BatchFinderCriteriaResult<T>>) elementListener;
+    return (fieldName, key, value) -> listener.onElement(null,
+        new BatchFinderCriteriaResult<>((DataMap) value, _elementClass));
+  }
 }
\ No newline at end of file
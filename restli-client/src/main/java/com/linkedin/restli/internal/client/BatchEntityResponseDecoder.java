@@ -18,19 +18,29 @@ package com.linkedin.restli.internal.client;
 
 
 import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.entitystream.DataElementListener;
+import com.linkedin.data.template.DataTemplateUtil;
 import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.restli.client.ResponseElementListener;
 import com.linkedin.restli.client.response.BatchKVResponse;
+import com.linkedin.restli.common.BatchResponse;
 import com.linkedin.restli.common.ComplexKeySpec;
 import com.linkedin.restli.common.ComplexResourceKey;
 import com.linkedin.restli.common.CompoundKey;
 import com.linkedin.restli.common.EntityResponse;
+import com.linkedin.restli.common.HttpStatus;
 import com.linkedin.restli.common.ProtocolVersion;
 import com.linkedin.restli.common.TypeSpec;
+import com.linkedin.restli.internal.common.ResponseUtils;
 import com.linkedin.restli.internal.client.response.BatchEntityResponse;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 
 /**
@@ -40,6 +50,10 @@ import java.util.Map;
  */
 public class BatchEntityResponseDecoder<K, V extends RecordTemplate> extends RestResponseDecoder<BatchKVResponse<K, EntityResponse<V>>>
 {
+  // The statuses of the streamed entities are streamed too, so that they are not left without entity in the response
+  private static final Set<String> STREAMED_FIELDS =
+      Collections.unmodifiableSet(new HashSet<>(Arrays.asList(BatchResponse.RESULTS, BatchResponse.STATUSES)));
+
   private final TypeSpec<V> _entityType;
   private final TypeSpec<K> _keyType;
   private final Map<String, CompoundKey.TypeInfo> _keyParts;
@@ -80,4 +94,30 @@ public class BatchEntityResponseDecoder<K, V extends RecordTemplate> extends Res
 
     return new BatchEntityResponse<>(dataMap, _keyType, _entityType, _keyParts, _complexKeyType, version);
   }
+
+  @Override
+  protected Set<String> getStreamedFields()
+  {
+    return STREAMED_FIELDS;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  protected DataElementListener createElementListener(ResponseElementListener<?, ?> elementListener,
+      ProtocolVersion version)
+  {
+    ResponseElementListener<K, EntityResponse<V>> listener =
+        (ResponseElementListener<K, EntityResponse<V>>) elementListener;
+    return (fieldName, key, value) ->
+    {
+      if (BatchResponse.RESULTS.equals(fieldName))
+      {
+        EntityResponse<V> entityResponse = new EntityResponse<>(_entityType.getType());
+        entityResponse.setEntity(DataTemplateUtil.wrap(value, _entityType.getType()));
+        entityResponse.setStatus(HttpStatus.S_200_OK);
+        listener.onElement((K) ResponseUtils.convertKey(key, _keyType, _keyParts, _complexKeyType, version),
+            entityResponse);
+      }
+    };
+  }
 }
@@ -20,10 +20,15 @@
 
 package com.linkedin.restli.internal.client;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 
 import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.entitystream.DataElementListener;
+import com.linkedin.data.template.DataTemplateUtil;
 import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.restli.client.ResponseElementListener;
 import com.linkedin.restli.client.response.BatchKVResponse;
 import com.linkedin.restli.common.ComplexKeySpec;
 import com.linkedin.restli.common.ComplexResourceKey;
@@ -32,6 +37,7 @@ import com.linkedin.restli.common.CompoundKey.TypeInfo;
 import com.linkedin.restli.common.ProtocolVersion;
 import com.linkedin.restli.common.RestConstants;
 import com.linkedin.restli.common.TypeSpec;
+import com.linkedin.restli.internal.common.ResponseUtils;
 
 /**
  * Converts a raw RestResponse into a type-bound batch response.
@@ -41,6 +47,8 @@ import com.linkedin.restli.common.TypeSpec;
 
 public class BatchKVResponseDecoder<K, V extends RecordTemplate> extends RestResponseDecoder<BatchKVResponse<K, V>>
 {
+  private static final Set<String> STREAMED_FIELDS = Collections.singleton(BatchKVResponse.RESULTS);
+
   private final TypeSpec<V> _elementType;
   private final TypeSpec<K> _keyType;
   private final Map<String, CompoundKey.TypeInfo> _keyParts;
@@ -110,4 +118,21 @@ public class BatchKVResponseDecoder<K, V extends RecordTemplate> extends RestRes
         _complexKeyType,
         version);
   }
+
+  @Override
+  protected Set<String> getStreamedFields()
+  {
+    return STREAMED_FIELDS;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  protected DataElementListener createElementListener(ResponseElementListener<?, ?> elementListener,
+      ProtocolVersion version)
+  {
+    ResponseElementListener<K, V> listener = (ResponseElementListener<K, V>) elementListener;
+    return (fieldName, key, value) -> listener.onElement(
+        (K) ResponseUtils.convertKey(key, _keyType, _keyParts, _complexKeyType, version),
+        DataTemplateUtil.wrap(value, _elementType.getType()));
+  }
 }
@@ -21,13 +21,18 @@
 package com.linkedin.restli.internal.client;
 
 import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.entitystream.DataElementListener;
+import com.linkedin.data.template.DataTemplateUtil;
 import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.restli.client.ResponseElementListener;
 import com.linkedin.restli.common.CollectionResponse;
 import com.linkedin.restli.common.ProtocolVersion;
 import com.linkedin.restli.common.RestConstants;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 
 
 /**
@@ -38,6 +43,8 @@ import java.util.Map;
 
 public class CollectionResponseDecoder<T extends RecordTemplate> extends RestResponseDecoder<CollectionResponse<T>>
 {
+  private static final Set<String> STREAMED_FIELDS = Collections.singleton(CollectionResponse.ELEMENTS);
+
   private final Class<T> _elementClass;
 
   public CollectionResponseDecoder(Class<T> elementClass)
@@ -57,4 +64,19 @@ public class CollectionResponseDecoder<T extends RecordTemplate> extends RestRes
   {
     return dataMap == null ? null : new CollectionResponse<>(dataMap, _elementClass);
   }
+
+  @Override
+  protected Set<String> getStreamedFields()
+  {
+    return STREAMED_FIELDS;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  protected DataElementListener createElementListener(ResponseElementListener<?, ?> elementListener,
+      ProtocolVersion version)
+  {
+    ResponseElementListener<Object, T> listener = (ResponseElementListener<Object, T>) elementListener;
+    return (fieldName, key, value) -> listener.onElement(null, DataTemplateUtil.wrap((DataMap) value, _elementClass));
+  }
 }
@@ -24,6 +24,7 @@ package com.linkedin.restli.internal.client;
 import com.linkedin.common.callback.Callback;
 import com.linkedin.data.ByteString;
 import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.entitystream.DataElementListener;
 import com.linkedin.data.codec.entitystream.StreamDataCodec;
 import com.linkedin.multipart.MultiPartMIMEReader;
 import com.linkedin.multipart.MultiPartMIMEReaderCallback;
@@ -34,6 +35,7 @@ import com.linkedin.r2.message.stream.StreamResponse;
 import com.linkedin.r2.message.stream.entitystream.FullEntityReader;
 import com.linkedin.r2.message.stream.entitystream.adapter.EntityStreamAdapters;
 import com.linkedin.restli.client.Response;
+import com.linkedin.restli.client.ResponseElementListener;
 import com.linkedin.restli.client.RestLiDecodingException;
 import com.linkedin.restli.common.ProtocolVersion;
 import com.linkedin.restli.common.RestConstants;
@@ -49,6 +51,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import java.util.concurrent.CompletionStage;
 import javax.activation.MimeTypeParseException;
@@ -74,6 +77,20 @@ public abstract class RestResponseDecoder<T>
 {
   public void decodeResponse(final StreamResponse streamResponse, final Callback<Response<T>> responseCallback) throws RestLiDecodingException
   {
+    decodeResponse(streamResponse, responseCallback, null);
+  }
+
+  /**
+   * Decodes the response like {@link #decodeResponse(StreamResponse, Callback)}, but passes the elements of a collection
+   * or batch response to the given listener as they are decoded, instead of adding them to the decoded response. The
+   * listener is ignored if the response type has no elements to stream.
+   */
+  public void decodeResponse(final StreamResponse streamResponse, final Callback<Response<T>> responseCallback,
+      final ResponseElementListener<?, ?> elementListener) throws RestLiDecodingException
+  {
+    final DataElementListener dataElementListener = elementListener == null || getStreamedFields().isEmpty() ? null :
+        createElementListener(elementListener, ProtocolVersionUtil.extractProtocolVersion(streamResponse.getHeaders()));
+
     //Determine content type and take appropriate action.
     //If 'multipart/related', then use MultiPartMIMEReader to read first part (which can be json or pson).
     final String contentTypeString = streamResponse.getHeader(RestConstants.HEADER_CONTENT_TYPE);
@@ -92,7 +109,7 @@ public abstract class RestResponseDecoder<T>
       if (contentType.getBaseType().equalsIgnoreCase(RestConstants.HEADER_VALUE_MULTIPART_RELATED))
       {
         final MultiPartMIMEReader multiPartMIMEReader = MultiPartMIMEReader.createAndAcquireStream(streamResponse);
-        final TopLevelReaderCallback topLevelReaderCallback = new TopLevelReaderCallback(responseCallback, streamResponse, multiPartMIMEReader);
+        final TopLevelReaderCallback topLevelReaderCallback = new TopLevelReaderCallback(responseCallback, streamResponse, multiPartMIMEReader, dataElementListener);
         multiPartMIMEReader.registerReaderCallback(topLevelReaderCallback);
         return;
       }
@@ -113,7 +130,10 @@ public abstract class RestResponseDecoder<T>
 
     if (streamDataCodec != null)
     {
-      CompletionStage<DataMap> dataMapCompletionStage = streamDataCodec.decodeMap(EntityStreamAdapters.toGenericEntityStream(streamResponse.getEntityStream()));
+      CompletionStage<DataMap> dataMapCompletionStage = dataElementListener == null ?
+          streamDataCodec.decodeMap(EntityStreamAdapters.toGenericEntityStream(streamResponse.getEntityStream())) :
+          streamDataCodec.decodeMap(EntityStreamAdapters.toGenericEntityStream(streamResponse.getEntityStream()),
+              getStreamedFields(), dataElementListener);
       dataMapCompletionStage.handle((dataMap, e) ->
       {
         if (e != null)
@@ -149,7 +169,8 @@ public abstract class RestResponseDecoder<T>
         {
           try
           {
-            responseCallback.onSuccess(createResponse(streamResponse.getHeaders(), streamResponse.getStatus(), result, streamResponse.getCookies()));
+            responseCallback.onSuccess(createResponse(streamResponse.getHeaders(), streamResponse.getStatus(), result,
+                streamResponse.getCookies(), dataElementListener));
           }
           catch (Exception exception)
           {
@@ -163,17 +184,21 @@ public abstract class RestResponseDecoder<T>
 
   public Response<T> decodeResponse(RestResponse restResponse) throws RestLiDecodingException
   {
-    return createResponse(restResponse.getHeaders(), restResponse.getStatus(), restResponse.getEntity(), restResponse.getCookies());
+    return createResponse(restResponse.getHeaders(), restResponse.getStatus(), restResponse.getEntity(), restResponse.getCookies(), null);
   }
 
-  private ResponseImpl<T> createResponse(Map<String, String> headers, int status, ByteString entity, List<String> cookies)
-      throws RestLiDecodingException
+  private ResponseImpl<T> createResponse(Map<String, String> headers, int status, ByteString entity, List<String> cookies,
+      DataElementListener elementListener) throws RestLiDecodingException
   {
     ResponseImpl<T> response = new ResponseImpl<>(status, headers, CookieUtil.decodeSetCookies(cookies));
 
     try
     {
       DataMap dataMap = (entity.isEmpty()) ? null : DataMapConverter.bytesToDataMap(headers, entity);
+      if (dataMap != null && elementListener != null)
+      {
+        streamElements(dataMap, elementListener);
+      }
       response.setEntity(wrapResponse(dataMap, headers, ProtocolVersionUtil.extractProtocolVersion(response.getHeaders())));
       return response;
     }
@@ -240,15 +265,18 @@ public abstract class RestResponseDecoder<T>
     private final Callback<Response<T>> _responseCallback;
     private final StreamResponse _streamResponse;
     private final MultiPartMIMEReader _multiPartMIMEReader;
+    private final DataElementListener _elementListener;
     private ResponseImpl<T> _response = null;
 
     private TopLevelReaderCallback(final Callback<Response<T>> responseCallback,
                                    final StreamResponse streamResponse,
-                                   final MultiPartMIMEReader multiPartMIMEReader)
+                                   final MultiPartMIMEReader multiPartMIMEReader,
+                                   final DataElementListener elementListener)
     {
       _responseCallback = responseCallback;
       _streamResponse = streamResponse;
       _multiPartMIMEReader = multiPartMIMEReader;
+      _elementListener = elementListener;
     }
 
     private void setResponse(ResponseImpl<T> response)
@@ -349,7 +377,8 @@ public abstract class RestResponseDecoder<T>
         _topLevelReaderCallback.setResponse(createResponse(headers,
                                                            _streamResponse.getStatus(),
                                                            _builder.build(),
-                                                           _streamResponse.getCookies()));
+                                                           _streamResponse.getCookies(),
+                                                           _topLevelReaderCallback._elementListener));
         //Note that we can't answer the callback of the client yet since we don't know if there are more parts.
       }
       catch (Exception exception)
@@ -376,6 +405,37 @@ public abstract class RestResponseDecoder<T>
 
   public abstract Class<?> getEntityClass();
 
+  /**
+   * @return the top-level fields of the response whose elements can be passed to a {@link ResponseElementListener},
+   *         or an empty set if the elements of the response type cannot be streamed.
+   */
+  protected Set<String> getStreamedFields()
+  {
+    return Collections.emptySet();
+  }
+
+  /**
+   * Creates the listener converting the raw elements of the streamed fields of the response into the elements passed
+   * to the given listener. Must be overridden by the decoders with streamed fields.
+   */
+  protected DataElementListener createElementListener(ResponseElementListener<?, ?> elementListener,
+      ProtocolVersion version)
+  {
+    throw new UnsupportedOperationException(getClass().getName() + " has no streamed fields");
+  }
+
+  private void streamElements(DataMap dataMap, DataElementListener elementListener) throws RestLiDecodingException
+  {
+    try
+    {
+      DataElementListener.streamElements(dataMap, getStreamedFields(), elementListener);
+    }
+    catch (Exception e)
+    {
+      throw new RestLiDecodingException("Could not stream the elements of the response", e);
+    }
+  }
+
   /**
    * @deprecated use {@link #wrapResponse(com.linkedin.data.DataMap, java.util.Map, com.linkedin.restli.common.ProtocolVersion)}
    */
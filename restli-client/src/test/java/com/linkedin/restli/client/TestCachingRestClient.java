@@ -0,0 +1,197 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.client;
+
+import com.linkedin.common.callback.Callback;
+import com.linkedin.common.callback.FutureCallback;
+import com.linkedin.data.DataMap;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.restli.client.response.BatchKVResponse;
+import com.linkedin.restli.client.test.TestRecord;
+import com.linkedin.restli.common.BatchResponse;
+import com.linkedin.restli.common.EntityResponse;
+import com.linkedin.restli.common.ResourceMethod;
+import com.linkedin.restli.common.ResourceSpecImpl;
+import com.linkedin.restli.common.RestConstants;
+import com.linkedin.restli.internal.client.ResponseImpl;
+import com.linkedin.restli.internal.common.AllProtocolVersions;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import org.mockito.ArgumentCaptor;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.*;
+
+
+/**
+ * Tests for {@link CachingRestClient}.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class TestCachingRestClient
+{
+  private static final ResourceSpecImpl RESOURCE_SPEC =
+      new ResourceSpecImpl(EnumSet.of(ResourceMethod.GET, ResourceMethod.BATCH_GET, ResourceMethod.UPDATE),
+                           Collections.emptyMap(),
+                           Collections.emptyMap(),
+                           Long.class,
+                           TestRecord.class,
+                           Collections.emptyMap());
+  private static final Map<String, String> HEADERS = Collections.singletonMap(
+      RestConstants.HEADER_RESTLI_PROTOCOL_VERSION, AllProtocolVersions.LATEST_PROTOCOL_VERSION.toString());
+
+  private Client _underlying;
+
+  @BeforeMethod
+  public void doBeforeMethod()
+  {
+    _underlying = mock(Client.class);
+  }
+
+  @Test
+  public void testGetIsServedFromWiderProjection() throws Exception
+  {
+    CachingRestClient client = new CachingRestClient(_underlying, 60000, 100);
+    FutureCallback<Response<TestRecord>> callback1 = new FutureCallback<>();
+    client.sendRequest(get(1L).build(), callback1);
+
+    ArgumentCaptor<Callback> callback = ArgumentCaptor.forClass(Callback.class);
+    verify(_underlying).sendRequest(any(Request.class), any(RequestContext.class), callback.capture());
+    TestRecord record = new TestRecord().setId(1L).setMessage("hello");
+    callback.getValue().onSuccess(new ResponseImpl<>(200, HEADERS, Collections.emptyList(), record, null));
+    Assert.assertEquals(callback1.get().getEntity(), record);
+
+    ResponseFuture<TestRecord> future2 = client.sendRequest(get(1L).fields(TestRecord.fields().id()).build());
+    Assert.assertEquals(future2.getResponseEntity(), new TestRecord().setId(1L));
+    ResponseFuture<TestRecord> future3 = client.sendRequest(get(1L).build());
+    Assert.assertEquals(future3.getResponseEntity(), record);
+    verifyNoMoreInteractions(_underlying);
+    Assert.assertEquals(client.getHitCount(), 2);
+    Assert.assertEquals(client.getMissCount(), 1);
+  }
+
+  @Test
+  public void testNarrowerProjectionIsNotServed() throws Exception
+  {
+    CachingRestClient client = new CachingRestClient(_underlying, 60000, 100);
+    client.sendRequest(get(1L).fields(TestRecord.fields().id()).build(), new FutureCallback<>());
+
+    ArgumentCaptor<Callback> callback = ArgumentCaptor.forClass(Callback.class);
+    verify(_underlying).sendRequest(any(Request.class), any(RequestContext.class), callback.capture());
+    callback.getValue().onSuccess(
+        new ResponseImpl<>(200, HEADERS, Collections.emptyList(), new TestRecord().setId(1L), null));
+
+    client.sendRequest(get(1L).fields(TestRecord.fields().id(), TestRecord.fields().message()).build(),
+        new FutureCallback<>());
+    verify(_underlying, times(2)).sendRequest(any(Request.class), any(RequestContext.class), any(Callback.class));
+    Assert.assertEquals(client.getHitCount(), 0);
+    Assert.assertEquals(client.getMissCount(), 2);
+  }
+
+  @Test
+  public void testBatchGetOnlyFetchesMisses() throws Exception
+  {
+    CachingRestClient client = new CachingRestClient(_underlying, 60000, 100);
+    client.sendRequest(get(1L).build(), new FutureCallback<>());
+    ArgumentCaptor<Callback> getCallback = ArgumentCaptor.forClass(Callback.class);
+    verify(_underlying).sendRequest(any(Request.class), any(RequestContext.class), getCallback.capture());
+    TestRecord record1 = new TestRecord().setId(1L).setMessage("one");
+    getCallback.getValue().onSuccess(new ResponseImpl<>(200, HEADERS, Collections.emptyList(), record1, null));
+
+    BatchGetEntityRequest<Long, TestRecord> batchRequest =
+        new BatchGetEntityRequestBuilder<Long, TestRecord>("test", RESOURCE_SPEC, RestliRequestOptions.DEFAULT_OPTIONS)
+            .ids(1L, 2L).build();
+    ResponseFuture<BatchKVResponse<Long, EntityResponse<TestRecord>>> future = client.sendRequest(batchRequest);
+
+    ArgumentCaptor<Request> request = ArgumentCaptor.forClass(Request.class);
+    ArgumentCaptor<Callback> batchCallback = ArgumentCaptor.forClass(Callback.class);
+    verify(_underlying, times(2)).sendRequest(request.capture(), any(RequestContext.class), batchCallback.capture());
+    BatchGetEntityRequest<Long, TestRecord> missRequest = (BatchGetEntityRequest<Long, TestRecord>) request.getValue();
+    Assert.assertEquals(missRequest.getObjectIds(), Collections.singleton(2L));
+
+    TestRecord record2 = new TestRecord().setId(2L).setMessage("two");
+    DataMap results = new DataMap();
+    results.put("2", record2.data());
+    DataMap statuses = new DataMap();
+    statuses.put("2", 200);
+    DataMap data = new DataMap();
+    data.put(BatchResponse.RESULTS, results);
+    data.put(BatchResponse.STATUSES, statuses);
+    data.put(BatchResponse.ERRORS, new DataMap());
+    BatchKVResponse<Long, EntityResponse<TestRecord>> batchResponse = batchRequest.getResponseDecoder()
+        .wrapResponse(data, HEADERS, AllProtocolVersions.LATEST_PROTOCOL_VERSION);
+    batchCallback.getValue().onSuccess(new ResponseImpl<>(200, HEADERS, Collections.emptyList(), batchResponse, null));
+
+    Map<Long, EntityResponse<TestRecord>> entities = future.getResponseEntity().getResults();
+    Assert.assertEquals(entities.size(), 2);
+    Assert.assertEquals(entities.get(1L).getEntity(), record1);
+    Assert.assertEquals(entities.get(2L).getEntity(), record2);
+
+    // Both keys are now cached
+    Assert.assertEquals(client.sendRequest(batchRequest).getResponseEntity().getResults().size(), 2);
+    Assert.assertEquals(client.sendRequest(get(2L).build()).getResponseEntity(), record2);
+    verify(_underlying, times(2)).sendRequest(any(Request.class), any(RequestContext.class), any(Callback.class));
+  }
+
+  @Test
+  public void testUpdateInvalidatesKey() throws Exception
+  {
+    CachingRestClient client = new CachingRestClient(_underlying, 60000, 100);
+    client.sendRequest(get(1L).build(), new FutureCallback<>());
+    ArgumentCaptor<Callback> callback = ArgumentCaptor.forClass(Callback.class);
+    verify(_underlying).sendRequest(any(Request.class), any(RequestContext.class), callback.capture());
+    callback.getValue().onSuccess(
+        new ResponseImpl<>(200, HEADERS, Collections.emptyList(), new TestRecord().setId(1L), null));
+    Assert.assertEquals(client.getSize(), 1);
+
+    client.sendRequest(new UpdateRequestBuilder<Long, TestRecord>("test", TestRecord.class, RESOURCE_SPEC,
+        RestliRequestOptions.DEFAULT_OPTIONS).id(1L).input(new TestRecord().setId(1L)).build(), new FutureCallback<>());
+    client.sendRequest(get(1L).build(), new FutureCallback<>());
+    verify(_underlying, times(3)).sendRequest(any(Request.class), any(RequestContext.class), any(Callback.class));
+  }
+
+  @Test
+  public void testGetSentBeforeUpdateIsNotCached() throws Exception
+  {
+    CachingRestClient client = new CachingRestClient(_underlying, 60000, 100);
+    FutureCallback<Response<TestRecord>> getCallback = new FutureCallback<>();
+    client.sendRequest(get(1L).build(), getCallback);
+    client.sendRequest(new UpdateRequestBuilder<Long, TestRecord>("test", TestRecord.class, RESOURCE_SPEC,
+        RestliRequestOptions.DEFAULT_OPTIONS).id(1L).input(new TestRecord().setId(1L)).build(), new FutureCallback<>());
+
+    ArgumentCaptor<Callback> callback = ArgumentCaptor.forClass(Callback.class);
+    verify(_underlying, times(2)).sendRequest(any(Request.class), any(RequestContext.class), callback.capture());
+    callback.getAllValues().get(1).onSuccess(new ResponseImpl<>(204, HEADERS, Collections.emptyList(), null, null));
+    // The GET completes after the update with the entity it read before
+    TestRecord staleRecord = new TestRecord().setId(1L).setMessage("stale");
+    callback.getAllValues().get(0).onSuccess(
+        new ResponseImpl<>(200, HEADERS, Collections.emptyList(), staleRecord, null));
+    Assert.assertEquals(getCallback.get().getEntity(), staleRecord);
+    Assert.assertEquals(client.getSize(), 0);
+
+    client.sendRequest(get(1L).build(), new FutureCallback<>());
+    verify(_underlying, times(3)).sendRequest(any(Request.class), any(RequestContext.class), any(Callback.class));
+  }
+
+  private static GetRequestBuilder<Long, TestRecord> get(long id)
+  {
+    return new GetRequestBuilder<Long, TestRecord>("test", TestRecord.class, RESOURCE_SPEC,
+        RestliRequestOptions.DEFAULT_OPTIONS).id(id);
+  }
+}
@@ -0,0 +1,168 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.client;
+
+import com.linkedin.common.callback.Callback;
+import com.linkedin.common.callback.FutureCallback;
+import com.linkedin.data.DataMap;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.restli.client.response.BatchKVResponse;
+import com.linkedin.restli.client.test.TestRecord;
+import com.linkedin.restli.common.ResourceMethod;
+import com.linkedin.restli.common.ResourceSpecImpl;
+import com.linkedin.restli.common.RestConstants;
+import com.linkedin.restli.internal.client.ResponseImpl;
+import com.linkedin.restli.internal.common.AllProtocolVersions;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.mockito.ArgumentCaptor;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.*;
+
+
+/**
+ * Tests for {@link CoalescingRestClient}.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class TestCoalescingRestClient
+{
+  private static final ResourceSpecImpl RESOURCE_SPEC =
+      new ResourceSpecImpl(EnumSet.of(ResourceMethod.GET, ResourceMethod.BATCH_GET),
+                           Collections.emptyMap(),
+                           Collections.emptyMap(),
+                           Long.class,
+                           TestRecord.class,
+                           Collections.emptyMap());
+
+  private Client _underlying;
+  private ScheduledExecutorService _scheduler;
+
+  @BeforeMethod
+  public void doBeforeMethod()
+  {
+    _underlying = mock(Client.class);
+    _scheduler = Executors.newSingleThreadScheduledExecutor();
+  }
+
+  @AfterMethod
+  public void doAfterMethod()
+  {
+    _scheduler.shutdownNow();
+  }
+
+  @Test
+  public void testCoalescesGetsIntoBatchGet() throws Exception
+  {
+    CoalescingRestClient client = new CoalescingRestClient(_underlying, _scheduler, 60000, 3);
+    FutureCallback<Response<TestRecord>> callback1 = new FutureCallback<>();
+    FutureCallback<Response<TestRecord>> callback2 = new FutureCallback<>();
+    client.sendRequest(get(1L).fields(TestRecord.fields().id()).build(), callback1);
+    client.sendRequest(get(2L).fields(TestRecord.fields().message()).build(), callback2);
+    ResponseFuture<TestRecord> future3 = client.sendRequest(get(1L).fields(TestRecord.fields().id()).build());
+
+    ArgumentCaptor<Request> request = ArgumentCaptor.forClass(Request.class);
+    ArgumentCaptor<Callback> callback = ArgumentCaptor.forClass(Callback.class);
+    verify(_underlying).sendRequest(request.capture(), any(RequestContext.class), callback.capture());
+    BatchGetKVRequest<Long, TestRecord> batchRequest = (BatchGetKVRequest<Long, TestRecord>) request.getValue();
+    Assert.assertEquals(batchRequest.getObjectIds(), new HashSet<>(Arrays.asList(1L, 2L)));
+    Assert.assertEquals(batchRequest.getFields(),
+        new HashSet<>(Arrays.asList(TestRecord.fields().id(), TestRecord.fields().message())));
+    Assert.assertEquals(client.getCoalescedRequestCount(), 3);
+    Assert.assertEquals(client.getBatchRequestCount(), 1);
+
+    DataMap results = new DataMap();
+    results.put("1", new TestRecord().setId(1L).setMessage("hello").data());
+    DataMap notFound = new DataMap();
+    notFound.put("status", 404);
+    DataMap errors = new DataMap();
+    errors.put("2", notFound);
+    DataMap data = new DataMap();
+    data.put(BatchKVResponse.RESULTS, results);
+    data.put(BatchKVResponse.ERRORS, errors);
+    BatchKVResponse<Long, TestRecord> batchResponse = new BatchKVResponse<>(data, Long.class, TestRecord.class,
+        Collections.emptyMap(), AllProtocolVersions.RESTLI_PROTOCOL_2_0_0.getProtocolVersion());
+    callback.getValue().onSuccess(new ResponseImpl<>(200, Collections.emptyMap(), Collections.emptyList(), batchResponse, null));
+
+    // The entity is projected back to the fields of the GET request
+    Assert.assertEquals(callback1.get().getEntity(), new TestRecord().setId(1L));
+    Assert.assertEquals(future3.getResponseEntity(), new TestRecord().setId(1L));
+    try
+    {
+      callback2.get();
+      Assert.fail("Expected the error of the id");
+    }
+    catch (ExecutionException e)
+    {
+      Assert.assertEquals(((RestLiResponseException) e.getCause()).getStatus(), 404);
+    }
+  }
+
+  @Test
+  public void testSingleGetIsSentAfterWindow()
+  {
+    CoalescingRestClient client = new CoalescingRestClient(_underlying, _scheduler, 10, 100);
+    GetRequest<TestRecord> request = get(1L).build();
+    client.sendRequest(request, new FutureCallback<>());
+
+    verify(_underlying, timeout(5000)).sendRequest(eq(request), any(RequestContext.class), any(Callback.class));
+    Assert.assertEquals(client.getBatchRequestCount(), 0);
+  }
+
+  @Test
+  public void testRequestsWithContextArePassedThrough()
+  {
+    CoalescingRestClient client = new CoalescingRestClient(_underlying, _scheduler, 60000, 100);
+    GetRequest<TestRecord> request = get(1L).build();
+    RequestContext requestContext = new RequestContext();
+    requestContext.putLocalAttr(RestConstants.HEADER_RESTLI_REQUEST_METHOD, "GET");
+    Callback<Response<TestRecord>> callback = new FutureCallback<>();
+    client.sendRequest(request, requestContext, callback);
+
+    verify(_underlying).sendRequest(request, requestContext, callback);
+  }
+
+  @Test
+  public void testGetsWithoutBatchGetArePassedThrough()
+  {
+    ResourceSpecImpl getOnlySpec = new ResourceSpecImpl(EnumSet.of(ResourceMethod.GET),
+        Collections.emptyMap(), Collections.emptyMap(), Long.class, TestRecord.class, Collections.emptyMap());
+    CoalescingRestClient client = new CoalescingRestClient(_underlying, _scheduler, 60000, 100);
+    GetRequest<TestRecord> request = new GetRequestBuilder<Long, TestRecord>("test", TestRecord.class, getOnlySpec,
+        RestliRequestOptions.DEFAULT_OPTIONS).id(1L).build();
+    RequestContext requestContext = new RequestContext();
+    Callback<Response<TestRecord>> callback = new FutureCallback<>();
+    client.sendRequest(request, requestContext, callback);
+
+    verify(_underlying).sendRequest(request, requestContext, callback);
+    Assert.assertEquals(client.getCoalescedRequestCount(), 0);
+  }
+
+  private static GetRequestBuilder<Long, TestRecord> get(long id)
+  {
+    return new GetRequestBuilder<Long, TestRecord>("test", TestRecord.class, RESOURCE_SPEC,
+        RestliRequestOptions.DEFAULT_OPTIONS).id(id);
+  }
+}
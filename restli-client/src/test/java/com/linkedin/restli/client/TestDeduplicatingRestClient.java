@@ -0,0 +1,175 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.client;
+
+import com.linkedin.common.callback.Callback;
+import com.linkedin.common.callback.FutureCallback;
+import com.linkedin.r2.filter.R2Constants;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.restli.client.test.TestRecord;
+import com.linkedin.restli.common.EmptyRecord;
+import com.linkedin.restli.common.ResourceMethod;
+import com.linkedin.restli.common.ResourceSpecImpl;
+import com.linkedin.restli.common.RestConstants;
+import com.linkedin.restli.internal.client.ResponseImpl;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+import org.mockito.ArgumentCaptor;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.*;
+
+
+/**
+ * Tests for {@link DeduplicatingRestClient}.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class TestDeduplicatingRestClient
+{
+  private static final ResourceSpecImpl RESOURCE_SPEC =
+      new ResourceSpecImpl(EnumSet.of(ResourceMethod.GET, ResourceMethod.DELETE),
+                           Collections.emptyMap(),
+                           Collections.emptyMap(),
+                           Long.class,
+                           TestRecord.class,
+                           Collections.emptyMap());
+
+  private Client _underlying;
+  private ScheduledExecutorService _scheduler;
+
+  @BeforeMethod
+  public void doBeforeMethod()
+  {
+    _underlying = mock(Client.class);
+    _scheduler = Executors.newSingleThreadScheduledExecutor();
+  }
+
+  @AfterMethod
+  public void doAfterMethod()
+  {
+    _scheduler.shutdownNow();
+  }
+
+  @Test
+  public void testIdenticalReadsAreSentOnce() throws Exception
+  {
+    DeduplicatingRestClient client = new DeduplicatingRestClient(_underlying, _scheduler);
+    FutureCallback<Response<TestRecord>> callback1 = new FutureCallback<>();
+    client.sendRequest(get(1L).build(), callback1);
+    ResponseFuture<TestRecord> future2 = client.sendRequest(get(1L).build());
+    FutureCallback<Response<TestRecord>> callback3 = new FutureCallback<>();
+    client.sendRequest(get(2L).build(), callback3);
+
+    ArgumentCaptor<Request> request = ArgumentCaptor.forClass(Request.class);
+    ArgumentCaptor<Callback> callback = ArgumentCaptor.forClass(Callback.class);
+    verify(_underlying, times(2)).sendRequest(request.capture(), any(RequestContext.class), callback.capture());
+    Assert.assertEquals(((GetRequest<TestRecord>) request.getAllValues().get(0)).getObjectId(), 1L);
+    Assert.assertEquals(((GetRequest<TestRecord>) request.getAllValues().get(1)).getObjectId(), 2L);
+    Assert.assertEquals(client.getDeduplicatedRequestCount(), 1);
+    Assert.assertEquals(client.getInFlightRequestCount(), 2);
+
+    TestRecord record = new TestRecord().setId(1L).setMessage("hello");
+    callback.getAllValues().get(0).onSuccess(
+        new ResponseImpl<>(200, Collections.emptyMap(), Collections.emptyList(), record, null));
+    Assert.assertSame(callback1.get().getEntity(), record);
+    Assert.assertSame(future2.getResponseEntity(), record);
+    Assert.assertFalse(callback3.isDone());
+    Assert.assertEquals(client.getInFlightRequestCount(), 1);
+
+    // Once completed, the same request is sent again
+    client.sendRequest(get(1L).build(), new FutureCallback<>());
+    verify(_underlying, times(3)).sendRequest(any(Request.class), any(RequestContext.class), any(Callback.class));
+  }
+
+  @Test
+  public void testTimeoutOfEveryCallerIsRespected() throws Exception
+  {
+    DeduplicatingRestClient client = new DeduplicatingRestClient(_underlying, _scheduler);
+    FutureCallback<Response<TestRecord>> callback1 = new FutureCallback<>();
+    client.sendRequest(get(1L).build(), new RequestContext(), callback1);
+    RequestContext requestContext = new RequestContext();
+    requestContext.putLocalAttr(R2Constants.REQUEST_TIMEOUT, 10);
+    FutureCallback<Response<TestRecord>> callback2 = new FutureCallback<>();
+    client.sendRequest(get(1L).build(), requestContext, callback2);
+
+    ArgumentCaptor<Callback> callback = ArgumentCaptor.forClass(Callback.class);
+    verify(_underlying).sendRequest(any(Request.class), any(RequestContext.class), callback.capture());
+    try
+    {
+      callback2.get();
+      Assert.fail("Expected the request to time out");
+    }
+    catch (ExecutionException e)
+    {
+      Assert.assertTrue(e.getCause() instanceof TimeoutException);
+    }
+    Assert.assertFalse(callback1.isDone());
+
+    TestRecord record = new TestRecord().setId(1L);
+    callback.getValue().onSuccess(
+        new ResponseImpl<>(200, Collections.emptyMap(), Collections.emptyList(), record, null));
+    Assert.assertSame(callback1.get().getEntity(), record);
+  }
+
+  @Test
+  public void testSharedRequestIsSentWithTheContextOfItsInitiator()
+  {
+    DeduplicatingRestClient client = new DeduplicatingRestClient(_underlying, _scheduler);
+    RequestContext requestContext = new RequestContext();
+    requestContext.putLocalAttr(R2Constants.REQUEST_TIMEOUT, 60000);
+    client.sendRequest(get(1L).build(), requestContext, new FutureCallback<>());
+    client.sendRequest(get(1L).build(), new RequestContext(), new FutureCallback<>());
+
+    ArgumentCaptor<RequestContext> sentContext = ArgumentCaptor.forClass(RequestContext.class);
+    verify(_underlying).sendRequest(any(Request.class), sentContext.capture(), any(Callback.class));
+    Assert.assertEquals(sentContext.getValue().getLocalAttr(R2Constants.REQUEST_TIMEOUT), 60000);
+  }
+
+  @Test
+  public void testOtherRequestsArePassedThrough()
+  {
+    DeduplicatingRestClient client = new DeduplicatingRestClient(_underlying, _scheduler);
+    DeleteRequest<TestRecord> delete = new DeleteRequestBuilder<Long, TestRecord>("test", TestRecord.class,
+        RESOURCE_SPEC, RestliRequestOptions.DEFAULT_OPTIONS).id(1L).build();
+    Callback<Response<EmptyRecord>> deleteCallback = new FutureCallback<>();
+    client.sendRequest(delete, new RequestContext(), deleteCallback);
+    client.sendRequest(delete, new RequestContext(), deleteCallback);
+    verify(_underlying, times(2)).sendRequest(eq(delete), any(RequestContext.class), eq(deleteCallback));
+
+    GetRequest<TestRecord> get = get(1L).build();
+    RequestContext requestContext = new RequestContext();
+    requestContext.putLocalAttr(RestConstants.HEADER_RESTLI_REQUEST_METHOD, "GET");
+    Callback<Response<TestRecord>> getCallback = new FutureCallback<>();
+    client.sendRequest(get, requestContext, getCallback);
+    client.sendRequest(get, requestContext, getCallback);
+    verify(_underlying, times(2)).sendRequest(get, requestContext, getCallback);
+    Assert.assertEquals(client.getDeduplicatedRequestCount(), 0);
+  }
+
+  private static GetRequestBuilder<Long, TestRecord> get(long id)
+  {
+    return new GetRequestBuilder<Long, TestRecord>("test", TestRecord.class, RESOURCE_SPEC,
+        RestliRequestOptions.DEFAULT_OPTIONS).id(id);
+  }
+}
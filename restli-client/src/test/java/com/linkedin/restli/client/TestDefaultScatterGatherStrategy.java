@@ -19,6 +19,8 @@ package com.linkedin.restli.client;
 
 import com.linkedin.common.callback.Callback;
 import com.linkedin.common.callback.Callbacks;
+import com.linkedin.common.callback.FutureCallback;
+import com.linkedin.d2.backuprequests.BackupRequestsStrategy;
 import com.linkedin.d2.balancer.ServiceUnavailableException;
 import com.linkedin.d2.balancer.URIMapper;
 import com.linkedin.d2.balancer.util.URIKeyPair;
@@ -56,6 +58,10 @@ import org.testng.annotations.Test;
 
 import java.net.URI;
 import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static org.mockito.Mockito.*;
 
@@ -435,6 +441,118 @@ public class TestDefaultScatterGatherStrategy
     _sgStrategy.onAllResponsesReceived(request, version, successResponses, failResponses, _unmappedKeys, testCallback);
   }
 
+  @Test
+  public void testHedgeRequest() throws ServiceUnavailableException
+  {
+    URI host3URI = URI.create("http://host3:8080/");
+    URIMapper uriMapper = mock(URIMapper.class);
+    when(uriMapper.mapUrisToAlternateHosts(anyList(), eq(Collections.singleton(_host1URI))))
+        .thenReturn(new URIMappingResult<>(Collections.singletonMap(host3URI, new HashSet<>(Arrays.asList(1L, 2L))),
+            Collections.emptyMap(), Collections.singletonMap(host3URI, 0)));
+    DefaultScatterGatherStrategy sgStrategy = new DefaultScatterGatherStrategy(uriMapper);
+    ProtocolVersion version = AllProtocolVersions.RESTLI_PROTOCOL_2_0_0.getProtocolVersion();
+
+    BatchGetRequest<TestRecord> scatteredRequest = createBatchGetRequest(1L, 2L);
+    RequestInfo hedgedRequest = sgStrategy.hedgeRequest(_batchGetRequest, version,
+        new RequestInfo(scatteredRequest, getTargetHostRequestContext(_host1URI)), Collections.singleton(_host1URI));
+    Assert.assertNotNull(hedgedRequest);
+    Assert.assertEquals(hedgedRequest.getRequest(), scatteredRequest);
+    Assert.assertEquals(hedgedRequest.getRequestContext().getLocalAttr(TARGET_HOST_KEY_NAME), host3URI);
+
+    // writes are not hedged
+    Assert.assertNull(sgStrategy.hedgeRequest(_batchDeleteRequest, version,
+        new RequestInfo(createBatchDeleteRequest(1L, 2L), getTargetHostRequestContext(_host1URI)),
+        Collections.singleton(_host1URI)));
+
+    // no alternate host
+    Assert.assertNull(sgStrategy.hedgeRequest(_batchGetRequest, version,
+        new RequestInfo(createBatchGetRequest(3L), getTargetHostRequestContext(_host2URI)),
+        Collections.singleton(_host2URI)));
+  }
+
+  @Test
+  public void testSubRequestTimeoutGathersPartialResults() throws Exception
+  {
+    ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    try
+    {
+      DefaultScatterGatherStrategy sgStrategy =
+          new DefaultScatterGatherStrategy(_uriMapper, new ScatterGatherOptions(scheduler, 100, null));
+      FutureCallback<Response<BatchResponse<TestRecord>>> callback = new FutureCallback<>();
+      new ScatterGatherExecution<Long, BatchResponse<TestRecord>>(_batchGetRequest,
+          AllProtocolVersions.RESTLI_PROTOCOL_2_0_0.getProtocolVersion(), sgStrategy, Collections.emptyMap(),
+          (requestInfo, cb) ->
+          {
+            // the second host never responds
+            if (_host1URI.equals(requestInfo.getRequestContext().getLocalAttr(TARGET_HOST_KEY_NAME)))
+            {
+              cb.onSuccess(createBatchResponse(new HashSet<>(Arrays.asList(1L, 2L)), Collections.emptySet()));
+            }
+          }, callback).execute(Arrays.asList(
+              new RequestInfo(createBatchGetRequest(1L, 2L), getTargetHostRequestContext(_host1URI)),
+              new RequestInfo(createBatchGetRequest(3L), getTargetHostRequestContext(_host2URI))));
+
+      BatchResponse<TestRecord> response = callback.get(5, TimeUnit.SECONDS).getEntity();
+      Assert.assertEquals(response.getResults().keySet(), new HashSet<>(Arrays.asList("1", "2")));
+      Assert.assertEquals(response.getErrors().size(), 1);
+      ErrorResponse timeoutError = response.getErrors().get("3");
+      Assert.assertEquals(timeoutError.getStatus().intValue(), HttpStatus.S_504_GATEWAY_TIMEOUT.getCode());
+      Assert.assertEquals(timeoutError.getExceptionClass(), TimeoutException.class.getName());
+    }
+    finally
+    {
+      scheduler.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testSlowSubRequestIsHedged() throws Exception
+  {
+    URI host3URI = URI.create("http://host3:8080/");
+    URIMapper uriMapper = mock(URIMapper.class);
+    when(uriMapper.mapUrisToAlternateHosts(anyList(), eq(Collections.singleton(_host2URI))))
+        .thenReturn(new URIMappingResult<>(Collections.singletonMap(host3URI, Collections.singleton(3L)),
+            Collections.emptyMap(), Collections.singletonMap(host3URI, 0)));
+    BackupRequestsStrategy hedgingStrategy = mock(BackupRequestsStrategy.class);
+    when(hedgingStrategy.getTimeUntilBackupRequestNano()).thenReturn(Optional.of(TimeUnit.MILLISECONDS.toNanos(10)));
+    when(hedgingStrategy.isBackupRequestAllowed()).thenReturn(true);
+
+    ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    try
+    {
+      DefaultScatterGatherStrategy sgStrategy =
+          new DefaultScatterGatherStrategy(uriMapper, new ScatterGatherOptions(scheduler, 0, hedgingStrategy));
+      FutureCallback<Response<BatchResponse<TestRecord>>> callback = new FutureCallback<>();
+      new ScatterGatherExecution<Long, BatchResponse<TestRecord>>(_batchGetRequest,
+          AllProtocolVersions.RESTLI_PROTOCOL_2_0_0.getProtocolVersion(), sgStrategy, Collections.emptyMap(),
+          (requestInfo, cb) ->
+          {
+            // the second host never responds, and its keys are served by the third one
+            Object targetHost = requestInfo.getRequestContext().getLocalAttr(TARGET_HOST_KEY_NAME);
+            if (_host1URI.equals(targetHost))
+            {
+              cb.onSuccess(createBatchResponse(new HashSet<>(Arrays.asList(1L, 2L)), Collections.emptySet()));
+            }
+            else if (host3URI.equals(targetHost))
+            {
+              cb.onSuccess(createBatchResponse(Collections.singleton(3L), Collections.emptySet()));
+            }
+          }, callback).execute(Arrays.asList(
+              new RequestInfo(createBatchGetRequest(1L, 2L), getTargetHostRequestContext(_host1URI)),
+              new RequestInfo(createBatchGetRequest(3L), getTargetHostRequestContext(_host2URI))));
+
+      BatchResponse<TestRecord> response = callback.get(5, TimeUnit.SECONDS).getEntity();
+      Assert.assertEquals(response.getResults().keySet(), new HashSet<>(Arrays.asList("1", "2", "3")));
+      Assert.assertTrue(response.getErrors().isEmpty());
+      // only the latency of the scattered request which responded is recorded
+      verify(hedgingStrategy, times(1)).recordCompletion(anyLong());
+    }
+    finally
+    {
+      scheduler.shutdownNow();
+    }
+  }
+
   private static BatchGetRequest<TestRecord> createBatchGetRequest(Long... ids)
   {
     BatchGetRequestBuilder<Long, TestRecord> builder =
@@ -0,0 +1,125 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.internal.client;
+
+import com.linkedin.common.callback.FutureCallback;
+import com.linkedin.data.ByteString;
+import com.linkedin.data.DataList;
+import com.linkedin.data.DataMap;
+import com.linkedin.data.codec.JacksonDataCodec;
+import com.linkedin.r2.message.stream.StreamResponse;
+import com.linkedin.r2.message.stream.StreamResponseBuilder;
+import com.linkedin.r2.message.stream.entitystream.ByteStringWriter;
+import com.linkedin.r2.message.stream.entitystream.EntityStreams;
+import com.linkedin.restli.client.Response;
+import com.linkedin.restli.client.ResponseElementListener;
+import com.linkedin.restli.client.response.BatchKVResponse;
+import com.linkedin.restli.client.test.TestRecord;
+import com.linkedin.restli.common.BatchResponse;
+import com.linkedin.restli.common.CollectionMetadata;
+import com.linkedin.restli.common.CollectionResponse;
+import com.linkedin.restli.common.EntityResponse;
+import com.linkedin.restli.common.ErrorResponse;
+import com.linkedin.restli.common.HttpStatus;
+import com.linkedin.restli.common.RestConstants;
+import com.linkedin.restli.common.TypeSpec;
+import com.linkedin.restli.internal.common.AllProtocolVersions;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+/**
+ * Tests for streaming the elements of collection and batch responses to a
+ * {@link com.linkedin.restli.client.ResponseElementListener}.
+ */
+public class TestStreamingResponseDecoding
+{
+  @Test
+  public void testCollectionElementsAreStreamed() throws Exception
+  {
+    TestRecord record1 = new TestRecord().setId(1L).setMessage("one");
+    TestRecord record2 = new TestRecord().setId(2L).setMessage("two");
+    DataMap data = new DataMap();
+    data.put(CollectionResponse.ELEMENTS, new DataList(Arrays.asList(record1.data(), record2.data())));
+    data.put("paging", new CollectionMetadata().setCount(2).setStart(0).data());
+
+    List<TestRecord> elements = new ArrayList<>();
+    FutureCallback<Response<CollectionResponse<TestRecord>>> callback = new FutureCallback<>();
+    new CollectionResponseDecoder<>(TestRecord.class).decodeResponse(streamResponse(data), callback,
+        (ResponseElementListener<Object, TestRecord>) (key, element) ->
+        {
+          Assert.assertNull(key);
+          elements.add(element);
+        });
+
+    CollectionResponse<TestRecord> response = callback.get().getEntity();
+    Assert.assertEquals(elements.size(), 2);
+    Assert.assertEquals(elements.get(0).getId(), record1.getId());
+    Assert.assertEquals(elements.get(1).getMessage(), record2.getMessage());
+    Assert.assertTrue(response.getElements().isEmpty());
+    Assert.assertEquals(response.getPaging().getCount().intValue(), 2);
+  }
+
+  @Test
+  public void testBatchEntitiesAreStreamed() throws Exception
+  {
+    TestRecord record = new TestRecord().setId(1L).setMessage("one");
+    DataMap results = new DataMap();
+    results.put("1", record.data());
+    DataMap statuses = new DataMap();
+    statuses.put("1", HttpStatus.S_200_OK.getCode());
+    ErrorResponse error = new ErrorResponse().setStatus(HttpStatus.S_404_NOT_FOUND.getCode());
+    DataMap errors = new DataMap();
+    errors.put("2", error.data());
+    DataMap data = new DataMap();
+    data.put(BatchResponse.RESULTS, results);
+    data.put(BatchResponse.STATUSES, statuses);
+    data.put(BatchResponse.ERRORS, errors);
+
+    Map<Long, EntityResponse<TestRecord>> entities = new HashMap<>();
+    FutureCallback<Response<BatchKVResponse<Long, EntityResponse<TestRecord>>>> callback = new FutureCallback<>();
+    new BatchEntityResponseDecoder<>(new TypeSpec<>(TestRecord.class), new TypeSpec<>(Long.class),
+        Collections.emptyMap(), null).decodeResponse(streamResponse(data), callback,
+        (ResponseElementListener<Long, EntityResponse<TestRecord>>) entities::put);
+
+    Assert.assertEquals(entities.size(), 1);
+    Assert.assertEquals(entities.get(1L).getEntity().getMessage(), record.getMessage());
+    Assert.assertEquals(entities.get(1L).getStatus(), HttpStatus.S_200_OK);
+
+    // Only the errors are left in the response
+    Map<Long, EntityResponse<TestRecord>> responseResults = callback.get().getEntity().getResults();
+    Assert.assertEquals(responseResults.keySet(), Collections.singleton(2L));
+    Assert.assertEquals(responseResults.get(2L).getError().getStatus(), error.getStatus());
+  }
+
+  private static StreamResponse streamResponse(DataMap data) throws IOException
+  {
+    return new StreamResponseBuilder()
+        .setHeader(RestConstants.HEADER_CONTENT_TYPE, RestConstants.HEADER_VALUE_APPLICATION_JSON)
+        .setHeader(RestConstants.HEADER_RESTLI_PROTOCOL_VERSION,
+            AllProtocolVersions.LATEST_PROTOCOL_VERSION.toString())
+        .build(EntityStreams.newEntityStream(
+            new ByteStringWriter(ByteString.copy(new JacksonDataCodec().mapToBytes(data)))));
+  }
+}
@@ -0,0 +1,82 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.internal.server;
+
+import com.linkedin.parseq.Engine;
+import com.linkedin.parseq.EngineBuilder;
+import com.linkedin.r2.util.BlockingDetectingExecutor;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+
+/**
+ * The ParSeq {@link Engine}s running their plans on the event loops which received the requests, one per event loop.
+ * The tasks running longer than the blocking threshold are logged, since they delay every request of the event loop.
+ *
+ * The engines are built from the {@link EngineBuilder}s of the given supplier, so that they get the same plan
+ * listeners, e.g. for batching, task queue factory and engine properties as the engine of the server. The task
+ * executor and the timer scheduler of these builders are replaced with the event loop.
+ *
+ * The engines are not shut down: their lifecycle is the one of the event loops, owned by the server transport.
+ */
+public class EventLoopEngines
+{
+  private final long _blockingThresholdMs;
+  private final Supplier<EngineBuilder> _engineBuilderSupplier;
+  private final Map<ScheduledExecutorService, Engine> _engines = new ConcurrentHashMap<>();
+
+  /**
+   * @param blockingThresholdMs the duration in milliseconds above which a task is reported as blocking.
+   */
+  public EventLoopEngines(long blockingThresholdMs)
+  {
+    this(blockingThresholdMs, EngineBuilder::new);
+  }
+
+  /**
+   * @param blockingThresholdMs the duration in milliseconds above which a task is reported as blocking.
+   * @param engineBuilderSupplier supplies a new {@link EngineBuilder} for the engine of every event loop.
+   */
+  public EventLoopEngines(long blockingThresholdMs, Supplier<EngineBuilder> engineBuilderSupplier)
+  {
+    if (blockingThresholdMs <= 0)
+    {
+      throw new IllegalArgumentException("Invalid blocking threshold: " + blockingThresholdMs);
+    }
+    _blockingThresholdMs = blockingThresholdMs;
+    _engineBuilderSupplier = Objects.requireNonNull(engineBuilderSupplier, "engineBuilderSupplier");
+  }
+
+  /**
+   * @return the {@link Engine} running its plans on the given event loop.
+   */
+  public Engine getEngine(ScheduledExecutorService eventLoop)
+  {
+    return _engines.computeIfAbsent(eventLoop, this::createEngine);
+  }
+
+  private Engine createEngine(ScheduledExecutorService eventLoop)
+  {
+    BlockingDetectingExecutor executor =
+        new BlockingDetectingExecutor(eventLoop, _blockingThresholdMs, TimeUnit.MILLISECONDS);
+    return _engineBuilderSupplier.get().setTaskExecutor(executor).setTimerScheduler(eventLoop).build();
+  }
+}
@@ -140,7 +140,6 @@ public class ResourceContextImpl implements ServerResourceContext
    * @throws RestLiSyntaxException if the syntax of query parameters in the request is
    *           incorrect
    */
-  @SuppressWarnings("unchecked")
   public ResourceContextImpl(final MutablePathKeys pathKeys,
                              final Request request,
                              final RequestContext requestContext) throws RestLiSyntaxException
@@ -151,7 +150,7 @@ public class ResourceContextImpl implements ServerResourceContext
     _requestHeaders.putAll(request.getHeaders());
     _responseHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
 
-    List<HttpCookie> contextRequestCookies = (List<HttpCookie>) requestContext.getLocalAttr(CONTEXT_COOKIES_KEY);
+    List<HttpCookie> contextRequestCookies = requestContext.getLocalAttr(CONTEXT_COOKIES);
     if (contextRequestCookies != null)
     {
       _requestCookies = contextRequestCookies;
@@ -169,7 +168,7 @@ public class ResourceContextImpl implements ServerResourceContext
 
     try
     {
-      DataMap contextQueryParams = (DataMap) requestContext.getLocalAttr(CONTEXT_QUERY_PARAMS_KEY);
+      DataMap contextQueryParams = requestContext.getLocalAttr(CONTEXT_QUERY_PARAMS);
       if (contextQueryParams != null)
       {
         _parameters = contextQueryParams;
@@ -202,7 +201,7 @@ public class ResourceContextImpl implements ServerResourceContext
     TimingContextUtil.beginTiming(requestContext, FrameworkTimingKeys.SERVER_REQUEST_RESTLI_PROJECTION_DECODE.key());
 
     LocalRequestProjectionMask localRequestProjectionMask =
-        (LocalRequestProjectionMask) requestContext.getLocalAttr(CONTEXT_PROJECTION_MASKS_KEY);
+        requestContext.getLocalAttr(CONTEXT_PROJECTION_MASKS);
     if (localRequestProjectionMask != null)
     {
       _projectionMask = localRequestProjectionMask.getProjectionMask();
@@ -0,0 +1,147 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.internal.server;
+
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.restli.common.ComplexKeySpec;
+import com.linkedin.restli.common.ComplexResourceKey;
+import com.linkedin.restli.common.OperationNameGenerator;
+import com.linkedin.restli.common.ResourceMethod;
+import com.linkedin.restli.internal.server.model.ResourceMethodDescriptor;
+import com.linkedin.restli.internal.server.model.ResourceModel;
+import com.linkedin.restli.server.ResourceDefinition;
+import com.linkedin.restli.server.ResourceLevel;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+
+/**
+ * Node of the routing trie compiled by {@link RestLiRouter} from the resource hierarchy when it is created. Every node
+ * holds the dispatch tables of a {@link ResourceModel}, so that routing a request does not search the resource methods
+ * or compute operation names, and the sub-resources reachable from it by path segment.
+ *
+ * The tables resolve methods exactly like {@link ResourceModel#matchMethod(ResourceMethod, String, ResourceLevel)},
+ * where the first matching method of the resource wins.
+ */
+final class ResourceRouteNode
+{
+  private final ResourceModel _resource;
+  private final Map<String, ResourceRouteNode> _subResources;
+  private final ComplexKeySpec<RecordTemplate, RecordTemplate> _complexKeySpec;
+
+  private final Map<ResourceMethod, ResourceMethodDescriptor> _methods = new EnumMap<>(ResourceMethod.class);
+  private final Map<String, ResourceMethodDescriptor> _finders = new HashMap<>();
+  private final Map<String, ResourceMethodDescriptor> _batchFinders = new HashMap<>();
+  private final Map<ResourceLevel, Map<String, ResourceMethodDescriptor>> _actions = new EnumMap<>(ResourceLevel.class);
+  private final Map<ResourceMethodDescriptor, String> _operationNames = new IdentityHashMap<>();
+
+  @SuppressWarnings("unchecked")
+  ResourceRouteNode(ResourceModel resource)
+  {
+    _resource = resource;
+
+    Map<String, ResourceRouteNode> subResources = new HashMap<>();
+    for (Map.Entry<String, ResourceDefinition> entry : resource.getSubResourceDefinitions().entrySet())
+    {
+      subResources.put(entry.getKey(), new ResourceRouteNode((ResourceModel) entry.getValue()));
+    }
+    _subResources = subResources.isEmpty() ? Collections.<String, ResourceRouteNode>emptyMap() : subResources;
+
+    _complexKeySpec = resource.getKeyClass() == ComplexResourceKey.class ?
+        (ComplexKeySpec<RecordTemplate, RecordTemplate>) ComplexKeySpec.forClassesMaybeNull(
+            resource.getKeyKeyClass(), resource.getKeyParamsClass()) : null;
+
+    for (ResourceMethodDescriptor methodDescriptor : resource.getResourceMethodDescriptors())
+    {
+      ResourceMethod type = methodDescriptor.getType();
+      switch (type)
+      {
+        case ACTION:
+          if (methodDescriptor.getActionResourceLevel() != null)
+          {
+            _actions.computeIfAbsent(methodDescriptor.getActionResourceLevel(), level -> new HashMap<>())
+                .putIfAbsent(methodDescriptor.getActionName(), methodDescriptor);
+          }
+          break;
+        case FINDER:
+          _finders.putIfAbsent(methodDescriptor.getFinderName(), methodDescriptor);
+          break;
+        case BATCH_FINDER:
+          _batchFinders.putIfAbsent(methodDescriptor.getBatchFinderName(), methodDescriptor);
+          break;
+        default:
+          _methods.putIfAbsent(type, methodDescriptor);
+          break;
+      }
+      _operationNames.put(methodDescriptor,
+          OperationNameGenerator.generate(methodDescriptor.getMethodType(), methodDescriptor.getMethodName()));
+    }
+  }
+
+  ResourceModel getResource()
+  {
+    return _resource;
+  }
+
+  /**
+   * @return the node of the sub-resource with the given decoded name, or null if there is none.
+   */
+  ResourceRouteNode getSubResource(String subResourceName)
+  {
+    return _subResources.get(subResourceName);
+  }
+
+  /**
+   * @return the spec of the complex keys of the resource, or null if its keys are not complex.
+   */
+  ComplexKeySpec<RecordTemplate, RecordTemplate> getComplexKeySpec()
+  {
+    return _complexKeySpec;
+  }
+
+  /**
+   * @see ResourceModel#matchMethod(ResourceMethod, String, ResourceLevel)
+   */
+  ResourceMethodDescriptor matchMethod(ResourceMethod type, String name, ResourceLevel resourceLevel)
+  {
+    switch (type)
+    {
+      case ACTION:
+        Map<String, ResourceMethodDescriptor> actions = _actions.get(resourceLevel);
+        return actions == null ? null : actions.get(name);
+      case FINDER:
+        return _finders.get(name);
+      case BATCH_FINDER:
+        return _batchFinders.get(name);
+      default:
+        return _methods.get(type);
+    }
+  }
+
+  /**
+   * @return the operation name of a method of the resource, as generated by {@link OperationNameGenerator}.
+   */
+  String getOperationName(ResourceMethodDescriptor methodDescriptor)
+  {
+    String operationName = _operationNames.get(methodDescriptor);
+    return operationName != null ? operationName :
+        OperationNameGenerator.generate(methodDescriptor.getMethodType(), methodDescriptor.getMethodName());
+  }
+}
@@ -24,6 +24,7 @@ import com.linkedin.parseq.Task;
 import com.linkedin.parseq.promise.Promise;
 import com.linkedin.parseq.promise.PromiseListener;
 import com.linkedin.parseq.promise.Promises;
+import com.linkedin.r2.filter.R2Constants;
 import com.linkedin.r2.message.RequestContext;
 import com.linkedin.r2.message.timing.FrameworkTimingKeys;
 import com.linkedin.r2.message.timing.TimingContextUtil;
@@ -35,6 +36,7 @@ import com.linkedin.restli.internal.server.methods.arguments.RestLiArgumentBuild
 import com.linkedin.restli.internal.server.model.Parameter;
 import com.linkedin.restli.internal.server.model.Parameter.ParamType;
 import com.linkedin.restli.internal.server.model.ResourceMethodDescriptor;
+import com.linkedin.restli.internal.server.model.ResourceMethodHandle;
 import com.linkedin.restli.restspec.MaxBatchSizeSchema;
 import com.linkedin.restli.server.NonResourceRequestHandler;
 import com.linkedin.restli.server.ResourceContext;
@@ -46,8 +48,8 @@ import com.linkedin.restli.server.resources.BaseResource;
 import com.linkedin.restli.server.resources.ResourceFactory;
 import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 
@@ -71,6 +73,7 @@ public class RestLiMethodInvoker
   private final ResourceFactory _resourceFactory;
   private final Engine _engine;
   private final String _internalErrorMessage;
+  private final EventLoopEngines _eventLoopEngines;
 
   // This ThreadLocal stores Context of task that is currently being executed.
   // When it is set, new tasks do not start new plans but instead are scheduled
@@ -82,10 +85,24 @@ public class RestLiMethodInvoker
   public RestLiMethodInvoker(final ResourceFactory resourceFactory,
                              final Engine engine,
                              final String internalErrorMessage)
+  {
+    this(resourceFactory, engine, internalErrorMessage, null);
+  }
+
+  /**
+   * @param eventLoopEngines if not null, the ParSeq plans of the requests received by an event loop, see
+   *                         {@link R2Constants#EVENT_LOOP}, are run on the engine of that event loop, and the
+   *                         synchronous resource methods are run on the given engine instead of the event loop.
+   */
+  public RestLiMethodInvoker(final ResourceFactory resourceFactory,
+                             final Engine engine,
+                             final String internalErrorMessage,
+                             final EventLoopEngines eventLoopEngines)
   {
     _resourceFactory = resourceFactory;
     _engine = engine;
     _internalErrorMessage = internalErrorMessage;
+    _eventLoopEngines = eventLoopEngines;
   }
 
   @SuppressWarnings("deprecation")
@@ -96,7 +113,7 @@ public class RestLiMethodInvoker
       final ServerResourceContext resourceContext,
       final Object... arguments) throws IllegalAccessException
   {
-    final Method method = descriptor.getMethod();
+    final ResourceMethodHandle method = descriptor.getMethodHandle();
 
     final RequestContext requestContext = resourceContext.getRawRequestContext();
     TimingContextUtil.endTiming(requestContext, FrameworkTimingKeys.SERVER_REQUEST_RESTLI.key());
@@ -140,8 +157,17 @@ public class RestLiMethodInvoker
           break;
 
         case SYNC:
-          Object applicationResult = method.invoke(resource, arguments);
-          callback.onSuccess(applicationResult);
+          if (_engine != null && TASK_CONTEXT.get() == null && getEventLoop(requestContext) != null)
+          {
+            // synchronous methods may block, so they do not run on the event loop which received the request
+            _engine.run(Task.action("restli-sync", () -> invokeSync(method, resource, arguments, callback)),
+                toPlanClass(descriptor));
+          }
+          else
+          {
+            Object applicationResult = method.invoke(resource, arguments);
+            callback.onSuccess(applicationResult);
+          }
           break;
 
         case PROMISE:
@@ -163,7 +189,7 @@ public class RestLiMethodInvoker
           restliTask.addListener(new CallbackPromiseAdapter<>(callback));
           addListenerFromContext(restliTask, resourceContext);
 
-          runTask(restliTask, toPlanClass(descriptor));
+          runTask(restliTask, toPlanClass(descriptor), requestContext);
           break;
 
         case TASK:
@@ -185,7 +211,7 @@ public class RestLiMethodInvoker
           {
             task.addListener(new CallbackPromiseAdapter<>(callback));
             addListenerFromContext(task, resourceContext);
-            runTask(task, toPlanClass(descriptor));
+            runTask(task, toPlanClass(descriptor), requestContext);
           }
           break;
         default:
@@ -195,20 +221,45 @@ public class RestLiMethodInvoker
     }
     catch (InvocationTargetException e)
     {
-      // Method runtime exceptions ar expected to fail with a top level
-      // InvocationTargetException wrapped around the root cause.
-      if (RestLiServiceException.class.isAssignableFrom(e.getCause().getClass()))
-      {
-        RestLiServiceException restLiServiceException =
-            (RestLiServiceException) e.getCause();
-        callback.onError(restLiServiceException);
-      }
-      else
-      {
-        callback.onError(new RestLiServiceException(HttpStatus.S_500_INTERNAL_SERVER_ERROR,
-                                                    _internalErrorMessage,
-                                                    e.getCause()));
-      }
+      onInvocationError(e, callback);
+    }
+  }
+
+  private void invokeSync(final ResourceMethodHandle method,
+      final Object resource,
+      final Object[] arguments,
+      final RestLiCallback callback)
+  {
+    try
+    {
+      Object applicationResult = method.invoke(resource, arguments);
+      callback.onSuccess(applicationResult);
+    }
+    catch (InvocationTargetException e)
+    {
+      onInvocationError(e, callback);
+    }
+    catch (IllegalAccessException e)
+    {
+      callback.onError(e);
+    }
+  }
+
+  private void onInvocationError(final InvocationTargetException e, final RestLiCallback callback)
+  {
+    // Method runtime exceptions ar expected to fail with a top level
+    // InvocationTargetException wrapped around the root cause.
+    if (RestLiServiceException.class.isAssignableFrom(e.getCause().getClass()))
+    {
+      RestLiServiceException restLiServiceException =
+          (RestLiServiceException) e.getCause();
+      callback.onError(restLiServiceException);
+    }
+    else
+    {
+      callback.onError(new RestLiServiceException(HttpStatus.S_500_INTERNAL_SERVER_ERROR,
+                                                  _internalErrorMessage,
+                                                  e.getCause()));
     }
   }
 
@@ -271,12 +322,20 @@ public class RestLiMethodInvoker
     return sb.toString();
   }
 
-  private void runTask(Task<Object> task, String planClass)
+  private void runTask(Task<Object> task, String planClass, RequestContext requestContext)
   {
     Context taskContext = TASK_CONTEXT.get();
     if (taskContext == null)
     {
-      _engine.run(task, planClass);
+      ScheduledExecutorService eventLoop = getEventLoop(requestContext);
+      if (eventLoop != null)
+      {
+        _eventLoopEngines.getEngine(eventLoop).run(task, planClass);
+      }
+      else
+      {
+        _engine.run(task, planClass);
+      }
     }
     else
     {
@@ -284,6 +343,19 @@ public class RestLiMethodInvoker
     }
   }
 
+  /**
+   * @return the event loop which received the request if its plans are run on that event loop, null otherwise.
+   */
+  private ScheduledExecutorService getEventLoop(RequestContext requestContext)
+  {
+    if (_eventLoopEngines == null)
+    {
+      return null;
+    }
+    Object eventLoop = requestContext.getLocalAttr(R2Constants.EVENT_LOOP);
+    return eventLoop instanceof ScheduledExecutorService ? (ScheduledExecutorService) eventLoop : null;
+  }
+
   private boolean checkEngine(final RestLiCallback callback, final ResourceMethodDescriptor desc)
   {
     if (_engine == null)
@@ -397,7 +469,7 @@ public class RestLiMethodInvoker
    */
   private static Task<Object> createRestLiParSeqTask(final Object[] arguments,
       final int contextIndex,
-      final Method method,
+      final ResourceMethodHandle method,
       final Object resource)
   {
     return Task.async(context ->
@@ -23,11 +23,9 @@ import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.data.template.TemplateRuntimeException;
 import com.linkedin.r2.filter.R2Constants;
 import com.linkedin.r2.message.Request;
-import com.linkedin.restli.common.ComplexKeySpec;
 import com.linkedin.restli.common.ComplexResourceKey;
 import com.linkedin.restli.common.CompoundKey;
 import com.linkedin.restli.common.HttpStatus;
-import com.linkedin.restli.common.OperationNameGenerator;
 import com.linkedin.restli.common.ProtocolVersion;
 import com.linkedin.restli.common.ResourceMethod;
 import com.linkedin.restli.common.RestConstants;
@@ -44,16 +42,14 @@ import com.linkedin.restli.server.RestLiServiceException;
 import com.linkedin.restli.server.RoutingException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -68,6 +64,7 @@ public class RestLiRouter
   private static final Logger log = LoggerFactory.getLogger(RestLiRouter.class);
   private static final Map<ResourceMethodMatchKey, ResourceMethod> _resourceMethodLookup = setupResourceMethodLookup();
   private final Map<String, ResourceModel> _pathRootResourceMap;
+  private final Map<String, ResourceRouteNode> _pathRootRouteMap = new ConcurrentHashMap<>();
   private final RestLiConfig _restLiConfig;
 
   /**
@@ -79,9 +76,7 @@ public class RestLiRouter
   @Deprecated
   public RestLiRouter(final Map<String, ResourceModel> pathRootResourceMap)
   {
-    super();
-    _pathRootResourceMap = pathRootResourceMap;
-    _restLiConfig = new RestLiConfig();
+    this(pathRootResourceMap, new RestLiConfig());
   }
 
   /**
@@ -96,9 +91,33 @@ public class RestLiRouter
     super();
     _pathRootResourceMap = pathRootResourceMap;
     _restLiConfig = restLiConfig;
+
+    // compile the resource hierarchy into a trie of nodes with precomputed method dispatch tables
+    for (Map.Entry<String, ResourceModel> entry : pathRootResourceMap.entrySet())
+    {
+      _pathRootRouteMap.put(entry.getKey(), new ResourceRouteNode(entry.getValue()));
+    }
   }
 
-  private static final Pattern SLASH_PATTERN = Pattern.compile(Pattern.quote("/"));
+  /**
+   * @return the compiled route of a root resource, which is compiled again if the root resource has been replaced.
+   */
+  private ResourceRouteNode getRootRoute(final String rootPath)
+  {
+    ResourceModel rootResource = _pathRootResourceMap.get(rootPath);
+    if (rootResource == null)
+    {
+      return null;
+    }
+
+    ResourceRouteNode node = _pathRootRouteMap.get(rootPath);
+    if (node == null || node.getResource() != rootResource)
+    {
+      node = new ResourceRouteNode(rootResource);
+      _pathRootRouteMap.put(rootPath, node);
+    }
+    return node;
+  }
 
   /**
    * Processes provided {@link Request}.
@@ -116,37 +135,71 @@ public class RestLiRouter
       path = path.substring(1);
     }
 
-    Queue<String> remainingPath = new LinkedList<>(Arrays.asList(SLASH_PATTERN.split(path)));
+    List<String> pathSegments = splitPath(path);
 
-    String rootPath = "/" + remainingPath.poll();
+    String rootPath = "/" + (pathSegments.isEmpty() ? "" : pathSegments.get(0));
 
-    ResourceModel currentResource;
-    try
+    ResourceRouteNode currentNode =
+        getRootRoute(decodePath(rootPath, "UnsupportedEncodingException while trying to decode the root path"));
+    if (currentNode == null)
     {
-      currentResource =
-          _pathRootResourceMap.get(URLDecoder.decode(rootPath,
-                                                     RestConstants.DEFAULT_CHARSET_NAME));
+      throw new RoutingException(String.format("No root resource defined for path '%s'",
+                                               rootPath),
+                                 HttpStatus.S_404_NOT_FOUND.getCode());
     }
-    catch (UnsupportedEncodingException e)
+
+    return processResourceTree(currentNode, context, pathSegments);
+  }
+
+  /**
+   * Splits the path on slashes like {@link String#split(String)}, which drops trailing empty segments, without the
+   * cost of a regular expression.
+   */
+  private static List<String> splitPath(final String path)
+  {
+    List<String> segments = new ArrayList<>();
+    int start = 0;
+    for (int end = path.indexOf('/'); end >= 0; end = path.indexOf('/', start))
     {
-      throw new RestLiInternalException("UnsupportedEncodingException while trying to decode the root path",
-                                        e);
+      segments.add(path.substring(start, end));
+      start = end + 1;
     }
-    if (currentResource == null)
+    segments.add(path.substring(start));
+
+    int size = segments.size();
+    while (size > 0 && segments.get(size - 1).isEmpty())
     {
-      throw new RoutingException(String.format("No root resource defined for path '%s'",
-                                               rootPath),
-                                 HttpStatus.S_404_NOT_FOUND.getCode());
+      segments.remove(--size);
+    }
+    return segments;
+  }
+
+  /**
+   * URL decodes a path, skipping {@link URLDecoder} for the common case of paths without escapes.
+   */
+  private static String decodePath(final String path, final String errorMessage)
+  {
+    if (path.indexOf('%') < 0 && path.indexOf('+') < 0)
+    {
+      return path;
     }
 
-    return processResourceTree(currentResource, context, remainingPath);
+    try
+    {
+      return URLDecoder.decode(path, RestConstants.DEFAULT_CHARSET_NAME);
+    }
+    catch (UnsupportedEncodingException e)
+    {
+      throw new RestLiInternalException(errorMessage, e);
+    }
   }
 
-  private ResourceMethodDescriptor processResourceTree(final ResourceModel resource,
+  private ResourceMethodDescriptor processResourceTree(final ResourceRouteNode node,
                                             final ServerResourceContext context,
-                                            final Queue<String> remainingPath)
+                                            final List<String> pathSegments)
   {
-    ResourceModel currentResource = resource;
+    ResourceRouteNode currentNode = node;
+    ResourceModel currentResource = node.getResource();
 
     // iterate through all path segments, simultaneously descending the resource hierarchy
     // and parsing path keys where applicable;
@@ -154,13 +207,14 @@ public class RestLiRouter
     // currentResource, and to parse the necessary information into the context
     ResourceLevel currentLevel = currentResource.getResourceLevel();
 
-    while (remainingPath.peek() != null)
+    for (int i = 1; i < pathSegments.size(); i++)
     {
-      String currentPathSegment = remainingPath.poll();
+      String currentPathSegment = pathSegments.get(i);
 
       if (currentLevel.equals(ResourceLevel.ENTITY))
       {
-        currentResource = currentResource.getSubResource(parseSubresourceName(currentPathSegment));
+        currentNode = currentNode.getSubResource(parseSubresourceName(currentPathSegment));
+        currentResource = currentNode == null ? null : currentNode.getResource();
         currentLevel = currentResource == null ? ResourceLevel.ANY : currentResource.getResourceLevel();
       }
       else
@@ -179,7 +233,7 @@ public class RestLiRouter
         }
         else if (currentResource.getKeyClass() == ComplexResourceKey.class)
         {
-          parseComplexKey(currentResource, context, currentPathSegment);
+          parseComplexKey(currentNode, context, currentPathSegment);
           currentLevel = ResourceLevel.ENTITY;
         }
         else if (currentResource.getKeyClass() == CompoundKey.class)
@@ -214,37 +268,29 @@ public class RestLiRouter
       }
     }
 
-    parseBatchKeysParameter(currentResource, context); //now we know the key type, look for batch parameter
+    parseBatchKeysParameter(currentNode, context); //now we know the key type, look for batch parameter
 
-    return findMethodDescriptor(currentResource, currentLevel, context);
+    return findMethodDescriptor(currentNode, currentLevel, context);
   }
 
   /** given path segment, parses subresource name out of it */
   private String parseSubresourceName(final String pathSegment)
   {
-    try
-    {
-      return URLDecoder.decode(pathSegment, RestConstants.DEFAULT_CHARSET_NAME);
-    }
-    catch (UnsupportedEncodingException e)
-    {
-      throw new RestLiInternalException("UnsupportedEncodingException while trying to decode the subresource name", e);
-    }
+    return decodePath(pathSegment, "UnsupportedEncodingException while trying to decode the subresource name");
   }
 
-  private ResourceMethodDescriptor findMethodDescriptor(final ResourceModel resource,
+  private ResourceMethodDescriptor findMethodDescriptor(final ResourceRouteNode node,
                                              final ResourceLevel resourceLevel,
                                              final ServerResourceContext context)
   {
+    ResourceModel resource = node.getResource();
     ResourceMethod type = mapResourceMethod(context, resourceLevel);
     String methodName = context.getMethodName(type);
-    ResourceMethodDescriptor methodDescriptor = resource.matchMethod(type, methodName, resourceLevel);
+    ResourceMethodDescriptor methodDescriptor = node.matchMethod(type, methodName, resourceLevel);
 
     if (methodDescriptor != null)
     {
-      context.getRawRequestContext().putLocalAttr(R2Constants.OPERATION,
-                                                  OperationNameGenerator.generate(methodDescriptor.getMethodType(),
-                                                                                  methodDescriptor.getMethodName()));
+      context.getRawRequestContext().putLocalAttr(R2Constants.OPERATION, node.getOperationName(methodDescriptor));
       return methodDescriptor;
     }
 
@@ -480,16 +526,15 @@ public class RestLiRouter
    * Instantiate the complex key from the current path segment (treat is as a list of
    * query parameters) and put it into the context.
    */
-  private void parseComplexKey(final ResourceModel resource,
+  private void parseComplexKey(final ResourceRouteNode node,
                                       final ServerResourceContext context,
                                       final String currentPathSegment)
   {
+    ResourceModel resource = node.getResource();
     try
     {
-      ComplexKeySpec<? extends RecordTemplate, ? extends RecordTemplate> complexKeyType =
-          ComplexKeySpec.forClassesMaybeNull( resource.getKeyKeyClass(), resource.getKeyParamsClass());
       ComplexResourceKey<RecordTemplate, RecordTemplate> complexKey =
-          ComplexResourceKey.parseString(currentPathSegment, complexKeyType, context.getRestliProtocolVersion());
+          ComplexResourceKey.parseString(currentPathSegment, node.getComplexKeySpec(), context.getRestliProtocolVersion());
       if (_restLiConfig.shouldValidateResourceKeys())
       {
         complexKey.validate();
@@ -509,9 +554,10 @@ public class RestLiRouter
     }
   }
 
-  private void parseBatchKeysParameter(final ResourceModel resource,
+  private void parseBatchKeysParameter(final ResourceRouteNode node,
                                        final ServerResourceContext context)
   {
+    ResourceModel resource = node.getResource();
     Class<?> keyClass = resource.getKeyClass();
     ProtocolVersion version = context.getRestliProtocolVersion();
     final Set<Object> batchKeys;
@@ -551,8 +597,7 @@ public class RestLiRouter
               continue;
             }
             ComplexResourceKey<RecordTemplate, RecordTemplate> finalKey =
-                ComplexResourceKey.buildFromDataMap((DataMap) complexKey,
-                    ComplexKeySpec.forClassesMaybeNull(resource.getKeyKeyClass(), resource.getKeyParamsClass()));
+                ComplexResourceKey.buildFromDataMap((DataMap) complexKey, node.getComplexKeySpec());
             if (_restLiConfig.shouldValidateResourceKeys())
             {
               try
@@ -25,6 +25,7 @@ import com.linkedin.data.ByteString;
 import com.linkedin.data.DataMap;
 import com.linkedin.data.transform.filter.request.MaskTree;
 import com.linkedin.entitystream.EntityStream;
+import com.linkedin.r2.message.RequestContextKey;
 import com.linkedin.restli.common.ProtocolVersion;
 import com.linkedin.restli.common.ResourceMethod;
 import com.linkedin.restli.common.attachments.RestLiAttachmentReader;
@@ -74,6 +75,17 @@ public interface ServerResourceContext extends ResourceContext
    */
   String CONTEXT_PROTOCOL_VERSION_KEY = ServerResourceContext.class.getName() + ".protocolVersion";
 
+  /**
+   * Typed keys for the local attributes above, which are looked up for every request.
+   */
+  RequestContextKey<List<HttpCookie>> CONTEXT_COOKIES = RequestContextKey.register(CONTEXT_COOKIES_KEY);
+  RequestContextKey<DataMap> CONTEXT_QUERY_PARAMS = RequestContextKey.register(CONTEXT_QUERY_PARAMS_KEY);
+  RequestContextKey<LocalRequestProjectionMask> CONTEXT_PROJECTION_MASKS =
+      RequestContextKey.register(CONTEXT_PROJECTION_MASKS_KEY);
+  RequestContextKey<Boolean> CONTEXT_IN_PROCESS_RESOLUTION =
+      RequestContextKey.register(CONTEXT_IN_PROCESS_RESOLUTION_KEY);
+  RequestContextKey<ProtocolVersion> CONTEXT_PROTOCOL_VERSION = RequestContextKey.register(CONTEXT_PROTOCOL_VERSION_KEY);
+
   /**
    * @return {@link DataMap} of request parameters.
    */
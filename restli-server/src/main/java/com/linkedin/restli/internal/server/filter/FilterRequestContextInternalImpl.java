@@ -30,6 +30,8 @@ import com.linkedin.restli.server.PathKeys;
 import com.linkedin.restli.server.ProjectionMode;
 import com.linkedin.restli.server.RestLiRequestData;
 import com.linkedin.restli.server.annotations.ReturnEntity;
+import com.linkedin.restli.server.config.ResourceMethodConfig;
+import com.linkedin.restli.server.config.ResourceMethodConfigImpl;
 import com.linkedin.restli.server.errors.ServiceError;
 import com.linkedin.restli.server.filter.FilterResourceModel;
 
@@ -52,6 +54,7 @@ public class FilterRequestContextInternalImpl implements FilterRequestContextInt
   private RestLiRequestData _requestData;
   private final ServerResourceContext _context;
   private final ResourceMethodDescriptor _resourceMethod;
+  private final ResourceMethodConfig _resourceMethodConfig;
   private final Map<String, Object> _scratchPad;
   private final FilterResourceModel _resourceModel;
 
@@ -73,9 +76,18 @@ public class FilterRequestContextInternalImpl implements FilterRequestContextInt
   public FilterRequestContextInternalImpl(final ServerResourceContext context,
       final ResourceMethodDescriptor resourceMethod,
       final RestLiRequestData requestData)
+  {
+    this(context, resourceMethod, requestData, ResourceMethodConfigImpl.DEFAULT_CONFIG);
+  }
+
+  public FilterRequestContextInternalImpl(final ServerResourceContext context,
+      final ResourceMethodDescriptor resourceMethod,
+      final RestLiRequestData requestData,
+      final ResourceMethodConfig resourceMethodConfig)
   {
     _context = context;
     _resourceMethod = resourceMethod;
+    _resourceMethodConfig = resourceMethodConfig;
     _requestData = requestData;
     _scratchPad = new HashMap<>();
     _resourceModel = new FilterResourceModelImpl(resourceMethod.getResourceModel());
@@ -273,6 +285,12 @@ public class FilterRequestContextInternalImpl implements FilterRequestContextInt
     return Collections.unmodifiableMap(_context.getRawRequestContext().getLocalAttrs());
   }
 
+  @Override
+  public ResourceMethodConfig getResourceMethodConfig()
+  {
+    return _resourceMethodConfig;
+  }
+
   @Override
   public Optional<Object> getCustomContextData(String key)
   {
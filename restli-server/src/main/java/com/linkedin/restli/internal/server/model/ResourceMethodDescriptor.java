@@ -62,6 +62,7 @@ public class ResourceMethodDescriptor
   private ResourceModel                                 _resourceModel;
   private final ResourceMethod                          _type;
   private final Method                                  _method;
+  private final ResourceMethodHandle                    _methodHandle;
   private final List<Parameter<?>>                      _parameters;
   private final String                                  _finderName;
   private final String                                  _batchFinderName;
@@ -359,6 +360,7 @@ public class ResourceMethodDescriptor
     super();
     _type = type;
     _method = method;
+    _methodHandle = method == null ? null : new ResourceMethodHandle(method);
     _parameters = parameters;
     _finderName = finderName;
     _batchFinderName = batchFinderName;
@@ -416,6 +418,16 @@ public class ResourceMethodDescriptor
     return _method;
   }
 
+  /**
+   * Get the {@link ResourceMethodHandle} invoking the resource {@link Method}.
+   *
+   * @return {@link ResourceMethodHandle}, or null if there is no resource method
+   */
+  public ResourceMethodHandle getMethodHandle()
+  {
+    return _methodHandle;
+  }
+
   /**
    * Get resource method name.
    *
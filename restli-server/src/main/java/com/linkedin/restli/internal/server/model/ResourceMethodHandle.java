@@ -0,0 +1,183 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.internal.server.model;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * Invokes a resource method through a {@link MethodHandle} created once per {@link ResourceMethodDescriptor}, which
+ * unlike {@link Method#invoke(Object, Object...)} does not look up an accessor and check access on every call.
+ *
+ * Methods that cannot be looked up as a method handle are invoked through reflection.
+ */
+public final class ResourceMethodHandle
+{
+  private static final MethodType INVOKE_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+  private static final Object[] NO_ARGUMENTS = new Object[0];
+  private static final Map<Class<?>, Set<Class<?>>> WIDENING_CONVERSIONS = createWideningConversions();
+
+  private final Method _method;
+  private final boolean _static;
+  private final Class<?>[] _parameterTypes;
+  private final MethodHandle _methodHandle;
+
+  ResourceMethodHandle(Method method)
+  {
+    _method = method;
+    _static = Modifier.isStatic(method.getModifiers());
+    _parameterTypes = method.getParameterTypes();
+    _methodHandle = createMethodHandle(method);
+  }
+
+  /**
+   * Invokes the resource method, with the same exceptions as {@link Method#invoke(Object, Object...)}.
+   *
+   * @param resource the resource instance, ignored for static methods.
+   * @param arguments one argument for every parameter of the method.
+   * @return the result of the method, or null for void methods.
+   * @throws IllegalAccessException if the method is not accessible.
+   * @throws IllegalArgumentException if the resource is not an instance of the declaring class, or if the arguments
+   *         do not match the parameters of the method.
+   * @throws NullPointerException if the resource is null and the method is not static.
+   * @throws InvocationTargetException wrapping anything thrown by the method.
+   */
+  public Object invoke(Object resource, Object[] arguments) throws IllegalAccessException, InvocationTargetException
+  {
+    if (_methodHandle == null)
+    {
+      return _method.invoke(resource, arguments);
+    }
+
+    if (arguments == null)
+    {
+      arguments = NO_ARGUMENTS;
+    }
+    checkArguments(resource, arguments);
+
+    try
+    {
+      return (Object) _methodHandle.invokeExact(resource, arguments);
+    }
+    catch (Throwable t)
+    {
+      throw new InvocationTargetException(t);
+    }
+  }
+
+  /**
+   * @return true if the method is invoked through a method handle rather than reflection.
+   */
+  public boolean isMethodHandle()
+  {
+    return _methodHandle != null;
+  }
+
+  /**
+   * Checks the resource and arguments the way {@link Method#invoke(Object, Object...)} does, so that the spreader
+   * and the conversions of the method handle never fail and only the method itself can throw.
+   */
+  private void checkArguments(Object resource, Object[] arguments)
+  {
+    if (!_static)
+    {
+      if (resource == null)
+      {
+        throw new NullPointerException("Resource is null for method " + _method);
+      }
+      if (!_method.getDeclaringClass().isInstance(resource))
+      {
+        throw new IllegalArgumentException("Resource " + resource.getClass().getName()
+            + " is not an instance of the declaring class of method " + _method);
+      }
+    }
+
+    if (arguments.length != _parameterTypes.length)
+    {
+      throw new IllegalArgumentException("Wrong number of arguments for method " + _method + ": expected "
+          + _parameterTypes.length + " but got " + arguments.length);
+    }
+
+    for (int i = 0; i < arguments.length; i++)
+    {
+      if (!isAssignable(_parameterTypes[i], arguments[i]))
+      {
+        throw new IllegalArgumentException("Argument " + i + " of method " + _method + " is "
+            + (arguments[i] == null ? "null" : "of type " + arguments[i].getClass().getName()));
+      }
+    }
+  }
+
+  private static boolean isAssignable(Class<?> parameterType, Object argument)
+  {
+    if (!parameterType.isPrimitive())
+    {
+      return argument == null || parameterType.isInstance(argument);
+    }
+    if (argument == null)
+    {
+      return false;
+    }
+
+    Class<?> argumentType = MethodType.methodType(argument.getClass()).unwrap().returnType();
+    return argumentType == parameterType
+        || WIDENING_CONVERSIONS.getOrDefault(argumentType, Collections.emptySet()).contains(parameterType);
+  }
+
+  private static Map<Class<?>, Set<Class<?>>> createWideningConversions()
+  {
+    Map<Class<?>, Set<Class<?>>> conversions = new HashMap<>();
+    conversions.put(byte.class, new HashSet<>(Arrays.asList(short.class, int.class, long.class, float.class, double.class)));
+    conversions.put(short.class, new HashSet<>(Arrays.asList(int.class, long.class, float.class, double.class)));
+    conversions.put(char.class, new HashSet<>(Arrays.asList(int.class, long.class, float.class, double.class)));
+    conversions.put(int.class, new HashSet<>(Arrays.asList(long.class, float.class, double.class)));
+    conversions.put(long.class, new HashSet<>(Arrays.asList(float.class, double.class)));
+    conversions.put(float.class, Collections.singleton(double.class));
+    return conversions;
+  }
+
+  private static MethodHandle createMethodHandle(Method method)
+  {
+    MethodHandle methodHandle;
+    try
+    {
+      methodHandle = MethodHandles.publicLookup().unreflect(method).asFixedArity();
+    }
+    catch (IllegalAccessException e)
+    {
+      return null;
+    }
+
+    if (Modifier.isStatic(method.getModifiers()))
+    {
+      methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+    }
+    // (resource, p1, ..., pn) -> result becomes (Object, Object[]) -> Object
+    return methodHandle.asSpreader(Object[].class, method.getParameterCount()).asType(INVOKE_TYPE);
+  }
+}
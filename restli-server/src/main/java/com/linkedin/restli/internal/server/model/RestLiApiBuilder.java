@@ -25,9 +25,11 @@ import com.linkedin.restli.server.annotations.RestAnnotations;
 import com.linkedin.restli.server.annotations.RestLiAssociation;
 import com.linkedin.restli.server.annotations.RestLiCollection;
 import com.linkedin.restli.server.annotations.RestLiSimpleResource;
+import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import org.slf4j.Logger;
@@ -45,6 +47,7 @@ public class RestLiApiBuilder implements RestApiBuilder
 
   private final Set<String> _packageNames;
   private final Set<String> _classNames;
+  private final boolean _useResourceIndex;
 
   public RestLiApiBuilder(final RestLiConfig config)
   {
@@ -55,13 +58,24 @@ public class RestLiApiBuilder implements RestApiBuilder
 
     _packageNames = config.getResourcePackageNamesSet();
     _classNames = config.getResourceClassNamesSet();
+    _useResourceIndex = config.isUseResourceIndex();
   }
 
   @Override
   public Map<String, ResourceModel> build()
   {
-    RestLiClasspathScanner scanner =
-        new RestLiClasspathScanner(_packageNames, _classNames, Thread.currentThread().getContextClassLoader());
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    Set<String> packageNames = _packageNames;
+    Set<String> classNames = _classNames;
+    if (_useResourceIndex && !_packageNames.isEmpty())
+    {
+      // Packages covered by the build-time resource indexes do not need to be scanned
+      packageNames = new HashSet<>();
+      classNames = new HashSet<>(_classNames);
+      addIndexedResourceClassNames(classLoader, packageNames, classNames);
+    }
+
+    RestLiClasspathScanner scanner = new RestLiClasspathScanner(packageNames, classNames, classLoader);
     scanner.scanPackages();
     final String errorMessage = scanner.scanClasses();
     if (!errorMessage.isEmpty())
@@ -79,6 +93,33 @@ public class RestLiApiBuilder implements RestApiBuilder
     return buildResourceModels(annotatedClasses);
   }
 
+  private void addIndexedResourceClassNames(ClassLoader classLoader, Set<String> packageNames, Set<String> classNames)
+  {
+    try
+    {
+      Map<String, RestLiResourceIndex> indexes = RestLiResourceIndex.loadIndexes(classLoader);
+      for (String packageName : _packageNames)
+      {
+        Set<String> resourceClassNames = indexes.isEmpty() ?
+            null : RestLiResourceIndex.findResourceClassNames(packageName, classLoader, indexes);
+        if (resourceClassNames == null)
+        {
+          packageNames.add(packageName);
+        }
+        else
+        {
+          _log.debug("Found {} resource classes of package {} in the resource index", resourceClassNames.size(), packageName);
+          classNames.addAll(resourceClassNames);
+        }
+      }
+    }
+    catch (IOException e)
+    {
+      _log.warn("Unable to read the resource index, scanning all packages", e);
+      packageNames.addAll(_packageNames);
+    }
+  }
+
   private static Class<?> getParentResourceClass(Class<?> resourceClass)
   {
     for (Annotation a : resourceClass.getAnnotations())
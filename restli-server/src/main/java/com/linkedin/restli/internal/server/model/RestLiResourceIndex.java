@@ -0,0 +1,261 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.internal.server.model;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+
+/**
+ * Index of the Rest.li resource classes of a classpath root (a jar or a directory), generated at build time together
+ * with the IDL, so that {@link RestLiApiBuilder} loads the resource classes of the configured packages directly
+ * instead of loading every class of those packages.
+ *
+ * The index lists the packages it is complete for, including their sub-packages, and the resource classes in them:
+ * <pre>
+ * package com.linkedin.greetings.server
+ * resource com.linkedin.greetings.server.GreetingsResource
+ * </pre>
+ *
+ * A configured package is only looked up in the indexes if every classpath root containing it has an index covering
+ * it, otherwise the package is scanned.
+ */
+public class RestLiResourceIndex
+{
+  /**
+   * Location of the index in a classpath root.
+   */
+  public static final String INDEX_RESOURCE = "META-INF/restli-resources.index";
+
+  private static final String PACKAGE_PREFIX = "package ";
+  private static final String RESOURCE_PREFIX = "resource ";
+  private static final char PACKAGE_SEPARATOR = '.';
+  private static final char PATH_SEPARATOR = '/';
+
+  private final Set<String> _packageNames;
+  private final Set<String> _resourceClassNames;
+
+  /**
+   * @param packageNames packages the index is complete for.
+   * @param resourceClassNames resource classes, in these packages or not.
+   */
+  public RestLiResourceIndex(Collection<String> packageNames, Collection<String> resourceClassNames)
+  {
+    _packageNames = Collections.unmodifiableSet(new TreeSet<>(packageNames));
+    _resourceClassNames = Collections.unmodifiableSet(new TreeSet<>(resourceClassNames));
+  }
+
+  public Set<String> getPackageNames()
+  {
+    return _packageNames;
+  }
+
+  public Set<String> getResourceClassNames()
+  {
+    return _resourceClassNames;
+  }
+
+  /**
+   * @return true if the index is complete for the given package, because it is or is a sub-package of an indexed one.
+   */
+  public boolean covers(String packageName)
+  {
+    for (String indexedPackageName : _packageNames)
+    {
+      if (isInPackage(packageName, indexedPackageName))
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return the union of this index and the given one.
+   */
+  public RestLiResourceIndex merge(RestLiResourceIndex other)
+  {
+    Set<String> packageNames = new HashSet<>(_packageNames);
+    packageNames.addAll(other._packageNames);
+    Set<String> resourceClassNames = new HashSet<>(_resourceClassNames);
+    resourceClassNames.addAll(other._resourceClassNames);
+    return new RestLiResourceIndex(packageNames, resourceClassNames);
+  }
+
+  /**
+   * @return this index updated by the given one, which was generated for its packages since this one: the resource
+   *         classes of these packages are replaced by the ones of the given index, so that the classes which were
+   *         removed or renamed since are dropped.
+   */
+  public RestLiResourceIndex update(RestLiResourceIndex other)
+  {
+    Set<String> packageNames = new HashSet<>(_packageNames);
+    packageNames.addAll(other._packageNames);
+    Set<String> resourceClassNames = new HashSet<>(other._resourceClassNames);
+    for (String resourceClassName : _resourceClassNames)
+    {
+      if (!other.covers(getPackageName(resourceClassName)))
+      {
+        resourceClassNames.add(resourceClassName);
+      }
+    }
+    return new RestLiResourceIndex(packageNames, resourceClassNames);
+  }
+
+  public void write(Writer writer) throws IOException
+  {
+    for (String packageName : _packageNames)
+    {
+      writer.write(PACKAGE_PREFIX + packageName + "\n");
+    }
+    for (String resourceClassName : _resourceClassNames)
+    {
+      writer.write(RESOURCE_PREFIX + resourceClassName + "\n");
+    }
+    writer.flush();
+  }
+
+  public static RestLiResourceIndex read(Reader reader) throws IOException
+  {
+    Set<String> packageNames = new HashSet<>();
+    Set<String> resourceClassNames = new HashSet<>();
+    BufferedReader bufferedReader = new BufferedReader(reader);
+    for (String line = bufferedReader.readLine(); line != null; line = bufferedReader.readLine())
+    {
+      line = line.trim();
+      if (line.startsWith(PACKAGE_PREFIX))
+      {
+        packageNames.add(line.substring(PACKAGE_PREFIX.length()).trim());
+      }
+      else if (line.startsWith(RESOURCE_PREFIX))
+      {
+        resourceClassNames.add(line.substring(RESOURCE_PREFIX.length()).trim());
+      }
+    }
+    return new RestLiResourceIndex(packageNames, resourceClassNames);
+  }
+
+  /**
+   * Finds the resource classes of a package through the indexes of the given class loader.
+   *
+   * @param packageName the package, including its sub-packages.
+   * @param classLoader the class loader to load the package from.
+   * @param indexes the indexes of the class loader keyed by classpath root, see {@link #loadIndexes(ClassLoader)}.
+   * @return the names of the resource classes of the package, or null if a classpath root containing the package does
+   *         not have an index covering it or if its index lists a class it does not contain, in which case the
+   *         package has to be scanned.
+   * @throws IOException if the classpath roots of the package cannot be listed.
+   */
+  static Set<String> findResourceClassNames(String packageName, ClassLoader classLoader,
+      Map<String, RestLiResourceIndex> indexes) throws IOException
+  {
+    Set<String> resourceClassNames = new HashSet<>();
+    String packagePath = packageName.replace(PACKAGE_SEPARATOR, PATH_SEPARATOR);
+    Enumeration<URL> packageUrls = classLoader.getResources(packagePath);
+    while (packageUrls.hasMoreElements())
+    {
+      String root = getRoot(packageUrls.nextElement(), packagePath);
+      RestLiResourceIndex index = indexes.get(root);
+      if (index == null || !index.covers(packageName))
+      {
+        return null;
+      }
+      for (String resourceClassName : index.getResourceClassNames())
+      {
+        if (isInPackage(resourceClassName, packageName))
+        {
+          if (!containsClass(classLoader, root, resourceClassName))
+          {
+            // The index is stale, e.g. packaged by an incremental build after the class was removed
+            return null;
+          }
+          resourceClassNames.add(resourceClassName);
+        }
+      }
+    }
+    return resourceClassNames;
+  }
+
+  /**
+   * @return the indexes of the given class loader keyed by the classpath root containing them.
+   */
+  static Map<String, RestLiResourceIndex> loadIndexes(ClassLoader classLoader) throws IOException
+  {
+    Map<String, RestLiResourceIndex> indexes = new HashMap<>();
+    Enumeration<URL> indexUrls = classLoader.getResources(INDEX_RESOURCE);
+    while (indexUrls.hasMoreElements())
+    {
+      URL indexUrl = indexUrls.nextElement();
+      try (InputStream in = indexUrl.openStream())
+      {
+        RestLiResourceIndex index = read(new InputStreamReader(in, StandardCharsets.UTF_8));
+        indexes.merge(getRoot(indexUrl, INDEX_RESOURCE), index, RestLiResourceIndex::merge);
+      }
+    }
+    return indexes;
+  }
+
+  private static boolean containsClass(ClassLoader classLoader, String root, String className) throws IOException
+  {
+    String classPath = className.replace(PACKAGE_SEPARATOR, PATH_SEPARATOR) + ".class";
+    Enumeration<URL> classUrls = classLoader.getResources(classPath);
+    while (classUrls.hasMoreElements())
+    {
+      if (root.equals(getRoot(classUrls.nextElement(), classPath)))
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String getRoot(URL url, String path)
+  {
+    String location = url.toString();
+    if (location.endsWith("/"))
+    {
+      location = location.substring(0, location.length() - 1);
+    }
+    return location.endsWith(path) ? location.substring(0, location.length() - path.length()) : location;
+  }
+
+  private static String getPackageName(String className)
+  {
+    int lastSeparator = className.lastIndexOf(PACKAGE_SEPARATOR);
+    return lastSeparator < 0 ? "" : className.substring(0, lastSeparator);
+  }
+
+  private static boolean isInPackage(String name, String packageName)
+  {
+    return name.equals(packageName)
+        || (name.startsWith(packageName) && name.charAt(packageName.length()) == PACKAGE_SEPARATOR);
+  }
+}
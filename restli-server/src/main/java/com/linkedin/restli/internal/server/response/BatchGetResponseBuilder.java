@@ -20,6 +20,7 @@ import com.linkedin.data.DataMap;
 import com.linkedin.data.collections.CheckedUtil;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.data.template.SetMode;
+import com.linkedin.entitystream.EntityStream;
 import com.linkedin.r2.message.Request;
 import com.linkedin.r2.message.timing.FrameworkTimingKeys;
 import com.linkedin.r2.message.timing.TimingContextUtil;
@@ -35,7 +36,9 @@ import com.linkedin.restli.internal.server.util.RestUtils;
 import com.linkedin.restli.server.BatchResult;
 import com.linkedin.restli.server.RestLiResponseData;
 import com.linkedin.restli.server.RestLiServiceException;
+import com.linkedin.restli.server.StreamingBatchResult;
 import java.net.HttpCookie;
+import java.util.AbstractMap;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -66,6 +69,10 @@ public class BatchGetResponseBuilder implements RestLiResponseBuilder<RestLiResp
     @SuppressWarnings("unchecked")
     final BatchResponse<AnyRecord> response = toBatchResponse(entityBatchResponse, protocolVersion);
     builder.entity(response);
+    if (responseData.getResponseEnvelope().getStreamedEntities() != null)
+    {
+      builder.streamedElements(BatchResponse.RESULTS, responseData.getResponseEnvelope().getStreamedEntities());
+    }
     return builder.headers(responseData.getHeaders()).cookies(responseData.getCookies()).build();
   }
 
@@ -124,7 +131,8 @@ public class BatchGetResponseBuilder implements RestLiResponseBuilder<RestLiResp
    *
    * @param result The result of the Rest.li BATCH_GET method. It is <code>Map</code> of the entities to return keyed by
    *               the IDs of the entities. Optionally, it may be a {@link BatchResult} object that contains more
-   *               information.
+   *               information. The entities of a {@link StreamingBatchResult} are projected as they are read from its
+   *               stream.
    */
   @Override
   public RestLiResponseData<BatchGetResponseEnvelope> buildRestLiResponseData(Request request,
@@ -211,7 +219,47 @@ public class BatchGetResponseBuilder implements RestLiResponseBuilder<RestLiResp
       batchResult.put(finalKey, new BatchResponseEntry(statuses.get(entry.getKey()), entry.getValue()));
     }
 
-    return new RestLiResponseDataImpl<>(new BatchGetResponseEnvelope(HttpStatus.S_200_OK, batchResult), headers, cookies);
+    final BatchGetResponseEnvelope envelope = new BatchGetResponseEnvelope(HttpStatus.S_200_OK, batchResult);
+    if (result instanceof StreamingBatchResult)
+    {
+      @SuppressWarnings({ "unchecked" })
+      final StreamingBatchResult<Object, RecordTemplate> streamingResult = (StreamingBatchResult<Object, RecordTemplate>) result;
+      envelope.setStreamedEntities(buildStreamedEntities(routingResult, streamingResult.getEntityStream()));
+    }
+    return new RestLiResponseDataImpl<>(envelope, headers, cookies);
+  }
+
+  // Projects the streamed entities as they are read, and encodes their keys for the response body.
+  private static EntityStream<Map.Entry<String, DataMap>> buildStreamedEntities(RoutingResult routingResult,
+      EntityStream<Map.Entry<Object, RecordTemplate>> entityStream)
+  {
+    if (entityStream == null)
+    {
+      throw new RestLiServiceException(HttpStatus.S_500_INTERNAL_SERVER_ERROR,
+          "Unexpected null encountered. Null entity stream inside of StreamingBatchResult returned by the resource method: "
+              + routingResult.getResourceMethod());
+    }
+
+    final ProtocolVersion protocolVersion = routingResult.getContext().getRestliProtocolVersion();
+    return StreamedElementMapper.map(entityStream, entity ->
+    {
+      if (entity == null || entity.getKey() == null || entity.getValue() == null)
+      {
+        throw new RestLiServiceException(HttpStatus.S_500_INTERNAL_SERVER_ERROR,
+            "Unexpected null encountered. Null entry inside of a StreamingBatchResult returned by the resource method: "
+                + routingResult.getResourceMethod());
+      }
+      Object finalKey = ResponseUtils.translateCanonicalKeyToAlternativeKeyIfNeeded(entity.getKey(), routingResult);
+
+      DataMap rawData = entity.getValue().data();
+      if (routingResult.getContext().isFillInDefaultsRequested())
+      {
+        rawData = (DataMap) ResponseUtils.fillInDataDefault(entity.getValue().schema(), rawData);
+      }
+
+      return new AbstractMap.SimpleImmutableEntry<>(URIParamUtils.encodeKeyForBody(finalKey, false, protocolVersion),
+          RestUtils.projectFields(rawData, routingResult.getContext()));
+    });
   }
 
   private static <K, V extends RecordTemplate> BatchResponse<AnyRecord> toBatchResponse(Map<K, EntityResponse<V>> entities,
@@ -17,6 +17,8 @@
 package com.linkedin.restli.internal.server.response;
 
 
+import com.linkedin.data.DataMap;
+import com.linkedin.entitystream.EntityStream;
 import com.linkedin.restli.common.HttpStatus;
 import com.linkedin.restli.common.ResourceMethod;
 
@@ -31,6 +33,8 @@ import java.util.Map;
  */
 public class BatchGetResponseEnvelope extends BatchResponseEnvelope
 {
+  private EntityStream<Map.Entry<String, DataMap>> _streamedEntities;
+
   /**
    * Instantiates a batch get response envelope.
    * @param batchResponseMap Map with entities of the response.
@@ -46,6 +50,29 @@ public class BatchGetResponseEnvelope extends BatchResponseEnvelope
     super(exception);
   }
 
+  /**
+   * Returns the stream of the projected entities of a {@link com.linkedin.restli.server.StreamingBatchResult}, keyed by
+   * their keys encoded for the response body, which are written after the entities of the batch response map.
+   *
+   * @return the stream of the entities, or null if the entities are not streamed.
+   */
+  public EntityStream<Map.Entry<String, DataMap>> getStreamedEntities()
+  {
+    return _streamedEntities;
+  }
+
+  void setStreamedEntities(EntityStream<Map.Entry<String, DataMap>> streamedEntities)
+  {
+    _streamedEntities = streamedEntities;
+  }
+
+  @Override
+  protected void clearData()
+  {
+    super.clearData();
+    _streamedEntities = null;
+  }
+
   @Override
   public ResourceMethod getResourceMethod()
   {
@@ -21,6 +21,7 @@ import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
 import com.linkedin.data.collections.CheckedUtil;
 import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.entitystream.EntityStream;
 import com.linkedin.r2.message.Request;
 import com.linkedin.r2.message.timing.FrameworkTimingKeys;
 import com.linkedin.r2.message.timing.TimingContextUtil;
@@ -34,6 +35,7 @@ import com.linkedin.restli.server.CollectionResult;
 import com.linkedin.restli.server.CollectionResult.PageIncrement;
 import com.linkedin.restli.server.RestLiResponseData;
 import com.linkedin.restli.server.RestLiServiceException;
+import com.linkedin.restli.server.StreamingCollectionResult;
 import com.linkedin.restli.server.ProjectionMode;
 import com.linkedin.restli.server.ResourceContext;
 
@@ -78,6 +80,10 @@ public abstract class CollectionResponseBuilder<D extends RestLiResponseData<? e
       collectionResponse.setMetadataRaw(response.getCollectionResponseCustomMetadata().data());
     }
     builder.entity(collectionResponse);
+    if (response.getStreamedElements() != null)
+    {
+      builder.streamedElements(CollectionResponse.ELEMENTS, response.getStreamedElements());
+    }
     return builder.headers(responseData.getHeaders()).cookies(responseData.getCookies()).build();
   }
 
@@ -85,7 +91,8 @@ public abstract class CollectionResponseBuilder<D extends RestLiResponseData<? e
    * {@inheritDoc}
    *
    * @param object The result of a Rest.li FINDER or GET_ALL method. It is a <code>List</code> of entities, or a
-   *               {@link CollectionResult}.
+   *               {@link CollectionResult}. The elements of a {@link StreamingCollectionResult} are projected as
+   *               they are read from its stream.
    */
   @Override
   public D buildRestLiResponseData(Request request,
@@ -117,9 +124,26 @@ public abstract class CollectionResponseBuilder<D extends RestLiResponseData<? e
                 + routingResult.getResourceMethod());
       }
 
-      return buildRestLiResponseData(request, routingResult, collectionResult.getElements(),
-                                     collectionResult.getPageIncrement(), collectionResult.getMetadata(),
-                                     collectionResult.getTotal(), headers, cookies);
+      D responseData = buildRestLiResponseData(request, routingResult, collectionResult.getElements(),
+                                               collectionResult.getPageIncrement(), collectionResult.getMetadata(),
+                                               collectionResult.getTotal(), headers, cookies);
+      if (collectionResult instanceof StreamingCollectionResult)
+      {
+        EntityStream<? extends RecordTemplate> elementStream =
+            ((StreamingCollectionResult<? extends RecordTemplate, ? extends RecordTemplate>) collectionResult).getElementStream();
+        if (elementStream == null)
+        {
+          throw new RestLiServiceException(HttpStatus.S_500_INTERNAL_SERVER_ERROR,
+              "Unexpected null encountered. Null element stream inside of StreamingCollectionResult returned by the resource method: "
+                  + routingResult.getResourceMethod());
+        }
+        CollectionResponseEnvelope envelope = responseData.getResponseEnvelope();
+        envelope.setStreamedElements(StreamedElementMapper.map(elementStream,
+            entry -> projectElement(routingResult, entry),
+            count -> updateStreamedPaging(request, routingResult, envelope, count, collectionResult.getPageIncrement(),
+                collectionResult.getTotal())));
+      }
+      return responseData;
     }
   }
 
@@ -136,14 +160,54 @@ public abstract class CollectionResponseBuilder<D extends RestLiResponseData<? e
     //Extract the resource context that contains projection information for root object entities, metadata and paging.
     final ResourceContext resourceContext = routingResult.getContext();
 
+    TimingContextUtil.beginTiming(resourceContext.getRawRequestContext(),
+        FrameworkTimingKeys.SERVER_RESPONSE_RESTLI_PROJECTION_APPLY.key());
+
     //Calculate paging metadata and apply projection
-    final CollectionMetadata paging =
-        RestUtils.buildMetadata(request.getURI(), resourceContext, routingResult.getResourceMethod(),
-                                elements, pageIncrement, totalResults);
+    final CollectionMetadata projectedPaging =
+        buildProjectedPaging(request, routingResult, elements.size(), pageIncrement, totalResults);
 
-    TimingContextUtil.beginTiming(resourceContext.getRawRequestContext(),
+    //For root object entities
+    List<AnyRecord> processedElements = new ArrayList<>(elements.size());
+    for (RecordTemplate entry : elements)
+    {
+      processedElements.add(new AnyRecord(projectElement(routingResult, entry)));
+    }
+
+    //Now for custom metadata
+    final AnyRecord projectedCustomMetadata;
+    if (customMetadata != null)
+    {
+      DataMap customMetadataWithDefault = customMetadata.data();
+      if (resourceContext.isFillInDefaultsRequested())
+      {
+        customMetadataWithDefault = (DataMap) ResponseUtils.fillInDataDefault(customMetadata.schema(), customMetadataWithDefault);
+      }
+      projectedCustomMetadata = new AnyRecord(RestUtils
+          .projectFields(customMetadataWithDefault, resourceContext.getMetadataProjectionMode(),
+              resourceContext.getMetadataProjectionMask(), resourceContext.getAlwaysProjectedFields()));
+    }
+    else
+    {
+      projectedCustomMetadata = null;
+    }
+
+    TimingContextUtil.endTiming(resourceContext.getRawRequestContext(),
         FrameworkTimingKeys.SERVER_RESPONSE_RESTLI_PROJECTION_APPLY.key());
 
+    return buildResponseData(HttpStatus.S_200_OK, processedElements, projectedPaging, projectedCustomMetadata, headers, cookies);
+  }
+
+  private static CollectionMetadata buildProjectedPaging(Request request,
+                                                       RoutingResult routingResult,
+                                                       int resultCount,
+                                                       PageIncrement pageIncrement,
+                                                       Integer totalResults)
+  {
+    final ResourceContext resourceContext = routingResult.getContext();
+    final CollectionMetadata paging = RestUtils.buildMetadata(request.getURI(), resourceContext,
+        routingResult.getResourceMethod(), resultCount, pageIncrement, totalResults);
+
     //PagingMetadata cannot be null at this point so we skip the null check. Notice here that we are using automatic
     //intentionally since resource methods cannot explicitly project paging. However, it should be noted that client
     //resource methods have the option of selectively setting the total to null. This happens if a client decides
@@ -162,50 +226,57 @@ public abstract class CollectionResponseBuilder<D extends RestLiResponseData<? e
     {
       pagingData = (DataMap) ResponseUtils.fillInDataDefault(CollectionMetadata.dataSchema(), pagingData);
     }
-    final CollectionMetadata projectedPaging = new CollectionMetadata(RestUtils.projectFields(pagingData,
+    return new CollectionMetadata(RestUtils.projectFields(pagingData,
             ProjectionMode.AUTOMATIC, resourceContext.getPagingProjectionMask()));
+  }
 
-
-    //For root object entities
-    List<AnyRecord> processedElements = new ArrayList<>(elements.size());
-    for (RecordTemplate entry : elements)
+  /**
+   * Replaces the links of the paging of a streamed collection response, which were computed before any element was
+   * read, with the links computed from the number of elements of the response. The paging is encoded after the
+   * streamed elements, so the links of a {@link PageIncrement#RELATIVE} result can depend on that number.
+   */
+  private static void updateStreamedPaging(Request request,
+                                           RoutingResult routingResult,
+                                           CollectionResponseEnvelope envelope,
+                                           int streamedCount,
+                                           PageIncrement pageIncrement,
+                                           Integer totalResults)
+  {
+    // A filter may have removed the paging.
+    CollectionMetadata paging = envelope.getCollectionResponsePaging();
+    if (paging == null)
     {
-      //We don't permit null elements in our lists. If so, this is a developer error.
-      if (entry == null)
-      {
-        throw new RestLiServiceException(HttpStatus.S_500_INTERNAL_SERVER_ERROR,
-            "Unexpected null encountered. Null element inside of a List returned by the resource method: " + routingResult.getResourceMethod());
-      }
-      DataMap rawData = entry.data();
-      if (resourceContext.isFillInDefaultsRequested())
-      {
-        rawData = (DataMap) ResponseUtils.fillInDataDefault(entry.schema(), rawData);
-      }
-      processedElements.add(new AnyRecord(RestUtils.projectFields(rawData, resourceContext)));
+      return;
     }
 
-    //Now for custom metadata
-    final AnyRecord projectedCustomMetadata;
-    if (customMetadata != null)
+    int resultCount = envelope.getCollectionResponse().size() + streamedCount;
+    CollectionMetadata projectedPaging =
+        buildProjectedPaging(request, routingResult, resultCount, pageIncrement, totalResults);
+    if (projectedPaging.hasLinks())
     {
-      DataMap customMetadataWithDefault = customMetadata.data();
-      if (resourceContext.isFillInDefaultsRequested())
-      {
-        customMetadataWithDefault = (DataMap) ResponseUtils.fillInDataDefault(customMetadata.schema(), customMetadataWithDefault);
-      }
-      projectedCustomMetadata = new AnyRecord(RestUtils
-          .projectFields(customMetadataWithDefault, resourceContext.getMetadataProjectionMode(),
-              resourceContext.getMetadataProjectionMask(), resourceContext.getAlwaysProjectedFields()));
+      paging.setLinks(projectedPaging.getLinks());
     }
     else
     {
-      projectedCustomMetadata = null;
+      paging.removeLinks();
     }
+  }
 
-    TimingContextUtil.endTiming(resourceContext.getRawRequestContext(),
-        FrameworkTimingKeys.SERVER_RESPONSE_RESTLI_PROJECTION_APPLY.key());
-
-    return buildResponseData(HttpStatus.S_200_OK, processedElements, projectedPaging, projectedCustomMetadata, headers, cookies);
+  private static DataMap projectElement(RoutingResult routingResult, RecordTemplate entry)
+  {
+    //We don't permit null elements in our lists. If so, this is a developer error.
+    if (entry == null)
+    {
+      throw new RestLiServiceException(HttpStatus.S_500_INTERNAL_SERVER_ERROR,
+          "Unexpected null encountered. Null element inside of a List returned by the resource method: " + routingResult.getResourceMethod());
+    }
+    final ResourceContext resourceContext = routingResult.getContext();
+    DataMap rawData = entry.data();
+    if (resourceContext.isFillInDefaultsRequested())
+    {
+      rawData = (DataMap) ResponseUtils.fillInDataDefault(entry.schema(), rawData);
+    }
+    return RestUtils.projectFields(rawData, resourceContext);
   }
 
   abstract D buildResponseData(HttpStatus status,
@@ -17,7 +17,9 @@
 package com.linkedin.restli.internal.server.response;
 
 
+import com.linkedin.data.DataMap;
 import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.entitystream.EntityStream;
 import com.linkedin.restli.common.CollectionMetadata;
 import com.linkedin.restli.common.HttpStatus;
 import com.linkedin.restli.internal.server.ResponseType;
@@ -42,6 +44,7 @@ public abstract class CollectionResponseEnvelope extends RestLiResponseEnvelope
   private List<? extends RecordTemplate> _collectionResponse;
   private RecordTemplate _collectionResponseCustomMetadata;
   private CollectionMetadata _collectionResponsePaging;
+  private EntityStream<DataMap> _streamedElements;
 
   /**
    * Sets a collection response without triggered exception.
@@ -78,6 +81,22 @@ public abstract class CollectionResponseEnvelope extends RestLiResponseEnvelope
     return _collectionResponse;
   }
 
+  /**
+   * Returns the stream of the projected elements of a {@link com.linkedin.restli.server.StreamingCollectionResult},
+   * which are written after the elements of the collection response.
+   *
+   * @return the stream of the elements, or null if the elements are not streamed.
+   */
+  public EntityStream<DataMap> getStreamedElements()
+  {
+    return _streamedElements;
+  }
+
+  void setStreamedElements(EntityStream<DataMap> streamedElements)
+  {
+    _streamedElements = streamedElements;
+  }
+
   /**
    * Returns the collection metadata for this collection.
    *
@@ -126,6 +145,7 @@ public abstract class CollectionResponseEnvelope extends RestLiResponseEnvelope
     _collectionResponse = null;
     _collectionResponsePaging = null;
     _collectionResponseCustomMetadata = null;
+    _streamedElements = null;
   }
 
   /**
@@ -16,6 +16,7 @@
 
 package com.linkedin.restli.internal.server.response;
 
+import com.linkedin.common.callback.Callback;
 import com.linkedin.data.ByteString;
 import com.linkedin.data.DataList;
 import com.linkedin.data.DataMap;
@@ -27,6 +28,7 @@ import com.linkedin.data.schema.MapDataSchema;
 import com.linkedin.data.schema.RecordDataSchema;
 import com.linkedin.data.schema.TyperefDataSchema;
 import com.linkedin.data.schema.UnionDataSchema;
+import com.linkedin.entitystream.CollectingReader;
 import com.linkedin.entitystream.EntityStream;
 import com.linkedin.r2.message.rest.RestException;
 import com.linkedin.r2.message.rest.RestResponse;
@@ -51,7 +53,10 @@ import com.linkedin.restli.restspec.ResourceEntityType;
 import com.linkedin.restli.server.RestLiServiceException;
 import java.io.IOException;
 import java.net.URI;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 import javax.activation.MimeTypeParseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -185,6 +190,81 @@ public class ResponseUtils
     return fillInDataDefault(dataSchema, data);
   }
 
+  /**
+   * Wraps a callback so that the streamed elements of a {@link RestLiResponse} are read into its entity before the
+   * response is passed to the callback, for the code paths that need the whole response in memory.
+   */
+  public static Callback<RestLiResponse> collectStreamedElements(Callback<RestLiResponse> callback)
+  {
+    return new Callback<RestLiResponse>()
+    {
+      @Override
+      public void onError(Throwable e)
+      {
+        callback.onError(e);
+      }
+
+      @Override
+      public void onSuccess(RestLiResponse response)
+      {
+        if (!response.hasStreamedElements())
+        {
+          callback.onSuccess(response);
+          return;
+        }
+
+        Collector<Object, ?, List<Object>> collector = Collectors.toList();
+        CollectingReader<Object, ?, List<Object>> reader = new CollectingReader<>(collector);
+        response.getStreamedElements().setReader(reader);
+        reader.getResult().whenComplete((elements, e) ->
+        {
+          if (e != null)
+          {
+            callback.onError(e);
+            return;
+          }
+
+          RestLiResponse collectedResponse;
+          try
+          {
+            collectedResponse = addStreamedElements(response, elements);
+          }
+          catch (RuntimeException ex)
+          {
+            callback.onError(ex);
+            return;
+          }
+          callback.onSuccess(collectedResponse);
+        });
+      }
+    };
+  }
+
+  @SuppressWarnings("unchecked")
+  private static RestLiResponse addStreamedElements(RestLiResponse response, List<Object> elements)
+  {
+    Object collection = response.getDataMap().get(response.getStreamedField());
+    for (Object element : elements)
+    {
+      if (collection instanceof DataList)
+      {
+        CheckedUtil.addWithoutChecking((DataList) collection, element);
+      }
+      else
+      {
+        Map.Entry<String, Object> entry = (Map.Entry<String, Object>) element;
+        CheckedUtil.putWithoutChecking((DataMap) collection, entry.getKey(), entry.getValue());
+      }
+    }
+
+    return new RestLiResponse.Builder()
+        .status(response.getStatus())
+        .entity(response.getEntity())
+        .headers(response.getHeaders())
+        .cookies(response.getCookies())
+        .build();
+  }
+
   public static RestResponse buildResponse(RoutingResult routingResult, RestLiResponse restLiResponse)
   {
     RestResponseBuilder builder = new RestResponseBuilder()
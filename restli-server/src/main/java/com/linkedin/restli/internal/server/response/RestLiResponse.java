@@ -18,6 +18,7 @@ package com.linkedin.restli.internal.server.response;
 
 import com.linkedin.data.DataMap;
 import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.entitystream.EntityStream;
 import com.linkedin.restli.common.HttpStatus;
 import com.linkedin.restli.common.IdResponse;
 import com.linkedin.restli.common.ProtocolVersion;
@@ -45,6 +46,8 @@ public class RestLiResponse
   private final RecordTemplate _record;
   private final Map<String, String> _headers;
   private final List<HttpCookie> _cookies;
+  private final String _streamedField;
+  private final EntityStream<?> _streamedElements;
 
   /**
    * Constructor is made private intentionally. Use builder to construct a new object of
@@ -57,10 +60,15 @@ public class RestLiResponse
    * @param headers
    *          Response headers.
    * @param cookies
+   * @param streamedField Field of the entity the streamed elements are written to.
+   * @param streamedElements Elements streamed to the field.
    */
-  private RestLiResponse(final HttpStatus status, final RecordTemplate record, final Map<String, String> headers, final List<HttpCookie> cookies)
+  private RestLiResponse(final HttpStatus status, final RecordTemplate record, final Map<String, String> headers,
+      final List<HttpCookie> cookies, final String streamedField, final EntityStream<?> streamedElements)
   {
     _record = record;
+    _streamedField = streamedField;
+    _streamedElements = streamedElements;
     _status = status;
     _cookies = cookies == null ? new ArrayList<>() : cookies;
     _headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
@@ -142,12 +150,44 @@ public class RestLiResponse
     return _record;
   }
 
+  /**
+   * @return true if elements are streamed to a field of the entity.
+   */
+  public boolean hasStreamedElements()
+  {
+    return _streamedElements != null;
+  }
+
+  /**
+   * Obtain the top-level field of the entity the streamed elements are written to, after the elements of the
+   * collection it holds.
+   *
+   * @return the name of the field, or null if no elements are streamed.
+   */
+  public String getStreamedField()
+  {
+    return _streamedField;
+  }
+
+  /**
+   * Obtain the stream of the elements written to the streamed field. The elements of a list field are data objects,
+   * and the elements of a map field are {@link Map.Entry} of their keys and data objects.
+   *
+   * @return the stream of the elements, or null if no elements are streamed.
+   */
+  public EntityStream<?> getStreamedElements()
+  {
+    return _streamedElements;
+  }
+
   public static class Builder
   {
     private HttpStatus _status = HttpStatus.S_200_OK;
     private RecordTemplate _record;
     private Map<String, String> _headers;
     private List<HttpCookie> _cookies;
+    private String _streamedField;
+    private EntityStream<?> _streamedElements;
 
     /**
      * Build with status.
@@ -198,6 +238,20 @@ public class RestLiResponse
       return this;
     }
 
+    /**
+     * Build with elements streamed to a top-level field of the entity.
+     *
+     * @param streamedField name of the field, which holds a list or map.
+     * @param streamedElements stream of the elements.
+     * @return Reference to this object.
+     */
+    public Builder streamedElements(String streamedField, EntityStream<?> streamedElements)
+    {
+      _streamedField = streamedField;
+      _streamedElements = streamedElements;
+      return this;
+    }
+
     /**
      * Construct a {@link RestLiResponse} based on the builder configuration.
      *
@@ -216,7 +270,7 @@ public class RestLiResponse
         }
       }
 
-      return new RestLiResponse(_status, _record, _headers, _cookies);
+      return new RestLiResponse(_status, _record, _headers, _cookies, _streamedField, _streamedElements);
     }
   }
 }
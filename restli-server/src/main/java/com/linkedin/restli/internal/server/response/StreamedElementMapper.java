@@ -0,0 +1,153 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.internal.server.response;
+
+import com.linkedin.entitystream.Connector;
+import com.linkedin.entitystream.EntityStream;
+import com.linkedin.entitystream.EntityStreams;
+import com.linkedin.entitystream.ReadHandle;
+import com.linkedin.entitystream.WriteHandle;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+
+/**
+ * Maps the elements of an {@link EntityStream} returned by a resource method, such as projecting them, as they are
+ * read. Elements are only requested from the resource stream when the reader of the mapped stream requests them, and
+ * an error of the mapping fails the mapped stream and cancels the resource stream.
+ *
+ * @param <T> the type of the elements returned by the resource method.
+ * @param <R> the type of the mapped elements.
+ */
+class StreamedElementMapper<T, R> implements Connector<T, R>
+{
+  private final EntityStream<T> _elements;
+  private final Function<? super T, ? extends R> _mapper;
+  private final IntConsumer _onDone;
+  private ReadHandle _readHandle;
+  private WriteHandle<? super R> _writeHandle;
+  private int _outstanding;
+  private int _count;
+  private boolean _aborted;
+
+  private StreamedElementMapper(EntityStream<T> elements, Function<? super T, ? extends R> mapper, IntConsumer onDone)
+  {
+    _elements = elements;
+    _mapper = mapper;
+    _onDone = onDone;
+  }
+
+  /**
+   * Creates a stream of the mapped elements of the given stream, which is read once the returned stream is read.
+   */
+  static <T, R> EntityStream<R> map(EntityStream<T> elements, Function<? super T, ? extends R> mapper)
+  {
+    return map(elements, mapper, count -> {});
+  }
+
+  /**
+   * Creates a stream of the mapped elements of the given stream, which is read once the returned stream is read.
+   *
+   * @param onDone invoked with the number of elements once all of them have been read, before the mapped stream is
+   *               done. An exception it throws fails the mapped stream.
+   */
+  static <T, R> EntityStream<R> map(EntityStream<T> elements, Function<? super T, ? extends R> mapper,
+      IntConsumer onDone)
+  {
+    return EntityStreams.newEntityStream(new StreamedElementMapper<>(elements, mapper, onDone));
+  }
+
+  @Override
+  public void onInit(WriteHandle<? super R> wh)
+  {
+    _writeHandle = wh;
+    _elements.setReader(this);
+  }
+
+  @Override
+  public void onInit(ReadHandle rh)
+  {
+    _readHandle = rh;
+  }
+
+  @Override
+  public void onWritePossible()
+  {
+    _outstanding = _writeHandle.remaining();
+    _readHandle.request(_outstanding);
+  }
+
+  @Override
+  public void onDataAvailable(T data)
+  {
+    if (_aborted)
+    {
+      return;
+    }
+
+    R mapped;
+    try
+    {
+      mapped = _mapper.apply(data);
+    }
+    catch (RuntimeException e)
+    {
+      _aborted = true;
+      _readHandle.cancel();
+      _writeHandle.error(e);
+      return;
+    }
+
+    _outstanding--;
+    _count++;
+    _writeHandle.write(mapped);
+    int diff = _writeHandle.remaining() - _outstanding;
+    if (diff > 0)
+    {
+      _outstanding += diff;
+      _readHandle.request(diff);
+    }
+  }
+
+  @Override
+  public void onDone()
+  {
+    try
+    {
+      _onDone.accept(_count);
+    }
+    catch (RuntimeException e)
+    {
+      _writeHandle.error(e);
+      return;
+    }
+    _writeHandle.done();
+  }
+
+  @Override
+  public void onError(Throwable e)
+  {
+    _writeHandle.error(e);
+  }
+
+  @Override
+  public void onAbort(Throwable e)
+  {
+    _aborted = true;
+    _readHandle.cancel();
+  }
+}
@@ -66,6 +66,21 @@ public class RestUtils
                                                  final List<?> resultElements,
                                                  final PageIncrement pageIncrement,
                                                  final Integer totalResults)
+  {
+    return buildMetadata(requestUri, resourceContext, methodDescriptor, resultElements.size(), pageIncrement,
+        totalResults);
+  }
+
+  /**
+   * Builds the paging metadata of a collection response from the number of elements on the current page, such as
+   * the number of elements read from the stream of a {@link com.linkedin.restli.server.StreamingCollectionResult}.
+   */
+  public static CollectionMetadata buildMetadata(final URI requestUri,
+                                                 final ResourceContext resourceContext,
+                                                 final ResourceMethodDescriptor methodDescriptor,
+                                                 final int resultCount,
+                                                 final PageIncrement pageIncrement,
+                                                 final Integer totalResults)
   {
     CollectionMetadata metadata = new CollectionMetadata();
 
@@ -108,7 +123,7 @@ public class RestUtils
       }
 
       // next link if there are more results, or we returned a full page
-      Integer nextStart = getNextPageStart(resultElements.size(), totalResults, pagingContext, pageIncrement);
+      Integer nextStart = getNextPageStart(resultCount, totalResults, pagingContext, pageIncrement);
       if (nextStart != null)
       {
         // R2 doesn't expose host/port => can't build absolute URI (this is ok, as
@@ -365,7 +380,7 @@ public class RestUtils
                                                                     RequestContext requestContext)
   {
     // In process requests don't serialize the response, so just set response mime-type to JSON.
-    if (Boolean.TRUE.equals(requestContext.getLocalAttr(ServerResourceContext.CONTEXT_IN_PROCESS_RESOLUTION_KEY))) {
+    if (Boolean.TRUE.equals(requestContext.getLocalAttr(ServerResourceContext.CONTEXT_IN_PROCESS_RESOLUTION))) {
       resourceContext.setResponseMimeType(ContentType.JSON.getHeaderKey());
       return;
     }
@@ -358,13 +358,46 @@ class AttachmentHandlingRestLiServer extends StreamRestLiServer
       super(callback, contentType, routingResult);
     }
 
+    @Override
+    public void onSuccess(RestLiResponse restLiResponse)
+    {
+      if (restLiResponse.hasStreamedElements() && hasResponseAttachments())
+      {
+        // The structured part of a response with attachments is fully buffered.
+        ResponseUtils.collectStreamedElements(new Callback<RestLiResponse>()
+        {
+          @Override
+          public void onError(Throwable e)
+          {
+            AttachmentHandlingStreamToRestLiResponseCallbackAdapter.this.onError(e);
+          }
+
+          @Override
+          public void onSuccess(RestLiResponse result)
+          {
+            AttachmentHandlingStreamToRestLiResponseCallbackAdapter.super.onSuccess(result);
+          }
+        }).onSuccess(restLiResponse);
+      }
+      else
+      {
+        super.onSuccess(restLiResponse);
+      }
+    }
+
+    private boolean hasResponseAttachments()
+    {
+      RestLiResponseAttachments responseAttachments = _routingResult.getContext().getResponseAttachments();
+      return responseAttachments != null && responseAttachments.getMultiPartMimeWriterBuilder().getCurrentSize() > 0;
+    }
+
     @Override
     protected StreamResponse convertResponse(RestLiResponse restLiResponse)
         throws Exception
     {
-      RestLiResponseAttachments responseAttachments = _routingResult.getContext().getResponseAttachments();
-      if (responseAttachments != null && responseAttachments.getMultiPartMimeWriterBuilder().getCurrentSize() > 0)
+      if (hasResponseAttachments())
       {
+        RestLiResponseAttachments responseAttachments = _routingResult.getContext().getResponseAttachments();
         RestResponse structuredFirstPart = ResponseUtils.buildResponse(_routingResult, restLiResponse);
         return createStreamResponseWithAttachment(structuredFirstPart, responseAttachments);
       }
@@ -17,6 +17,7 @@ import com.linkedin.restli.common.RestLiTraceInfo;
 import com.linkedin.restli.internal.common.AllProtocolVersions;
 import com.linkedin.restli.internal.common.HeaderUtil;
 import com.linkedin.restli.internal.common.ProtocolVersionUtil;
+import com.linkedin.restli.internal.server.EventLoopEngines;
 import com.linkedin.restli.internal.server.PathKeysImpl;
 import com.linkedin.restli.internal.server.ResourceContextImpl;
 import com.linkedin.restli.internal.server.RestLiMethodInvoker;
@@ -88,7 +89,8 @@ abstract class BaseRestLiServer
 
     _router = new RestLiRouter(rootResources, config);
     resourceFactory.setRootResources(rootResources);
-    _methodInvoker = new RestLiMethodInvoker(resourceFactory, engine, config.getInternalErrorMessage());
+    _methodInvoker = new RestLiMethodInvoker(resourceFactory, engine, config.getInternalErrorMessage(),
+        createEventLoopEngines(config));
 
     _errorResponseBuilder = new ErrorResponseBuilder(config.getErrorResponseFormat());
     _methodAdapterProvider = config.getMethodAdapterProvider();
@@ -118,7 +120,8 @@ abstract class BaseRestLiServer
 
     _router = new RestLiRouter(rootResources, config);
     resourceFactory.setRootResources(rootResources);
-    _methodInvoker = new RestLiMethodInvoker(resourceFactory, engine, config.getInternalErrorMessage());
+    _methodInvoker = new RestLiMethodInvoker(resourceFactory, engine, config.getInternalErrorMessage(),
+        createEventLoopEngines(config));
 
     _errorResponseBuilder = errorResponseBuilder;
     _methodAdapterProvider = config.getMethodAdapterProvider();
@@ -130,6 +133,13 @@ abstract class BaseRestLiServer
     _methodConfigProvider = ResourceMethodConfigProvider.build(config.getMethodConfig());
   }
 
+  private static EventLoopEngines createEventLoopEngines(RestLiConfig config)
+  {
+    return config.isEventLoopAffine()
+        ? new EventLoopEngines(config.getEventLoopBlockingThresholdMs(), config.getEventLoopEngineBuilderSupplier())
+        : null;
+  }
+
   private boolean isSupportedProtocolVersion(ProtocolVersion clientProtocolVersion,
                                              ProtocolVersion lowerBound,
                                              ProtocolVersion upperBound)
@@ -157,8 +167,7 @@ abstract class BaseRestLiServer
       throws RestLiServiceException
   {
     ProtocolVersion clientProtocolVersion =
-        Optional.ofNullable(requestContext.getLocalAttr(ServerResourceContext.CONTEXT_PROTOCOL_VERSION_KEY))
-        .map(ProtocolVersion.class::cast)
+        Optional.ofNullable(requestContext.getLocalAttr(ServerResourceContext.CONTEXT_PROTOCOL_VERSION))
         .orElseGet(() -> ProtocolVersionUtil.extractProtocolVersion(request.getHeaders()));
 
     ProtocolVersion lowerBound = AllProtocolVersions.OLDEST_SUPPORTED_PROTOCOL_VERSION;
@@ -242,7 +251,8 @@ abstract class BaseRestLiServer
       argumentBuilder = lookupArgumentBuilder(method);
       // Unstructured data is not available in the Rest.Li filters
       RestLiRequestData requestData = argumentBuilder.extractRequestData(routingResult, entityDataMap);
-      filterContext = new FilterRequestContextInternalImpl(context, method, requestData);
+      filterContext = new FilterRequestContextInternalImpl(context, method, requestData,
+          routingResult.getResourceMethodConfig());
     }
     catch (Exception e)
     {
@@ -17,6 +17,7 @@
 package com.linkedin.restli.server;
 
 import com.linkedin.data.codec.DataCodec;
+import com.linkedin.parseq.EngineBuilder;
 import com.linkedin.restli.common.ContentType;
 import com.linkedin.restli.internal.server.methods.DefaultMethodAdapterProvider;
 import com.linkedin.restli.internal.server.methods.MethodAdapterProvider;
@@ -37,6 +38,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 
@@ -52,6 +54,7 @@ public class RestLiConfig
    * Default value for the maximum number of individual requests allowed in a multiplexed request.
    */
   private static final int DEFAULT_MAX_REQUESTS_MULTIPLEXED = 20;
+  private static final long DEFAULT_EVENT_LOOP_BLOCKING_THRESHOLD_MS = 100;
 
   /**
    * @deprecated There is no longer a notion of strict v.s. relaxed checking. The only check is that the version used
@@ -90,6 +93,9 @@ public class RestLiConfig
   private Set<String> _individualRequestHeaderWhitelist = Collections.emptySet();
   private MultiplexerSingletonFilter _multiplexerSingletonFilter;
   private MultiplexerRunMode _multiplexerRunMode = MultiplexerRunMode.MULTIPLE_PLANS;
+  private int _multiplexerMaxConcurrentRequests = 0;
+  private long _multiplexerIndividualRequestTimeoutMs = 0;
+  private boolean _multiplexerStreamedResponses = false;
   private final List<ContentType> _customContentTypes = new LinkedList<>();
   private List<String> _supportedAcceptTypes;
   private final List<ResourceDefinitionListener> _resourceDefinitionListeners = new ArrayList<>();
@@ -101,6 +107,14 @@ public class RestLiConfig
   // config flag for determine restli server to fill-in default values or not
   private boolean _fillInDefaultValues = false;
 
+  // config flag for whether to find the resource classes of the configured packages through build-time indexes
+  private boolean _useResourceIndex = true;
+
+  // config flags for running the ParSeq plans of the requests on the event loops which received them
+  private boolean _eventLoopAffine = false;
+  private long _eventLoopBlockingThresholdMs = DEFAULT_EVENT_LOOP_BLOCKING_THRESHOLD_MS;
+  private Supplier<EngineBuilder> _eventLoopEngineBuilderSupplier = EngineBuilder::new;
+
   // resource method level configuration
   private RestLiMethodConfig _methodConfig;
 
@@ -465,6 +479,78 @@ public class RestLiConfig
     _multiplexerRunMode = multiplexerRunMode;
   }
 
+  /**
+   * Get the maximum number of individual requests of a multiplexed request executing concurrently.
+   * @return the maximum number of concurrent individual requests, or 0 if it is not bounded
+   */
+  public int getMultiplexerMaxConcurrentRequests()
+  {
+    return _multiplexerMaxConcurrentRequests;
+  }
+
+  /**
+   * Set the maximum number of individual requests of a multiplexed request executing concurrently in the
+   * {@link MultiplexerRunMode#ISOLATED_PLANS} run mode. The other individual requests wait for one of them to complete.
+   * Defaults to 0, which does not bound the number of concurrent individual requests.
+   * @param maxConcurrentRequests the maximum number of concurrent individual requests, or 0 to not bound it
+   */
+  public void setMultiplexerMaxConcurrentRequests(int maxConcurrentRequests)
+  {
+    if (maxConcurrentRequests < 0)
+    {
+      throw new IllegalArgumentException("maxConcurrentRequests must not be negative, got: " + maxConcurrentRequests);
+    }
+    _multiplexerMaxConcurrentRequests = maxConcurrentRequests;
+  }
+
+  /**
+   * Get the time after which an individual request of a multiplexed request is answered with a 504 response.
+   * @return the individual request timeout in milliseconds, or 0 if individual requests do not time out
+   */
+  public long getMultiplexerIndividualRequestTimeoutMs()
+  {
+    return _multiplexerIndividualRequestTimeoutMs;
+  }
+
+  /**
+   * Set the time after which an individual request of a multiplexed request is answered with a 504 response in the
+   * {@link MultiplexerRunMode#ISOLATED_PLANS} run mode, without waiting for it to complete. The timeout starts when the
+   * request is queued, so a request still waiting for a concurrency slot when it times out is not executed. The requests
+   * depending on it are not executed, and are answered with a 504 response as well. A running request keeps its
+   * concurrency slot until it completes. Defaults to 0, which does not time out individual requests.
+   * @param individualRequestTimeoutMs the individual request timeout in milliseconds, or 0 to not time out
+   */
+  public void setMultiplexerIndividualRequestTimeoutMs(long individualRequestTimeoutMs)
+  {
+    if (individualRequestTimeoutMs < 0)
+    {
+      throw new IllegalArgumentException("individualRequestTimeoutMs must not be negative, got: " + individualRequestTimeoutMs);
+    }
+    _multiplexerIndividualRequestTimeoutMs = individualRequestTimeoutMs;
+  }
+
+  /**
+   * Get whether the aggregated responses to streamed multiplexed requests are streamed.
+   * @return true if the aggregated responses are streamed
+   */
+  public boolean isMultiplexerStreamedResponses()
+  {
+    return _multiplexerStreamedResponses;
+  }
+
+  /**
+   * Set whether the aggregated responses to streamed multiplexed requests are streamed in the
+   * {@link MultiplexerRunMode#ISOLATED_PLANS} run mode, every individual response being written as soon as it
+   * completes. The headers of the aggregated response are then sent before any individual request completes, so the
+   * cookies set by the individual responses are dropped: the resources reached through multiplexed requests must not
+   * set cookies. Defaults to false, which sends the aggregated response once all the individual requests completed.
+   * @param streamedResponses whether the aggregated responses are streamed
+   */
+  public void setMultiplexerStreamedResponses(boolean streamedResponses)
+  {
+    _multiplexerStreamedResponses = streamedResponses;
+  }
+
   public List<ContentType> getCustomContentTypes()
   {
     return _customContentTypes;
@@ -599,6 +685,85 @@ public class RestLiConfig
     _fillInDefaultValues = fillInDefaultValues;
   }
 
+  /**
+   * Get whether the resource classes of the configured packages are found through the resource indexes generated
+   * at build time, see {@link com.linkedin.restli.internal.server.model.RestLiResourceIndex}, when present.
+   */
+  public boolean isUseResourceIndex()
+  {
+    return _useResourceIndex;
+  }
+
+  /**
+   * Set whether the resource classes of the configured packages are found through the resource indexes generated
+   * at build time. If not, or for packages without an index, the packages are scanned for resource classes.
+   */
+  public void setUseResourceIndex(boolean useResourceIndex)
+  {
+    _useResourceIndex = useResourceIndex;
+  }
+
+  /**
+   * Get whether the ParSeq plans of the requests received by an event loop are run on that event loop.
+   */
+  public boolean isEventLoopAffine()
+  {
+    return _eventLoopAffine;
+  }
+
+  /**
+   * Set whether the ParSeq plans of the requests received by an event loop, see
+   * {@link com.linkedin.r2.filter.R2Constants#EVENT_LOOP}, are run on that event loop instead of the ParSeq
+   * {@link com.linkedin.parseq.Engine} of the server, which saves the thread hops of non-blocking resources. The
+   * methods of the {@link com.linkedin.restli.server.resources.ResourceFactory} and of the Task and Promise based
+   * resources must then not block. The synchronous resource methods still run on the {@link com.linkedin.parseq.Engine}
+   * of the server.
+   *
+   * The engines of the event loops do not share the configuration of the engine of the server: the plan listeners,
+   * e.g. for batching, task queue factory and engine properties they need are set with
+   * {@link #setEventLoopEngineBuilderSupplier(Supplier)}.
+   */
+  public void setEventLoopAffine(boolean eventLoopAffine)
+  {
+    _eventLoopAffine = eventLoopAffine;
+  }
+
+  /**
+   * Get the duration in milliseconds above which a task run on an event loop is reported as blocking.
+   */
+  public long getEventLoopBlockingThresholdMs()
+  {
+    return _eventLoopBlockingThresholdMs;
+  }
+
+  /**
+   * Set the duration in milliseconds above which a task run on an event loop in event loop affine mode is logged as
+   * blocking, see {@link #setEventLoopAffine(boolean)}.
+   */
+  public void setEventLoopBlockingThresholdMs(long eventLoopBlockingThresholdMs)
+  {
+    _eventLoopBlockingThresholdMs = eventLoopBlockingThresholdMs;
+  }
+
+  /**
+   * Get the supplier of the {@link EngineBuilder}s the engines of the event loops are built from.
+   */
+  public Supplier<EngineBuilder> getEventLoopEngineBuilderSupplier()
+  {
+    return _eventLoopEngineBuilderSupplier;
+  }
+
+  /**
+   * Set the supplier of the {@link EngineBuilder}s the engines of the event loops are built from in event loop affine
+   * mode, see {@link #setEventLoopAffine(boolean)}. It must return a new builder on every call, configured like the
+   * engine of the server, e.g. with the same plan deactivation listener for batching. The task executor and the timer
+   * scheduler of the builders are replaced with the event loop.
+   */
+  public void setEventLoopEngineBuilderSupplier(Supplier<EngineBuilder> eventLoopEngineBuilderSupplier)
+  {
+    _eventLoopEngineBuilderSupplier = eventLoopEngineBuilderSupplier;
+  }
+
   /**
    * Set a custom {@link MethodAdapterProvider} in the config.
    *
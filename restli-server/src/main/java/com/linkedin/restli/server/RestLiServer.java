@@ -161,7 +161,7 @@ public class RestLiServer implements RestRequestHandler, RestToRestLiRequestHand
   private boolean isMultipart(final Request request, final RequestContext requestContext, final Callback<?> callback)
   {
     // In process requests don't support multipart.
-    if (Boolean.TRUE.equals(requestContext.getLocalAttr(ServerResourceContext.CONTEXT_IN_PROCESS_RESOLUTION_KEY))) {
+    if (Boolean.TRUE.equals(requestContext.getLocalAttr(ServerResourceContext.CONTEXT_IN_PROCESS_RESOLUTION))) {
       return false;
     }
 
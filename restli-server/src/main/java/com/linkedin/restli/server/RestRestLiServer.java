@@ -100,6 +100,9 @@ class RestRestLiServer extends BaseRestLiServer implements RestRequestHandler, R
         config.getMultiplexedIndividualRequestHeaderWhitelist(),
         config.getMultiplexerSingletonFilter(),
         config.getMultiplexerRunMode(),
+        config.getMultiplexerMaxConcurrentRequests(),
+        config.getMultiplexerIndividualRequestTimeoutMs(),
+        config.isMultiplexerStreamedResponses(),
         errorResponseBuilder));
 
     // Add debug request handlers
@@ -142,6 +145,9 @@ class RestRestLiServer extends BaseRestLiServer implements RestRequestHandler, R
         config.getMultiplexedIndividualRequestHeaderWhitelist(),
         config.getMultiplexerSingletonFilter(),
         config.getMultiplexerRunMode(),
+        config.getMultiplexerMaxConcurrentRequests(),
+        config.getMultiplexerIndividualRequestTimeoutMs(),
+        config.isMultiplexerStreamedResponses(),
         new ErrorResponseBuilder(config.getErrorResponseFormat())));
 
     // Add debug request handlers
@@ -188,7 +194,7 @@ class RestRestLiServer extends BaseRestLiServer implements RestRequestHandler, R
         throw new RuntimeException("Non-resource endpoints don't support RestLiResponse");
       }
 
-      handleResourceRequestWithRestLiResponse(request, requestContext, callback);
+      handleResourceRequestWithRestLiResponse(request, requestContext, ResponseUtils.collectStreamedElements(callback));
     }
     catch (Throwable t)
     {
@@ -259,8 +265,8 @@ class RestRestLiServer extends BaseRestLiServer implements RestRequestHandler, R
       RoutingResult routingResult,
       Callback<RestResponse> callback)
   {
-    handleResourceRequestWithRestLiResponse(request, routingResult,
-        new RestLiToRestResponseCallbackAdapter(callback, routingResult, _writableStackTrace));
+    handleResourceRequestWithRestLiResponse(request, routingResult, ResponseUtils.collectStreamedElements(
+        new RestLiToRestResponseCallbackAdapter(callback, routingResult, _writableStackTrace)));
   }
 
   protected void handleResourceRequestWithRestLiResponse(RestRequest request, RoutingResult routingResult,
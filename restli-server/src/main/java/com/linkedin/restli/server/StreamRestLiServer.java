@@ -132,7 +132,7 @@ class StreamRestLiServer extends BaseRestLiServer implements StreamRequestHandle
         throw new RuntimeException("Non-resource endpoints don't support RestLiResponse");
       }
 
-      handleResourceRequestWithRestLiResponse(request, requestContext, callback);
+      handleResourceRequestWithRestLiResponse(request, requestContext, ResponseUtils.collectStreamedElements(callback));
     }
     catch (Throwable t)
     {
@@ -369,7 +369,10 @@ class StreamRestLiServer extends BaseRestLiServer implements StreamRequestHandle
       if (restLiResponse.hasData())
       {
         responseBuilder.setHeader(RestConstants.HEADER_CONTENT_TYPE, _contentType.getHeaderKey());
-        entityStream = _contentType.getStreamCodec().encodeMap(restLiResponse.getDataMap());
+        entityStream = restLiResponse.hasStreamedElements()
+            ? _contentType.getStreamCodec().encodeMap(restLiResponse.getDataMap(), restLiResponse.getStreamedField(),
+                restLiResponse.getStreamedElements())
+            : _contentType.getStreamCodec().encodeMap(restLiResponse.getDataMap());
       }
       else
       {
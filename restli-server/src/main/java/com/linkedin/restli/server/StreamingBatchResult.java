@@ -0,0 +1,67 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.server;
+
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.entitystream.EntityStream;
+import java.util.Map;
+
+
+/**
+ * A {@link BatchResult} of a BATCH_GET method whose entities are read from an {@link EntityStream} while the response
+ * is written, instead of being held in a map. The entities are only requested from the stream as the client reads
+ * the response, and each one is projected as it is written, so the entities never need to be held in memory together.
+ *
+ * The entities are streamed when the response is encoded by the streaming Rest.li server with a content type
+ * supporting it. Otherwise, they are read into the response before it is encoded. The errors of the keys that could
+ * not be fetched are known upfront, and as for the entities of a plain <code>Map</code>, no status is written for the
+ * streamed entities. An error of the stream after the response has started fails the response stream.
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the entities.
+ */
+public class StreamingBatchResult<K, V extends RecordTemplate> extends BatchResult<K, V>
+{
+  private final EntityStream<Map.Entry<K, V>> _entityStream;
+
+  /**
+   * @param entityStream provides the entities keyed by their IDs.
+   */
+  public StreamingBatchResult(final EntityStream<Map.Entry<K, V>> entityStream)
+  {
+    this(entityStream, null);
+  }
+
+  /**
+   * @param entityStream provides the entities keyed by their IDs.
+   * @param errors the errors of the keys whose entities could not be fetched.
+   */
+  public StreamingBatchResult(final EntityStream<Map.Entry<K, V>> entityStream,
+      final Map<K, RestLiServiceException> errors)
+  {
+    super(null, errors);
+    _entityStream = entityStream;
+  }
+
+  /**
+   * @return the stream of the entities. It can only be read once.
+   */
+  public EntityStream<Map.Entry<K, V>> getEntityStream()
+  {
+    return _entityStream;
+  }
+}
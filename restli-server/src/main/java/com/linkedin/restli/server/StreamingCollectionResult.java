@@ -0,0 +1,81 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.server;
+
+import com.linkedin.data.template.RecordTemplate;
+import com.linkedin.entitystream.EntityStream;
+import java.util.Collections;
+
+
+/**
+ * A {@link CollectionResult} of a FINDER or GET_ALL method whose elements are read from an {@link EntityStream}
+ * while the response is written, instead of being held in a list. The elements are only requested from the stream
+ * as the client reads the response, and each one is projected as it is written, so the result set never needs to
+ * be held in memory.
+ *
+ * The elements are streamed when the response is encoded by the streaming Rest.li server with a content type
+ * supporting it. Otherwise, they are read into the response before it is encoded. The paging metadata is encoded after
+ * the elements, and its links are computed from the number of elements read, so the total is only required with
+ * {@link PageIncrement#FIXED}, like for any {@link CollectionResult}. An error of the stream after the response has
+ * started fails the response stream.
+ *
+ * @param <T> the type of the elements.
+ * @param <MD> the type of the custom metadata.
+ */
+public class StreamingCollectionResult<T extends RecordTemplate, MD extends RecordTemplate> extends CollectionResult<T, MD>
+{
+  private final EntityStream<T> _elementStream;
+
+  /**
+   * @param elementStream provides the elements in current page of collection results.
+   */
+  public StreamingCollectionResult(final EntityStream<T> elementStream)
+  {
+    this(elementStream, null, null);
+  }
+
+  /**
+   * @param elementStream provides the elements in current page of collection results.
+   * @param total provides the total elements, required if using {@link PageIncrement#FIXED}
+   * @param metadata provides search result metadata, as defined by the application.
+   */
+  public StreamingCollectionResult(final EntityStream<T> elementStream, final Integer total, final MD metadata)
+  {
+    this(elementStream, total, metadata, PageIncrement.RELATIVE);
+  }
+
+  /**
+   * @param elementStream provides the elements in current page of collection results.
+   * @param total provides the total elements, required if using {@link PageIncrement#FIXED}
+   * @param metadata provides search result metadata, as defined by the application.
+   * @param pageIncrement Provides the page increment mode.
+   */
+  public StreamingCollectionResult(final EntityStream<T> elementStream, final Integer total, final MD metadata,
+      final PageIncrement pageIncrement)
+  {
+    super(Collections.emptyList(), total, metadata, pageIncrement);
+    _elementStream = elementStream;
+  }
+
+  /**
+   * @return the stream of the elements. It can only be read once.
+   */
+  public EntityStream<T> getElementStream()
+  {
+    return _elementStream;
+  }
+}
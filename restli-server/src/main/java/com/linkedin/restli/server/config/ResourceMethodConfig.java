@@ -33,4 +33,9 @@ public interface ResourceMethodConfig
    * Returns the method level list of fields that should be included when projection is applied.
    */
   ConfigValue<Set<String>> getAlwaysProjectedFields();
+
+  /**
+   * Returns the method level priority, 0 being the most critical. Higher values are shed first under overload.
+   */
+  ConfigValue<Integer> getPriority();
 }
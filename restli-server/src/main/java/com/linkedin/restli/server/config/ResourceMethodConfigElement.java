@@ -177,6 +177,8 @@ class ResourceMethodConfigElement implements Comparable<ResourceMethodConfigElem
           return ConfigValueCoercers.LONG.apply(value);
         case ALWAYS_PROJECTED_FIELDS:
           return new HashSet<>(ConfigValueCoercers.COMMA_SEPARATED_STRINGS.apply(value));
+        case PRIORITY:
+          return ConfigValueCoercers.INTEGER.apply(value);
         default:
           throw new ResourceMethodConfigParsingException("Invalid method-level config property: " + configType.getConfigName());
       }
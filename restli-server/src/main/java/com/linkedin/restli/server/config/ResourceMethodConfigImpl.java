@@ -16,6 +16,7 @@ public class ResourceMethodConfigImpl implements ResourceMethodConfig
 {
   private final ConfigValue<Long> _timeoutMs;
   private final ConfigValue<Set<String>> _alwaysProjectedFields;
+  private final ConfigValue<Integer> _priority;
   private boolean _validateQueryParams;
   private boolean _validateResourceKeys;
 
@@ -29,11 +30,18 @@ public class ResourceMethodConfigImpl implements ResourceMethodConfig
 
   ResourceMethodConfigImpl(ConfigValue<Long> timeoutMs, boolean validateQueryParams, boolean validateResourceKeys,
       ConfigValue<Set<String>> alwaysProjectedFields)
+  {
+    this(timeoutMs, validateQueryParams, validateResourceKeys, alwaysProjectedFields, null);
+  }
+
+  ResourceMethodConfigImpl(ConfigValue<Long> timeoutMs, boolean validateQueryParams, boolean validateResourceKeys,
+      ConfigValue<Set<String>> alwaysProjectedFields, ConfigValue<Integer> priority)
   {
     _timeoutMs = timeoutMs;
     _validateQueryParams = validateQueryParams;
     _validateResourceKeys = validateResourceKeys;
     _alwaysProjectedFields = alwaysProjectedFields;
+    _priority = priority;
   }
 
   public ConfigValue<Long> getTimeoutMs()
@@ -57,6 +65,12 @@ public class ResourceMethodConfigImpl implements ResourceMethodConfig
     return _alwaysProjectedFields;
   }
 
+  @Override
+  public ConfigValue<Integer> getPriority()
+  {
+    return _priority;
+  }
+
   @Override
   public String toString()
   {
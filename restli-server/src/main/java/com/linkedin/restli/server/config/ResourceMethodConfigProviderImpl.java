@@ -25,11 +25,13 @@ class ResourceMethodConfigProviderImpl implements ResourceMethodConfigProvider
   private static final Logger LOGGER = LoggerFactory.getLogger(ResourceMethodConfigProviderImpl.class);
 
   static final long DEFAULT_TIMEOUT = 0L;
+  static final int DEFAULT_PRIORITY = 0;
 
   static final RestLiMethodConfig DEFAULT_CONFIG = createDefaultConfig();
 
   private final ResourceMethodConfigTree<Long> _timeoutMs = new ResourceMethodConfigTree<>();
   private final ResourceMethodConfigTree<Set<String>> _alwaysProjectedFields = new ResourceMethodConfigTree<>();
+  private final ResourceMethodConfigTree<Integer> _priority = new ResourceMethodConfigTree<>();
   private final ConcurrentMap<ResourceMethodConfigCacheKey, ResourceMethodConfig> _cache = new ConcurrentHashMap<>();
   private boolean _shouldValidateQueryParams;
   private boolean _shouldValidateResourceKey;
@@ -46,6 +48,7 @@ class ResourceMethodConfigProviderImpl implements ResourceMethodConfigProvider
   {
     boolean success = initializeProperty(config.getTimeoutMsConfig(), RestLiMethodConfig.ConfigType.TIMEOUT);
     success &= initializeProperty(config.getAlwaysProjectedFieldsConfig(), RestLiMethodConfig.ConfigType.ALWAYS_PROJECTED_FIELDS);
+    success &= initializeProperty(config.getPriorityConfig(), RestLiMethodConfig.ConfigType.PRIORITY);
     if (!success)
     {
       throw new ResourceMethodConfigParsingException("Rest.li resource method level configuration parsing error!");
@@ -78,6 +81,9 @@ class ResourceMethodConfigProviderImpl implements ResourceMethodConfigProvider
       case ALWAYS_PROJECTED_FIELDS:
         elements = _alwaysProjectedFields.getConfigItemsByPriority();
         break;
+      case PRIORITY:
+        elements = _priority.getConfigItemsByPriority();
+        break;
     }
     StringBuilder sb = new StringBuilder();
     sb.append("RestLi MethodLevel Configuration for property " + configType.getConfigName() + " sorted by priority - first match gets applied:\n");
@@ -98,6 +104,9 @@ class ResourceMethodConfigProviderImpl implements ResourceMethodConfigProvider
       case ALWAYS_PROJECTED_FIELDS:
         _alwaysProjectedFields.add(element);
         break;
+      case PRIORITY:
+        _priority.add(element);
+        break;
       default: throw new ResourceMethodConfigParsingException("Unrecognized property: " + element.getProperty());
     }
   }
@@ -112,7 +121,7 @@ class ResourceMethodConfigProviderImpl implements ResourceMethodConfigProvider
   private ResourceMethodConfig resolve(ResourceMethodConfigCacheKey cacheKey)
   {
     return new ResourceMethodConfigImpl(_timeoutMs.resolve(cacheKey), _shouldValidateQueryParams,
-        _shouldValidateResourceKey, _alwaysProjectedFields.resolve(cacheKey));
+        _shouldValidateResourceKey, _alwaysProjectedFields.resolve(cacheKey), _priority.resolve(cacheKey));
   }
 
   /**
@@ -122,6 +131,7 @@ class ResourceMethodConfigProviderImpl implements ResourceMethodConfigProvider
   {
     RestLiMethodConfigBuilder builder = new RestLiMethodConfigBuilder();
     builder.addTimeoutMs("*.*", DEFAULT_TIMEOUT);
+    builder.addPriority("*.*", DEFAULT_PRIORITY);
     return builder.build();
   }
 }
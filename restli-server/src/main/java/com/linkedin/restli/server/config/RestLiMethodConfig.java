@@ -13,7 +13,8 @@ public interface RestLiMethodConfig
   enum ConfigType
   {
     TIMEOUT("timeoutMs"),
-    ALWAYS_PROJECTED_FIELDS("alwaysProjectedFields");
+    ALWAYS_PROJECTED_FIELDS("alwaysProjectedFields"),
+    PRIORITY("priority");
 
     ConfigType(String configName)
     {
@@ -48,4 +49,10 @@ public interface RestLiMethodConfig
    * provided as comma separated string.
    */
   Map<String, String> getAlwaysProjectedFieldsConfig();
+
+  /**
+   * Returns the method level priority, used to shed the less critical requests first when the server is overloaded.
+   * 0 is the most critical and the default, higher values are less critical.
+   */
+  Map<String, Integer> getPriorityConfig();
 }
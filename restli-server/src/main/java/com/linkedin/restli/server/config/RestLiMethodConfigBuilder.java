@@ -13,6 +13,7 @@ public class RestLiMethodConfigBuilder
 {
   private final Map<String, Long> _timeoutMsConfig = new HashMap<>();
   private final Map<String, String> _alwaysProjectedFieldsConfig = new HashMap<>();
+  private final Map<String, Integer> _priorityConfig = new HashMap<>();
   // Whether to validate parameter in the query parameters.
   private boolean shouldValidateQueryParams = false;
   private boolean shouldValidateResourceKeys = false;
@@ -34,13 +35,14 @@ public class RestLiMethodConfigBuilder
       withShouldValidateQueryParams(config.shouldValidateQueryParams());
       withShouldValidateResourceKeys(config.shouldValidateResourceKey());
       addAlwaysProjectedFieldsMap(config.getAlwaysProjectedFieldsConfig());
+      addPriorityMap(config.getPriorityConfig());
     }
   }
 
   public RestLiMethodConfig build()
   {
     return new RestLiMethodConfigImpl(_timeoutMsConfig, shouldValidateQueryParams, shouldValidateResourceKeys,
-        _alwaysProjectedFieldsConfig);
+        _alwaysProjectedFieldsConfig, _priorityConfig);
   }
 
   public RestLiMethodConfigBuilder withShouldValidateQueryParams(boolean shouldValidateQueryParams)
@@ -90,4 +92,22 @@ public class RestLiMethodConfigBuilder
     _alwaysProjectedFieldsConfig.clear();
     return this;
   }
+
+  public RestLiMethodConfigBuilder addPriorityMap(Map<String, Integer> config)
+  {
+    _priorityConfig.putAll(config);
+    return this;
+  }
+
+  public RestLiMethodConfigBuilder addPriority(String key, int value)
+  {
+    _priorityConfig.put(key, value);
+    return this;
+  }
+
+  public RestLiMethodConfigBuilder clearPriority()
+  {
+    _priorityConfig.clear();
+    return this;
+  }
 }
@@ -10,6 +10,7 @@ class RestLiMethodConfigImpl implements RestLiMethodConfig
   private boolean _validateQueryParams;
   private boolean _validateResourceKeys;
   private final Map<String, String> _alwaysProjectedFieldsConfig;
+  private final Map<String, Integer> _priorityConfig;
 
   /**
    * @deprecated Use {@link RestLiMethodConfigBuilder} to build this type.
@@ -23,12 +24,22 @@ class RestLiMethodConfigImpl implements RestLiMethodConfig
 
   RestLiMethodConfigImpl(Map<String, Long> timeoutMsConfig, boolean validateQueryParams,
       boolean validateResourceKeys, Map<String, String> alwaysProjectedFieldsConfig)
+  {
+    this(timeoutMsConfig, validateQueryParams, validateResourceKeys, alwaysProjectedFieldsConfig,
+        Collections.emptyMap());
+  }
+
+  RestLiMethodConfigImpl(Map<String, Long> timeoutMsConfig, boolean validateQueryParams,
+      boolean validateResourceKeys, Map<String, String> alwaysProjectedFieldsConfig,
+      Map<String, Integer> priorityConfig)
   {
     _timeoutMsConfig = timeoutMsConfig;
     _validateQueryParams = validateQueryParams;
     _validateResourceKeys = validateResourceKeys;
     _alwaysProjectedFieldsConfig = alwaysProjectedFieldsConfig;
+    _priorityConfig = priorityConfig;
   }
+
   @Override
   public Map<String, Long> getTimeoutMsConfig()
   {
@@ -52,4 +63,10 @@ class RestLiMethodConfigImpl implements RestLiMethodConfig
   {
     return _alwaysProjectedFieldsConfig;
   }
+
+  @Override
+  public Map<String, Integer> getPriorityConfig()
+  {
+    return _priorityConfig;
+  }
 }
@@ -29,6 +29,8 @@ import com.linkedin.restli.server.CustomRequestContext;
 import com.linkedin.restli.server.PathKeys;
 import com.linkedin.restli.server.ProjectionMode;
 import com.linkedin.restli.server.RestLiRequestData;
+import com.linkedin.restli.server.config.ResourceMethodConfig;
+import com.linkedin.restli.server.config.ResourceMethodConfigImpl;
 import com.linkedin.restli.server.errors.ServiceError;
 
 import java.lang.reflect.Method;
@@ -274,6 +276,17 @@ public interface FilterRequestContext extends CustomRequestContext
    */
   Map<String, Object> getRequestContextLocalAttrs();
 
+  /**
+   * Gets the method level configuration resolved for the resource method being queried, e.g. its timeout or priority.
+   * TODO: Remove the "default" implementation in the next major version.
+   *
+   * @return the {@link ResourceMethodConfig} of the resource method.
+   */
+  default ResourceMethodConfig getResourceMethodConfig()
+  {
+    return ResourceMethodConfigImpl.DEFAULT_CONFIG;
+  }
+
   /**
    * Returns whether the resource method being queried is a "return entity" method, meaning that it's
    * annotated with the {@link com.linkedin.restli.server.annotations.ReturnEntity} annotation.
@@ -0,0 +1,164 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.server.filter;
+
+import com.linkedin.r2.RetriableRequestException;
+import com.linkedin.r2.filter.limit.AdaptiveConcurrencyLimit;
+import com.linkedin.restli.common.ConfigValue;
+import com.linkedin.restli.common.HttpStatus;
+import com.linkedin.restli.server.RestLiServiceException;
+import com.linkedin.restli.server.config.ResourceMethodConfig;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Server filter shedding the requests above an {@link AdaptiveConcurrencyLimit} before they reach the resources, so
+ * that an overloaded server fails the excess requests quickly instead of queueing them until they time out.
+ *
+ * Shed requests fail with a 503 response carrying a Retry-After header. The cause of the error is a
+ * {@link RetriableRequestException}, so that the {@link com.linkedin.r2.filter.transport.ServerRetryFilter} marks it
+ * retriable for the clients. The latency of the processed requests adapts the limit, and 503 and 504 errors back it
+ * off.
+ *
+ * Requests are shed by the priority of their resource method, see
+ * {@link com.linkedin.restli.server.config.RestLiMethodConfigBuilder#addPriority(String, int)}. Requests of priority 0,
+ * the default, may use the whole limit, and every priority above it may use a smaller share of it, keeping the rest
+ * for the more critical requests.
+ *
+ * The filter should be first in the filter chain, so that shed requests do not run the other filters.
+ */
+public class LoadSheddingFilter implements Filter, LoadSheddingFilterJmxMBean
+{
+  public static final double DEFAULT_PRIORITY_SHARE_STEP = 0.1;
+  public static final int DEFAULT_RETRY_AFTER_SECONDS = 1;
+
+  static final String RETRY_AFTER_HEADER = "Retry-After";
+
+  private static final String START_NANOS_KEY = LoadSheddingFilter.class.getName() + ".startNanos";
+  private static final String SHED_KEY = LoadSheddingFilter.class.getName() + ".shed";
+
+  private final AdaptiveConcurrencyLimit _limit;
+  private final double _priorityShareStep;
+  private final String _retryAfterSeconds;
+  private final AtomicLong _shedCount = new AtomicLong();
+
+  public LoadSheddingFilter()
+  {
+    this(new AdaptiveConcurrencyLimit(), DEFAULT_PRIORITY_SHARE_STEP, DEFAULT_RETRY_AFTER_SECONDS);
+  }
+
+  /**
+   * @param limit the concurrency limit of the server.
+   * @param priorityShareStep the share of the limit every priority keeps from the priorities above it, between 0 and 1.
+   * @param retryAfterSeconds the delay shed requests tell the clients to wait before retrying.
+   */
+  public LoadSheddingFilter(AdaptiveConcurrencyLimit limit, double priorityShareStep, int retryAfterSeconds)
+  {
+    if (priorityShareStep < 0 || priorityShareStep > 1)
+    {
+      throw new IllegalArgumentException("Invalid priority share step: " + priorityShareStep);
+    }
+    if (retryAfterSeconds < 0)
+    {
+      throw new IllegalArgumentException("Invalid retry after seconds: " + retryAfterSeconds);
+    }
+    _limit = limit;
+    _priorityShareStep = priorityShareStep;
+    _retryAfterSeconds = String.valueOf(retryAfterSeconds);
+  }
+
+  @Override
+  public CompletableFuture<Void> onRequest(FilterRequestContext requestContext)
+  {
+    int priority = getPriority(requestContext.getResourceMethodConfig());
+    if (!_limit.tryAcquire(Math.max(0, 1 - priority * _priorityShareStep)))
+    {
+      _shedCount.incrementAndGet();
+      requestContext.getFilterScratchpad().put(SHED_KEY, Boolean.TRUE);
+      throw new RestLiServiceException(HttpStatus.S_503_SERVICE_UNAVAILABLE,
+          "Server is overloaded, shedding requests of priority " + priority,
+          new RetriableRequestException("Concurrency limit of " + _limit.getLimit() + " reached"));
+    }
+    requestContext.getFilterScratchpad().put(START_NANOS_KEY, System.nanoTime());
+    return CompletableFuture.completedFuture(null);
+  }
+
+  @Override
+  public CompletableFuture<Void> onResponse(FilterRequestContext requestContext, FilterResponseContext responseContext)
+  {
+    Long startNanos = (Long) requestContext.getFilterScratchpad().remove(START_NANOS_KEY);
+    if (startNanos != null)
+    {
+      _limit.onSuccess(System.nanoTime() - startNanos);
+    }
+    return CompletableFuture.completedFuture(null);
+  }
+
+  @Override
+  public CompletableFuture<Void> onError(Throwable th, FilterRequestContext requestContext,
+      FilterResponseContext responseContext)
+  {
+    if (requestContext.getFilterScratchpad().remove(SHED_KEY) != null)
+    {
+      responseContext.getResponseData().getHeaders().put(RETRY_AFTER_HEADER, _retryAfterSeconds);
+    }
+    else
+    {
+      Long startNanos = (Long) requestContext.getFilterScratchpad().remove(START_NANOS_KEY);
+      if (startNanos != null)
+      {
+        HttpStatus status = RestLiServiceException.fromThrowable(th).getStatus();
+        if (status == HttpStatus.S_503_SERVICE_UNAVAILABLE || status == HttpStatus.S_504_GATEWAY_TIMEOUT)
+        {
+          _limit.onDropped();
+        }
+        else
+        {
+          _limit.onSuccess(System.nanoTime() - startNanos);
+        }
+      }
+    }
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    future.completeExceptionally(th);
+    return future;
+  }
+
+  private static int getPriority(ResourceMethodConfig config)
+  {
+    ConfigValue<Integer> priority = config == null ? null : config.getPriority();
+    return priority == null || priority.getValue() == null ? 0 : Math.max(0, priority.getValue());
+  }
+
+  @Override
+  public int getLimit()
+  {
+    return _limit.getLimit();
+  }
+
+  @Override
+  public int getInFlightCount()
+  {
+    return _limit.getInFlight();
+  }
+
+  @Override
+  public long getShedCount()
+  {
+    return _shedCount.get();
+  }
+}
@@ -0,0 +1,41 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.server.filter;
+
+/**
+ * Statistics of a {@link LoadSheddingFilter}.
+ *
+ * The filter is not registered with an MBean server by Rest.li: the application creating it registers it, e.g. with
+ * the platform MBean server, to expose these statistics through JMX.
+ */
+public interface LoadSheddingFilterJmxMBean
+{
+  /**
+   * @return the current concurrency limit of the server.
+   */
+  int getLimit();
+
+  /**
+   * @return the number of requests being processed.
+   */
+  int getInFlightCount();
+
+  /**
+   * @return the total number of shed requests.
+   */
+  long getShedCount();
+}
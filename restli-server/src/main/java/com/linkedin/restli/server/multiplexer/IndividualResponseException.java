@@ -80,6 +80,11 @@ import com.linkedin.restli.server.RestLiServiceException;
     return createErrorIndividualResponse(e.getStatus(), errorResponseBuilder.buildErrorResponse(e));
   }
 
+  public static IndividualResponse createErrorIndividualResponse(HttpStatus status, String message, ErrorResponseBuilder errorResponseBuilder)
+  {
+    return createErrorIndividualResponse(status, createErrorResponse(status, message, errorResponseBuilder));
+  }
+
   private static IndividualResponse createErrorIndividualResponse(HttpStatus status, ErrorResponse errorResponse)
   {
     IndividualResponse response = new IndividualResponse();
@@ -0,0 +1,268 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.server.multiplexer;
+
+
+import com.linkedin.parseq.Engine;
+import com.linkedin.parseq.Task;
+import com.linkedin.parseq.function.Try;
+import com.linkedin.parseq.promise.Promises;
+import com.linkedin.parseq.promise.SettablePromise;
+import com.linkedin.restli.common.HttpStatus;
+import com.linkedin.restli.common.multiplexer.IndividualRequest;
+import com.linkedin.restli.common.multiplexer.IndividualRequestMap;
+import com.linkedin.restli.internal.server.response.ErrorResponseBuilder;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Executes the individual requests of a multiplexed request in the {@link MultiplexerRunMode#ISOLATED_PLANS} mode. The
+ * handling of every individual request runs as a separate ParSeq plan, at most the given number of them concurrently,
+ * and its response is passed to the response consumer as soon as it completes. The dependent requests of an individual
+ * request are queued once it has completed.
+ *
+ * An individual request that has not completed within the timeout of being queued is answered with a 504 response,
+ * and so are the requests depending on it, which are not executed. A request timing out while still queued is not
+ * executed either. A running request is not interrupted by its timeout, and it counts towards the concurrency limit
+ * until its handling actually completes.
+ *
+ * @see MultiplexedRequestHandlerImpl
+ */
+/* package private */ final class IsolatedRequestsExecution
+{
+  private static final Logger _log = LoggerFactory.getLogger(IsolatedRequestsExecution.class);
+
+  private final Engine _engine;
+  private final BiFunction<String, IndividualRequest, Task<IndividualResponseWithCookies>> _requestHandlingTaskFactory;
+  private final int _maxConcurrentRequests;
+  private final long _timeoutMs;
+  private final ErrorResponseBuilder _errorResponseBuilder;
+  private final BiConsumer<String, IndividualResponseWithCookies> _responseConsumer;
+  private final Runnable _completionListener;
+
+  // guarded by this
+  private final Queue<PendingRequest> _queuedRequests = new ArrayDeque<>();
+  private int _runningRequests;
+  private int _pendingRequests;
+
+  /**
+   * @param requestHandlingTaskFactory creates the task handling an individual request, given its id.
+   * @param maxConcurrentRequests the maximum number of individual requests executing concurrently, or 0 to not bound it.
+   * @param timeoutMs the time after which a queued individual request is answered with a 504 response, or 0 to not
+   *                  time out.
+   * @param responseConsumer receives the id and response of every individual request, from the thread completing it.
+   * @param completionListener invoked once all the individual responses have been passed to the response consumer.
+   */
+  /* package private */ IsolatedRequestsExecution(Engine engine,
+                                                  BiFunction<String, IndividualRequest, Task<IndividualResponseWithCookies>> requestHandlingTaskFactory,
+                                                  int maxConcurrentRequests,
+                                                  long timeoutMs,
+                                                  ErrorResponseBuilder errorResponseBuilder,
+                                                  BiConsumer<String, IndividualResponseWithCookies> responseConsumer,
+                                                  Runnable completionListener)
+  {
+    _engine = engine;
+    _requestHandlingTaskFactory = requestHandlingTaskFactory;
+    _maxConcurrentRequests = maxConcurrentRequests;
+    _timeoutMs = timeoutMs;
+    _errorResponseBuilder = errorResponseBuilder;
+    _responseConsumer = responseConsumer;
+    _completionListener = completionListener;
+  }
+
+  /* package private */ void execute(IndividualRequestMap individualRequests)
+  {
+    List<PendingRequest> queuedRequests;
+    List<PendingRequest> startedRequests;
+    synchronized (this)
+    {
+      queuedRequests = queue(individualRequests);
+      startedRequests = pollStartableRequests();
+    }
+    scheduleTimeouts(queuedRequests);
+    start(startedRequests);
+  }
+
+  private List<PendingRequest> queue(IndividualRequestMap individualRequests)
+  {
+    List<PendingRequest> queuedRequests = new ArrayList<>(individualRequests.size());
+    for (Map.Entry<String, IndividualRequest> individualRequest : individualRequests.entrySet())
+    {
+      queuedRequests.add(new PendingRequest(individualRequest.getKey(), individualRequest.getValue()));
+    }
+    _queuedRequests.addAll(queuedRequests);
+    _pendingRequests += queuedRequests.size();
+    return queuedRequests;
+  }
+
+  private List<PendingRequest> pollStartableRequests()
+  {
+    List<PendingRequest> startableRequests = new ArrayList<>();
+    while (!_queuedRequests.isEmpty() && (_maxConcurrentRequests == 0 || _runningRequests < _maxConcurrentRequests))
+    {
+      startableRequests.add(_queuedRequests.poll());
+      _runningRequests++;
+    }
+    return startableRequests;
+  }
+
+  private void start(List<PendingRequest> pendingRequests)
+  {
+    for (PendingRequest pendingRequest : pendingRequests)
+    {
+      _engine.run(_requestHandlingTaskFactory.apply(pendingRequest._id, pendingRequest._request).toTry().andThen(
+          "complete individual request " + pendingRequest._id, response ->
+          {
+            pendingRequest._completion.done(null);
+            onCompleted(pendingRequest, response);
+          }), MultiplexedRequestHandlerImpl.MUX_PLAN_CLASS);
+    }
+  }
+
+  private void scheduleTimeouts(List<PendingRequest> pendingRequests)
+  {
+    if (_timeoutMs <= 0)
+    {
+      return;
+    }
+
+    // The timeouts are applied in separate plans: timing out the request handling task would cancel it, and it would
+    // never report the completion of the request handler, which cannot be interrupted.
+    for (PendingRequest pendingRequest : pendingRequests)
+    {
+      _engine.run(Task.async("await individual request " + pendingRequest._id, () -> pendingRequest._completion)
+          .withTimeout(_timeoutMs, TimeUnit.MILLISECONDS).toTry().andThen(
+              "time out individual request " + pendingRequest._id, result ->
+              {
+                if (result.isFailed() && result.getError() instanceof TimeoutException)
+                {
+                  onTimedOut(pendingRequest);
+                }
+              }), MultiplexedRequestHandlerImpl.MUX_PLAN_CLASS);
+    }
+  }
+
+  private void onCompleted(PendingRequest pendingRequest, Try<IndividualResponseWithCookies> response)
+  {
+    String id = pendingRequest._id;
+    boolean answering = pendingRequest._answered.compareAndSet(false, true);
+    if (answering)
+    {
+      if (!response.isFailed())
+      {
+        _responseConsumer.accept(id, response.get());
+      }
+      else
+      {
+        // the request handling tasks turn all the failures into error responses, so this should never happen
+        _log.error("Unexpected failure of individual request " + id, response.getError());
+        _responseConsumer.accept(id, new IndividualResponseWithCookies(
+            IndividualResponseException.createInternalServerErrorIndividualResponse(response.getError(), _errorResponseBuilder)));
+      }
+    }
+
+    List<PendingRequest> queuedRequests = Collections.emptyList();
+    List<PendingRequest> startedRequests;
+    boolean done = false;
+    synchronized (this)
+    {
+      _runningRequests--;
+      if (answering)
+      {
+        _pendingRequests--;
+        queuedRequests = queue(pendingRequest._request.getDependentRequests());
+        done = _pendingRequests == 0;
+      }
+      startedRequests = pollStartableRequests();
+    }
+    scheduleTimeouts(queuedRequests);
+    start(startedRequests);
+
+    if (done)
+    {
+      _completionListener.run();
+    }
+  }
+
+  private void onTimedOut(PendingRequest pendingRequest)
+  {
+    if (!pendingRequest._answered.compareAndSet(false, true))
+    {
+      return;
+    }
+    String id = pendingRequest._id;
+    _responseConsumer.accept(id, createTimeoutResponse("Individual request " + id + " did not complete within " + _timeoutMs + "ms"));
+    rejectDependentRequests(id, pendingRequest._request.getDependentRequests());
+
+    boolean done;
+    synchronized (this)
+    {
+      // a running request is only removed from the running requests once it completes
+      _queuedRequests.remove(pendingRequest);
+      _pendingRequests--;
+      done = _pendingRequests == 0;
+    }
+
+    if (done)
+    {
+      _completionListener.run();
+    }
+  }
+
+  private void rejectDependentRequests(String id, IndividualRequestMap dependentRequests)
+  {
+    for (Map.Entry<String, IndividualRequest> dependentRequest : dependentRequests.entrySet())
+    {
+      _responseConsumer.accept(dependentRequest.getKey(),
+          createTimeoutResponse("Individual request " + id + " it depends on did not complete within " + _timeoutMs + "ms"));
+      rejectDependentRequests(id, dependentRequest.getValue().getDependentRequests());
+    }
+  }
+
+  private IndividualResponseWithCookies createTimeoutResponse(String message)
+  {
+    return new IndividualResponseWithCookies(
+        IndividualResponseException.createErrorIndividualResponse(HttpStatus.S_504_GATEWAY_TIMEOUT, message, _errorResponseBuilder));
+  }
+
+  private static class PendingRequest
+  {
+    private final String _id;
+    private final IndividualRequest _request;
+    // set by whichever of the completion and the timeout answers the request first
+    private final AtomicBoolean _answered = new AtomicBoolean();
+    private final SettablePromise<Void> _completion = Promises.settable();
+
+    private PendingRequest(String id, IndividualRequest request)
+    {
+      _id = id;
+      _request = request;
+    }
+  }
+}
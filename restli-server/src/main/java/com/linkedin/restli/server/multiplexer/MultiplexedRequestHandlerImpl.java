@@ -20,15 +20,24 @@ import com.linkedin.common.callback.Callback;
 import com.linkedin.data.ByteString;
 import com.linkedin.data.DataMap;
 import com.linkedin.data.template.DataTemplateUtil;
+import com.linkedin.entitystream.EntityStream;
+import com.linkedin.entitystream.EntityStreams;
+import com.linkedin.entitystream.WriteHandle;
+import com.linkedin.entitystream.Writer;
 import com.linkedin.parseq.Engine;
 import com.linkedin.parseq.Task;
 import com.linkedin.parseq.Tasks;
+import com.linkedin.r2.message.Messages;
 import com.linkedin.r2.message.Request;
 import com.linkedin.r2.message.RequestContext;
 import com.linkedin.r2.message.rest.RestException;
 import com.linkedin.r2.message.rest.RestRequest;
 import com.linkedin.r2.message.rest.RestResponse;
 import com.linkedin.r2.message.rest.RestResponseBuilder;
+import com.linkedin.r2.message.stream.StreamRequest;
+import com.linkedin.r2.message.stream.StreamResponse;
+import com.linkedin.r2.message.stream.StreamResponseBuilder;
+import com.linkedin.r2.message.stream.entitystream.adapter.EntityStreamAdapters;
 import com.linkedin.r2.message.timing.TimingContextUtil;
 import com.linkedin.r2.transport.common.RestRequestHandler;
 import com.linkedin.restli.common.ContentType;
@@ -45,13 +54,18 @@ import com.linkedin.restli.internal.server.response.ErrorResponseBuilder;
 import com.linkedin.restli.internal.server.util.DataMapUtils;
 
 import java.net.HttpCookie;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import javax.activation.MimeTypeParseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -64,8 +78,9 @@ import org.slf4j.LoggerFactory;
  */
 public class MultiplexedRequestHandlerImpl implements MultiplexedRequestHandler
 {
-  private static final String MUX_PLAN_CLASS = "mux";
+  /* package private */ static final String MUX_PLAN_CLASS = "mux";
   private static final String MUX_URI_PATH = "/mux";
+  private static final String RESPONSES_FIELD = "responses";
 
   private static final Logger _log = LoggerFactory.getLogger(MultiplexedRequestHandlerImpl.class);
   private final RestRequestHandler _requestHandler;
@@ -74,6 +89,9 @@ public class MultiplexedRequestHandlerImpl implements MultiplexedRequestHandler
   private final MultiplexerSingletonFilter _multiplexerSingletonFilter;
   private final Set<String> _individualRequestHeaderWhitelist;
   private final MultiplexerRunMode _multiplexerRunMode;
+  private final int _maxConcurrentRequests;
+  private final long _individualRequestTimeoutMs;
+  private final boolean _streamedResponses;
   private final ErrorResponseBuilder _errorResponseBuilder;
 
   /**
@@ -92,6 +110,55 @@ public class MultiplexedRequestHandlerImpl implements MultiplexedRequestHandler
                                        MultiplexerSingletonFilter multiplexerSingletonFilter,
                                        MultiplexerRunMode multiplexerRunMode,
                                        ErrorResponseBuilder errorResponseBuilder)
+  {
+    this(requestHandler, engine, maximumRequestsNumber, individualRequestHeaderWhitelist, multiplexerSingletonFilter,
+        multiplexerRunMode, 0, 0, errorResponseBuilder);
+  }
+
+  /**
+   * @param requestHandler        the handler that will take care of individual requests
+   * @param engine                ParSeq engine to run request handling on
+   * @param maximumRequestsNumber the maximum number of individual requests allowed in a multiplexed request
+   * @param individualRequestHeaderWhitelist a set of request header names to allow if specified in the individual request
+   * @param multiplexerSingletonFilter the singleton filter that is used by multiplexer to pre-process individual request and
+   *                                   post-process individual response. Pass in null if no pre-processing or post-processing are required.
+   * @param multiplexerRunMode    MultiplexedRequest run mode, see {@link MultiplexerRunMode}
+   * @param maxConcurrentRequests the maximum number of individual requests executing concurrently in the
+   *                              {@link MultiplexerRunMode#ISOLATED_PLANS} mode, or 0 to not bound it
+   * @param individualRequestTimeoutMs the time after which an individual request is answered with a 504 response in the
+   *                                   {@link MultiplexerRunMode#ISOLATED_PLANS} mode, or 0 to not time out
+   */
+  public MultiplexedRequestHandlerImpl(RestRequestHandler requestHandler,
+                                       Engine engine,
+                                       int maximumRequestsNumber,
+                                       Set<String> individualRequestHeaderWhitelist,
+                                       MultiplexerSingletonFilter multiplexerSingletonFilter,
+                                       MultiplexerRunMode multiplexerRunMode,
+                                       int maxConcurrentRequests,
+                                       long individualRequestTimeoutMs,
+                                       ErrorResponseBuilder errorResponseBuilder)
+  {
+    this(requestHandler, engine, maximumRequestsNumber, individualRequestHeaderWhitelist, multiplexerSingletonFilter,
+        multiplexerRunMode, maxConcurrentRequests, individualRequestTimeoutMs, false, errorResponseBuilder);
+  }
+
+  /**
+   * @param streamedResponses whether the aggregated responses to {@link StreamRequest}s are streamed in the
+   *                          {@link MultiplexerRunMode#ISOLATED_PLANS} mode, see
+   *                          {@link #handleRequest(StreamRequest, RequestContext, Callback)}
+   * @see #MultiplexedRequestHandlerImpl(RestRequestHandler, Engine, int, Set, MultiplexerSingletonFilter,
+   *      MultiplexerRunMode, int, long, ErrorResponseBuilder)
+   */
+  public MultiplexedRequestHandlerImpl(RestRequestHandler requestHandler,
+                                       Engine engine,
+                                       int maximumRequestsNumber,
+                                       Set<String> individualRequestHeaderWhitelist,
+                                       MultiplexerSingletonFilter multiplexerSingletonFilter,
+                                       MultiplexerRunMode multiplexerRunMode,
+                                       int maxConcurrentRequests,
+                                       long individualRequestTimeoutMs,
+                                       boolean streamedResponses,
+                                       ErrorResponseBuilder errorResponseBuilder)
   {
     _requestHandler = requestHandler;
     _engine = engine;
@@ -103,6 +170,9 @@ public class MultiplexedRequestHandlerImpl implements MultiplexedRequestHandler
     }
     _multiplexerSingletonFilter = multiplexerSingletonFilter;
     _multiplexerRunMode = multiplexerRunMode;
+    _maxConcurrentRequests = maxConcurrentRequests;
+    _individualRequestTimeoutMs = individualRequestTimeoutMs;
+    _streamedResponses = streamedResponses;
     _errorResponseBuilder = errorResponseBuilder;
   }
 
@@ -116,39 +186,42 @@ public class MultiplexedRequestHandlerImpl implements MultiplexedRequestHandler
   @Override
   public void handleRequest(RestRequest request, RequestContext requestContext, final Callback<RestResponse> callback)
   {
-    if (HttpMethod.POST != HttpMethod.valueOf(request.getMethod()))
-    {
-      _log.error("POST is expected, but " + request.getMethod() + " received");
-      callback.onError(RestException.forError(HttpStatus.S_405_METHOD_NOT_ALLOWED.getCode(), "Invalid method"));
-      return;
-    }
-
-    // Disable server-side latency instrumentation for multiplexed requests
-    requestContext.putLocalAttr(TimingContextUtil.TIMINGS_DISABLED_KEY_NAME, true);
-
     IndividualRequestMap individualRequests;
     try
     {
-      individualRequests = extractIndividualRequests(request);
-      if (_multiplexerSingletonFilter != null) {
-        individualRequests = _multiplexerSingletonFilter.filterRequests(individualRequests);
-      }
+      individualRequests = readIndividualRequests(request, requestContext);
     }
     catch (RestException e)
     {
-      _log.error("Invalid multiplexed request", e);
       callback.onError(e);
       return;
     }
-    catch (Exception e)
-    {
-      _log.error("Invalid multiplexed request", e);
-      callback.onError(RestException.forError(HttpStatus.S_400_BAD_REQUEST.getCode(), e));
-      return;
-    }
     // prepare the map of individual responses to be collected
     final IndividualResponseMap individualResponses = new IndividualResponseMap(individualRequests.size());
     final Map<String, HttpCookie> responseCookies = new HashMap<>();
+    if (_multiplexerRunMode == MultiplexerRunMode.ISOLATED_PLANS)
+    {
+      createIsolatedRequestsExecution(request, requestContext,
+          (id, individualResponseWithCookies) ->
+          {
+            // individual requests complete concurrently in their own plans
+            synchronized (individualResponses)
+            {
+              individualResponses.put(id, individualResponseWithCookies.getIndividualResponse());
+              addResponseCookies(responseCookies, individualResponseWithCookies.getCookies());
+            }
+          },
+          () ->
+          {
+            RestResponse aggregatedResponse;
+            synchronized (individualResponses)
+            {
+              aggregatedResponse = aggregateResponses(individualResponses, responseCookies);
+            }
+            callback.onSuccess(aggregatedResponse);
+          }).execute(individualRequests);
+      return;
+    }
     // all tasks are Void and side effect based, that will be useful when we add streaming
     Task<?> requestProcessingTask = createParallelRequestsTask(request, requestContext, individualRequests, individualResponses, responseCookies);
     Task<Void> responseAggregationTask = Task.action("send aggregated response", () ->
@@ -160,6 +233,117 @@ public class MultiplexedRequestHandlerImpl implements MultiplexedRequestHandler
     _engine.run(requestProcessingTask.andThen(responseAggregationTask), MUX_PLAN_CLASS);
   }
 
+  /**
+   * Handles the {@link StreamRequest}. By default the <code>StreamRequest</code> is adapted to a {@link RestRequest},
+   * and the aggregated response is sent once all the individual requests completed.
+   *
+   * If streamed responses are enabled in the {@link MultiplexerRunMode#ISOLATED_PLANS} mode, the aggregated response is
+   * streamed instead, and every individual response is written as soon as it completes. Since the headers of the
+   * aggregated response are sent before any individual request completes, the cookies set by the individual responses
+   * cannot be aggregated into them: they are dropped and logged, and the individual responses are sent unchanged. The
+   * resources reached through streamed multiplexed requests must therefore not set cookies.
+   */
+  @Override
+  public void handleRequest(StreamRequest request, RequestContext requestContext, Callback<StreamResponse> callback)
+  {
+    if (_multiplexerRunMode != MultiplexerRunMode.ISOLATED_PLANS || !_streamedResponses)
+    {
+      MultiplexedRequestHandler.super.handleRequest(request, requestContext, callback);
+      return;
+    }
+
+    Messages.toRestRequest(request, new Callback<RestRequest>()
+    {
+      @Override
+      public void onError(Throwable e)
+      {
+        if (e instanceof RestException)
+        {
+          e = Messages.toStreamException((RestException) e);
+        }
+        callback.onError(e);
+      }
+
+      @Override
+      public void onSuccess(RestRequest result)
+      {
+        handleStreamedRequest(result, requestContext, callback);
+      }
+    });
+  }
+
+  private void handleStreamedRequest(RestRequest request, RequestContext requestContext, Callback<StreamResponse> callback)
+  {
+    IndividualRequestMap individualRequests;
+    try
+    {
+      individualRequests = readIndividualRequests(request, requestContext);
+    }
+    catch (RestException e)
+    {
+      callback.onError(Messages.toStreamException(e));
+      return;
+    }
+
+    IndividualResponseWriter individualResponseWriter = new IndividualResponseWriter();
+    MultiplexedResponseContent aggregatedResponseContent = new MultiplexedResponseContent();
+    aggregatedResponseContent.setResponses(new IndividualResponseMap());
+    EntityStream<ByteString> entityStream = ContentType.JSON.getStreamCodec()
+        .encodeMap(aggregatedResponseContent.data(), RESPONSES_FIELD, EntityStreams.newEntityStream(individualResponseWriter));
+    callback.onSuccess(new StreamResponseBuilder()
+        .setStatus(HttpStatus.S_200_OK.getCode())
+        .setHeader(RestConstants.HEADER_CONTENT_TYPE, RestConstants.HEADER_VALUE_APPLICATION_JSON)
+        .build(EntityStreamAdapters.fromGenericEntityStream(entityStream)));
+
+    createIsolatedRequestsExecution(request, requestContext,
+        (id, individualResponseWithCookies) ->
+        {
+          if (!individualResponseWithCookies.getCookies().isEmpty())
+          {
+            _log.error("Dropped the cookies set by individual request " + id + " of a streamed multiplexed request, "
+                + "since the headers of the aggregated response are already sent");
+          }
+          individualResponseWriter.write(id, individualResponseWithCookies.getIndividualResponse().data());
+        },
+        individualResponseWriter::done).execute(individualRequests);
+  }
+
+  /**
+   * Reads the individual requests of the given multiplexed request, and applies the {@link MultiplexerSingletonFilter}.
+   *
+   * @throws RestException if the request is not a POST, or if its individual requests are invalid or rejected by the filter.
+   */
+  private IndividualRequestMap readIndividualRequests(RestRequest request, RequestContext requestContext) throws RestException
+  {
+    if (HttpMethod.POST != HttpMethod.valueOf(request.getMethod()))
+    {
+      _log.error("POST is expected, but " + request.getMethod() + " received");
+      throw RestException.forError(HttpStatus.S_405_METHOD_NOT_ALLOWED.getCode(), "Invalid method");
+    }
+
+    // Disable server-side latency instrumentation for multiplexed requests
+    requestContext.putLocalAttr(TimingContextUtil.TIMINGS_DISABLED_KEY, true);
+
+    try
+    {
+      IndividualRequestMap individualRequests = extractIndividualRequests(request);
+      if (_multiplexerSingletonFilter != null) {
+        individualRequests = _multiplexerSingletonFilter.filterRequests(individualRequests);
+      }
+      return individualRequests;
+    }
+    catch (RestException e)
+    {
+      _log.error("Invalid multiplexed request", e);
+      throw e;
+    }
+    catch (Exception e)
+    {
+      _log.error("Invalid multiplexed request", e);
+      throw RestException.forError(HttpStatus.S_400_BAD_REQUEST.getCode(), e);
+    }
+  }
+
   /**
    * Extracts individual requests from the given REST request.
    *
@@ -245,13 +429,42 @@ public class MultiplexedRequestHandlerImpl implements MultiplexedRequestHandler
     return Task.par(tasks);
   }
 
-  @SuppressWarnings("deprecation")
+  private IsolatedRequestsExecution createIsolatedRequestsExecution(RestRequest envelopeRequest,
+                                                                   RequestContext requestContext,
+                                                                   BiConsumer<String, IndividualResponseWithCookies> responseConsumer,
+                                                                   Runnable completionListener)
+  {
+    return new IsolatedRequestsExecution(_engine,
+        (id, individualRequest) -> createIndividualResponseTask(id, envelopeRequest, requestContext, individualRequest),
+        _maxConcurrentRequests,
+        _individualRequestTimeoutMs,
+        _errorResponseBuilder,
+        responseConsumer,
+        completionListener);
+  }
+
   private Task<Void> createRequestHandlingTask(final String id,
                                                final RestRequest envelopeRequest,
                                                final RequestContext requestContext,
                                                final IndividualRequest individualRequest,
                                                final IndividualResponseMap individualResponses,
                                                final Map<String, HttpCookie> responseCookies)
+  {
+    final Task<IndividualResponseWithCookies> individualResponseTask = createIndividualResponseTask(id, envelopeRequest, requestContext, individualRequest);
+    final Task<Void> addResponseTask = Task.action("add response", () ->
+      {
+        IndividualResponseWithCookies individualResponseWithCookies = individualResponseTask.get();
+        individualResponses.put(id, individualResponseWithCookies.getIndividualResponse());
+        addResponseCookies(responseCookies, individualResponseWithCookies.getCookies());
+      });
+    return individualResponseTask.andThen(addResponseTask);
+  }
+
+  @SuppressWarnings("deprecation")
+  private Task<IndividualResponseWithCookies> createIndividualResponseTask(final String id,
+                                                                           final RestRequest envelopeRequest,
+                                                                           final RequestContext requestContext,
+                                                                           final IndividualRequest individualRequest)
   {
     final RequestSanitizationTask requestSanitizationTask = new RequestSanitizationTask(individualRequest, _individualRequestHeaderWhitelist, _errorResponseBuilder);
     final InheritEnvelopeRequestTask inheritEnvelopeRequestTask = new InheritEnvelopeRequestTask(envelopeRequest, requestSanitizationTask);
@@ -260,12 +473,6 @@ public class MultiplexedRequestHandlerImpl implements MultiplexedRequestHandler
     final RequestHandlingTask requestHandlingTask = new RequestHandlingTask(_requestHandler, syntheticRequestCreationTask, requestContext, _multiplexerRunMode);
     final IndividualResponseConversionTask toIndividualResponseTask = new IndividualResponseConversionTask(id, _errorResponseBuilder, requestHandlingTask);
     final ResponseFilterTask responseFilterTask = new ResponseFilterTask(_multiplexerSingletonFilter, _errorResponseBuilder, toIndividualResponseTask);
-    final Task<Void> addResponseTask = Task.action("add response", () ->
-      {
-        IndividualResponseWithCookies individualResponseWithCookies = responseFilterTask.get();
-        individualResponses.put(id, individualResponseWithCookies.getIndividualResponse());
-        addResponseCookies(responseCookies, individualResponseWithCookies.getCookies());
-      });
     return Tasks.seq(
       requestSanitizationTask,
       inheritEnvelopeRequestTask,
@@ -273,8 +480,7 @@ public class MultiplexedRequestHandlerImpl implements MultiplexedRequestHandler
       syntheticRequestCreationTask,
       requestHandlingTask,
       toIndividualResponseTask,
-      responseFilterTask,
-      addResponseTask);
+      responseFilterTask);
   }
 
   private static void addResponseCookies(Map<String, HttpCookie> responseCookies, List<String> setCookieHeaders)
@@ -303,4 +509,76 @@ public class MultiplexedRequestHandlerImpl implements MultiplexedRequestHandler
         .setCookies(CookieUtil.encodeSetCookies(new ArrayList<>(responseCookies.values())))
       .build();
   }
+
+  /**
+   * Writes the entries of the individual responses of a streamed multiplexed request as they complete. The entries are
+   * queued until they are requested, and written by a single thread at a time.
+   */
+  private static class IndividualResponseWriter implements Writer<Object>
+  {
+    private final Queue<Map.Entry<String, DataMap>> _entries = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger _drains = new AtomicInteger();
+    private volatile WriteHandle<? super Object> _writeHandle;
+    private volatile boolean _done;
+    private boolean _finished;
+
+    void write(String id, DataMap individualResponse)
+    {
+      _entries.add(new AbstractMap.SimpleImmutableEntry<>(id, individualResponse));
+      drain();
+    }
+
+    void done()
+    {
+      _done = true;
+      drain();
+    }
+
+    @Override
+    public void onInit(WriteHandle<? super Object> wh)
+    {
+      _writeHandle = wh;
+    }
+
+    @Override
+    public void onWritePossible()
+    {
+      drain();
+    }
+
+    @Override
+    public void onAbort(Throwable e)
+    {
+      _log.warn("Streamed multiplexed response aborted", e);
+      _entries.clear();
+    }
+
+    private void drain()
+    {
+      // only the thread incrementing the counter from 0 writes, and it drains again for every concurrent call
+      if (_drains.getAndIncrement() != 0)
+      {
+        return;
+      }
+      do
+      {
+        WriteHandle<? super Object> writeHandle = _writeHandle;
+        if (writeHandle != null && !_finished)
+        {
+          // read the done flag first, so that all the entries are queued if it is set
+          boolean done = _done;
+          while (!_entries.isEmpty() && writeHandle.remaining() > 0)
+          {
+            writeHandle.write(_entries.poll());
+          }
+          if (done && _entries.isEmpty())
+          {
+            _finished = true;
+            writeHandle.done();
+          }
+        }
+      }
+      while (_drains.decrementAndGet() != 0);
+    }
+  }
 }
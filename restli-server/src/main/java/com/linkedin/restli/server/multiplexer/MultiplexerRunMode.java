@@ -25,11 +25,20 @@ package com.linkedin.restli.server.multiplexer;
  * {@link #SINGLE_PLAN} allows optimizations such as batching but it means that all tasks will be
  * executed in sequence. {@link #MULTIPLE_PLANS} can potentially speed up execution because requests
  * can execute physically in parallel but some ParSeq optimization will not work across different plans.
+ * <p>
+ * {@link #ISOLATED_PLANS} executes the whole handling of each request, including the
+ * {@link MultiplexerSingletonFilter} and the conversion of its response, as a separate ParSeq plan, so that slow
+ * filtering or encoding of one request does not delay the others. The number of requests executing concurrently and the
+ * time each of them may take are bounded by {@link com.linkedin.restli.server.RestLiConfig#setMultiplexerMaxConcurrentRequests(int)}
+ * and {@link com.linkedin.restli.server.RestLiConfig#setMultiplexerIndividualRequestTimeoutMs(long)}. With
+ * {@link com.linkedin.restli.server.RestLiConfig#setMultiplexerStreamedResponses(boolean)}, the individual responses of
+ * a streamed multiplexed request are written as soon as they complete.
  *
  * @author Jaroslaw Odzga (jodzga@linkedin.com)
  */
 public enum MultiplexerRunMode
 {
   SINGLE_PLAN,
-  MULTIPLE_PLANS
+  MULTIPLE_PLANS,
+  ISOLATED_PLANS
 }
@@ -96,7 +96,9 @@ import com.linkedin.restli.internal.server.RestLiMethodInvoker;
       // try invoking the handler
       try
       {
-        if (_multiplexerRunMode == MultiplexerRunMode.SINGLE_PLAN)
+        // run the tasks of the resource in the plan of the multiplexed request, or of the individual request in the
+        // ISOLATED_PLANS mode
+        if (_multiplexerRunMode != MultiplexerRunMode.MULTIPLE_PLANS)
         {
           RestLiMethodInvoker.TASK_CONTEXT.set(context);
         }
@@ -108,7 +110,7 @@ import com.linkedin.restli.internal.server.RestLiMethodInvoker;
       }
       finally
       {
-        if (_multiplexerRunMode == MultiplexerRunMode.SINGLE_PLAN)
+        if (_multiplexerRunMode != MultiplexerRunMode.MULTIPLE_PLANS)
         {
           RestLiMethodInvoker.TASK_CONTEXT.set(null);
         }
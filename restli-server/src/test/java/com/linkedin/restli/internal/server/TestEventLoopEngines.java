@@ -0,0 +1,90 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.internal.server;
+
+import com.linkedin.parseq.Engine;
+import com.linkedin.parseq.EngineBuilder;
+import com.linkedin.parseq.Task;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+
+public class TestEventLoopEngines
+{
+  private ScheduledExecutorService _eventLoop;
+  private Thread _eventLoopThread;
+
+  @BeforeClass
+  public void setUp() throws Exception
+  {
+    _eventLoop = Executors.newSingleThreadScheduledExecutor();
+    _eventLoopThread = _eventLoop.submit(Thread::currentThread).get();
+  }
+
+  @AfterClass
+  public void tearDown()
+  {
+    _eventLoop.shutdownNow();
+  }
+
+  @Test
+  public void testPlansRunOnEventLoop() throws Exception
+  {
+    EventLoopEngines engines = new EventLoopEngines(1000);
+    Engine engine = engines.getEngine(_eventLoop);
+    Assert.assertSame(engines.getEngine(_eventLoop), engine);
+
+    AtomicReference<Thread> taskThread = new AtomicReference<>();
+    Task<String> task = Task.callable(() -> {
+      taskThread.set(Thread.currentThread());
+      return "result";
+    }).flatMap(result -> Task.value(result).withDelay(10, TimeUnit.MILLISECONDS));
+    engine.run(task);
+
+    Assert.assertTrue(task.await(5, TimeUnit.SECONDS));
+    Assert.assertEquals(task.get(), "result");
+    Assert.assertSame(taskThread.get(), _eventLoopThread);
+  }
+
+  @Test
+  public void testEnginesAreBuiltFromSupplier() throws Exception
+  {
+    EventLoopEngines engines = new EventLoopEngines(1000,
+        () -> new EngineBuilder().setEngineProperty(Engine.MAX_CONCURRENT_PLANS, 10));
+    Engine engine = engines.getEngine(_eventLoop);
+    Assert.assertEquals(engine.getProperty(Engine.MAX_CONCURRENT_PLANS), 10);
+
+    AtomicReference<Thread> taskThread = new AtomicReference<>();
+    Task<Void> task = Task.action(() -> taskThread.set(Thread.currentThread()));
+    engine.run(task);
+
+    Assert.assertTrue(task.await(5, TimeUnit.SECONDS));
+    Assert.assertSame(taskThread.get(), _eventLoopThread);
+  }
+
+  @Test(expectedExceptions = IllegalArgumentException.class)
+  public void testInvalidThreshold()
+  {
+    new EventLoopEngines(0);
+  }
+}
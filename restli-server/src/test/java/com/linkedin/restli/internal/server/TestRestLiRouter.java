@@ -17,6 +17,7 @@
 package com.linkedin.restli.internal.server;
 
 import com.linkedin.data.DataMap;
+import com.linkedin.r2.filter.R2Constants;
 import com.linkedin.r2.message.RequestContext;
 import com.linkedin.restli.common.EmptyRecord;
 import com.linkedin.restli.common.HttpStatus;
@@ -57,6 +58,21 @@ public class TestRestLiRouter
     Assert.assertNotNull(method);
   }
 
+  @Test
+  public void succeedsOnEncodedRootPathWithTrailingSlash() throws URISyntaxException
+  {
+    final TestSetup setup = new TestSetup();
+    setup.mockContextForRootResourceGetRequest("/r%6Fot/12345/");
+    final RestLiRouter router = setup._router;
+    final ServerResourceContext context = setup._context;
+
+    final ResourceMethodDescriptor method = router.process(context);
+
+    Assert.assertNotNull(method);
+    Assert.assertEquals(method.getType(), ResourceMethod.GET);
+    Assert.assertEquals(setup._requestContext.getLocalAttr(R2Constants.OPERATION), "get");
+  }
+
   // ----------------------------------------------------------------------
   // negative cases
   // ----------------------------------------------------------------------
@@ -128,6 +144,21 @@ public class TestRestLiRouter
     Assert.assertEquals(e.getStatus(), HttpStatus.S_404_NOT_FOUND.getCode());
   }
 
+  @Test
+  public void failsOnEmptyRootPathSegment() throws URISyntaxException
+  {
+    final TestSetup setup = new TestSetup();
+    final RestLiRouter router = setup._router;
+    final ServerResourceContext context = setup._context;
+
+    doReturn(new URI("http://localhost//")).when(context).getRequestURI();
+
+    final RoutingException e = runAndCatch(() -> router.process(context), RoutingException.class);
+
+    Assert.assertEquals(e.getStatus(), HttpStatus.S_404_NOT_FOUND.getCode());
+    Assert.assertEquals(e.getMessage(), "No root resource defined for path '/'");
+  }
+
   // ----------------------------------------------------------------------
   // helper members
   // ----------------------------------------------------------------------
@@ -0,0 +1,185 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.internal.server.model;
+
+import com.linkedin.restli.common.HttpStatus;
+import com.linkedin.restli.server.RestLiServiceException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+/**
+ * Tests for {@link ResourceMethodHandle}.
+ */
+public class TestResourceMethodHandle
+{
+  @Test
+  public void testInvoke() throws Exception
+  {
+    ResourceMethodHandle handle = new ResourceMethodHandle(Methods.class.getMethod("get", Long.class, int.class, String[].class));
+    Assert.assertTrue(handle.isMethodHandle());
+    Assert.assertEquals(handle.invoke(new Methods(), new Object[] {1L, 2, new String[] {"a", "b"}}), "1/2/2");
+  }
+
+  @Test
+  public void testInvokeVoidAndStatic() throws Exception
+  {
+    Methods resource = new Methods();
+    ResourceMethodHandle handle = new ResourceMethodHandle(Methods.class.getMethod("delete", Long.class));
+    Assert.assertNull(handle.invoke(resource, new Object[] {1L}));
+    Assert.assertEquals(resource._deleted, Long.valueOf(1L));
+
+    handle = new ResourceMethodHandle(Methods.class.getMethod("create"));
+    Assert.assertEquals(handle.invoke(null, new Object[0]), "created");
+  }
+
+  @Test
+  public void testExceptionIsWrapped() throws Exception
+  {
+    ResourceMethodHandle handle = new ResourceMethodHandle(Methods.class.getMethod("fail"));
+    try
+    {
+      handle.invoke(new Methods(), new Object[0]);
+      Assert.fail("Expected InvocationTargetException");
+    }
+    catch (InvocationTargetException e)
+    {
+      Assert.assertTrue(e.getCause() instanceof RestLiServiceException);
+    }
+  }
+
+  @Test
+  public void testWideningConversions() throws Exception
+  {
+    ResourceMethodHandle handle = new ResourceMethodHandle(Methods.class.getMethod("sum", long.class, double.class));
+    Assert.assertEquals(handle.invoke(new Methods(), new Object[] {(byte) 1, 'a'}), 98.0);
+    Assert.assertEquals(handle.invoke(new Methods(), new Object[] {2, 0.5f}), 2.5);
+  }
+
+  @DataProvider
+  public Object[][] invalidInvocations()
+  {
+    return new Object[][]
+    {
+      { "get", new Methods(), new Object[] {1L, 2} },
+      { "get", new Methods(), new Object[] {1L, 2, new String[0], "extra"} },
+      { "get", new Methods(), null },
+      { "get", new Methods(), new Object[] {"1", 2, new String[0]} },
+      { "get", new Methods(), new Object[] {1L, null, new String[0]} },
+      { "get", new Methods(), new Object[] {1L, 2L, new String[0]} },
+      { "sum", new Methods(), new Object[] {1.0, 2.0} },
+      { "get", "not a resource", new Object[] {1L, 2, new String[0]} },
+    };
+  }
+
+  @Test(dataProvider = "invalidInvocations")
+  public void testInvalidInvocationMatchesReflection(String methodName, Object resource, Object[] arguments)
+      throws Exception
+  {
+    Method method = Arrays.stream(Methods.class.getMethods())
+        .filter(m -> m.getName().equals(methodName))
+        .findFirst()
+        .get();
+    ResourceMethodHandle handle = new ResourceMethodHandle(method);
+    Assert.assertTrue(handle.isMethodHandle());
+    expectIllegalArgument(() -> handle.invoke(resource, arguments));
+    expectIllegalArgument(() -> method.invoke(resource, arguments));
+  }
+
+  @Test
+  public void testNullResource() throws Exception
+  {
+    ResourceMethodHandle handle = new ResourceMethodHandle(Methods.class.getMethod("delete", Long.class));
+    try
+    {
+      handle.invoke(null, new Object[] {1L});
+      Assert.fail("Expected NullPointerException");
+    }
+    catch (NullPointerException e)
+    {
+      // expected, like Method.invoke
+    }
+  }
+
+  @Test
+  public void testNonPublicClassUsesReflection() throws Exception
+  {
+    ResourceMethodHandle handle = new ResourceMethodHandle(HiddenMethods.class.getMethod("get"));
+    Assert.assertFalse(handle.isMethodHandle());
+    Assert.assertEquals(handle.invoke(new HiddenMethods(), new Object[0]), "hidden");
+  }
+
+  private static void expectIllegalArgument(Invocation invocation) throws Exception
+  {
+    try
+    {
+      invocation.invoke();
+      Assert.fail("Expected IllegalArgumentException");
+    }
+    catch (IllegalArgumentException e)
+    {
+      // expected
+    }
+  }
+
+  private interface Invocation
+  {
+    Object invoke() throws Exception;
+  }
+
+  public static class Methods
+  {
+    private Long _deleted;
+
+    public String get(Long key, int count, String... values)
+    {
+      return key + "/" + count + "/" + values.length;
+    }
+
+    public void delete(Long key)
+    {
+      _deleted = key;
+    }
+
+    public double sum(long a, double b)
+    {
+      return a + b;
+    }
+
+    public static String create()
+    {
+      return "created";
+    }
+
+    public String fail()
+    {
+      throw new RestLiServiceException(HttpStatus.S_400_BAD_REQUEST);
+    }
+  }
+
+  private static class HiddenMethods
+  {
+    public String get()
+    {
+      return "hidden";
+    }
+  }
+}
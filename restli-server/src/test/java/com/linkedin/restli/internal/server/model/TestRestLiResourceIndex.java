@@ -0,0 +1,145 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.internal.server.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+/**
+ * Tests for {@link RestLiResourceIndex}.
+ */
+public class TestRestLiResourceIndex
+{
+  @Test
+  public void testWriteAndRead() throws IOException
+  {
+    RestLiResourceIndex index = new RestLiResourceIndex(Collections.singleton("com.example"),
+        Arrays.asList("com.example.GreetingsResource", "com.example.sub.SubResource"));
+    StringWriter writer = new StringWriter();
+    index.write(writer);
+    Assert.assertEquals(writer.toString(),
+        "package com.example\nresource com.example.GreetingsResource\nresource com.example.sub.SubResource\n");
+
+    RestLiResourceIndex read = RestLiResourceIndex.read(new StringReader(writer.toString() + "\n# comment\n"));
+    Assert.assertEquals(read.getPackageNames(), index.getPackageNames());
+    Assert.assertEquals(read.getResourceClassNames(), index.getResourceClassNames());
+  }
+
+  @Test
+  public void testCoversAndMerge()
+  {
+    RestLiResourceIndex index = new RestLiResourceIndex(Collections.singleton("com.example"),
+        Collections.<String>emptySet());
+    Assert.assertTrue(index.covers("com.example"));
+    Assert.assertTrue(index.covers("com.example.sub"));
+    Assert.assertFalse(index.covers("com.examples"));
+    Assert.assertFalse(index.covers("com"));
+
+    RestLiResourceIndex merged = index.merge(new RestLiResourceIndex(Collections.singleton("org.example"),
+        Collections.singleton("org.example.Resource")));
+    Assert.assertEquals(merged.getPackageNames(), new HashSet<>(Arrays.asList("com.example", "org.example")));
+    Assert.assertEquals(merged.getResourceClassNames(), Collections.singleton("org.example.Resource"));
+  }
+
+  @Test
+  public void testUpdateReplacesUpdatedPackages()
+  {
+    RestLiResourceIndex index = new RestLiResourceIndex(Arrays.asList("com.example", "org.example"),
+        Arrays.asList("com.example.RemovedResource", "com.example.sub.SubResource", "org.example.Resource"));
+
+    RestLiResourceIndex updated = index.update(new RestLiResourceIndex(Collections.singleton("com.example"),
+        Collections.singleton("com.example.RenamedResource")));
+    Assert.assertEquals(updated.getPackageNames(), new HashSet<>(Arrays.asList("com.example", "org.example")));
+    Assert.assertEquals(updated.getResourceClassNames(),
+        new HashSet<>(Arrays.asList("com.example.RenamedResource", "org.example.Resource")));
+  }
+
+  @Test
+  public void testFindResourceClassNames() throws IOException
+  {
+    File indexed = createRoot("com/example/GreetingsResource.class", "com/example/sub/SubResource.class");
+    writeIndex(indexed, "package com.example\nresource com.example.GreetingsResource\nresource com.example.sub.SubResource\n"
+        + "resource org.example.OtherResource\n");
+    File unindexed = createRoot("com/example/other/OtherResource.class");
+
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[] { indexed.toURI().toURL() }, null))
+    {
+      Map<String, RestLiResourceIndex> indexes = RestLiResourceIndex.loadIndexes(classLoader);
+      Assert.assertEquals(indexes.size(), 1);
+      Assert.assertEquals(RestLiResourceIndex.findResourceClassNames("com.example", classLoader, indexes),
+          new HashSet<>(Arrays.asList("com.example.GreetingsResource", "com.example.sub.SubResource")));
+      Assert.assertEquals(RestLiResourceIndex.findResourceClassNames("com.example.sub", classLoader, indexes),
+          Collections.singleton("com.example.sub.SubResource"));
+    }
+
+    // The package is split with a classpath root without index, so it has to be scanned
+    try (URLClassLoader classLoader =
+        new URLClassLoader(new URL[] { indexed.toURI().toURL(), unindexed.toURI().toURL() }, null))
+    {
+      Map<String, RestLiResourceIndex> indexes = RestLiResourceIndex.loadIndexes(classLoader);
+      Assert.assertNull(RestLiResourceIndex.findResourceClassNames("com.example", classLoader, indexes));
+      Assert.assertEquals(RestLiResourceIndex.findResourceClassNames("com.example.sub", classLoader, indexes),
+          Collections.singleton("com.example.sub.SubResource"));
+    }
+  }
+
+  @Test
+  public void testStaleIndexIsNotUsed() throws IOException
+  {
+    File root = createRoot("com/example/GreetingsResource.class");
+    writeIndex(root, "package com.example\nresource com.example.GreetingsResource\nresource com.example.RemovedResource\n");
+
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[] { root.toURI().toURL() }, null))
+    {
+      Map<String, RestLiResourceIndex> indexes = RestLiResourceIndex.loadIndexes(classLoader);
+      Assert.assertNull(RestLiResourceIndex.findResourceClassNames("com.example", classLoader, indexes));
+    }
+  }
+
+  private static File createRoot(String... classFiles) throws IOException
+  {
+    File root = Files.createTempDirectory("restli-resource-index").toFile();
+    root.deleteOnExit();
+    for (String classFile : classFiles)
+    {
+      File file = new File(root, classFile);
+      Assert.assertTrue(file.getParentFile().mkdirs() || file.getParentFile().isDirectory());
+      Files.write(file.toPath(), new byte[0]);
+    }
+    return root;
+  }
+
+  private static void writeIndex(File root, String content) throws IOException
+  {
+    File indexFile = new File(root, RestLiResourceIndex.INDEX_RESOURCE);
+    Assert.assertTrue(indexFile.getParentFile().mkdirs());
+    Files.write(indexFile.toPath(), content.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -17,11 +17,15 @@
 package com.linkedin.restli.internal.server.response;
 
 
+import com.linkedin.common.callback.FutureCallback;
 import com.linkedin.data.DataMap;
 import com.linkedin.data.schema.PathSpec;
 import com.linkedin.data.template.RecordTemplate;
 import com.linkedin.data.transform.filter.request.MaskOperation;
 import com.linkedin.data.transform.filter.request.MaskTree;
+import com.linkedin.entitystream.EntityStreams;
+import com.linkedin.entitystream.WriteHandle;
+import com.linkedin.entitystream.Writer;
 import com.linkedin.pegasus.generator.examples.Foo;
 import com.linkedin.pegasus.generator.examples.Fruits;
 import com.linkedin.r2.message.RequestContext;
@@ -32,6 +36,7 @@ import com.linkedin.restli.common.CollectionResponse;
 import com.linkedin.restli.common.HttpStatus;
 import com.linkedin.restli.common.LinkArray;
 import com.linkedin.restli.common.ResourceMethod;
+import com.linkedin.restli.common.RestConstants;
 import com.linkedin.restli.internal.server.RoutingResult;
 import com.linkedin.restli.internal.server.ServerResourceContext;
 import com.linkedin.restli.internal.server.model.ResourceMethodDescriptor;
@@ -39,6 +44,7 @@ import com.linkedin.restli.server.CollectionResult;
 import com.linkedin.restli.server.ProjectionMode;
 import com.linkedin.restli.server.RestLiResponseData;
 import com.linkedin.restli.server.RestLiServiceException;
+import com.linkedin.restli.server.StreamingCollectionResult;
 
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -46,6 +52,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -319,6 +326,120 @@ public class TestCollectionResponseBuilder
     }
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  public <D extends RestLiResponseData<? extends CollectionResponseEnvelope>> void testStreamingCollectionResult()
+      throws Exception
+  {
+    for (Map.Entry<ResourceMethod, CollectionResponseBuilder<?>> entry: BUILDERS.entrySet())
+    {
+      DataMap dataProjectionDataMap = new DataMap();
+      dataProjectionDataMap.put("stringField", MaskOperation.POSITIVE_MASK_OP.getRepresentation());
+      // The paging is computed again once the streamed elements have been read
+      ServerResourceContext mockContext = getMockResourceContext(new MaskTree(dataProjectionDataMap), null, null,
+          ProjectionMode.AUTOMATIC, ProjectionMode.AUTOMATIC, null, 2);
+      ResourceMethodDescriptor mockDescriptor = getMockResourceMethodDescriptor(2);
+      RoutingResult routingResult = new RoutingResult(mockContext, mockDescriptor);
+
+      Foo metadata = new Foo().setStringField("metadata").setIntField(7);
+      StreamingCollectionResult<Foo, Foo> results =
+          new StreamingCollectionResult<>(EntityStreams.newEntityStream(new ListWriter<>(generateTestList())), 2, metadata);
+
+      CollectionResponseBuilder<D> responseBuilder = (CollectionResponseBuilder<D>) entry.getValue();
+      D responseData = responseBuilder.buildRestLiResponseData(getRestRequest(), routingResult, results,
+          Collections.emptyMap(), Collections.emptyList());
+      RestLiResponse restResponse = responseBuilder.buildResponse(routingResult, responseData);
+
+      Assert.assertTrue(restResponse.hasStreamedElements());
+      Assert.assertEquals(restResponse.getStreamedField(), CollectionResponse.ELEMENTS);
+      Assert.assertTrue(((CollectionResponse<Foo>) restResponse.getEntity()).getElements().isEmpty());
+
+      FutureCallback<RestLiResponse> callback = new FutureCallback<>();
+      ResponseUtils.collectStreamedElements(callback).onSuccess(restResponse);
+      RestLiResponse collectedResponse = callback.get();
+
+      Assert.assertFalse(collectedResponse.hasStreamedElements());
+      CollectionResponse<Foo> actualResults = (CollectionResponse<Foo>) collectedResponse.getEntity();
+      Assert.assertEquals(actualResults.getElements(), generateTestListWithProjection());
+      Assert.assertEquals(actualResults.getMetadataRaw(), metadata.data());
+      Assert.assertEquals(actualResults.getPaging().getTotal().intValue(), 2);
+      EasyMock.verify(mockContext, mockDescriptor);
+    }
+  }
+
+  @Test
+  public void testStreamingCollectionResultNextLinkIsComputedFromTotal() throws Exception
+  {
+    ServerResourceContext mockContext = getMockResourceContext(null, null, null,
+        ProjectionMode.AUTOMATIC, ProjectionMode.AUTOMATIC);
+    ResourceMethodDescriptor mockDescriptor = getMockResourceMethodDescriptor();
+    RoutingResult routingResult = new RoutingResult(mockContext, mockDescriptor);
+
+    StreamingCollectionResult<Foo, Foo> results = new StreamingCollectionResult<>(
+        EntityStreams.newEntityStream(new ListWriter<>(generateTestList())), 25, null,
+        CollectionResult.PageIncrement.FIXED);
+
+    RestLiResponseData<FinderResponseEnvelope> responseData = new FinderResponseBuilder().buildRestLiResponseData(
+        getRestRequest(), routingResult, results, Collections.emptyMap(), Collections.emptyList());
+    CollectionMetadata paging = responseData.getResponseEnvelope().getCollectionResponsePaging();
+    Assert.assertEquals(paging.getLinks().size(), 1);
+    Assert.assertEquals(paging.getLinks().get(0).getRel(), "next");
+    Assert.assertTrue(paging.getLinks().get(0).getHref().contains("start=10"));
+  }
+
+  @DataProvider
+  public Object[][] streamedPageCounts()
+  {
+    return new Object[][]
+    {
+      // a full page has a next page
+      { 2, true },
+      { 3, false }
+    };
+  }
+
+  @Test(dataProvider = "streamedPageCounts")
+  @SuppressWarnings("unchecked")
+  public void testStreamingCollectionResultNextLinkIsComputedFromStreamedElements(int count, boolean hasNextLink)
+      throws Exception
+  {
+    ServerResourceContext mockContext = getMockResourceContext(null, null, null,
+        ProjectionMode.AUTOMATIC, ProjectionMode.AUTOMATIC, count, 2);
+    ResourceMethodDescriptor mockDescriptor = getMockResourceMethodDescriptor(2);
+    RoutingResult routingResult = new RoutingResult(mockContext, mockDescriptor);
+
+    StreamingCollectionResult<Foo, Foo> results =
+        new StreamingCollectionResult<>(EntityStreams.newEntityStream(new ListWriter<>(generateTestList())));
+    Assert.assertEquals(results.getPageIncrement(), CollectionResult.PageIncrement.RELATIVE);
+    Assert.assertNull(results.getTotal());
+
+    FinderResponseBuilder responseBuilder = new FinderResponseBuilder();
+    RestLiResponseData<FinderResponseEnvelope> responseData = responseBuilder.buildRestLiResponseData(
+        getRestRequest(), routingResult, results, Collections.emptyMap(), Collections.emptyList());
+    // No element has been read yet
+    Assert.assertTrue(responseData.getResponseEnvelope().getCollectionResponsePaging().getLinks().isEmpty());
+
+    FutureCallback<RestLiResponse> callback = new FutureCallback<>();
+    ResponseUtils.collectStreamedElements(callback)
+        .onSuccess(responseBuilder.buildResponse(routingResult, responseData));
+    CollectionResponse<Foo> actualResults = (CollectionResponse<Foo>) callback.get().getEntity();
+
+    Assert.assertEquals(actualResults.getElements(), generateTestList());
+    CollectionMetadata paging = actualResults.getPaging();
+    Assert.assertFalse(paging.hasTotal());
+    if (hasNextLink)
+    {
+      Assert.assertEquals(paging.getLinks().size(), 1);
+      Assert.assertEquals(paging.getLinks().get(0).getRel(), "next");
+      Assert.assertTrue(paging.getLinks().get(0).getHref().contains("start=2"));
+    }
+    else
+    {
+      Assert.assertTrue(paging.getLinks().isEmpty());
+    }
+    EasyMock.verify(mockContext, mockDescriptor);
+  }
+
   @SuppressWarnings("deprecation")
   private static ServerResourceContext getMockResourceContext(MaskTree dataMaskTree,
                                                         MaskTree metadataMaskTree,
@@ -326,10 +447,30 @@ public class TestCollectionResponseBuilder
                                                         ProjectionMode dataProjectionMode,
                                                         ProjectionMode metadataProjectionMode)
       throws URISyntaxException
+  {
+    return getMockResourceContext(dataMaskTree, metadataMaskTree, pagingMaskTree, dataProjectionMode,
+        metadataProjectionMode, null, 1);
+  }
+
+  /**
+   * @param count the requested page size, or null for the default one.
+   * @param pagingComputations the number of times the paging metadata is computed.
+   */
+  @SuppressWarnings("deprecation")
+  private static ServerResourceContext getMockResourceContext(MaskTree dataMaskTree,
+                                                        MaskTree metadataMaskTree,
+                                                        MaskTree pagingMaskTree,
+                                                        ProjectionMode dataProjectionMode,
+                                                        ProjectionMode metadataProjectionMode,
+                                                        Integer count,
+                                                        int pagingComputations)
+      throws URISyntaxException
   {
     ServerResourceContext mockContext = EasyMock.createMock(ServerResourceContext.class);
-    EasyMock.expect(mockContext.getParameter(EasyMock.<String>anyObject())).andReturn(null).times(2);
-    EasyMock.expect(mockContext.getRequestHeaders()).andReturn(ResponseBuilderUtil.getHeaders()).once();
+    EasyMock.expect(mockContext.getParameter(RestConstants.START_PARAM)).andReturn(null).times(pagingComputations);
+    EasyMock.expect(mockContext.getParameter(RestConstants.COUNT_PARAM))
+        .andReturn(count == null ? null : String.valueOf(count)).times(pagingComputations);
+    EasyMock.expect(mockContext.getRequestHeaders()).andReturn(ResponseBuilderUtil.getHeaders()).times(pagingComputations);
     EasyMock.expect(mockContext.getRawRequestContext()).andReturn(new RequestContext()).anyTimes();
     EasyMock.expect(mockContext.getAlwaysProjectedFields()).andReturn(Collections.emptySet()).anyTimes();
 
@@ -342,7 +483,7 @@ public class TestCollectionResponseBuilder
     EasyMock.expect(mockContext.getMetadataProjectionMask()).andReturn(metadataMaskTree).anyTimes();
 
     //Paging Projection
-    EasyMock.expect(mockContext.getPagingProjectionMask()).andReturn(pagingMaskTree).once();
+    EasyMock.expect(mockContext.getPagingProjectionMask()).andReturn(pagingMaskTree).times(pagingComputations);
 
     //Default value requested
     EasyMock.expect(mockContext.isFillInDefaultsRequested()).andReturn(false).anyTimes();
@@ -352,9 +493,15 @@ public class TestCollectionResponseBuilder
   }
 
   private static ResourceMethodDescriptor getMockResourceMethodDescriptor()
+  {
+    return getMockResourceMethodDescriptor(1);
+  }
+
+  private static ResourceMethodDescriptor getMockResourceMethodDescriptor(int pagingComputations)
   {
     ResourceMethodDescriptor mockDescriptor = EasyMock.createMock(ResourceMethodDescriptor.class);
-    EasyMock.expect(mockDescriptor.getParametersWithType(EasyMock.anyObject())).andReturn(Collections.emptyList()).once();
+    EasyMock.expect(mockDescriptor.getParametersWithType(EasyMock.anyObject())).andReturn(Collections.emptyList())
+        .times(pagingComputations);
     EasyMock.replay(mockDescriptor);
     return mockDescriptor;
   }
@@ -375,6 +522,45 @@ public class TestCollectionResponseBuilder
     return results;
   }
 
+  private static class ListWriter<T> implements Writer<T>
+  {
+    private final Iterator<T> _elements;
+    private WriteHandle<? super T> _writeHandle;
+
+    ListWriter(List<T> elements)
+    {
+      _elements = elements.iterator();
+    }
+
+    @Override
+    public void onInit(WriteHandle<? super T> wh)
+    {
+      _writeHandle = wh;
+    }
+
+    @Override
+    public void onWritePossible()
+    {
+      while (_writeHandle.remaining() > 0)
+      {
+        if (_elements.hasNext())
+        {
+          _writeHandle.write(_elements.next());
+        }
+        else
+        {
+          _writeHandle.done();
+          return;
+        }
+      }
+    }
+
+    @Override
+    public void onAbort(Throwable e)
+    {
+    }
+  }
+
   private static RestRequest getRestRequest()
       throws URISyntaxException
   {
@@ -0,0 +1,179 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.server;
+
+import com.linkedin.common.callback.FutureCallback;
+import com.linkedin.data.DataMap;
+import com.linkedin.parseq.Engine;
+import com.linkedin.parseq.EngineBuilder;
+import com.linkedin.parseq.Task;
+import com.linkedin.r2.filter.R2Constants;
+import com.linkedin.r2.message.RequestContext;
+import com.linkedin.r2.message.rest.RestRequestBuilder;
+import com.linkedin.r2.message.rest.RestResponse;
+import com.linkedin.restli.server.test.EasyMockResourceFactory;
+import com.linkedin.restli.server.twitter.StatusCollectionResource;
+import com.linkedin.restli.server.twitter.TaskStatusCollectionResource;
+import com.linkedin.restli.server.twitter.TwitterTestDataModels.Status;
+import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.easymock.EasyMock;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.eq;
+
+
+/**
+ * Tests the threads running the resource methods of a {@link RestLiServer} in event loop affine mode.
+ */
+public class TestEventLoopAffineRestLiServer
+{
+  private ExecutorService _taskExecutor;
+  private ScheduledExecutorService _timerScheduler;
+  private ScheduledExecutorService _eventLoop;
+  private Thread _eventLoopThread;
+  private EasyMockResourceFactory _resourceFactory;
+  private RestLiServer _server;
+
+  @BeforeClass
+  public void setUp() throws Exception
+  {
+    _taskExecutor = Executors.newFixedThreadPool(2);
+    _timerScheduler = Executors.newSingleThreadScheduledExecutor();
+    _eventLoop = Executors.newSingleThreadScheduledExecutor();
+    _eventLoopThread = _eventLoop.submit(Thread::currentThread).get();
+    Engine engine = new EngineBuilder().setTaskExecutor(_taskExecutor).setTimerScheduler(_timerScheduler).build();
+
+    RestLiConfig config = new RestLiConfig();
+    config.addResourceClassNames(StatusCollectionResource.class.getName(),
+        TaskStatusCollectionResource.class.getName());
+    config.setEventLoopAffine(true);
+    _resourceFactory = new EasyMockResourceFactory();
+    _server = new RestLiServer(config, _resourceFactory, engine);
+  }
+
+  @AfterClass
+  public void tearDown()
+  {
+    _taskExecutor.shutdownNow();
+    _timerScheduler.shutdownNow();
+    _eventLoop.shutdownNow();
+  }
+
+  @Test
+  public void testSyncMethodIsOffloadedFromEventLoop() throws Exception
+  {
+    AtomicReference<Thread> resourceThread = mockSyncResource();
+
+    RestResponse response = sendRequest("/statuses/1", true);
+
+    Assert.assertEquals(response.getStatus(), 200);
+    Assert.assertNotNull(resourceThread.get());
+    Assert.assertNotSame(resourceThread.get(), _eventLoopThread);
+    Assert.assertNotSame(resourceThread.get(), Thread.currentThread());
+  }
+
+  @Test
+  public void testSyncMethodRunsOnCallingThreadWithoutEventLoop() throws Exception
+  {
+    AtomicReference<Thread> resourceThread = mockSyncResource();
+
+    RestResponse response = sendRequest("/statuses/1", false);
+
+    Assert.assertEquals(response.getStatus(), 200);
+    Assert.assertSame(resourceThread.get(), Thread.currentThread());
+  }
+
+  @Test
+  public void testTaskRunsOnEventLoop() throws Exception
+  {
+    AtomicReference<Thread> taskThread = mockTaskResource();
+
+    RestResponse response = sendRequest("/taskstatuses/1", true);
+
+    Assert.assertEquals(response.getStatus(), 200);
+    Assert.assertSame(taskThread.get(), _eventLoopThread);
+  }
+
+  @Test
+  public void testTaskRunsOnServerEngineWithoutEventLoop() throws Exception
+  {
+    AtomicReference<Thread> taskThread = mockTaskResource();
+
+    RestResponse response = sendRequest("/taskstatuses/1", false);
+
+    Assert.assertEquals(response.getStatus(), 200);
+    Assert.assertNotNull(taskThread.get());
+    Assert.assertNotSame(taskThread.get(), _eventLoopThread);
+    Assert.assertNotSame(taskThread.get(), Thread.currentThread());
+  }
+
+  private AtomicReference<Thread> mockSyncResource()
+  {
+    AtomicReference<Thread> resourceThread = new AtomicReference<>();
+    StatusCollectionResource resource = _resourceFactory.getMock(StatusCollectionResource.class);
+    EasyMock.reset(resource);
+    resource.setContext(anyObject());
+    EasyMock.expectLastCall().once();
+    EasyMock.expect(resource.get(eq(1L))).andAnswer(() -> {
+      resourceThread.set(Thread.currentThread());
+      return buildStatusRecord();
+    }).once();
+    EasyMock.replay(resource);
+    return resourceThread;
+  }
+
+  private AtomicReference<Thread> mockTaskResource()
+  {
+    AtomicReference<Thread> taskThread = new AtomicReference<>();
+    TaskStatusCollectionResource resource = _resourceFactory.getMock(TaskStatusCollectionResource.class);
+    EasyMock.reset(resource);
+    EasyMock.expect(resource.get(eq(1L))).andReturn(Task.callable(() -> {
+      taskThread.set(Thread.currentThread());
+      return buildStatusRecord();
+    })).once();
+    EasyMock.replay(resource);
+    return taskThread;
+  }
+
+  private RestResponse sendRequest(String uri, boolean fromEventLoop) throws Exception
+  {
+    RequestContext requestContext = new RequestContext();
+    if (fromEventLoop)
+    {
+      requestContext.putLocalAttr(R2Constants.EVENT_LOOP, _eventLoop);
+    }
+    FutureCallback<RestResponse> callback = new FutureCallback<>();
+    _server.handleRequest(new RestRequestBuilder(new URI(uri)).build(), requestContext, callback);
+    return callback.get(5, TimeUnit.SECONDS);
+  }
+
+  private static Status buildStatusRecord()
+  {
+    DataMap map = new DataMap();
+    map.put("text", "test status");
+    return new Status(map);
+  }
+}
@@ -1,5 +1,6 @@
 package com.linkedin.restli.server.config;
 
+import com.linkedin.restli.common.ResourceMethod;
 import com.linkedin.restli.internal.server.model.ResourceMethodDescriptor;
 import com.linkedin.restli.internal.server.model.ResourceModel;
 import com.linkedin.restli.server.PagingContext;
@@ -12,6 +13,7 @@ import java.lang.reflect.Method;
 import java.util.Collections;
 
 import static org.testng.Assert.assertEquals;
+import static com.linkedin.restli.server.config.ResourceMethodConfigProviderImpl.DEFAULT_PRIORITY;
 import static com.linkedin.restli.server.config.ResourceMethodConfigProviderImpl.DEFAULT_TIMEOUT;
 
 public class TestResourceMethodConfigProvider
@@ -72,4 +74,27 @@ public class TestResourceMethodConfigProvider
     ResourceMethodConfig rmc = provider.apply(methodDescriptor);
     assertEquals(rmc.getTimeoutMs().getValue(), timeout);
   }
+
+  @Test
+  public void testPriorityConfig() throws NoSuchMethodException {
+    ResourceMethodConfigProvider provider = ResourceMethodConfigProvider.build(
+        new RestLiMethodConfigBuilder().addPriority("statuses.FINDER-*", 2).addPriority("statuses.GET", 1).build());
+    ResourceModel model = RestLiTestHelper.buildResourceModel(StatusCollectionResource.class);
+    ResourceMethodDescriptor finder = ResourceMethodDescriptor.createForFinder(
+            StatusCollectionResource.class.getMethod("getPublicTimeline", PagingContext.class),
+            Collections.emptyList(),
+            "public_timeline",
+            null,
+            ResourceMethodDescriptor.InterfaceType.SYNC,
+            null);
+    model.addResourceMethodDescriptor(finder);
+    assertEquals(provider.apply(finder).getPriority().getValue(), Integer.valueOf(2));
+    assertEquals(provider.apply(finder).getPriority().getSource().get(), "statuses.FINDER-*");
+
+    ResourceMethodDescriptor delete = ResourceMethodDescriptor.createForRestful(ResourceMethod.DELETE,
+            StatusCollectionResource.class.getMethod("delete", Long.class),
+            ResourceMethodDescriptor.InterfaceType.SYNC);
+    model.addResourceMethodDescriptor(delete);
+    assertEquals(provider.apply(delete).getPriority().getValue(), Integer.valueOf(DEFAULT_PRIORITY));
+  }
 }
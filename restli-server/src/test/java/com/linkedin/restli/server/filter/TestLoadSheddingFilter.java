@@ -0,0 +1,140 @@
+/*
+   Copyright (c) 2025 LinkedIn Corp.
+
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+*/
+
+package com.linkedin.restli.server.filter;
+
+import com.linkedin.r2.RetriableRequestException;
+import com.linkedin.r2.filter.limit.AdaptiveConcurrencyLimit;
+import com.linkedin.restli.common.ConfigValue;
+import com.linkedin.restli.common.HttpStatus;
+import com.linkedin.restli.server.RestLiResponseData;
+import com.linkedin.restli.server.RestLiServiceException;
+import com.linkedin.restli.server.config.ResourceMethodConfig;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestLoadSheddingFilter
+{
+  @Test
+  public void testShedWhenLimitReached()
+  {
+    LoadSheddingFilter filter = new LoadSheddingFilter(new AdaptiveConcurrencyLimit(2, 1, 10, 1.5, 0.5), 0.5, 3);
+    FilterRequestContext first = mockRequestContext(0);
+    Assert.assertTrue(filter.onRequest(first).isDone());
+    Assert.assertTrue(filter.onRequest(mockRequestContext(0)).isDone());
+    Assert.assertEquals(filter.getInFlightCount(), 2);
+
+    FilterRequestContext shed = mockRequestContext(0);
+    RestLiServiceException ex = null;
+    try
+    {
+      filter.onRequest(shed);
+    }
+    catch (RestLiServiceException e)
+    {
+      ex = e;
+    }
+    Assert.assertNotNull(ex);
+    Assert.assertEquals(ex.getStatus(), HttpStatus.S_503_SERVICE_UNAVAILABLE);
+    Assert.assertTrue(ex.getCause() instanceof RetriableRequestException);
+    Assert.assertEquals(filter.getShedCount(), 1);
+
+    // the shed request gets the retry hint and does not free a slot
+    FilterResponseContext shedResponse = mockResponseContext();
+    CompletableFuture<Void> future = filter.onError(ex, shed, shedResponse);
+    Assert.assertTrue(future.isCompletedExceptionally());
+    Assert.assertEquals(shedResponse.getResponseData().getHeaders().get(LoadSheddingFilter.RETRY_AFTER_HEADER), "3");
+    Assert.assertEquals(filter.getInFlightCount(), 2);
+
+    filter.onResponse(first, mockResponseContext());
+    Assert.assertEquals(filter.getInFlightCount(), 1);
+  }
+
+  @Test
+  public void testPriorityTiers()
+  {
+    LoadSheddingFilter filter = new LoadSheddingFilter(new AdaptiveConcurrencyLimit(4, 1, 10, 1.5, 0.5), 0.25, 1);
+    // priority 2 may use half of the limit
+    filter.onRequest(mockRequestContext(2));
+    filter.onRequest(mockRequestContext(2));
+    assertShed(filter, mockRequestContext(2));
+    // priority 1 may use three quarters of it
+    filter.onRequest(mockRequestContext(1));
+    assertShed(filter, mockRequestContext(1));
+    // priority 0 may use all of it
+    filter.onRequest(mockRequestContext(0));
+    assertShed(filter, mockRequestContext(0));
+    Assert.assertEquals(filter.getShedCount(), 3);
+  }
+
+  @Test
+  public void testOverloadErrorsBackOff()
+  {
+    LoadSheddingFilter filter = new LoadSheddingFilter(new AdaptiveConcurrencyLimit(8, 1, 10, 1.5, 0.5), 0.1, 1);
+    FilterRequestContext unavailable = mockRequestContext(0);
+    filter.onRequest(unavailable);
+    filter.onError(new RestLiServiceException(HttpStatus.S_503_SERVICE_UNAVAILABLE), unavailable,
+        mockResponseContext());
+    Assert.assertEquals(filter.getLimit(), 4);
+
+    // other errors are regular samples
+    FilterRequestContext notFound = mockRequestContext(0);
+    filter.onRequest(notFound);
+    filter.onError(new RestLiServiceException(HttpStatus.S_404_NOT_FOUND), notFound, mockResponseContext());
+    Assert.assertEquals(filter.getLimit(), 4);
+    Assert.assertEquals(filter.getInFlightCount(), 0);
+  }
+
+  private static void assertShed(LoadSheddingFilter filter, FilterRequestContext requestContext)
+  {
+    try
+    {
+      filter.onRequest(requestContext);
+      Assert.fail("Request of priority " + requestContext.getResourceMethodConfig().getPriority().getValue()
+          + " was not shed");
+    }
+    catch (RestLiServiceException e)
+    {
+      Assert.assertEquals(e.getStatus(), HttpStatus.S_503_SERVICE_UNAVAILABLE);
+    }
+  }
+
+  private static FilterRequestContext mockRequestContext(int priority)
+  {
+    ResourceMethodConfig config = Mockito.mock(ResourceMethodConfig.class);
+    Mockito.when(config.getPriority()).thenReturn(new ConfigValue<>(priority, null));
+    FilterRequestContext requestContext = Mockito.mock(FilterRequestContext.class);
+    Mockito.when(requestContext.getResourceMethodConfig()).thenReturn(config);
+    Map<String, Object> scratchpad = new HashMap<>();
+    Mockito.when(requestContext.getFilterScratchpad()).thenReturn(scratchpad);
+    return requestContext;
+  }
+
+  private static FilterResponseContext mockResponseContext()
+  {
+    RestLiResponseData<?> responseData = Mockito.mock(RestLiResponseData.class);
+    Map<String, String> headers = new HashMap<>();
+    Mockito.when(responseData.getHeaders()).thenReturn(headers);
+    FilterResponseContext responseContext = Mockito.mock(FilterResponseContext.class);
+    Mockito.doReturn(responseData).when(responseContext).getResponseData();
+    return responseContext;
+  }
+}
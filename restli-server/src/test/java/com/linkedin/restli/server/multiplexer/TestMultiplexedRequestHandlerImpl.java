@@ -24,12 +24,14 @@ import com.linkedin.data.codec.JacksonDataCodec;
 import com.linkedin.data.template.StringMap;
 import com.linkedin.parseq.Engine;
 import com.linkedin.parseq.EngineBuilder;
+import com.linkedin.r2.message.Messages;
 import com.linkedin.r2.message.RequestContext;
 import com.linkedin.r2.message.rest.RestException;
 import com.linkedin.r2.message.rest.RestRequest;
 import com.linkedin.r2.message.rest.RestRequestBuilder;
 import com.linkedin.r2.message.rest.RestResponse;
 import com.linkedin.r2.message.rest.RestResponseBuilder;
+import com.linkedin.r2.message.stream.StreamResponse;
 import com.linkedin.r2.transport.common.RestRequestHandler;
 import com.linkedin.restli.common.ContentType;
 import com.linkedin.restli.common.HttpMethod;
@@ -62,6 +64,8 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.easymock.EasyMock;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -81,7 +85,8 @@ public class TestMultiplexedRequestHandlerImpl
    return new Object[][]
    {
      { MultiplexerRunMode.MULTIPLE_PLANS },
-     { MultiplexerRunMode.SINGLE_PLAN }
+     { MultiplexerRunMode.SINGLE_PLAN },
+     { MultiplexerRunMode.ISOLATED_PLANS }
    };
   }
 
@@ -803,6 +808,205 @@ public class TestMultiplexedRequestHandlerImpl
     verify(mockHandler);
   }
 
+  @Test
+  public void testIndividualRequestTimeout() throws Exception
+  {
+    // the handler never completes the requests to BAR_URL
+    RestRequestHandler handler = (request, requestContext, callback) ->
+    {
+      if (request.getURI().getPath().equals(FOO_URL))
+      {
+        callback.onSuccess(new RestResponseBuilder().setStatus(HttpStatus.S_200_OK.getCode()).setEntity(FOO_ENTITY).build());
+      }
+    };
+    MultiplexedRequestHandlerImpl multiplexer = createMultiplexer(handler, 3, 0, 100);
+
+    IndividualRequest indRequest2 = fakeIndRequest(FOO_URL);
+    IndividualRequest indRequest1 = fakeIndRequest(BAR_URL, ImmutableMap.of("2", indRequest2));
+    RestRequest request = fakeMuxRestRequest(ImmutableMap.of("0", fakeIndRequest(FOO_URL), "1", indRequest1));
+
+    FutureCallback<RestResponse> callback = new FutureCallback<>();
+    multiplexer.handleRequest(request, new RequestContext(), callback);
+
+    IndividualResponseMap responses = getIndividualResponses(callback.get(5, TimeUnit.SECONDS).getEntity());
+    assertEquals(responses.get("0"), fakeIndResponse(FOO_JSON_BODY));
+    assertEquals(responses.get("1").getStatus().intValue(), HttpStatus.S_504_GATEWAY_TIMEOUT.getCode());
+    // the dependent request is not executed
+    assertEquals(responses.get("2").getStatus().intValue(), HttpStatus.S_504_GATEWAY_TIMEOUT.getCode());
+  }
+
+  @Test
+  public void testMaxConcurrentRequests() throws Exception
+  {
+    ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    AtomicInteger runningRequests = new AtomicInteger();
+    AtomicInteger maxRunningRequests = new AtomicInteger();
+    RestRequestHandler handler = (request, requestContext, callback) ->
+    {
+      maxRunningRequests.accumulateAndGet(runningRequests.incrementAndGet(), Math::max);
+      scheduler.schedule(() ->
+      {
+        runningRequests.decrementAndGet();
+        callback.onSuccess(new RestResponseBuilder().setStatus(HttpStatus.S_200_OK.getCode()).setEntity(FOO_ENTITY).build());
+      }, 10, TimeUnit.MILLISECONDS);
+    };
+    MultiplexedRequestHandlerImpl multiplexer = createMultiplexer(handler, 4, 2, 0);
+
+    RestRequest request = fakeMuxRestRequest(ImmutableMap.of("0", fakeIndRequest(FOO_URL), "1", fakeIndRequest(FOO_URL),
+        "2", fakeIndRequest(FOO_URL), "3", fakeIndRequest(FOO_URL)));
+
+    FutureCallback<RestResponse> callback = new FutureCallback<>();
+    multiplexer.handleRequest(request, new RequestContext(), callback);
+
+    IndividualResponseMap responses = getIndividualResponses(callback.get(5, TimeUnit.SECONDS).getEntity());
+    assertEquals(responses.size(), 4);
+    for (IndividualResponse response : responses.values())
+    {
+      assertEquals(response, fakeIndResponse(FOO_JSON_BODY));
+    }
+    assertEquals(maxRunningRequests.get(), 2);
+    scheduler.shutdown();
+  }
+
+  @Test
+  public void testStreamedAggregatedResponse() throws Exception
+  {
+    SynchronousRequestHandler mockHandler = createMockHandler();
+    MultiplexedRequestHandlerImpl multiplexer = createStreamedMultiplexer(mockHandler, 2);
+    RequestContext requestContext = new RequestContext();
+
+    IndividualRequest indRequest1 = fakeIndRequest(BAR_URL);
+    IndividualRequest indRequest0 = fakeIndRequest(FOO_URL, ImmutableMap.of("1", indRequest1));
+    RestRequest request = fakeMuxRestRequest(ImmutableMap.of("0", indRequest0));
+
+    // set expectations
+    expect(mockHandler.handleRequestSync(fakeIndRestRequest(FOO_URL), requestContext)).andReturn(fakeIndRestResponse(FOO_ENTITY));
+    expect(mockHandler.handleRequestSync(fakeIndRestRequest(BAR_URL), requestContext)).andReturn(fakeIndRestResponse(BAR_ENTITY));
+
+    // switch into replay mode
+    replay(mockHandler);
+
+    FutureCallback<StreamResponse> callback = new FutureCallback<>();
+
+    multiplexer.handleRequest(Messages.toStreamRequest(request), requestContext, callback);
+
+    StreamResponse muxStreamResponse = callback.get();
+    assertEquals(muxStreamResponse.getStatus(), HttpStatus.S_200_OK.getCode());
+    assertEquals(muxStreamResponse.getHeader(RestConstants.HEADER_CONTENT_TYPE), RestConstants.HEADER_VALUE_APPLICATION_JSON);
+
+    FutureCallback<RestResponse> restCallback = new FutureCallback<>();
+    Messages.toRestResponse(muxStreamResponse, restCallback);
+    IndividualResponseMap responses = getIndividualResponses(restCallback.get(5, TimeUnit.SECONDS).getEntity());
+    assertEquals(responses.size(), 2);
+    assertEquals(responses.get("0"), fakeIndResponse(FOO_JSON_BODY));
+    assertEquals(responses.get("1"), fakeIndResponse(BAR_JSON_BODY));
+
+    verify(mockHandler);
+  }
+
+  @Test
+  public void testTimedOutRequestKeepsItsSlotUntilCompleted() throws Exception
+  {
+    ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    AtomicInteger runningRequests = new AtomicInteger();
+    AtomicInteger maxRunningRequests = new AtomicInteger();
+    AtomicInteger completedRequests = new AtomicInteger();
+    // every request completes well after the timeout
+    RestRequestHandler handler = (request, requestContext, callback) ->
+    {
+      maxRunningRequests.accumulateAndGet(runningRequests.incrementAndGet(), Math::max);
+      scheduler.schedule(() ->
+      {
+        runningRequests.decrementAndGet();
+        callback.onSuccess(new RestResponseBuilder().setStatus(HttpStatus.S_200_OK.getCode()).setEntity(FOO_ENTITY).build());
+        completedRequests.incrementAndGet();
+      }, 200, TimeUnit.MILLISECONDS);
+    };
+    MultiplexedRequestHandlerImpl multiplexer = createMultiplexer(handler, 3, 1, 50);
+
+    RestRequest request = fakeMuxRestRequest(ImmutableMap.of("0", fakeIndRequest(FOO_URL), "1", fakeIndRequest(FOO_URL),
+        "2", fakeIndRequest(FOO_URL)));
+
+    FutureCallback<RestResponse> callback = new FutureCallback<>();
+    multiplexer.handleRequest(request, new RequestContext(), callback);
+
+    IndividualResponseMap responses = getIndividualResponses(callback.get(5, TimeUnit.SECONDS).getEntity());
+    assertEquals(responses.size(), 3);
+    for (IndividualResponse response : responses.values())
+    {
+      assertEquals(response.getStatus().intValue(), HttpStatus.S_504_GATEWAY_TIMEOUT.getCode());
+    }
+    // the requests which timed out while queued are not executed once the running one completes
+    Thread.sleep(500);
+    assertEquals(completedRequests.get(), 1);
+    assertEquals(maxRunningRequests.get(), 1);
+    scheduler.shutdown();
+  }
+
+  @Test
+  public void testStreamedAggregatedResponseDropsCookies() throws Exception
+  {
+    AtomicInteger appliedWrites = new AtomicInteger();
+    RestRequestHandler handler = createCookieSettingHandler(appliedWrites);
+    MultiplexedRequestHandlerImpl multiplexer = createStreamedMultiplexer(handler, 2);
+    RestRequest request = fakeMuxRestRequest(ImmutableMap.of("0", fakeIndRequest(FOO_URL), "1", fakeIndRequest(BAR_URL)));
+
+    FutureCallback<StreamResponse> callback = new FutureCallback<>();
+    multiplexer.handleRequest(Messages.toStreamRequest(request), new RequestContext(), callback);
+
+    FutureCallback<RestResponse> restCallback = new FutureCallback<>();
+    Messages.toRestResponse(callback.get(5, TimeUnit.SECONDS), restCallback);
+    IndividualResponseMap responses = getIndividualResponses(restCallback.get(5, TimeUnit.SECONDS).getEntity());
+    // the request which set a cookie applied its side effect, so it is not reported as failed
+    assertEquals(appliedWrites.get(), 1);
+    assertEquals(responses.get("0"), fakeIndResponse(FOO_JSON_BODY));
+    assertEquals(responses.get("1"), fakeIndResponse(FOO_JSON_BODY));
+  }
+
+  @Test
+  public void testStreamRequestAggregatesCookiesByDefault() throws Exception
+  {
+    AtomicInteger appliedWrites = new AtomicInteger();
+    RestRequestHandler handler = createCookieSettingHandler(appliedWrites);
+    MultiplexedRequestHandlerImpl multiplexer = createMultiplexer(handler, 2, 0, 0);
+    RestRequest request = fakeMuxRestRequest(ImmutableMap.of("0", fakeIndRequest(FOO_URL), "1", fakeIndRequest(BAR_URL)));
+
+    FutureCallback<StreamResponse> callback = new FutureCallback<>();
+    multiplexer.handleRequest(Messages.toStreamRequest(request), new RequestContext(), callback);
+
+    StreamResponse muxStreamResponse = callback.get(5, TimeUnit.SECONDS);
+    assertEquals(CookieUtil.decodeSetCookies(muxStreamResponse.getCookies()),
+        Collections.singletonList(new HttpCookie("bar", "value")));
+    FutureCallback<RestResponse> restCallback = new FutureCallback<>();
+    Messages.toRestResponse(muxStreamResponse, restCallback);
+    IndividualResponseMap responses = getIndividualResponses(restCallback.get(5, TimeUnit.SECONDS).getEntity());
+    assertEquals(appliedWrites.get(), 1);
+    assertEquals(responses.get("0"), fakeIndResponse(FOO_JSON_BODY));
+    assertEquals(responses.get("1"), fakeIndResponse(FOO_JSON_BODY));
+  }
+
+  /**
+   * @return a handler answering the requests to {@link #BAR_URL} with a cookie, after counting them as applied writes.
+   */
+  private static RestRequestHandler createCookieSettingHandler(AtomicInteger appliedWrites)
+  {
+    return (request, requestContext, callback) ->
+    {
+      RestResponseBuilder responseBuilder = new RestResponseBuilder().setStatus(HttpStatus.S_200_OK.getCode());
+      if (request.getURI().getPath().equals(BAR_URL))
+      {
+        appliedWrites.incrementAndGet();
+        responseBuilder.setCookies(CookieUtil.encodeSetCookies(Collections.singletonList(new HttpCookie("bar", "value"))));
+      }
+      callback.onSuccess(responseBuilder.setEntity(FOO_ENTITY).build());
+    };
+  }
+
+  private static IndividualResponseMap getIndividualResponses(ByteString muxEntity) throws IOException
+  {
+    return new MultiplexedResponseContent(CODEC.bytesToMap(muxEntity.copyBytes())).getResponses();
+  }
+
   private static RestRequestBuilder muxRequestBuilder() throws URISyntaxException
   {
     return new RestRequestBuilder(new URI("/mux"));
@@ -853,6 +1057,32 @@ public class TestMultiplexedRequestHandlerImpl
         multiplexerRunMode, new ErrorResponseBuilder());
   }
 
+  private static MultiplexedRequestHandlerImpl createMultiplexer(RestRequestHandler requestHandler,
+                                                                 int maxRequestCount,
+                                                                 int maxConcurrentRequests,
+                                                                 long individualRequestTimeoutMs)
+  {
+    Engine engine = new EngineBuilder()
+      .setTaskExecutor(Executors.newFixedThreadPool(2))
+      .setTimerScheduler(Executors.newSingleThreadScheduledExecutor())
+      .build();
+
+    return new MultiplexedRequestHandlerImpl(requestHandler, engine, maxRequestCount, Collections.<String>emptySet(), null,
+        MultiplexerRunMode.ISOLATED_PLANS, maxConcurrentRequests, individualRequestTimeoutMs, new ErrorResponseBuilder());
+  }
+
+  private static MultiplexedRequestHandlerImpl createStreamedMultiplexer(RestRequestHandler requestHandler,
+                                                                         int maxRequestCount)
+  {
+    Engine engine = new EngineBuilder()
+      .setTaskExecutor(Executors.newFixedThreadPool(2))
+      .setTimerScheduler(Executors.newSingleThreadScheduledExecutor())
+      .build();
+
+    return new MultiplexedRequestHandlerImpl(requestHandler, engine, maxRequestCount, Collections.<String>emptySet(), null,
+        MultiplexerRunMode.ISOLATED_PLANS, 0, 0, true, new ErrorResponseBuilder());
+  }
+
   private static MultiplexedRequestHandlerImpl createMultiplexer(RestRequestHandler requestHandler, MultiplexerRunMode multiplexerRunMode)
   {
     return createMultiplexer(requestHandler, null, multiplexerRunMode);
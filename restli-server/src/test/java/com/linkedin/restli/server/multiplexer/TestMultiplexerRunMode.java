@@ -71,7 +71,8 @@ public class TestMultiplexerRunMode
    return new Object[][]
    {
      { MultiplexerRunMode.MULTIPLE_PLANS },
-     { MultiplexerRunMode.SINGLE_PLAN }
+     { MultiplexerRunMode.SINGLE_PLAN },
+     { MultiplexerRunMode.ISOLATED_PLANS }
    };
   }
 
@@ -102,6 +103,11 @@ public class TestMultiplexerRunMode
     {
       assertEquals(engine.plansStarted(), 1);
     }
+    else if (multiplexerRunMode == MultiplexerRunMode.ISOLATED_PLANS)
+    {
+      // in ISOLATED_PLANS mode: 3 individual plans r0, r1, r2, running the tasks of the resource
+      assertEquals(engine.plansStarted(), 3);
+    }
     else
     {
       // in MULTIPLE_PLANS mode: 1 task for multiplexed request itself + 3 individual tasks r0, r1, r2
@@ -22,20 +22,30 @@ import com.linkedin.restli.internal.server.model.ResourceModel;
 import com.linkedin.restli.internal.server.model.ResourceModelEncoder;
 import com.linkedin.restli.internal.server.model.ResourceModelEncoder.DocsProvider;
 import com.linkedin.restli.internal.server.model.RestLiApiBuilder;
+import com.linkedin.restli.internal.server.model.RestLiResourceIndex;
 import com.linkedin.restli.restspec.ResourceSchema;
 import com.linkedin.restli.restspec.RestSpecCodec;
 import com.linkedin.restli.server.RestLiConfig;
 import com.linkedin.restli.server.util.FileClassNameScanner;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -124,8 +134,41 @@ public class RestLiResourceModelExporter
                                 String outdir,
                                 List<DocsProvider> additionalDocProviders)
       throws IOException
+  {
+    return export(apiName, classpath, sourcePaths, resourcePackages, resourceClasses, outdir, additionalDocProviders, null);
+  }
+
+  /**
+   * @param apiName the name of the API
+   * @param classpath classpath to load the resources. this is purely for Javadoc Doclet {@link RestLiDoclet}
+   * @param sourcePaths paths to scan for resource Java source files. this is purely for Javadoc Doclet {@link RestLiDoclet}
+   *                    if both resourcePackages and resourceClasses is null, all classes defined in the directories will be scanned
+   * @param resourcePackages packages to scan for resources
+   * @param resourceClasses specific classes as resources
+   * @param outdir directory in which to output the IDL files
+   * @param additionalDocProviders names of additional classes in the classpath that implement DocsProvider, if empty,
+   *                      only javadoc will be supported.
+   * @param resourceIndexDir directory in which to output the {@link RestLiResourceIndex} of the scanned packages, to be
+   *                         packaged with the resource classes, or null for none. An existing index is updated: the
+   *                         entries of the scanned packages are replaced, the ones of other packages are kept.
+   * @return a result that includes collection of files generated and modified. Note: getSourceFiles() on the result
+   * will always return an empty List as the code generation operates on classpaths and the ClassLoader and not files.
+   * @throws IOException could be {@link java.io.FileNotFoundException} if unable to write the output file,
+   *                     otherwise, {@link IOException} if failure happened when writing the output file
+   */
+  public GeneratorResult export(String apiName,
+                                String[] classpath,
+                                String[] sourcePaths,
+                                String[] resourcePackages,
+                                String[] resourceClasses,
+                                String outdir,
+                                List<DocsProvider> additionalDocProviders,
+                                String resourceIndexDir)
+      throws IOException
   {
     final RestLiConfig config = new RestLiConfig();
+    // The index is generated from the resource classes, it must not be read from a previous build
+    config.setUseResourceIndex(false);
     if (resourcePackages != null)
     {
       config.addResourcePackageNames(resourcePackages);
@@ -168,6 +211,15 @@ public class RestLiResourceModelExporter
     log.debug("Executing Rest.li annotation processor...");
     final RestLiApiBuilder apiBuilder = new RestLiApiBuilder(config);
     final Map<String, ResourceModel> rootResourceMap = apiBuilder.build();
+
+    if (resourceIndexDir != null)
+    {
+      // Without packages or classes, all classes of the source paths were scanned, so the index covers their packages
+      final Collection<String> indexedPackages = resourcePackages != null ? Arrays.asList(resourcePackages) :
+          resourceClasses == null ? getPackageNames(classFileNames.keySet()) : Collections.<String>emptyList();
+      writeResourceIndex(resourceIndexDir, indexedPackages, rootResourceMap.values());
+    }
+
     if (rootResourceMap.isEmpty())
     {
       return new Result();
@@ -227,6 +279,60 @@ public class RestLiResourceModelExporter
     return export(apiName, null, sourcePaths, resourcePackages, resourceClasses, outdir);
   }
 
+  private static Set<String> getPackageNames(Collection<String> classNames)
+  {
+    final Set<String> packageNames = new HashSet<>();
+    for (String className : classNames)
+    {
+      final int lastDot = className.lastIndexOf('.');
+      if (lastDot > 0)
+      {
+        packageNames.add(className.substring(0, lastDot));
+      }
+    }
+    return packageNames;
+  }
+
+  private static void writeResourceIndex(String resourceIndexDir,
+                                         Collection<String> packageNames,
+                                         Collection<ResourceModel> rootResources)
+      throws IOException
+  {
+    final Set<String> resourceClassNames = new HashSet<>();
+    addResourceClassNames(rootResources, resourceClassNames);
+    RestLiResourceIndex index = new RestLiResourceIndex(packageNames, resourceClassNames);
+
+    final File indexFile = new File(resourceIndexDir, RestLiResourceIndex.INDEX_RESOURCE);
+    if (indexFile.exists())
+    {
+      // Multiple APIs of a project are exported into the same index, the resource classes found in the packages
+      // scanned now replace the previous ones so that removed or renamed classes are dropped
+      try (Reader reader = new InputStreamReader(new FileInputStream(indexFile), StandardCharsets.UTF_8))
+      {
+        index = RestLiResourceIndex.read(reader).update(index);
+      }
+    }
+    else if (!indexFile.getParentFile().exists() && !indexFile.getParentFile().mkdirs())
+    {
+      throw new IOException("Resource index directory '" + indexFile.getParent() + "' could not be created!");
+    }
+
+    log.info("Writing resource index file \"" + indexFile + "\"");
+    try (Writer writer = new OutputStreamWriter(new FileOutputStream(indexFile), StandardCharsets.UTF_8))
+    {
+      index.write(writer);
+    }
+  }
+
+  private static void addResourceClassNames(Collection<ResourceModel> resources, Set<String> resourceClassNames)
+  {
+    for (ResourceModel resource : resources)
+    {
+      resourceClassNames.add(resource.getResourceClass().getName());
+      addResourceClassNames(resource.getSubResources(), resourceClassNames);
+    }
+  }
+
   private GeneratorResult generateIDLFiles(String apiName,
                                            String outdir,
                                            Map<String, ResourceModel> rootResourceMap,
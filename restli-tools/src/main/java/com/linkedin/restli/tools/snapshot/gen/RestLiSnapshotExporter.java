@@ -83,6 +83,8 @@ public class RestLiSnapshotExporter
     throws IOException
   {
     final RestLiConfig config = new RestLiConfig();
+    // The snapshot is generated from the resource classes, not from the index of a previous build
+    config.setUseResourceIndex(false);
     if (resourcePackages != null)
     {
       config.addResourcePackageNames(resourcePackages);
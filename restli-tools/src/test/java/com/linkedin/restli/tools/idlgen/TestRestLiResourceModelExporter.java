@@ -17,9 +17,16 @@
 package com.linkedin.restli.tools.idlgen;
 
 import com.linkedin.pegasus.generator.GeneratorResult;
+import com.linkedin.restli.internal.server.model.RestLiResourceIndex;
 import com.linkedin.restli.tools.ExporterTestUtils;
 import java.io.File;
 import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import org.testng.Assert;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
@@ -117,4 +124,41 @@ public class TestRestLiResourceModelExporter
       Assert.assertTrue(result.getTargetFiles().contains(new File(actualFile)));
     }
   }
+
+  @Test
+  public void testResourceIndexDropsRemovedClasses() throws Exception
+  {
+    File indexDir = ExporterTestUtils.createTmpDir();
+    try
+    {
+      // Index of a previous build, when the package had another resource and another API had its own package
+      File indexFile = new File(indexDir, RestLiResourceIndex.INDEX_RESOURCE);
+      Assert.assertTrue(indexFile.getParentFile().mkdirs());
+      Files.write(indexFile.toPath(), ("package com.linkedin.restli.tools.returnentity\n"
+          + "package com.linkedin.restli.tools.other\n"
+          + "resource com.linkedin.restli.tools.returnentity.RemovedResource\n"
+          + "resource com.linkedin.restli.tools.other.OtherResource\n").getBytes(StandardCharsets.UTF_8));
+
+      new RestLiResourceModelExporter().export("returnEntity",
+          null,
+          new String[] {moduleDir + FS + TEST_DIR},
+          new String[] { "com.linkedin.restli.tools.returnentity" },
+          null,
+          outdir.getAbsolutePath(),
+          Collections.emptyList(),
+          indexDir.getAbsolutePath());
+
+      RestLiResourceIndex index = RestLiResourceIndex.read(
+          new StringReader(new String(Files.readAllBytes(indexFile.toPath()), StandardCharsets.UTF_8)));
+      Assert.assertEquals(index.getPackageNames(), new HashSet<>(Arrays.asList(
+          "com.linkedin.restli.tools.returnentity", "com.linkedin.restli.tools.other")));
+      Assert.assertEquals(index.getResourceClassNames(), new HashSet<>(Arrays.asList(
+          "com.linkedin.restli.tools.returnentity.AnnotationResource",
+          "com.linkedin.restli.tools.other.OtherResource")));
+    }
+    finally
+    {
+      ExporterTestUtils.rmdir(indexDir);
+    }
+  }
 }